@@ -16,6 +16,9 @@ tasks.withType<JavaExec> {
 dependencies {
     implementation("org.hibernate.orm:hibernate-core:7.1.0.Final")
     implementation("com.mysql:mysql-connector-j:9.4.0")
+    implementation("com.zaxxer:HikariCP:6.3.0")
+    implementation("org.hibernate.orm:hibernate-jcache:7.1.0.Final")
+    implementation("com.github.ben-manes.caffeine:jcache:3.1.8")
     implementation ("org.apache.logging.log4j:log4j-core:2.17.1")
     implementation ("org.hibernate.validator:hibernate-validator:9.1.0.Final")
     implementation("org.hibernate.validator:hibernate-validator-annotation-processor:9.1.0.Final")
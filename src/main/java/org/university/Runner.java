@@ -1,5 +1,6 @@
 package org.university;
 
+import org.university.analytics.ReportCache;
 import org.university.configuration.SessionFactoryUtil;
 import org.university.dao.*;
 import org.university.dto.*;
@@ -40,19 +41,25 @@ public class Runner {
         PersonDao personDao = new PersonDao();
         IdentificationCardDao identificationCardDao = new IdentificationCardDao();
         DrivingLicenseDao drivingLicenseDao = new DrivingLicenseDao();
+        RevenueLedgerDao revenueLedgerDao = new RevenueLedgerDao();
+        new SchemaMigrationDao(revenueLedgerDao, transportDao).migrate();
+        ReportCache reportCache = new ReportCache();
+        transportDao.addChangeListener(reportCache);
+        vehicleDao.addChangeListener(reportCache);
 
         CompanyCRUDService companyCrud = new CompanyCRUDServiceImpl(companyDao, employeeDao, vehicleDao, transportDao);
         CompanyFilterService companyFilter = new CompanyFilterServiceImpl(companyDao);
         CompanySortingService companySorting = new CompanySortingServiceImpl(companyDao);
-        CompanyReportService companyReport = new CompanyReportServiceImpl(companyDao, transportDao);
+        CompanyReportService companyReport = new CompanyReportServiceImpl(companyDao, revenueLedgerDao);
         CompanyGeneralService companyGeneral = new CompanyGeneralServiceImpl(companyCrud, companyFilter, companySorting, companyReport);
 
         CustomerCRUDService customerCrud = new CustomerCRUDServiceImpl(customerDao, transportDao);
-        CustomerReportService customerReport = new CustomerReportServiceImpl(customerDao, transportDao);
+        CustomerReportService customerReport = new CachingCustomerReportServiceImpl(
+                new CustomerReportServiceImpl(customerDao, transportDao), reportCache);
         CustomerGeneralService customerGeneral = new CustomerGeneralServiceImpl(customerCrud, customerReport);
 
         VehicleCRUDService vehicleCrud = new VehicleCRUDServiceImpl(vehicleDao, companyDao, employeeDao, transportDao);
-        VehicleReportService vehicleReport = new VehicleReportServiceImpl(vehicleDao, transportDao);
+        VehicleReportService vehicleReport = new VehicleReportServiceImpl(vehicleDao, revenueLedgerDao);
         VehicleGeneralService vehicleGeneral = new VehicleGeneralServiceImpl(vehicleCrud, vehicleReport);
 
         TransportCRUDSystemService transportCrud = new TransportCRUDSystemServiceImpl(transportDao, vehicleDao, companyDao, employeeDao, customerDao);
@@ -60,7 +67,8 @@ public class Runner {
         TransportPaymentSystemService transportPayment = new TransportPaymentSystemServiceImpl(transportDao, customerDao);
         TransportFilterService transportFilter = new TransportFilterServiceImpl(transportDao);
         TransportSortingService transportSorting = new TransportSortingServiceImpl(transportDao);
-        TransportReportService transportReport = new TransportReportServiceImpl(transportDao, companyDao);
+        TransportReportService transportReport = new CachingTransportReportServiceImpl(
+                new TransportReportServiceImpl(transportDao, companyDao, revenueLedgerDao), reportCache);
         TransportGeneralService transportGeneral = new TransportGeneralServiceImpl(
                 transportCrud, transportPricing, transportPayment, transportFilter, transportSorting, transportReport
         );
@@ -101,7 +109,7 @@ public class Runner {
                 }
             }
         } finally {
-            SessionFactoryUtil.getSessionFactory().close();
+            SessionFactoryUtil.shutdown();
         }
     }
 
@@ -148,7 +156,6 @@ public class Runner {
                 case "1" -> {
                     CompanyDto dto = new CompanyDto();
                     dto.setName(readRequiredLine(sc, "Name: "));
-                    dto.setRevenue(readBigDecimal(sc, "Revenue: "));
                     CompanyDto created = company.createCompany(dto);
                     System.out.println("Created company id=" + created.getId());
                 }
@@ -164,7 +171,6 @@ public class Runner {
                     Long id = readLong(sc, "Company id: ");
                     CompanyDto dto = new CompanyDto();
                     dto.setName(readRequiredLine(sc, "New name: "));
-                    dto.setRevenue(readBigDecimal(sc, "New revenue: "));
                     CompanyDto updated = company.updateCompany(id, dto);
                     System.out.println("Updated company id=" + updated.getId());
                 }
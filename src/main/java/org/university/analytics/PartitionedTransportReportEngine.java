@@ -0,0 +1,100 @@
+package org.university.analytics;
+
+import org.university.configuration.SessionFactoryUtil;
+import org.university.dao.TransportDao;
+import org.university.entity.Transport;
+import org.university.exception.DAOException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+public class PartitionedTransportReportEngine implements AutoCloseable {
+    public static final long DEFAULT_PARTITION_SIZE = 5_000;
+
+    private final TransportDao transportDao;
+    private final ForkJoinPool pool;
+    private final long partitionSize;
+
+    public PartitionedTransportReportEngine(TransportDao transportDao, int parallelism, long partitionSize) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (partitionSize <= 0) {
+            throw new IllegalArgumentException("Partition size must be positive");
+        }
+        this.transportDao = transportDao;
+        this.pool = new ForkJoinPool(parallelism);
+        this.partitionSize = partitionSize;
+    }
+
+    // One connection is left free so that the caller can keep using the pool while a report runs
+    public static PartitionedTransportReportEngine withDefaults(TransportDao transportDao) {
+        int parallelism = Math.min(Runtime.getRuntime().availableProcessors(),
+                SessionFactoryUtil.getMaximumPoolSize() - 1);
+        return new PartitionedTransportReportEngine(transportDao, Math.max(1, parallelism), DEFAULT_PARTITION_SIZE);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public <A, R> R execute(Collector<? super Transport, A, R> collector) throws DAOException {
+        return execute(transport -> true, collector);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, R> R execute(Predicate<? super Transport> filter,
+                            Collector<? super Transport, A, R> collector) throws DAOException {
+        long[] range = transportDao.getTransportIdRange();
+        A result = range.length == 0
+                ? collector.supplier().get()
+                : pool.invoke(new PartitionTask<>(range[0], range[1] + 1, filter, collector));
+
+        if (collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            return (R) result;
+        }
+        return collector.finisher().apply(result);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private final class PartitionTask<A> extends RecursiveTask<A> {
+        private final long fromId;
+        private final long toId;
+        private final Predicate<? super Transport> filter;
+        private final Collector<? super Transport, A, ?> collector;
+
+        private PartitionTask(long fromId, long toId, Predicate<? super Transport> filter,
+                              Collector<? super Transport, A, ?> collector) {
+            this.fromId = fromId;
+            this.toId = toId;
+            this.filter = filter;
+            this.collector = collector;
+        }
+
+        @Override
+        protected A compute() {
+            if (toId - fromId <= partitionSize) {
+                A partial = collector.supplier().get();
+                for (Transport transport : transportDao.getTransportsInIdRange(fromId, toId)) {
+                    if (filter.test(transport)) {
+                        collector.accumulator().accept(partial, transport);
+                    }
+                }
+                return partial;
+            }
+
+            long middle = fromId + (toId - fromId) / 2;
+            PartitionTask<A> left = new PartitionTask<>(fromId, middle, filter, collector);
+            PartitionTask<A> right = new PartitionTask<>(middle, toId, filter, collector);
+            left.fork();
+            A rightResult = right.compute();
+            return collector.combiner().apply(left.join(), rightResult);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.university.analytics;
+
+import org.university.configuration.UnitOfWork;
+import org.university.dao.TransportChangeListener;
+import org.university.dao.VehicleChangeListener;
+import org.university.dto.TransportChange;
+import org.university.dto.TransportSummary;
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Least recently used cache of report results. Every entry records which part of a transport its
+ * result depends on; a committed write evicts exactly the entries whose projection of the changed
+ * transport differs before and after the write. Results loaded while a write commits are not
+ * stored, and reads inside an open unit of work bypass the cache since they may see uncommitted data.
+ */
+public class ReportCache implements TransportChangeListener, VehicleChangeListener {
+    public static final int DEFAULT_MAX_ENTRIES = 1_000;
+
+    private final int maxEntries;
+    private final Map<Key, Entry> entries;
+    private long version;
+    private long hits;
+    private long misses;
+
+    public ReportCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public ReportCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > ReportCache.this.maxEntries;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String report, List<?> parameters, Function<TransportSummary, ?> dependency, Supplier<T> loader) {
+        if (UnitOfWork.isActive()) {
+            return loader.get();
+        }
+        Key key = new Key(report, parameters);
+        long loadedAt;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits++;
+                return (T) entry.value();
+            }
+            misses++;
+            loadedAt = version;
+        }
+
+        T value = loader.get();
+        synchronized (this) {
+            if (version == loadedAt) {
+                entries.put(key, new Entry(value, dependency));
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized void transportsChanged(List<TransportChange> changes) {
+        version++;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Function<TransportSummary, ?> dependency = iterator.next().dependency();
+            for (TransportChange change : changes) {
+                if (change.changes(dependency)) {
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    // Dependencies only see the transport, not its vehicle's type, so any entry may be affected; type changes are rare
+    @Override
+    public void vehicleTypeChanged(long vehicleId, VehicleType previousType, VehicleType newType) {
+        invalidateAll();
+    }
+
+    public synchronized void invalidateAll() {
+        version++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public static List<?> parameters(Object... values) {
+        return Arrays.asList(values);
+    }
+
+    // Scale-insensitive, so 10.5 and 10.50 count as the same amount; a missing price counts as zero
+    public static BigDecimal amount(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value.stripTrailingZeros();
+    }
+
+    private record Key(String report, List<?> parameters) {
+    }
+
+    private record Entry(Object value, Function<TransportSummary, ?> dependency) {
+    }
+}
@@ -0,0 +1,41 @@
+package org.university.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the k best elements seen so far in a heap of size k, so ranking n candidates costs
+ * O(n log k) time and O(k) memory.
+ */
+public class TopK<T> {
+    private final int limit;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    public TopK(int limit, Comparator<? super T> order) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        this.limit = limit;
+        this.order = order;
+        // Head of the heap is the worst element kept so far
+        this.heap = new PriorityQueue<>(limit + 1, order.reversed());
+    }
+
+    public void offer(T candidate) {
+        if (heap.size() < limit) {
+            heap.add(candidate);
+        } else if (order.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
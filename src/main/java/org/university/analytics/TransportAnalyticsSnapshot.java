@@ -0,0 +1,114 @@
+package org.university.analytics;
+
+import org.university.dao.TransportAnalyticsDao;
+import org.university.dao.TransportDao;
+import org.university.dto.TransportAnalyticsRow;
+import org.university.util.VehicleType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class TransportAnalyticsSnapshot {
+    // Rows committed shortly before a refresh started may carry an older timestamp than the watermark
+    public static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+
+    private final TransportAnalyticsDao analyticsDao;
+    private final TransportDao transportDao;
+
+    private volatile TransportColumns columns;
+    private LocalDateTime watermark;
+
+    public TransportAnalyticsSnapshot(TransportAnalyticsDao analyticsDao, TransportDao transportDao) {
+        this.analyticsDao = analyticsDao;
+        this.transportDao = transportDao;
+    }
+
+    public TransportColumns columns() {
+        TransportColumns current = columns;
+        if (current == null) {
+            synchronized (this) {
+                if (columns == null) {
+                    reload();
+                }
+                current = columns;
+            }
+        }
+        return current;
+    }
+
+    public synchronized LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    public synchronized void reload() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        TransportColumns.Builder builder = new TransportColumns.Builder(
+                Math.toIntExact(transportDao.countTransports()));
+        analyticsDao.forEachRow(builder::add);
+
+        columns = builder.build(analyticsDao.getVehicleTypes());
+        watermark = startedAt;
+    }
+
+    public synchronized void refresh() {
+        TransportColumns current = columns;
+        if (current == null || watermark == null) {
+            reload();
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<TransportAnalyticsRow> changed = new ArrayList<>();
+        analyticsDao.forEachRowModifiedSince(watermark.minus(REFRESH_OVERLAP), changed::add);
+        Map<Long, VehicleType> vehicleTypes = analyticsDao.getVehicleTypes();
+
+        TransportColumns merged = merge(current, changed, vehicleTypes);
+        if (transportDao.countTransports() != merged.size()) {
+            merged = retainLive(merged, analyticsDao.getTransportIds(), vehicleTypes);
+        }
+
+        columns = merged;
+        watermark = startedAt;
+    }
+
+    static TransportColumns merge(TransportColumns current, List<TransportAnalyticsRow> changed,
+                                  Map<Long, VehicleType> vehicleTypes) {
+        TransportColumns.Builder builder = new TransportColumns.Builder(current.size() + changed.size());
+        int row = 0;
+        int change = 0;
+        while (row < current.size() || change < changed.size()) {
+            if (change == changed.size()) {
+                builder.copy(current, row++);
+            } else if (row == current.size()) {
+                builder.add(changed.get(change++));
+            } else {
+                long currentId = current.idAt(row);
+                long changedId = changed.get(change).id();
+                if (currentId < changedId) {
+                    builder.copy(current, row++);
+                } else {
+                    builder.add(changed.get(change++));
+                    if (currentId == changedId) {
+                        row++;
+                    }
+                }
+            }
+        }
+        return builder.build(vehicleTypes);
+    }
+
+    static TransportColumns retainLive(TransportColumns current, long[] liveIds,
+                                       Map<Long, VehicleType> vehicleTypes) {
+        TransportColumns.Builder builder = new TransportColumns.Builder(liveIds.length);
+        for (int row = 0; row < current.size(); row++) {
+            if (Arrays.binarySearch(liveIds, current.idAt(row)) >= 0) {
+                builder.copy(current, row);
+            }
+        }
+        return builder.build(vehicleTypes);
+    }
+}
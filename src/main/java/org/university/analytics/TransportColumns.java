@@ -0,0 +1,326 @@
+package org.university.analytics;
+
+import org.university.dto.RankingEntry;
+import org.university.dto.TransportAnalyticsRow;
+import org.university.dto.TransportDashboardDto;
+import org.university.util.Money;
+import org.university.util.PaymentStatus;
+import org.university.util.RankingDimension;
+import org.university.util.RankingMetric;
+import org.university.util.VehicleType;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class TransportColumns {
+    public static final long NO_ID = 0L;
+    public static final int NO_DAY = Integer.MIN_VALUE;
+    public static final byte NO_ORDINAL = -1;
+    public static final int ANY_STATUS = -1;
+
+    private final int size;
+    private final long[] ids;
+    private final int[] departureDays;
+    private final int[] arrivalDays;
+    private final byte[] cargoTypes;
+    private final byte[] paymentStatuses;
+    private final long[] priceCents;
+    private final long[] companyIds;
+    private final long[] employeeIds;
+    private final long[] customerIds;
+    private final long[] vehicleIds;
+    private final byte[] vehicleTypes;
+
+    private TransportColumns(Builder builder, Map<Long, VehicleType> vehicleTypeById) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.departureDays = Arrays.copyOf(builder.departureDays, size);
+        this.arrivalDays = Arrays.copyOf(builder.arrivalDays, size);
+        this.cargoTypes = Arrays.copyOf(builder.cargoTypes, size);
+        this.paymentStatuses = Arrays.copyOf(builder.paymentStatuses, size);
+        this.priceCents = Arrays.copyOf(builder.priceCents, size);
+        this.companyIds = Arrays.copyOf(builder.companyIds, size);
+        this.employeeIds = Arrays.copyOf(builder.employeeIds, size);
+        this.customerIds = Arrays.copyOf(builder.customerIds, size);
+        this.vehicleIds = Arrays.copyOf(builder.vehicleIds, size);
+        this.vehicleTypes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            VehicleType type = vehicleIds[i] == NO_ID ? null : vehicleTypeById.get(vehicleIds[i]);
+            vehicleTypes[i] = type == null ? NO_ORDINAL : (byte) type.ordinal();
+        }
+    }
+
+    public static TransportColumns empty() {
+        return new Builder(0).build(Map.of());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long idAt(int row) {
+        return ids[row];
+    }
+
+    public int indexOf(long id) {
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    public static int statusFilter(PaymentStatus status) {
+        return status == null ? ANY_STATUS : status.ordinal();
+    }
+
+    public long count(int statusOrdinal) {
+        if (statusOrdinal == ANY_STATUS) {
+            return size;
+        }
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (paymentStatuses[i] == statusOrdinal) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public long sumPriceCents(int statusOrdinal) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            if (statusOrdinal == ANY_STATUS || paymentStatuses[i] == statusOrdinal) {
+                sum += priceCents[i];
+            }
+        }
+        return sum;
+    }
+
+    public long countForCompany(long companyId, int statusOrdinal) {
+        return countMatching(companyIds, companyId, statusOrdinal);
+    }
+
+    public long sumPriceCentsForCompany(long companyId, int statusOrdinal) {
+        return sumMatching(companyIds, companyId, statusOrdinal);
+    }
+
+    public long sumPriceCentsForCompany(long companyId, int statusOrdinal, int fromDay, int toDay) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            if (companyIds[i] == companyId
+                    && (statusOrdinal == ANY_STATUS || paymentStatuses[i] == statusOrdinal)
+                    && departureDays[i] != NO_DAY
+                    && departureDays[i] >= fromDay && departureDays[i] <= toDay) {
+                sum += priceCents[i];
+            }
+        }
+        return sum;
+    }
+
+    public long countForCustomer(long customerId, int statusOrdinal) {
+        return countMatching(customerIds, customerId, statusOrdinal);
+    }
+
+    public long sumPriceCentsForCustomer(long customerId, int statusOrdinal) {
+        return sumMatching(customerIds, customerId, statusOrdinal);
+    }
+
+    public long countForEmployee(long employeeId, int statusOrdinal) {
+        return countMatching(employeeIds, employeeId, statusOrdinal);
+    }
+
+    public long sumPriceCentsForEmployee(long employeeId, int statusOrdinal) {
+        return sumMatching(employeeIds, employeeId, statusOrdinal);
+    }
+
+    public long countForVehicle(long vehicleId, int statusOrdinal) {
+        return countMatching(vehicleIds, vehicleId, statusOrdinal);
+    }
+
+    public long sumPriceCentsForVehicle(long vehicleId, int statusOrdinal) {
+        return sumMatching(vehicleIds, vehicleId, statusOrdinal);
+    }
+
+    public long sumPriceCentsForVehicleType(VehicleType type, int statusOrdinal) {
+        long sum = 0;
+        byte ordinal = (byte) type.ordinal();
+        for (int i = 0; i < size; i++) {
+            if (vehicleTypes[i] == ordinal && (statusOrdinal == ANY_STATUS || paymentStatuses[i] == statusOrdinal)) {
+                sum += priceCents[i];
+            }
+        }
+        return sum;
+    }
+
+    public Map<Long, Long> countByEmployee(int statusOrdinal) {
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (employeeIds[i] != NO_ID && (statusOrdinal == ANY_STATUS || paymentStatuses[i] == statusOrdinal)) {
+                result.merge(employeeIds[i], 1L, Long::sum);
+            }
+        }
+        return result;
+    }
+
+    public Map<Long, Long> sumPriceCentsByEmployee(int statusOrdinal) {
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (employeeIds[i] != NO_ID && (statusOrdinal == ANY_STATUS || paymentStatuses[i] == statusOrdinal)) {
+                result.merge(employeeIds[i], priceCents[i], Long::sum);
+            }
+        }
+        return result;
+    }
+
+    public List<RankingEntry> top(RankingDimension dimension, RankingMetric metric, int limit,
+                                  int statusOrdinal, int fromDay, int toDay) {
+        long[] owners = switch (dimension) {
+            case DRIVER -> employeeIds;
+            case VEHICLE -> vehicleIds;
+            case CUSTOMER -> customerIds;
+            case COMPANY -> companyIds;
+        };
+
+        Map<Long, long[]> groups = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (owners[i] == NO_ID
+                    || (statusOrdinal != ANY_STATUS && paymentStatuses[i] != statusOrdinal)
+                    || (fromDay != NO_DAY && (departureDays[i] == NO_DAY || departureDays[i] < fromDay))
+                    || (toDay != NO_DAY && (departureDays[i] == NO_DAY || departureDays[i] > toDay))) {
+                continue;
+            }
+            long[] totals = groups.computeIfAbsent(owners[i], id -> new long[2]);
+            totals[0]++;
+            totals[1] += priceCents[i];
+        }
+
+        Comparator<RankingEntry> order = metric == RankingMetric.REVENUE
+                ? Comparator.comparing(RankingEntry::revenue).reversed()
+                : Comparator.comparingLong(RankingEntry::transportCount).reversed();
+        TopK<RankingEntry> top = new TopK<>(limit, order.thenComparingLong(RankingEntry::id));
+        groups.forEach((id, totals) -> top.offer(new RankingEntry(id, totals[0], Money.ofCents(totals[1]))));
+        return top.toList();
+    }
+
+    public TransportDashboardDto dashboard() {
+        TransportDashboardAccumulator accumulator = new TransportDashboardAccumulator();
+        for (int i = 0; i < size; i++) {
+            accumulator.add(companyIds[i], employeeIds[i], customerIds[i],
+                    vehicleTypes[i], paymentStatuses[i], 1L, priceCents[i]);
+        }
+        return accumulator.build();
+    }
+
+    private long countMatching(long[] column, long ownerId, int statusOrdinal) {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (column[i] == ownerId && (statusOrdinal == ANY_STATUS || paymentStatuses[i] == statusOrdinal)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long sumMatching(long[] column, long ownerId, int statusOrdinal) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            if (column[i] == ownerId && (statusOrdinal == ANY_STATUS || paymentStatuses[i] == statusOrdinal)) {
+                sum += priceCents[i];
+            }
+        }
+        return sum;
+    }
+
+    public static final class Builder {
+        private int size;
+        private long[] ids;
+        private int[] departureDays;
+        private int[] arrivalDays;
+        private byte[] cargoTypes;
+        private byte[] paymentStatuses;
+        private long[] priceCents;
+        private long[] companyIds;
+        private long[] employeeIds;
+        private long[] customerIds;
+        private long[] vehicleIds;
+
+        public Builder(int capacity) {
+            int initial = Math.max(capacity, 16);
+            ids = new long[initial];
+            departureDays = new int[initial];
+            arrivalDays = new int[initial];
+            cargoTypes = new byte[initial];
+            paymentStatuses = new byte[initial];
+            priceCents = new long[initial];
+            companyIds = new long[initial];
+            employeeIds = new long[initial];
+            customerIds = new long[initial];
+            vehicleIds = new long[initial];
+        }
+
+        public Builder add(TransportAnalyticsRow row) {
+            int i = nextRow();
+            ids[i] = row.id();
+            departureDays[i] = epochDay(row.departureDate());
+            arrivalDays[i] = epochDay(row.arrivalDate());
+            cargoTypes[i] = row.cargoType() == null ? NO_ORDINAL : (byte) row.cargoType().ordinal();
+            paymentStatuses[i] = row.paymentStatus() == null ? NO_ORDINAL : (byte) row.paymentStatus().ordinal();
+            priceCents[i] = Money.toCents(row.totalPrice());
+            companyIds[i] = idOrNone(row.companyId());
+            employeeIds[i] = idOrNone(row.employeeId());
+            customerIds[i] = idOrNone(row.customerId());
+            vehicleIds[i] = idOrNone(row.vehicleId());
+            return this;
+        }
+
+        public Builder copy(TransportColumns source, int row) {
+            int i = nextRow();
+            ids[i] = source.ids[row];
+            departureDays[i] = source.departureDays[row];
+            arrivalDays[i] = source.arrivalDays[row];
+            cargoTypes[i] = source.cargoTypes[row];
+            paymentStatuses[i] = source.paymentStatuses[row];
+            priceCents[i] = source.priceCents[row];
+            companyIds[i] = source.companyIds[row];
+            employeeIds[i] = source.employeeIds[row];
+            customerIds[i] = source.customerIds[row];
+            vehicleIds[i] = source.vehicleIds[row];
+            return this;
+        }
+
+        public TransportColumns build(Map<Long, VehicleType> vehicleTypeById) {
+            for (int i = 1; i < size; i++) {
+                if (ids[i - 1] >= ids[i]) {
+                    throw new IllegalStateException("Transport rows must be added in ascending id order");
+                }
+            }
+            return new TransportColumns(this, vehicleTypeById);
+        }
+
+        private int nextRow() {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                departureDays = Arrays.copyOf(departureDays, capacity);
+                arrivalDays = Arrays.copyOf(arrivalDays, capacity);
+                cargoTypes = Arrays.copyOf(cargoTypes, capacity);
+                paymentStatuses = Arrays.copyOf(paymentStatuses, capacity);
+                priceCents = Arrays.copyOf(priceCents, capacity);
+                companyIds = Arrays.copyOf(companyIds, capacity);
+                employeeIds = Arrays.copyOf(employeeIds, capacity);
+                customerIds = Arrays.copyOf(customerIds, capacity);
+                vehicleIds = Arrays.copyOf(vehicleIds, capacity);
+            }
+            return size++;
+        }
+
+        private static int epochDay(LocalDate date) {
+            return date == null ? NO_DAY : Math.toIntExact(date.toEpochDay());
+        }
+
+        private static long idOrNone(Long id) {
+            return id == null ? NO_ID : id;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.university.analytics;
+
+import org.university.dto.TransportDashboardDto;
+import org.university.dto.TransportDashboardGroup;
+import org.university.util.Money;
+import org.university.util.PaymentStatus;
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Folds transports, or pre-aggregated groups of them, into every dashboard metric at once.
+ * Counts and revenues follow the semantics of the individual report methods: transport counts per
+ * driver and company include every status, revenues and customer counts only paid transports,
+ * and vehicle type revenue is the billed amount regardless of status.
+ */
+public class TransportDashboardAccumulator {
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+    private static final int PAID = PaymentStatus.PAID.ordinal();
+
+    private long transportsCount;
+    private long paidCents;
+    private final long[] vehicleTypeCents = new long[VEHICLE_TYPES.length];
+    private final Map<Long, Long> driverCounts = new HashMap<>();
+    private final Map<Long, Long> driverPaidCents = new HashMap<>();
+    private final Map<Long, Long> companyCounts = new HashMap<>();
+    private final Map<Long, Long> companyPaidCents = new HashMap<>();
+    private final Map<Long, Long> customerPaidCounts = new HashMap<>();
+    private final Map<Long, Long> customerPaidCents = new HashMap<>();
+
+    public void add(TransportDashboardGroup group) {
+        add(idOrNone(group.getCompanyId()), idOrNone(group.getEmployeeId()), idOrNone(group.getCustomerId()),
+                group.getVehicleType() == null ? TransportColumns.NO_ORDINAL : group.getVehicleType().ordinal(),
+                group.getPaymentStatus() == null ? TransportColumns.NO_ORDINAL : group.getPaymentStatus().ordinal(),
+                group.getTransportCount() == null ? 0L : group.getTransportCount(),
+                Money.toCents(group.getTotalPrice()));
+    }
+
+    public void add(long companyId, long employeeId, long customerId,
+                    int vehicleTypeOrdinal, int statusOrdinal, long count, long priceCents) {
+        boolean paid = statusOrdinal == PAID;
+        transportsCount += count;
+        if (paid) {
+            paidCents = Math.addExact(paidCents, priceCents);
+        }
+        if (vehicleTypeOrdinal >= 0) {
+            vehicleTypeCents[vehicleTypeOrdinal] = Math.addExact(vehicleTypeCents[vehicleTypeOrdinal], priceCents);
+        }
+        if (employeeId != TransportColumns.NO_ID) {
+            driverCounts.merge(employeeId, count, Long::sum);
+            if (paid) {
+                driverPaidCents.merge(employeeId, priceCents, Math::addExact);
+            }
+        }
+        if (companyId != TransportColumns.NO_ID) {
+            companyCounts.merge(companyId, count, Long::sum);
+            companyPaidCents.merge(companyId, paid ? priceCents : 0L, Math::addExact);
+        }
+        if (customerId != TransportColumns.NO_ID && paid) {
+            customerPaidCounts.merge(customerId, count, Long::sum);
+            customerPaidCents.merge(customerId, priceCents, Math::addExact);
+        }
+    }
+
+    public TransportDashboardDto build() {
+        Map<VehicleType, BigDecimal> byVehicleType = new EnumMap<>(VehicleType.class);
+        for (VehicleType type : VEHICLE_TYPES) {
+            byVehicleType.put(type, Money.ofCents(vehicleTypeCents[type.ordinal()]));
+        }
+
+        return new TransportDashboardDto(
+                Math.toIntExact(transportsCount),
+                Money.ofCents(paidCents),
+                toCounts(driverCounts),
+                toAmounts(driverPaidCents),
+                byVehicleType,
+                toCounts(companyCounts),
+                toAmounts(companyPaidCents),
+                toCounts(customerPaidCounts),
+                toAmounts(customerPaidCents));
+    }
+
+    private static Map<Long, Integer> toCounts(Map<Long, Long> counts) {
+        Map<Long, Integer> result = new HashMap<>();
+        counts.forEach((id, count) -> result.put(id, Math.toIntExact(count)));
+        return result;
+    }
+
+    private static Map<Long, BigDecimal> toAmounts(Map<Long, Long> cents) {
+        Map<Long, BigDecimal> result = new HashMap<>();
+        cents.forEach((id, amount) -> result.put(id, Money.ofCents(amount)));
+        return result;
+    }
+
+    private static long idOrNone(Long id) {
+        return id == null ? TransportColumns.NO_ID : id;
+    }
+}
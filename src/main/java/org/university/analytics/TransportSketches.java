@@ -0,0 +1,179 @@
+package org.university.analytics;
+
+import org.university.analytics.sketch.Hashing;
+import org.university.analytics.sketch.HeavyHitters;
+import org.university.analytics.sketch.HyperLogLog;
+import org.university.analytics.sketch.QuantileSketch;
+import org.university.dao.TransportChangeListener;
+import org.university.dao.TransportDao;
+import org.university.dto.RouteEstimate;
+import org.university.entity.Transport;
+import org.university.exception.DAOException;
+import org.university.util.CargoType;
+import org.university.util.Money;
+import org.university.util.Trigrams;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Approximate transport metrics kept in mergeable sketches and fed from committed inserts:
+ * distinct customers per destination ({@link HyperLogLog}, ~3.25% standard error, 1 KB each),
+ * price and quantity percentiles per cargo type ({@link QuantileSketch}, within 1% of a true value)
+ * and the most frequent start to end routes ({@link HeavyHitters}, overcount at most 1.1% of all
+ * transports with 98% confidence). Sketches only grow, so updates and deletes are not reflected
+ * until {@link #build} is run again. Place names are compared case-insensitively.
+ * <p>
+ * Each destination costs one 1 KB sketch, so at most {@link #DEFAULT_MAX_DESTINATIONS} (about 10 MB)
+ * are tracked by default. Destinations first seen after the limit is reached are not counted and
+ * estimate zero distinct customers.
+ */
+public class TransportSketches implements TransportChangeListener {
+    public static final int DEFAULT_MAX_DESTINATIONS = 10_000;
+
+    private final int maxDestinations;
+    private final Map<String, HyperLogLog> customersByDestination = new HashMap<>();
+    private final Map<CargoType, QuantileSketch> pricesByCargoType = new EnumMap<>(CargoType.class);
+    private final Map<CargoType, QuantileSketch> quantitiesByCargoType = new EnumMap<>(CargoType.class);
+    private final HeavyHitters<Route> routes = new HeavyHitters<>(Route::hash);
+
+    public TransportSketches() {
+        this(DEFAULT_MAX_DESTINATIONS);
+    }
+
+    public TransportSketches(int maxDestinations) {
+        if (maxDestinations <= 0) {
+            throw new IllegalArgumentException("Destination limit must be positive");
+        }
+        this.maxDestinations = maxDestinations;
+    }
+
+    public static TransportSketches build(TransportDao transportDao) throws DAOException {
+        TransportSketches sketches = new TransportSketches();
+        transportDao.forEachTransport(sketches::add);
+        return sketches;
+    }
+
+    // Inserts committed while the scan runs may be counted twice in the percentiles and routes
+    public static TransportSketches attach(TransportDao transportDao) throws DAOException {
+        TransportSketches sketches = new TransportSketches();
+        transportDao.addChangeListener(sketches);
+        try {
+            transportDao.forEachTransport(sketches::add);
+        } catch (DAOException e) {
+            transportDao.removeChangeListener(sketches);
+            throw e;
+        }
+        return sketches;
+    }
+
+    @Override
+    public void transportsCreated(List<Transport> transports) {
+        transports.forEach(this::add);
+    }
+
+    public synchronized void add(Transport transport) {
+        if (transport.getEndPoint() != null && transport.getCustomer() != null
+                && transport.getCustomer().getId() != null) {
+            HyperLogLog sketch = destinationSketch(Trigrams.normalize(transport.getEndPoint()));
+            if (sketch != null) {
+                sketch.add(Hashing.hash(transport.getCustomer().getId()));
+            }
+        }
+        if (transport.getCargoType() != null) {
+            if (transport.getTotalPrice() != null) {
+                pricesByCargoType.computeIfAbsent(transport.getCargoType(), type -> new QuantileSketch())
+                        .add(transport.getTotalPrice().doubleValue());
+            }
+            if (transport.getQuantity() != null) {
+                quantitiesByCargoType.computeIfAbsent(transport.getCargoType(), type -> new QuantileSketch())
+                        .add(transport.getQuantity().doubleValue());
+            }
+        }
+        if (transport.getStartPoint() != null && transport.getEndPoint() != null) {
+            routes.add(Route.of(transport.getStartPoint(), transport.getEndPoint()));
+        }
+    }
+
+    public synchronized int getTrackedDestinations() {
+        return customersByDestination.size();
+    }
+
+    public synchronized long estimateDistinctCustomers(String destination) {
+        HyperLogLog sketch = customersByDestination.get(Trigrams.normalize(destination));
+        return sketch == null ? 0 : sketch.estimate();
+    }
+
+    /**
+     * Returns null when no transport with this cargo type has been seen.
+     */
+    public synchronized BigDecimal estimatePricePercentile(CargoType cargoType, double quantile) {
+        return estimate(pricesByCargoType.get(cargoType), quantile);
+    }
+
+    public synchronized BigDecimal estimateQuantityPercentile(CargoType cargoType, double quantile) {
+        return estimate(quantitiesByCargoType.get(cargoType), quantile);
+    }
+
+    public synchronized long estimateRouteCount(String startPoint, String endPoint) {
+        return routes.estimate(Route.of(startPoint, endPoint));
+    }
+
+    public synchronized List<RouteEstimate> getHeavyHitterRoutes(int limit) {
+        return routes.top(limit).stream()
+                .map(entry -> new RouteEstimate(entry.getKey().startPoint(), entry.getKey().endPoint(), entry.getValue()))
+                .toList();
+    }
+
+    public synchronized long getTransportsSeen() {
+        return routes.getTotalCount();
+    }
+
+    // The merged-in sketches must not be receiving writes at the same time
+    public synchronized void merge(TransportSketches other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot merge sketches into themselves");
+        }
+        other.customersByDestination.forEach((destination, sketch) -> {
+            HyperLogLog target = destinationSketch(destination);
+            if (target != null) {
+                target.merge(sketch);
+            }
+        });
+        other.pricesByCargoType.forEach((type, sketch) -> pricesByCargoType
+                .computeIfAbsent(type, key -> new QuantileSketch()).merge(sketch));
+        other.quantitiesByCargoType.forEach((type, sketch) -> quantitiesByCargoType
+                .computeIfAbsent(type, key -> new QuantileSketch()).merge(sketch));
+        routes.merge(other.routes);
+    }
+
+    // Returns null once the limit is reached and the destination is not tracked yet
+    private HyperLogLog destinationSketch(String destination) {
+        HyperLogLog sketch = customersByDestination.get(destination);
+        if (sketch == null && customersByDestination.size() < maxDestinations) {
+            sketch = new HyperLogLog();
+            customersByDestination.put(destination, sketch);
+        }
+        return sketch;
+    }
+
+    private static BigDecimal estimate(QuantileSketch sketch, double quantile) {
+        if (sketch == null || sketch.getCount() == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(sketch.quantile(quantile)).setScale(Money.SCALE, Money.ROUNDING);
+    }
+
+    private record Route(String startPoint, String endPoint) {
+        static Route of(String startPoint, String endPoint) {
+            return new Route(Trigrams.normalize(startPoint), Trigrams.normalize(endPoint));
+        }
+
+        long hash() {
+            return Hashing.combine(Hashing.hash(startPoint), Hashing.hash(endPoint));
+        }
+    }
+}
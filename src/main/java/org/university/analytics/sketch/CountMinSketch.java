@@ -0,0 +1,79 @@
+package org.university.analytics.sketch;
+
+/**
+ * Frequency estimate over 64-bit hashes. Estimates never undercount; with width {@code w} and depth
+ * {@code d} the overcount exceeds {@code e / w} of the total added count with probability at most
+ * {@code e^-d}. The default 256 x 4 table uses 8 KB and is within 1.1% of the total count with
+ * 98% confidence.
+ */
+public final class CountMinSketch {
+    public static final int DEFAULT_WIDTH = 256;
+    public static final int DEFAULT_DEPTH = 4;
+
+    private final int width;
+    private final int depth;
+    private final long[] table;
+    private long totalCount;
+
+    public CountMinSketch() {
+        this(DEFAULT_WIDTH, DEFAULT_DEPTH);
+    }
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("Width and depth must be positive");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.table = new long[width * depth];
+    }
+
+    public long add(long hash, long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Amount must not be negative");
+        }
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int cell = cell(hash, row);
+            table[cell] += amount;
+            estimate = Math.min(estimate, table[cell]);
+        }
+        totalCount += amount;
+        return estimate;
+    }
+
+    public long estimate(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, table[cell(hash, row)]);
+        }
+        return estimate;
+    }
+
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge sketches with different dimensions");
+        }
+        for (int i = 0; i < table.length; i++) {
+            table[i] += other.table[i];
+        }
+        totalCount += other.totalCount;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public double getRelativeError() {
+        return Math.E / width;
+    }
+
+    public double getConfidence() {
+        return 1 - Math.exp(-depth);
+    }
+
+    // Each row remixes the hash with its index; h1 + row * h2 keeps the same low bits in every row when the width is a power of two
+    private int cell(long hash, int row) {
+        return row * width + (int) Long.remainderUnsigned(Hashing.combine(hash, row), width);
+    }
+}
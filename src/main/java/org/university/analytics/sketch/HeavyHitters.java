@@ -0,0 +1,88 @@
+package org.university.analytics.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Most frequent keys, counted in a {@link CountMinSketch} with the {@code capacity} keys of highest
+ * estimated count kept alongside it as candidates. Reported counts carry the overcount bound of the
+ * underlying sketch; a key that is frequent only early in a long stream may have been evicted.
+ */
+public final class HeavyHitters<K> {
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final ToLongFunction<? super K> hash;
+    private final int capacity;
+    private final CountMinSketch counts;
+    private final Set<K> candidates = new HashSet<>();
+
+    public HeavyHitters(ToLongFunction<? super K> hash) {
+        this(hash, DEFAULT_CAPACITY, new CountMinSketch());
+    }
+
+    public HeavyHitters(ToLongFunction<? super K> hash, int capacity, CountMinSketch counts) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.hash = hash;
+        this.capacity = capacity;
+        this.counts = counts;
+    }
+
+    public void add(K key) {
+        offer(key, counts.add(hash.applyAsLong(key), 1));
+    }
+
+    public long estimate(K key) {
+        return counts.estimate(hash.applyAsLong(key));
+    }
+
+    public List<Map.Entry<K, Long>> top(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        List<Map.Entry<K, Long>> result = new ArrayList<>();
+        candidates.forEach(key -> result.add(Map.entry(key, estimate(key))));
+        result.sort(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder()));
+        return List.copyOf(result.subList(0, Math.min(limit, result.size())));
+    }
+
+    public void merge(HeavyHitters<K> other) {
+        counts.merge(other.counts);
+        List<K> keys = new ArrayList<>(candidates);
+        keys.addAll(other.candidates);
+        candidates.clear();
+        for (K key : keys) {
+            offer(key, estimate(key));
+        }
+    }
+
+    public long getTotalCount() {
+        return counts.getTotalCount();
+    }
+
+    private void offer(K key, long estimate) {
+        if (candidates.contains(key) || candidates.size() < capacity) {
+            candidates.add(key);
+            return;
+        }
+        K smallest = null;
+        long smallestEstimate = Long.MAX_VALUE;
+        for (K candidate : candidates) {
+            long candidateEstimate = estimate(candidate);
+            if (candidateEstimate < smallestEstimate) {
+                smallest = candidate;
+                smallestEstimate = candidateEstimate;
+            }
+        }
+        if (smallestEstimate < estimate) {
+            candidates.remove(smallest);
+            candidates.add(key);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.university.analytics.sketch;
+
+/**
+ * Quantile estimate for non-negative values with bounded relative error (DDSketch). Values are
+ * counted in logarithmic buckets {@code (gamma^(i-1), gamma^i]} with
+ * {@code gamma = (1 + alpha) / (1 - alpha)}, so any returned quantile is within {@code alpha}
+ * (1% by default) of a value actually at that rank. Prices spanning 0.01 to 10^6 need about 900
+ * buckets; past {@code maxBuckets} the lowest buckets are folded together and only the lowest
+ * quantiles lose the guarantee.
+ */
+public final class QuantileSketch {
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    public static final int DEFAULT_MAX_BUCKETS = 2048;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final int maxBuckets;
+
+    private long[] counts = new long[0];
+    private int offset;
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY, DEFAULT_MAX_BUCKETS);
+    }
+
+    public QuantileSketch(double relativeAccuracy, int maxBuckets) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        if (maxBuckets <= 0) {
+            throw new IllegalArgumentException("Bucket limit must be positive");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.maxBuckets = maxBuckets;
+    }
+
+    public void add(double value) {
+        if (value < 0 || Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Value must be a finite non-negative number");
+        }
+        if (value == 0) {
+            zeroCount++;
+        } else {
+            increment((int) Math.ceil(Math.log(value) / logGamma), 1);
+        }
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Returns the estimated value at the given quantile, or NaN when nothing has been added.
+     */
+    public double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.floor(quantile * (count - 1));
+        if (rank == 0) {
+            return min;
+        }
+        if (rank == count - 1) {
+            return max;
+        }
+        if (rank < zeroCount) {
+            return 0;
+        }
+        long seen = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                double estimate = 2 * Math.pow(gamma, offset + i) / (gamma + 1);
+                return Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] > 0) {
+                increment(other.offset + i, other.counts[i]);
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    private void increment(int index, long amount) {
+        if (counts.length == 0) {
+            counts = new long[1];
+            offset = index;
+        } else if (index < offset || index >= offset + counts.length) {
+            resize(Math.min(offset, index), Math.max(offset + counts.length - 1, index));
+        }
+        counts[Math.max(index, offset) - offset] += amount;
+    }
+
+    private void resize(int low, int high) {
+        low = Math.max(low, high - maxBuckets + 1);
+        long[] resized = new long[high - low + 1];
+        for (int i = 0; i < counts.length; i++) {
+            resized[Math.max(offset + i, low) - low] += counts[i];
+        }
+        counts = resized;
+        offset = low;
+    }
+}
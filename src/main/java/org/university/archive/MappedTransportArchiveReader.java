@@ -0,0 +1,153 @@
+package org.university.archive;
+
+import org.university.codec.BinaryReader;
+import org.university.codec.TransportDtoCodec;
+import org.university.dto.TransportDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Read-only view of a {@link TransportArchive} directory with every segment memory-mapped. Records
+ * are decoded from slices of the mapped buffers, so a lookup is a binary search over the id index
+ * and touches no file handle. The view is a snapshot of the segments present when it was opened;
+ * all methods may be called from any number of threads.
+ */
+public class MappedTransportArchiveReader implements Closeable {
+    private final TransportDtoCodec codec = new TransportDtoCodec();
+    private final long[] ids;
+    private final int[] segmentIndexes;
+    private final int[] offsets;
+    private final int[] lengths;
+    private volatile MappedByteBuffer[] segments;
+
+    private MappedTransportArchiveReader(MappedByteBuffer[] segments, long[] ids, int[] segmentIndexes,
+                                         int[] offsets, int[] lengths) {
+        this.segments = segments;
+        this.ids = ids;
+        this.segmentIndexes = segmentIndexes;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    public static MappedTransportArchiveReader open(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> SegmentFormat.segmentId(file) >= 0)
+                    .sorted(Comparator.comparingInt(SegmentFormat::segmentId))
+                    .toList();
+        }
+
+        List<MappedByteBuffer> mapped = new ArrayList<>(files.size());
+        Map<Long, long[]> latest = new HashMap<>();
+        for (Path file : files) {
+            MappedByteBuffer buffer = map(file);
+            if (buffer == null) {
+                continue;
+            }
+            int segmentIndex = mapped.size();
+            mapped.add(buffer);
+            indexSegment(buffer, file, entry ->
+                    latest.put(entry.id(), new long[]{segmentIndex, entry.offset(), entry.length()}));
+        }
+
+        long[] ids = latest.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int[] segmentIndexes = new int[ids.length];
+        int[] offsets = new int[ids.length];
+        int[] lengths = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            long[] location = latest.get(ids[i]);
+            segmentIndexes[i] = (int) location[0];
+            offsets[i] = (int) location[1];
+            lengths[i] = (int) location[2];
+        }
+        return new MappedTransportArchiveReader(mapped.toArray(new MappedByteBuffer[0]), ids, segmentIndexes, offsets, lengths);
+    }
+
+    /**
+     * Returns null when the archive holds no record for the id.
+     */
+    public TransportDto read(long id) {
+        int position = Arrays.binarySearch(ids, id);
+        return position < 0 ? null : readAt(position);
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long idAt(int position) {
+        return ids[position];
+    }
+
+    public TransportDto readAt(int position) {
+        MappedByteBuffer[] current = segments;
+        if (current == null) {
+            throw new IllegalStateException("Archive reader is closed");
+        }
+        // slice() gives every caller its own position, the shared mapping is never moved
+        ByteBuffer record = current[segmentIndexes[position]].slice(offsets[position], lengths[position]);
+        return codec.decode(new BinaryReader(record));
+    }
+
+    /**
+     * All archived transports in id order; safe to consume with {@code parallel()}.
+     */
+    public Stream<TransportDto> stream() {
+        return IntStream.range(0, ids.length).mapToObj(this::readAt);
+    }
+
+    // The mappings themselves are released by the garbage collector once no slice refers to them
+    @Override
+    public void close() {
+        segments = null;
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < SegmentFormat.HEADER_SIZE) {
+                return null;
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Segment " + file + " is too large to map");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private static void indexSegment(MappedByteBuffer buffer, Path file,
+                                     Consumer<SegmentFormat.Entry> consumer) {
+        SegmentFormat.checkHeader(buffer.slice(0, SegmentFormat.HEADER_SIZE), file);
+        int size = buffer.capacity();
+        long footerOffset = size < SegmentFormat.HEADER_SIZE + SegmentFormat.TRAILER_SIZE ? -1
+                : SegmentFormat.footerOffset(buffer.slice(size - SegmentFormat.TRAILER_SIZE, SegmentFormat.TRAILER_SIZE), size);
+        if (footerOffset >= 0) {
+            SegmentFormat.readFooter(buffer.slice((int) footerOffset, size - SegmentFormat.TRAILER_SIZE - (int) footerOffset), consumer);
+        } else {
+            // Still being appended to by a writer; the records written so far are readable
+            SegmentFormat.scanRecords(buffer.slice(SegmentFormat.HEADER_SIZE, size - SegmentFormat.HEADER_SIZE),
+                    new TransportDtoCodec(), entry -> consumer.accept(new SegmentFormat.Entry(
+                            entry.id(), entry.offset() + SegmentFormat.HEADER_SIZE, entry.length())));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.university.archive;
+
+import org.university.codec.BinaryReader;
+import org.university.codec.BinaryWriter;
+import org.university.codec.TransportDtoCodec;
+import org.university.dto.TransportDto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * On-disk layout of an archive segment:
+ * <pre>
+ * header   magic "TRSG", format version byte
+ * records  varint length, encoded TransportDto
+ * footer   varint count, then (varint id, varint offset, varint length) per record, sorted by id
+ * trailer  long footer offset, int count, magic "TRIX"
+ * </pre>
+ * Offsets point at the encoded record, past its length prefix. A segment without a trailer is still
+ * being appended to, or was cut short by a crash, and is recovered by scanning its records.
+ */
+final class SegmentFormat {
+    static final byte[] MAGIC = "TRSG".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = MAGIC.length + 1;
+    static final int TRAILER_MAGIC = 0x54524958;
+    static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private static final Pattern FILE_NAME = Pattern.compile("segment_(\\d+)\\.seg");
+
+    private SegmentFormat() {
+    }
+
+    static String fileName(int segmentId) {
+        return String.format("segment_%06d.seg", segmentId);
+    }
+
+    static int segmentId(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    static ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.put(MAGIC).put((byte) VERSION).flip();
+        return header;
+    }
+
+    static void checkHeader(ByteBuffer header, Path file) {
+        byte[] magic = new byte[MAGIC.length];
+        header.get(magic);
+        int version = header.get() & 0xFF;
+        if (!Arrays.equals(magic, MAGIC) || version != VERSION) {
+            throw new IllegalStateException("File " + file + " is not a transport archive segment");
+        }
+    }
+
+    static ByteBuffer footer(long[] ids, long[] offsets, int[] lengths, long footerOffset) {
+        BinaryWriter out = new BinaryWriter(ids.length * 8 + 16);
+        out.writeVarLong(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            out.writeVarLong(ids[i]);
+            out.writeVarLong(offsets[i]);
+            out.writeVarLong(lengths[i]);
+        }
+        ByteBuffer footer = ByteBuffer.allocate(out.size() + TRAILER_SIZE);
+        footer.put(out.toByteArray());
+        footer.putLong(footerOffset).putInt(ids.length).putInt(TRAILER_MAGIC).flip();
+        return footer;
+    }
+
+    /**
+     * Returns the footer offset stored in the trailer, or -1 when the segment has no trailer.
+     */
+    static long footerOffset(ByteBuffer trailer, long fileSize) {
+        long footerOffset = trailer.getLong();
+        trailer.getInt();
+        int magic = trailer.getInt();
+        if (magic != TRAILER_MAGIC || footerOffset < HEADER_SIZE || footerOffset > fileSize - TRAILER_SIZE) {
+            return -1;
+        }
+        return footerOffset;
+    }
+
+    static void readFooter(ByteBuffer footer, Consumer<Entry> consumer) {
+        BinaryReader in = new BinaryReader(footer);
+        long count = in.readVarLong();
+        for (long i = 0; i < count; i++) {
+            consumer.accept(new Entry(in.readVarLong(), in.readVarLong(), in.readVarInt()));
+        }
+    }
+
+    /**
+     * Reads records from the buffer position up to its limit and returns the position right after the
+     * last complete record; a record cut short by a crash ends the scan.
+     */
+    static int scanRecords(ByteBuffer content, TransportDtoCodec codec, Consumer<Entry> consumer) {
+        BinaryReader in = new BinaryReader(content);
+        int end = content.position();
+        while (content.hasRemaining()) {
+            try {
+                int length = in.readVarInt();
+                int offset = content.position();
+                if (length > content.remaining()) {
+                    break;
+                }
+                TransportDto transport = codec.decode(in);
+                if (content.position() != offset + length || transport.getId() == null) {
+                    break;
+                }
+                consumer.accept(new Entry(transport.getId(), offset, length));
+                end = content.position();
+            } catch (RuntimeException e) {
+                break;
+            }
+        }
+        return end;
+    }
+
+    record Entry(long id, long offset, int length) {
+    }
+}
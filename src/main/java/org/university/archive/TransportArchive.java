@@ -0,0 +1,432 @@
+package org.university.archive;
+
+import org.university.codec.BinaryReader;
+import org.university.codec.BinaryWriter;
+import org.university.codec.TransportDtoCodec;
+import org.university.dto.TransportDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only store of encoded transports split into segment files of bounded size. Every segment
+ * ends with an id to offset index once it is sealed, so opening an archive reads the footers only
+ * and a lookup costs one positioned read. Saving a transport again supersedes the earlier record;
+ * sealed segments whose live share drops below the compaction threshold have their live records
+ * copied forward and are deleted. Appends are not forced to disk until {@link #sync} or
+ * {@link #close}.
+ */
+public class TransportArchive implements Closeable {
+    public static final long DEFAULT_MAX_SEGMENT_SIZE = 64L * 1024 * 1024;
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.5;
+
+    private final Path directory;
+    private final long maxSegmentSize;
+    private final double compactionThreshold;
+    private final TransportDtoCodec codec = new TransportDtoCodec();
+    private final BinaryWriter writer = new BinaryWriter();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private final Map<Long, Location> index = new HashMap<>();
+    private Segment active;
+    private boolean compacting;
+    private boolean closed;
+
+    private TransportArchive(Path directory, long maxSegmentSize, double compactionThreshold) {
+        this.directory = directory;
+        this.maxSegmentSize = maxSegmentSize;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public static TransportArchive open(Path directory) throws IOException {
+        return open(directory, DEFAULT_MAX_SEGMENT_SIZE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public static TransportArchive open(Path directory, long maxSegmentSize, double compactionThreshold) throws IOException {
+        if (maxSegmentSize <= SegmentFormat.HEADER_SIZE + SegmentFormat.TRAILER_SIZE) {
+            throw new IllegalArgumentException("Segment size is too small");
+        }
+        if (compactionThreshold < 0 || compactionThreshold > 1) {
+            throw new IllegalArgumentException("Compaction threshold must be between 0 and 1");
+        }
+        Files.createDirectories(directory);
+        TransportArchive archive = new TransportArchive(directory, maxSegmentSize, compactionThreshold);
+        try {
+            archive.load();
+        } catch (IOException | RuntimeException e) {
+            archive.closeChannels();
+            throw e;
+        }
+        return archive;
+    }
+
+    public void append(TransportDto transport) throws IOException {
+        if (transport.getId() == null) {
+            throw new IllegalArgumentException("Only transports with an id can be archived");
+        }
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            writer.reset();
+            codec.encode(transport, writer);
+            appendRecord(transport.getId(), writer.toByteArray());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns null when the archive holds no record for the id.
+     */
+    public TransportDto read(long id) throws IOException {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            Location location = index.get(id);
+            if (location == null) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(location.length());
+            segments.get(location.segment()).readFully(buffer, location.offset());
+            return codec.decode(new BinaryReader(buffer.flip()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return index.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Path> getSegmentFiles() {
+        lock.readLock().lock();
+        try {
+            return segments.values().stream().map(segment -> segment.path).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Seals the active segment so that readers of the directory see every record, and starts a new
+     * one on the next append.
+     */
+    public void roll() throws IOException {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (active != null && active.recordCount > 0) {
+                seal(active);
+                active = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            compactSealedSegments();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void sync() throws IOException {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (active != null) {
+                active.channel.force(false);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (active != null && active.recordCount > 0) {
+                seal(active);
+            }
+        } finally {
+            closeChannels();
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> SegmentFormat.segmentId(file) >= 0)
+                    .sorted(Comparator.comparingInt(SegmentFormat::segmentId))
+                    .toList();
+        }
+        for (Path file : files) {
+            Segment segment = Segment.open(SegmentFormat.segmentId(file), file);
+            segments.put(segment.id, segment);
+            if (segment.size() < SegmentFormat.HEADER_SIZE) {
+                // Created right before a crash, nothing was appended yet
+                segment.channel.truncate(0);
+                segment.writeFully(SegmentFormat.header(), 0);
+                segment.dataEnd = SegmentFormat.HEADER_SIZE;
+                continue;
+            }
+            ByteBuffer header = ByteBuffer.allocate(SegmentFormat.HEADER_SIZE);
+            segment.readFully(header, 0);
+            SegmentFormat.checkHeader(header.flip(), file);
+
+            long footerOffset = segment.footerOffset();
+            if (footerOffset >= 0) {
+                segment.sealed = true;
+                segment.dataEnd = footerOffset;
+                ByteBuffer footer = ByteBuffer.allocate(Math.toIntExact(segment.size() - SegmentFormat.TRAILER_SIZE - footerOffset));
+                segment.readFully(footer, footerOffset);
+                SegmentFormat.readFooter(footer.flip(), entry ->
+                        track(entry.id(), new Location(segment.id, entry.offset(), entry.length())));
+                // The footer leaves out records superseded within the segment, which still take up space
+                segment.totalBytes = Math.max(segment.totalBytes, footerOffset - SegmentFormat.HEADER_SIZE);
+            } else {
+                recover(segment);
+            }
+        }
+
+        // Appending continues in the newest segment; its footer is rewritten when it is sealed again
+        Segment newest = segments.isEmpty() ? null : segments.lastEntry().getValue();
+        if (newest != null && newest.dataEnd < maxSegmentSize) {
+            newest.channel.truncate(newest.dataEnd);
+            newest.sealed = false;
+            active = newest;
+        }
+        for (Segment segment : segments.values()) {
+            if (!segment.sealed && segment != active) {
+                seal(segment);
+            }
+        }
+    }
+
+    // Rebuilds the index of a segment without a trailer, dropping a record cut short by a crash
+    private void recover(Segment segment) throws IOException {
+        ByteBuffer content = ByteBuffer.allocate(Math.toIntExact(segment.size()));
+        segment.readFully(content, 0);
+        content.position(SegmentFormat.HEADER_SIZE);
+        long end = SegmentFormat.scanRecords(content, codec, entry ->
+                track(entry.id(), new Location(segment.id, entry.offset(), entry.length())));
+        segment.channel.truncate(end);
+        segment.dataEnd = end;
+    }
+
+    private void appendRecord(long id, byte[] record) throws IOException {
+        BinaryWriter frame = new BinaryWriter(record.length + 5);
+        frame.writeVarLong(record.length);
+        frame.writeBytes(record);
+        if (active != null && active.recordCount > 0
+                && active.dataEnd + frame.size() + footerEstimate(active) > maxSegmentSize) {
+            seal(active);
+            active = null;
+            if (!compacting) {
+                compactSealedSegments();
+            }
+        }
+        if (active == null) {
+            int segmentId = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+            active = Segment.create(segmentId, directory.resolve(SegmentFormat.fileName(segmentId)));
+            segments.put(segmentId, active);
+        }
+
+        long offset = active.dataEnd + frame.size() - record.length;
+        active.writeFully(ByteBuffer.wrap(frame.toByteArray()), active.dataEnd);
+        active.dataEnd += frame.size();
+        track(id, new Location(active.id, offset, record.length));
+    }
+
+    private void track(long id, Location location) {
+        Segment segment = segments.get(location.segment());
+        segment.recordCount++;
+        segment.totalBytes += location.length();
+        segment.liveBytes += location.length();
+        Location previous = index.put(id, location);
+        if (previous != null) {
+            segments.get(previous.segment()).liveBytes -= previous.length();
+        }
+    }
+
+    private void seal(Segment segment) throws IOException {
+        List<Map.Entry<Long, Location>> entries = new ArrayList<>();
+        for (Map.Entry<Long, Location> entry : index.entrySet()) {
+            if (entry.getValue().segment() == segment.id) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Map.Entry.comparingByKey());
+
+        long[] ids = new long[entries.size()];
+        long[] offsets = new long[entries.size()];
+        int[] lengths = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            ids[i] = entries.get(i).getKey();
+            offsets[i] = entries.get(i).getValue().offset();
+            lengths[i] = entries.get(i).getValue().length();
+        }
+        ByteBuffer footer = SegmentFormat.footer(ids, offsets, lengths, segment.dataEnd);
+        segment.channel.truncate(segment.dataEnd);
+        segment.writeFully(footer, segment.dataEnd);
+        segment.channel.force(false);
+        segment.sealed = true;
+    }
+
+    private void compactSealedSegments() throws IOException {
+        compacting = true;
+        try {
+            for (Segment segment : new ArrayList<>(segments.values())) {
+                if (segment == active || !segment.sealed || segment.totalBytes == 0
+                        || segment.liveBytes >= compactionThreshold * segment.totalBytes) {
+                    continue;
+                }
+                List<Map.Entry<Long, Location>> live = new ArrayList<>();
+                for (Map.Entry<Long, Location> entry : index.entrySet()) {
+                    if (entry.getValue().segment() == segment.id) {
+                        live.add(entry);
+                    }
+                }
+                live.sort(Comparator.comparingLong(entry -> entry.getValue().offset()));
+                for (Map.Entry<Long, Location> entry : live) {
+                    ByteBuffer record = ByteBuffer.allocate(entry.getValue().length());
+                    segment.readFully(record, entry.getValue().offset());
+                    appendRecord(entry.getKey(), record.array());
+                }
+                if (active != null) {
+                    active.channel.force(false);
+                }
+                segments.remove(segment.id);
+                segment.channel.close();
+                Files.deleteIfExists(segment.path);
+            }
+        } finally {
+            compacting = false;
+        }
+    }
+
+    private static long footerEstimate(Segment segment) {
+        return (segment.recordCount + 1) * 25L + SegmentFormat.TRAILER_SIZE;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Archive " + directory + " is closed");
+        }
+    }
+
+    private void closeChannels() throws IOException {
+        IOException failure = null;
+        for (Segment segment : segments.values()) {
+            try {
+                segment.channel.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private record Location(int segment, long offset, int length) {
+    }
+
+    private static final class Segment {
+        private final int id;
+        private final Path path;
+        private final FileChannel channel;
+        private long dataEnd;
+        private long recordCount;
+        private long totalBytes;
+        private long liveBytes;
+        private boolean sealed;
+
+        private Segment(int id, Path path, FileChannel channel) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+        }
+
+        static Segment open(int id, Path path) throws IOException {
+            return new Segment(id, path, FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        }
+
+        static Segment create(int id, Path path) throws IOException {
+            Segment segment = new Segment(id, path, FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            segment.writeFully(SegmentFormat.header(), 0);
+            segment.dataEnd = SegmentFormat.HEADER_SIZE;
+            return segment;
+        }
+
+        long size() throws IOException {
+            return channel.size();
+        }
+
+        long footerOffset() throws IOException {
+            long size = size();
+            if (size < SegmentFormat.HEADER_SIZE + SegmentFormat.TRAILER_SIZE) {
+                return -1;
+            }
+            ByteBuffer trailer = ByteBuffer.allocate(SegmentFormat.TRAILER_SIZE);
+            readFully(trailer, size - SegmentFormat.TRAILER_SIZE);
+            return SegmentFormat.footerOffset(trailer.flip(), size);
+        }
+
+        void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of segment " + path);
+                }
+                position += read;
+            }
+        }
+
+        void writeFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.university.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reads the encodings written by {@link BinaryWriter} from the current position of a buffer.
+ */
+public final class BinaryReader {
+    private final ByteBuffer buffer;
+
+    public BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public static boolean isPresent(long mask, int field) {
+        return (mask & (1L << field)) != 0;
+    }
+
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public int readByte() {
+        return buffer.get() & 0xFF;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public int readVarInt() {
+        return Math.toIntExact(readVarLong());
+    }
+
+    public long readSignedVarLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public String readString() {
+        int length = readVarInt();
+        if (buffer.hasArray()) {
+            int position = buffer.position();
+            String value = new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+            buffer.position(position + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public LocalDate readDate() {
+        return LocalDate.ofEpochDay(readSignedVarLong());
+    }
+
+    public BigDecimal readDecimal() {
+        long header = readSignedVarLong();
+        int scale = Math.toIntExact(header >> 1);
+        if ((header & 1) == 0) {
+            return BigDecimal.valueOf(readSignedVarLong(), scale);
+        }
+        byte[] bytes = new byte[readVarInt()];
+        buffer.get(bytes);
+        return new BigDecimal(new BigInteger(bytes), scale);
+    }
+
+    public <E extends Enum<E>> E readEnum(E[] values) {
+        int ordinal = readVarInt();
+        if (ordinal >= values.length) {
+            throw new IllegalArgumentException("Unknown ordinal " + ordinal + " for "
+                    + values.getClass().getComponentType().getSimpleName());
+        }
+        return values[ordinal];
+    }
+
+    public <E extends Enum<E>> Set<E> readEnumSet(Class<E> type) {
+        long mask = readVarLong();
+        Set<E> result = EnumSet.noneOf(type);
+        for (E value : type.getEnumConstants()) {
+            if (isPresent(mask, value.ordinal())) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    public Set<Long> readIds() {
+        int count = readVarInt();
+        Set<Long> result = new HashSet<>(count * 2);
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += readSignedVarLong();
+            result.add(previous);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,30 @@
+package org.university.codec;
+
+import org.university.dto.TransportDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public class BinaryTransportFileFormat implements TransportFileFormat {
+    public static final String EXTENSION = "bin";
+
+    private final TransportDtoCodec codec = new TransportDtoCodec();
+
+    @Override
+    public String extension() {
+        return EXTENSION;
+    }
+
+    @Override
+    public void write(TransportDto transport, OutputStream out) throws IOException {
+        BinaryWriter writer = new BinaryWriter();
+        codec.encode(transport, writer);
+        writer.writeTo(out);
+    }
+
+    @Override
+    public TransportDto read(InputStream in) throws IOException {
+        return codec.fromBytes(in.readAllBytes());
+    }
+}
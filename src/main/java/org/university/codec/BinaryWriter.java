@@ -0,0 +1,138 @@
+package org.university.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Growable byte buffer with the primitive encodings shared by the DTO codecs: LEB128 varints,
+ * zigzag for signed values, epoch days for dates and unscaled longs for decimals.
+ */
+public final class BinaryWriter {
+    private byte[] buffer;
+    private int size;
+
+    public BinaryWriter() {
+        this(64);
+    }
+
+    public BinaryWriter(int capacity) {
+        this.buffer = new byte[Math.max(capacity, 16)];
+    }
+
+    public static long presence(Object... fields) {
+        if (fields.length > 64) {
+            throw new IllegalArgumentException("At most 64 fields fit into a presence mask");
+        }
+        long mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        writeBytes(bytes);
+    }
+
+    public void writeDate(LocalDate value) {
+        writeSignedVarLong(value.toEpochDay());
+    }
+
+    // The lowest bit of the scale marks an unscaled value too large for a long
+    public void writeDecimal(BigDecimal value) {
+        BigInteger unscaled = value.unscaledValue();
+        long scale = value.scale();
+        if (unscaled.bitLength() < 64) {
+            writeSignedVarLong(scale << 1);
+            writeSignedVarLong(unscaled.longValue());
+        } else {
+            writeSignedVarLong((scale << 1) | 1);
+            byte[] bytes = unscaled.toByteArray();
+            writeVarLong(bytes.length);
+            writeBytes(bytes);
+        }
+    }
+
+    public void writeEnum(Enum<?> value) {
+        writeVarLong(value.ordinal());
+    }
+
+    public <E extends Enum<E>> void writeEnumSet(Set<E> values) {
+        long mask = 0;
+        for (E value : values) {
+            if (value.ordinal() >= 64) {
+                throw new IllegalArgumentException("Enum " + value.getDeclaringClass().getSimpleName() + " has too many constants");
+            }
+            mask |= 1L << value.ordinal();
+        }
+        writeVarLong(mask);
+    }
+
+    // Sorted and delta encoded, so dense id ranges cost about a byte per id
+    public void writeIds(Collection<Long> ids) {
+        long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().toArray();
+        writeVarLong(sorted.length);
+        long previous = 0;
+        for (long id : sorted) {
+            writeSignedVarLong(id - previous);
+            previous = id;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.university.codec;
+
+import org.university.dto.CompanyDto;
+
+import static org.university.codec.BinaryReader.isPresent;
+
+public class CompanyDtoCodec extends DtoCodec<CompanyDto> {
+    public static final int VERSION = 1;
+
+    public CompanyDtoCodec() {
+        super(VERSION);
+    }
+
+    @Override
+    protected void encodeFields(CompanyDto dto, BinaryWriter out) {
+        long present = BinaryWriter.presence(dto.getId(), dto.getName(), dto.getRevenue());
+        out.writeVarLong(present);
+        if (isPresent(present, 0)) out.writeVarLong(dto.getId());
+        if (isPresent(present, 1)) out.writeString(dto.getName());
+        if (isPresent(present, 2)) out.writeDecimal(dto.getRevenue());
+    }
+
+    @Override
+    protected CompanyDto decodeFields(BinaryReader in, int version) {
+        long present = in.readVarLong();
+        CompanyDto dto = new CompanyDto();
+        if (isPresent(present, 0)) dto.setId(in.readVarLong());
+        if (isPresent(present, 1)) dto.setName(in.readString());
+        if (isPresent(present, 2)) dto.setRevenue(in.readDecimal());
+        return dto;
+    }
+}
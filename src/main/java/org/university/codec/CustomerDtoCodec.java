@@ -0,0 +1,37 @@
+package org.university.codec;
+
+import org.university.dto.CustomerDto;
+
+import static org.university.codec.BinaryReader.isPresent;
+
+public class CustomerDtoCodec extends DtoCodec<CustomerDto> {
+    public static final int VERSION = 1;
+
+    public CustomerDtoCodec() {
+        super(VERSION);
+    }
+
+    @Override
+    protected void encodeFields(CustomerDto dto, BinaryWriter out) {
+        long present = BinaryWriter.presence(dto.getId(), dto.getFirstName(), dto.getLastName(),
+                dto.getBirthDate(), dto.getBudget());
+        out.writeVarLong(present);
+        if (isPresent(present, 0)) out.writeVarLong(dto.getId());
+        if (isPresent(present, 1)) out.writeString(dto.getFirstName());
+        if (isPresent(present, 2)) out.writeString(dto.getLastName());
+        if (isPresent(present, 3)) out.writeDate(dto.getBirthDate());
+        if (isPresent(present, 4)) out.writeDecimal(dto.getBudget());
+    }
+
+    @Override
+    protected CustomerDto decodeFields(BinaryReader in, int version) {
+        long present = in.readVarLong();
+        CustomerDto dto = new CustomerDto();
+        if (isPresent(present, 0)) dto.setId(in.readVarLong());
+        if (isPresent(present, 1)) dto.setFirstName(in.readString());
+        if (isPresent(present, 2)) dto.setLastName(in.readString());
+        if (isPresent(present, 3)) dto.setBirthDate(in.readDate());
+        if (isPresent(present, 4)) dto.setBudget(in.readDecimal());
+        return dto;
+    }
+}
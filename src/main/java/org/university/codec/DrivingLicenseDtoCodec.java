@@ -0,0 +1,40 @@
+package org.university.codec;
+
+import org.university.dto.DrivingLicenseDto;
+import org.university.util.DrivingLicenseCategories;
+
+import static org.university.codec.BinaryReader.isPresent;
+
+public class DrivingLicenseDtoCodec extends DtoCodec<DrivingLicenseDto> {
+    public static final int VERSION = 1;
+
+    public DrivingLicenseDtoCodec() {
+        super(VERSION);
+    }
+
+    @Override
+    protected void encodeFields(DrivingLicenseDto dto, BinaryWriter out) {
+        long present = BinaryWriter.presence(dto.getId(), dto.getDrivingLicenseNumber(), dto.getIssueDate(),
+                dto.getExpiryDate(), dto.getDrivingLicenseCategories(), dto.getEmployeeId());
+        out.writeVarLong(present);
+        if (isPresent(present, 0)) out.writeVarLong(dto.getId());
+        if (isPresent(present, 1)) out.writeString(dto.getDrivingLicenseNumber());
+        if (isPresent(present, 2)) out.writeDate(dto.getIssueDate());
+        if (isPresent(present, 3)) out.writeDate(dto.getExpiryDate());
+        if (isPresent(present, 4)) out.writeEnumSet(dto.getDrivingLicenseCategories());
+        if (isPresent(present, 5)) out.writeVarLong(dto.getEmployeeId());
+    }
+
+    @Override
+    protected DrivingLicenseDto decodeFields(BinaryReader in, int version) {
+        long present = in.readVarLong();
+        DrivingLicenseDto dto = new DrivingLicenseDto();
+        if (isPresent(present, 0)) dto.setId(in.readVarLong());
+        if (isPresent(present, 1)) dto.setDrivingLicenseNumber(in.readString());
+        if (isPresent(present, 2)) dto.setIssueDate(in.readDate());
+        if (isPresent(present, 3)) dto.setExpiryDate(in.readDate());
+        if (isPresent(present, 4)) dto.setDrivingLicenseCategories(in.readEnumSet(DrivingLicenseCategories.class));
+        if (isPresent(present, 5)) dto.setEmployeeId(in.readVarLong());
+        return dto;
+    }
+}
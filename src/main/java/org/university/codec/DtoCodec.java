@@ -0,0 +1,50 @@
+package org.university.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes one DTO type as a schema version byte, a presence mask of its non-null fields and the
+ * present fields in declaration order. Decoding accepts every version up to the current one.
+ */
+public abstract class DtoCodec<T> {
+    private final int version;
+
+    protected DtoCodec(int version) {
+        if (version < 1 || version > 0xFF) {
+            throw new IllegalArgumentException("Schema version must fit into one byte");
+        }
+        this.version = version;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public final void encode(T value, BinaryWriter out) {
+        out.writeByte(version);
+        encodeFields(value, out);
+    }
+
+    public final T decode(BinaryReader in) {
+        int recordVersion = in.readByte();
+        if (recordVersion < 1 || recordVersion > version) {
+            throw new IllegalArgumentException("Unsupported schema version " + recordVersion
+                    + ", expected at most " + version);
+        }
+        return decodeFields(in, recordVersion);
+    }
+
+    public byte[] toBytes(T value) {
+        BinaryWriter out = new BinaryWriter();
+        encode(value, out);
+        return out.toByteArray();
+    }
+
+    public T fromBytes(byte[] bytes) {
+        return decode(new BinaryReader(ByteBuffer.wrap(bytes)));
+    }
+
+    protected abstract void encodeFields(T value, BinaryWriter out);
+
+    protected abstract T decodeFields(BinaryReader in, int version);
+}
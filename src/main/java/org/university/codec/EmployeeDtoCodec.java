@@ -0,0 +1,49 @@
+package org.university.codec;
+
+import org.university.dto.EmployeeDto;
+import org.university.util.DriverQualifications;
+
+import static org.university.codec.BinaryReader.isPresent;
+
+public class EmployeeDtoCodec extends DtoCodec<EmployeeDto> {
+    public static final int VERSION = 1;
+
+    public EmployeeDtoCodec() {
+        super(VERSION);
+    }
+
+    @Override
+    protected void encodeFields(EmployeeDto dto, BinaryWriter out) {
+        long present = BinaryWriter.presence(dto.getId(), dto.getFirstName(), dto.getLastName(),
+                dto.getBirthDate(), dto.getDrivingLicenseId(), dto.getDriverQualifications(),
+                dto.getCompanyId(), dto.getSalary(), dto.getVehicleIds(), dto.getTransportIds());
+        out.writeVarLong(present);
+        if (isPresent(present, 0)) out.writeVarLong(dto.getId());
+        if (isPresent(present, 1)) out.writeString(dto.getFirstName());
+        if (isPresent(present, 2)) out.writeString(dto.getLastName());
+        if (isPresent(present, 3)) out.writeDate(dto.getBirthDate());
+        if (isPresent(present, 4)) out.writeVarLong(dto.getDrivingLicenseId());
+        if (isPresent(present, 5)) out.writeEnumSet(dto.getDriverQualifications());
+        if (isPresent(present, 6)) out.writeVarLong(dto.getCompanyId());
+        if (isPresent(present, 7)) out.writeDecimal(dto.getSalary());
+        if (isPresent(present, 8)) out.writeIds(dto.getVehicleIds());
+        if (isPresent(present, 9)) out.writeIds(dto.getTransportIds());
+    }
+
+    @Override
+    protected EmployeeDto decodeFields(BinaryReader in, int version) {
+        long present = in.readVarLong();
+        EmployeeDto dto = new EmployeeDto();
+        if (isPresent(present, 0)) dto.setId(in.readVarLong());
+        if (isPresent(present, 1)) dto.setFirstName(in.readString());
+        if (isPresent(present, 2)) dto.setLastName(in.readString());
+        if (isPresent(present, 3)) dto.setBirthDate(in.readDate());
+        if (isPresent(present, 4)) dto.setDrivingLicenseId(in.readVarLong());
+        if (isPresent(present, 5)) dto.setDriverQualifications(in.readEnumSet(DriverQualifications.class));
+        if (isPresent(present, 6)) dto.setCompanyId(in.readVarLong());
+        if (isPresent(present, 7)) dto.setSalary(in.readDecimal());
+        if (isPresent(present, 8)) dto.setVehicleIds(in.readIds());
+        if (isPresent(present, 9)) dto.setTransportIds(in.readIds());
+        return dto;
+    }
+}
@@ -0,0 +1,37 @@
+package org.university.codec;
+
+import org.university.dto.IdentificationCardDto;
+
+import static org.university.codec.BinaryReader.isPresent;
+
+public class IdentificationCardDtoCodec extends DtoCodec<IdentificationCardDto> {
+    public static final int VERSION = 1;
+
+    public IdentificationCardDtoCodec() {
+        super(VERSION);
+    }
+
+    @Override
+    protected void encodeFields(IdentificationCardDto dto, BinaryWriter out) {
+        long present = BinaryWriter.presence(dto.getId(), dto.getCardNumber(), dto.getIssueDate(),
+                dto.getExpiryDate(), dto.getPersonId());
+        out.writeVarLong(present);
+        if (isPresent(present, 0)) out.writeVarLong(dto.getId());
+        if (isPresent(present, 1)) out.writeString(dto.getCardNumber());
+        if (isPresent(present, 2)) out.writeDate(dto.getIssueDate());
+        if (isPresent(present, 3)) out.writeDate(dto.getExpiryDate());
+        if (isPresent(present, 4)) out.writeVarLong(dto.getPersonId());
+    }
+
+    @Override
+    protected IdentificationCardDto decodeFields(BinaryReader in, int version) {
+        long present = in.readVarLong();
+        IdentificationCardDto dto = new IdentificationCardDto();
+        if (isPresent(present, 0)) dto.setId(in.readVarLong());
+        if (isPresent(present, 1)) dto.setCardNumber(in.readString());
+        if (isPresent(present, 2)) dto.setIssueDate(in.readDate());
+        if (isPresent(present, 3)) dto.setExpiryDate(in.readDate());
+        if (isPresent(present, 4)) dto.setPersonId(in.readVarLong());
+        return dto;
+    }
+}
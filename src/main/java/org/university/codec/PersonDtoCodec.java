@@ -0,0 +1,37 @@
+package org.university.codec;
+
+import org.university.dto.PersonDto;
+
+import static org.university.codec.BinaryReader.isPresent;
+
+public class PersonDtoCodec extends DtoCodec<PersonDto> {
+    public static final int VERSION = 1;
+
+    public PersonDtoCodec() {
+        super(VERSION);
+    }
+
+    @Override
+    protected void encodeFields(PersonDto dto, BinaryWriter out) {
+        long present = BinaryWriter.presence(dto.getId(), dto.getFirstName(), dto.getLastName(),
+                dto.getBirthDate(), dto.getIdentificationCardId());
+        out.writeVarLong(present);
+        if (isPresent(present, 0)) out.writeVarLong(dto.getId());
+        if (isPresent(present, 1)) out.writeString(dto.getFirstName());
+        if (isPresent(present, 2)) out.writeString(dto.getLastName());
+        if (isPresent(present, 3)) out.writeDate(dto.getBirthDate());
+        if (isPresent(present, 4)) out.writeVarLong(dto.getIdentificationCardId());
+    }
+
+    @Override
+    protected PersonDto decodeFields(BinaryReader in, int version) {
+        long present = in.readVarLong();
+        PersonDto dto = new PersonDto();
+        if (isPresent(present, 0)) dto.setId(in.readVarLong());
+        if (isPresent(present, 1)) dto.setFirstName(in.readString());
+        if (isPresent(present, 2)) dto.setLastName(in.readString());
+        if (isPresent(present, 3)) dto.setBirthDate(in.readDate());
+        if (isPresent(present, 4)) dto.setIdentificationCardId(in.readVarLong());
+        return dto;
+    }
+}
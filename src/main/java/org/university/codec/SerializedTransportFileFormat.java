@@ -0,0 +1,48 @@
+package org.university.codec;
+
+import org.university.dto.TransportDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+/**
+ * Java serialization, the format of the original {@code .ser} transport files.
+ */
+public class SerializedTransportFileFormat implements TransportFileFormat {
+    public static final String EXTENSION = "ser";
+
+    // Only the classes a TransportDto is made of may be deserialized
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=10;org.university.dto.TransportDto;org.university.util.*;java.lang.*;java.math.*;java.time.*;!*");
+
+    @Override
+    public String extension() {
+        return EXTENSION;
+    }
+
+    @Override
+    public void write(TransportDto transport, OutputStream out) throws IOException {
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(transport);
+        oos.flush();
+    }
+
+    @Override
+    public TransportDto read(InputStream in) throws IOException {
+        try {
+            ObjectInputStream ois = new ObjectInputStream(in);
+            ois.setObjectInputFilter(FILTER);
+            Object object = ois.readObject();
+            if (!(object instanceof TransportDto transportDto)) {
+                throw new IOException("Stream does not contain transport data");
+            }
+            return transportDto;
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Unknown class in transport data: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.university.codec;
+
+import org.university.dto.TransportDto;
+import org.university.util.CargoType;
+import org.university.util.PaymentStatus;
+
+import static org.university.codec.BinaryReader.isPresent;
+
+public class TransportDtoCodec extends DtoCodec<TransportDto> {
+    public static final int VERSION = 1;
+
+    private static final CargoType[] CARGO_TYPES = CargoType.values();
+    private static final PaymentStatus[] PAYMENT_STATUSES = PaymentStatus.values();
+
+    public TransportDtoCodec() {
+        super(VERSION);
+    }
+
+    @Override
+    protected void encodeFields(TransportDto dto, BinaryWriter out) {
+        long present = BinaryWriter.presence(dto.getId(), dto.getStartPoint(), dto.getEndPoint(),
+                dto.getDepartureDate(), dto.getArrivalDate(), dto.getCargoType(), dto.getCompanyId(),
+                dto.getEmployeeId(), dto.getCustomerId(), dto.getVehicleId(), dto.getPaymentStatus(),
+                dto.getQuantity(), dto.getInitPrice(), dto.getTotalPrice());
+        out.writeVarLong(present);
+        if (isPresent(present, 0)) out.writeVarLong(dto.getId());
+        if (isPresent(present, 1)) out.writeString(dto.getStartPoint());
+        if (isPresent(present, 2)) out.writeString(dto.getEndPoint());
+        if (isPresent(present, 3)) out.writeDate(dto.getDepartureDate());
+        if (isPresent(present, 4)) out.writeDate(dto.getArrivalDate());
+        if (isPresent(present, 5)) out.writeEnum(dto.getCargoType());
+        if (isPresent(present, 6)) out.writeVarLong(dto.getCompanyId());
+        if (isPresent(present, 7)) out.writeVarLong(dto.getEmployeeId());
+        if (isPresent(present, 8)) out.writeVarLong(dto.getCustomerId());
+        if (isPresent(present, 9)) out.writeVarLong(dto.getVehicleId());
+        if (isPresent(present, 10)) out.writeEnum(dto.getPaymentStatus());
+        if (isPresent(present, 11)) out.writeDecimal(dto.getQuantity());
+        if (isPresent(present, 12)) out.writeDecimal(dto.getInitPrice());
+        if (isPresent(present, 13)) out.writeDecimal(dto.getTotalPrice());
+    }
+
+    @Override
+    protected TransportDto decodeFields(BinaryReader in, int version) {
+        long present = in.readVarLong();
+        TransportDto dto = new TransportDto();
+        if (isPresent(present, 0)) dto.setId(in.readVarLong());
+        if (isPresent(present, 1)) dto.setStartPoint(in.readString());
+        if (isPresent(present, 2)) dto.setEndPoint(in.readString());
+        if (isPresent(present, 3)) dto.setDepartureDate(in.readDate());
+        if (isPresent(present, 4)) dto.setArrivalDate(in.readDate());
+        if (isPresent(present, 5)) dto.setCargoType(in.readEnum(CARGO_TYPES));
+        if (isPresent(present, 6)) dto.setCompanyId(in.readVarLong());
+        if (isPresent(present, 7)) dto.setEmployeeId(in.readVarLong());
+        if (isPresent(present, 8)) dto.setCustomerId(in.readVarLong());
+        if (isPresent(present, 9)) dto.setVehicleId(in.readVarLong());
+        if (isPresent(present, 10)) dto.setPaymentStatus(in.readEnum(PAYMENT_STATUSES));
+        if (isPresent(present, 11)) dto.setQuantity(in.readDecimal());
+        if (isPresent(present, 12)) dto.setInitPrice(in.readDecimal());
+        if (isPresent(present, 13)) dto.setTotalPrice(in.readDecimal());
+        return dto;
+    }
+}
@@ -0,0 +1,15 @@
+package org.university.codec;
+
+import org.university.dto.TransportDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface TransportFileFormat {
+    String extension();
+
+    void write(TransportDto transport, OutputStream out) throws IOException;
+
+    TransportDto read(InputStream in) throws IOException;
+}
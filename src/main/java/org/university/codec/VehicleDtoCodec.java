@@ -0,0 +1,40 @@
+package org.university.codec;
+
+import org.university.dto.VehicleDto;
+import org.university.util.VehicleType;
+
+import static org.university.codec.BinaryReader.isPresent;
+
+public class VehicleDtoCodec extends DtoCodec<VehicleDto> {
+    public static final int VERSION = 1;
+
+    private static final VehicleType[] VEHICLE_TYPES = VehicleType.values();
+
+    public VehicleDtoCodec() {
+        super(VERSION);
+    }
+
+    @Override
+    protected void encodeFields(VehicleDto dto, BinaryWriter out) {
+        long present = BinaryWriter.presence(dto.getId(), dto.getVehicleType(), dto.getDistanceTraveled(),
+                dto.getEmployeeId(), dto.getCompanyId());
+        out.writeVarLong(present);
+        if (isPresent(present, 0)) out.writeVarLong(dto.getId());
+        if (isPresent(present, 1)) out.writeEnum(dto.getVehicleType());
+        if (isPresent(present, 2)) out.writeDecimal(dto.getDistanceTraveled());
+        if (isPresent(present, 3)) out.writeVarLong(dto.getEmployeeId());
+        if (isPresent(present, 4)) out.writeVarLong(dto.getCompanyId());
+    }
+
+    @Override
+    protected VehicleDto decodeFields(BinaryReader in, int version) {
+        long present = in.readVarLong();
+        VehicleDto dto = new VehicleDto();
+        if (isPresent(present, 0)) dto.setId(in.readVarLong());
+        if (isPresent(present, 1)) dto.setVehicleType(in.readEnum(VEHICLE_TYPES));
+        if (isPresent(present, 2)) dto.setDistanceTraveled(in.readDecimal());
+        if (isPresent(present, 3)) dto.setEmployeeId(in.readVarLong());
+        if (isPresent(present, 4)) dto.setCompanyId(in.readVarLong());
+        return dto;
+    }
+}
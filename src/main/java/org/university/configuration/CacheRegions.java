@@ -0,0 +1,10 @@
+package org.university.configuration;
+
+public class CacheRegions {
+    public static final String COMPANY = "company";
+    public static final String VEHICLE = "vehicle";
+    public static final String PERSON = "person";
+    public static final String REFERENCE_QUERIES = "reference-queries";
+
+    private CacheRegions() {}
+}
@@ -0,0 +1,37 @@
+package org.university.configuration;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+
+import java.util.Properties;
+
+public class DataSourceFactory {
+    public static final String URL = "hibernate.connection.url";
+    public static final String USER = "hibernate.connection.username";
+    public static final String PASSWORD = "hibernate.connection.password";
+    public static final String DRIVER = "hibernate.connection.driver_class";
+    public static final String POOL_PREFIX = "hibernate.hikari.";
+
+    private DataSourceFactory() {}
+
+    public static HikariDataSource createDataSource(Properties properties, MetricsTrackerFactory metricsTrackerFactory) {
+        Properties poolProperties = new Properties();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(POOL_PREFIX)) {
+                poolProperties.setProperty(name.substring(POOL_PREFIX.length()), properties.getProperty(name));
+            }
+        }
+
+        HikariConfig config = new HikariConfig(poolProperties);
+        config.setJdbcUrl(properties.getProperty(URL));
+        config.setUsername(properties.getProperty(USER));
+        config.setPassword(properties.getProperty(PASSWORD));
+        if (properties.getProperty(DRIVER) != null) {
+            config.setDriverClassName(properties.getProperty(DRIVER));
+        }
+        config.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        return new HikariDataSource(config);
+    }
+}
@@ -1,30 +1,76 @@
 package org.university.configuration;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.service.ServiceRegistry;
 import org.university.entity.*;
 
+import java.util.Properties;
+
 public class SessionFactoryUtil {
-    private static SessionFactory sessionFactory;
+    private static volatile SessionFactory sessionFactory;
+    private static HikariDataSource dataSource;
+    private static final ConnectionPoolMetrics connectionPoolMetrics = new ConnectionPoolMetrics();
+
     public static SessionFactory getSessionFactory() {
         if (sessionFactory == null) {
-            Configuration configuration = new Configuration();
-            configuration.addAnnotatedClass(Company.class);
-            configuration.addAnnotatedClass(Customer.class);
-            configuration.addAnnotatedClass(DrivingLicense.class);
-            configuration.addAnnotatedClass(Employee.class);
-            configuration.addAnnotatedClass(IdentificationCard.class);
-            configuration.addAnnotatedClass(Person.class);
-            configuration.addAnnotatedClass(Transport.class);
-            configuration.addAnnotatedClass(Vehicle.class);
-            ServiceRegistry serviceRegistry
-                    = new StandardServiceRegistryBuilder()
-                    .applySettings(configuration.getProperties()).build();
-
-            sessionFactory = configuration.buildSessionFactory(serviceRegistry);
+            synchronized (SessionFactoryUtil.class) {
+                if (sessionFactory == null) {
+                    Configuration configuration = new Configuration();
+                    configuration.addAnnotatedClass(Company.class);
+                    configuration.addAnnotatedClass(Customer.class);
+                    configuration.addAnnotatedClass(DailyRevenueRollup.class);
+                    configuration.addAnnotatedClass(DrivingLicense.class);
+                    configuration.addAnnotatedClass(Employee.class);
+                    configuration.addAnnotatedClass(IdentificationCard.class);
+                    configuration.addAnnotatedClass(Person.class);
+                    configuration.addAnnotatedClass(RevenueLedgerEntry.class);
+                    configuration.addAnnotatedClass(SchemaMigration.class);
+                    configuration.addAnnotatedClass(Transport.class);
+                    configuration.addAnnotatedClass(TransportTrigram.class);
+                    configuration.addAnnotatedClass(Vehicle.class);
+
+                    dataSource = DataSourceFactory.createDataSource(configuration.getProperties(), connectionPoolMetrics);
+
+                    Properties settings = new Properties();
+                    settings.putAll(configuration.getProperties());
+                    settings.remove(DataSourceFactory.URL);
+                    settings.remove(DataSourceFactory.USER);
+                    settings.remove(DataSourceFactory.PASSWORD);
+                    settings.remove(DataSourceFactory.DRIVER);
+                    settings.put(AvailableSettings.DATASOURCE, dataSource);
+
+                    ServiceRegistry serviceRegistry
+                            = new StandardServiceRegistryBuilder()
+                            .applySettings(settings).build();
+
+                    sessionFactory = configuration.buildSessionFactory(serviceRegistry);
+                }
+            }
         }
         return sessionFactory;
     }
+
+    public static int getMaximumPoolSize() {
+        getSessionFactory();
+        return dataSource.getMaximumPoolSize();
+    }
+
+    public static ConnectionPoolMetrics getConnectionPoolMetrics() {
+        return connectionPoolMetrics;
+    }
+
+    public static synchronized void shutdown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+            sessionFactory = null;
+        }
+        if (dataSource != null) {
+            dataSource.close();
+            dataSource = null;
+        }
+    }
 }
@@ -0,0 +1,117 @@
+package org.university.configuration;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.university.exception.DAOException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class UnitOfWork {
+    private static final ThreadLocal<UnitOfWork> current = new ThreadLocal<>();
+
+    private Session session;
+    private Transaction transaction;
+    private final List<Runnable> afterCommit = new ArrayList<>();
+
+    private UnitOfWork() {}
+
+    public static <T> T execute(Supplier<T> work) throws DAOException {
+        if (current.get() != null) {
+            return work.get();
+        }
+        try {
+            return executeInNewUnit(work);
+        } catch (DAOException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new DAOException("Failed to complete unit of work: " + e.getMessage());
+        }
+    }
+
+    public static void run(Runnable work) throws DAOException {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public static <T> T withSession(Function<Session, T> work) {
+        UnitOfWork unitOfWork = current.get();
+        if (unitOfWork != null) {
+            return work.apply(unitOfWork.session());
+        }
+        return executeInNewUnit(() -> work.apply(current.get().session()));
+    }
+
+    public static void useSession(Consumer<Session> work) {
+        withSession(session -> {
+            work.accept(session);
+            return null;
+        });
+    }
+
+    public static boolean isActive() {
+        return current.get() != null;
+    }
+
+    /**
+     * Runs the callback once the current unit of work has committed, or right away when there is none.
+     * Callbacks are dropped on rollback.
+     */
+    public static void afterCommit(Runnable callback) {
+        UnitOfWork unitOfWork = current.get();
+        if (unitOfWork != null) {
+            unitOfWork.afterCommit.add(callback);
+        } else {
+            callback.run();
+        }
+    }
+
+    private static <T> T executeInNewUnit(Supplier<T> work) {
+        UnitOfWork unitOfWork = new UnitOfWork();
+        current.set(unitOfWork);
+        T result;
+        try {
+            result = work.get();
+            unitOfWork.commit();
+        } catch (RuntimeException e) {
+            unitOfWork.rollback();
+            throw e;
+        } finally {
+            current.remove();
+            unitOfWork.close();
+        }
+        unitOfWork.afterCommit.forEach(Runnable::run);
+        return result;
+    }
+
+    private Session session() {
+        if (session == null) {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            transaction = session.beginTransaction();
+        }
+        return session;
+    }
+
+    private void commit() {
+        if (transaction != null && transaction.isActive()) {
+            transaction.commit();
+        }
+    }
+
+    private void rollback() {
+        if (transaction != null && transaction.isActive()) {
+            transaction.rollback();
+        }
+    }
+
+    private void close() {
+        if (session != null && session.isOpen()) {
+            session.close();
+        }
+    }
+}
@@ -6,7 +6,9 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.university.configuration.CacheRegions;
 import org.university.configuration.SessionFactoryUtil;
+import org.university.configuration.UnitOfWork;
 import org.university.dto.CompanyEmployeeDto;
 import org.university.dto.CompanyEmployeesDto;
 import org.university.dto.EmployeeDto;
@@ -42,16 +44,8 @@ public class CompanyDao {
         }
     }
 
-    public Company getCompanyById(long id){
-        Session session = null;
-        try{
-            session = SessionFactoryUtil.getSessionFactory().openSession();
-            return session.find(Company.class,id);
-        }finally {
-            if(session != null && session.isOpen()){
-                session.close();
-            }
-        }
+    public Company getCompanyById(long id) {
+        return UnitOfWork.withSession(session -> session.find(Company.class, id));
     }
 
     public List<Company> getAllCompanies(){
@@ -78,7 +72,6 @@ public class CompanyDao {
                 throw new DAOException("Company with id " + id + " not found");
             }
             companyToUpdate.setName(company.getName());
-            companyToUpdate.setRevenue(company.getRevenue());
             transaction.commit();
         }catch(DAOException e){
             if(transaction != null){
@@ -232,7 +225,10 @@ public class CompanyDao {
                     orderBy(ascending ?
                             criteriaBuilder.asc(root.get("name")) : criteriaBuilder.desc(root.get("name")));
 
-            return session.createQuery(criteriaQuery).getResultList();
+            return session.createQuery(criteriaQuery)
+                    .setCacheable(true)
+                    .setCacheRegion(CacheRegions.REFERENCE_QUERIES)
+                    .getResultList();
         }catch(DAOException e){
             throw e;
         }catch(Exception e){
@@ -256,7 +252,10 @@ public class CompanyDao {
                     .orderBy(ascending ?
                             criteriaBuilder.asc(root.get("revenue")) : criteriaBuilder.desc(root.get("revenue")));
 
-            return session.createQuery(criteriaQuery).getResultList();
+            return session.createQuery(criteriaQuery)
+                    .setCacheable(true)
+                    .setCacheRegion(CacheRegions.REFERENCE_QUERIES)
+                    .getResultList();
         }catch(DAOException e){
             throw e;
         }catch(Exception e){
@@ -281,7 +280,10 @@ public class CompanyDao {
             );
 
             criteriaQuery.select(root).where(nameEqualsTo);
-            return session.createQuery(criteriaQuery).getResultList();
+            return session.createQuery(criteriaQuery)
+                    .setCacheable(true)
+                    .setCacheRegion(CacheRegions.REFERENCE_QUERIES)
+                    .getResultList();
         }catch(DAOException e){
             throw e;
         }catch(Exception e){
@@ -305,7 +307,10 @@ public class CompanyDao {
                     where(criteriaBuilder.greaterThanOrEqualTo(root.get("revenue"), minRevenue));
 
 
-            return session.createQuery(criteriaQuery).getResultList();
+            return session.createQuery(criteriaQuery)
+                    .setCacheable(true)
+                    .setCacheRegion(CacheRegions.REFERENCE_QUERIES)
+                    .getResultList();
         }catch(DAOException e){
             throw e;
         }catch(Exception e){
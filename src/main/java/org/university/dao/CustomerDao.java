@@ -3,12 +3,16 @@ package org.university.dao;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
 import org.university.configuration.SessionFactoryUtil;
+import org.university.configuration.UnitOfWork;
 import org.university.entity.Customer;
 import org.university.exception.DAOException;
 
+import java.util.Collection;
 import java.util.List;
 
 public class CustomerDao {
+    public static final int BATCH_SIZE = 50;
+
     public void createCustomer(Customer customer) throws DAOException {
         Session session = null;
         Transaction transaction = null;
@@ -29,18 +33,38 @@ public class CustomerDao {
         }
     }
 
-    public Customer getCustomerById(long id) {
+    public void createCustomers(Collection<Customer> customers) throws DAOException {
         Session session = null;
-        try{
+        Transaction transaction = null;
+        try {
             session = SessionFactoryUtil.getSessionFactory().openSession();
-            return session.find(Customer.class, id);
-        }finally {
-            if(session != null && session.isOpen()){
+            session.setJdbcBatchSize(BATCH_SIZE);
+            transaction = session.beginTransaction();
+            int count = 0;
+            for (Customer customer : customers) {
+                session.persist(customer);
+                if (++count % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+        } catch (Exception e) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new DAOException("Failed to create customers: " + e.getMessage(), e);
+        } finally {
+            if (session != null && session.isOpen()) {
                 session.close();
             }
         }
     }
 
+    public Customer getCustomerById(long id) {
+        return UnitOfWork.withSession(session -> session.find(Customer.class, id));
+    }
+
     public List<Customer> getAllCustomers() {
         Session session = null;
         try{
@@ -3,7 +3,10 @@ package org.university.dao;
 import jakarta.persistence.criteria.*;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.university.configuration.CacheRegions;
 import org.university.configuration.SessionFactoryUtil;
+import org.university.configuration.UnitOfWork;
+import org.university.dto.EmployeeSummary;
 import org.university.entity.Company;
 import org.university.entity.DrivingLicense;
 import org.university.entity.Employee;
@@ -11,9 +14,14 @@ import org.university.exception.DAOException;
 import org.university.util.DriverQualifications;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class EmployeeDao {
+    public static final int BATCH_SIZE = 50;
+
     public void createEmployee(Employee employee) throws DAOException {
         if (employee == null) {
             throw new DAOException("Employee cannot be null");
@@ -47,16 +55,49 @@ public class EmployeeDao {
         }
     }
 
-    public Employee getEmployeeById(long id) {
+    public void createEmployees(Collection<Employee> employees) throws DAOException {
         Session session = null;
-        try{
+        Transaction transaction = null;
+        try {
             session = SessionFactoryUtil.getSessionFactory().openSession();
-            return session.find(Employee.class, id);
-        }finally {
-                if(session != null && session.isOpen()){
-                    session.close();
+            session.setJdbcBatchSize(BATCH_SIZE);
+            transaction = session.beginTransaction();
+
+            Set<Long> companyIds = new HashSet<>();
+            for (Employee employee : employees) {
+                EntityReferences.collectId(employee.getCompany(), companyIds);
+            }
+            EntityReferences.ensureExisting(session, Company.class, companyIds);
+
+            int count = 0;
+            for (Employee employee : employees) {
+                employee.setCompany(EntityReferences.reference(session, Company.class, employee.getCompany()));
+                session.persist(employee);
+                if (++count % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
                 }
             }
+            transaction.commit();
+        } catch (DAOException e) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        } catch (Exception e) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new DAOException("Failed to create employees: " + e.getMessage(), e);
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public Employee getEmployeeById(long id) {
+        return UnitOfWork.withSession(session -> session.find(Employee.class, id));
     }
 
     public List<Employee> getAllEmployees() {
@@ -72,6 +113,41 @@ public class EmployeeDao {
         }
     }
 
+    public List<EmployeeSummary> getEmployeeSummaries() {
+        Session session = null;
+        try{
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            return session.createQuery(
+                            "SELECT new org.university.dto.EmployeeSummary(" +
+                                    "e.id, e.firstName, e.lastName, e.company.id, e.salary) " +
+                                    "FROM Employee e ORDER BY e.id",
+                            EmployeeSummary.class)
+                    .getResultList();
+        }finally {
+            if(session != null && session.isOpen()){
+                session.close();
+            }
+        }
+    }
+
+    public List<EmployeeSummary> getEmployeeSummariesByCompany(long companyId) {
+        Session session = null;
+        try{
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            return session.createQuery(
+                            "SELECT new org.university.dto.EmployeeSummary(" +
+                                    "e.id, e.firstName, e.lastName, e.company.id, e.salary) " +
+                                    "FROM Employee e WHERE e.company.id = :companyId ORDER BY e.id",
+                            EmployeeSummary.class)
+                    .setParameter("companyId", companyId)
+                    .getResultList();
+        }finally {
+            if(session != null && session.isOpen()){
+                session.close();
+            }
+        }
+    }
+
     public void updateEmployee(long id, Employee updated) throws DAOException {
         Transaction transaction = null;
         Session session = null;
@@ -171,7 +247,10 @@ public class EmployeeDao {
                             criteriaBuilder.asc(root.get("salary"))
                             : criteriaBuilder.desc(root.get("salary")));
 
-            return session.createQuery(criteriaQuery).getResultList();
+            return session.createQuery(criteriaQuery)
+                    .setCacheable(true)
+                    .setCacheRegion(CacheRegions.REFERENCE_QUERIES)
+                    .getResultList();
         }catch(DAOException e){
             throw e;
         }catch(Exception e){
@@ -198,7 +277,10 @@ public class EmployeeDao {
                     .orderBy(ascending ? criteriaBuilder.asc(qualificationsJoin)
                             : criteriaBuilder.desc(qualificationsJoin));
 
-            return session.createQuery(criteriaQuery).getResultList();
+            return session.createQuery(criteriaQuery)
+                    .setCacheable(true)
+                    .setCacheRegion(CacheRegions.REFERENCE_QUERIES)
+                    .getResultList();
         }catch(DAOException e){
             throw e;
         }catch(Exception e){
@@ -222,7 +304,10 @@ public class EmployeeDao {
                     criteriaBuilder.greaterThanOrEqualTo(root.get("salary"), minSalary);
 
             criteriaQuery.select(root).where(greaterThanSalary);
-            return session.createQuery(criteriaQuery).getResultList();
+            return session.createQuery(criteriaQuery)
+                    .setCacheable(true)
+                    .setCacheRegion(CacheRegions.REFERENCE_QUERIES)
+                    .getResultList();
         }catch(DAOException e){
             throw e;
         }catch(Exception e){
@@ -249,7 +334,10 @@ public class EmployeeDao {
                     .where(criteriaBuilder.equal(qualificationsJoin, qualification));
 
 
-            return session.createQuery(criteriaQuery).getResultList();
+            return session.createQuery(criteriaQuery)
+                    .setCacheable(true)
+                    .setCacheRegion(CacheRegions.REFERENCE_QUERIES)
+                    .getResultList();
         }catch(DAOException e){
             throw e;
         }catch(Exception e){
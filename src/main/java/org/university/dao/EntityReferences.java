@@ -0,0 +1,49 @@
+package org.university.dao;
+
+import org.hibernate.Session;
+import org.university.entity.BaseEntity;
+import org.university.exception.DAOException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+final class EntityReferences {
+    private static final int MAX_IN_LIST_SIZE = 1000;
+
+    private EntityReferences() {
+    }
+
+    static void collectId(BaseEntity reference, Set<Long> ids) {
+        if (reference == null) {
+            return;
+        }
+        if (reference.getId() == null) {
+            throw new DAOException("Referenced " + reference.getClass().getSimpleName() + " must have an id");
+        }
+        ids.add(reference.getId());
+    }
+
+    static void ensureExisting(Session session, Class<? extends BaseEntity> type, Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new TreeSet<>(ids);
+        List<Long> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += MAX_IN_LIST_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + MAX_IN_LIST_SIZE, idList.size()));
+            missing.removeAll(session.createQuery(
+                            "SELECT e.id FROM " + type.getSimpleName() + " e WHERE e.id IN :ids", Long.class)
+                    .setParameterList("ids", chunk)
+                    .getResultList());
+        }
+        if (!missing.isEmpty()) {
+            throw new DAOException(type.getSimpleName() + " with ids " + missing + " does not exist");
+        }
+    }
+
+    static <T extends BaseEntity> T reference(Session session, Class<T> type, T reference) {
+        return reference == null ? null : session.getReference(type, reference.getId());
+    }
+}
@@ -0,0 +1,180 @@
+package org.university.dao;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.university.entity.Company;
+import org.university.entity.DailyRevenueKey;
+import org.university.entity.DailyRevenueRollup;
+import org.university.entity.RevenueLedgerEntry;
+import org.university.entity.RevenueLedgerKey;
+import org.university.util.LedgerScope;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+class RevenueLedgerChanges {
+    private final Map<RevenueLedgerKey, Delta> deltas = new LinkedHashMap<>();
+    private final Map<DailyRevenueKey, Delta> dailyDeltas = new LinkedHashMap<>();
+
+    void remove(TransportRevenueSnapshot snapshot) {
+        record(snapshot, -1);
+    }
+
+    void add(TransportRevenueSnapshot snapshot) {
+        record(snapshot, 1);
+    }
+
+    void replace(TransportRevenueSnapshot before, TransportRevenueSnapshot after) {
+        remove(before);
+        add(after);
+    }
+
+    void move(LedgerScope scope, String fromOwner, String toOwner, RevenueLedgerEntry totals) {
+        if (totals == null || Objects.equals(fromOwner, toOwner)) {
+            return;
+        }
+        if (fromOwner != null) {
+            delta(scope, fromOwner).subtract(totals);
+        }
+        if (toOwner != null) {
+            delta(scope, toOwner).addAll(totals);
+        }
+    }
+
+    boolean isEmpty() {
+        return deltas.values().stream().allMatch(Delta::isZero)
+                && dailyDeltas.values().stream().allMatch(Delta::isZero);
+    }
+
+    void applyTo(Session session) {
+        for (Map.Entry<RevenueLedgerKey, Delta> entry : deltas.entrySet()) {
+            Delta delta = entry.getValue();
+            if (delta.isZero()) {
+                continue;
+            }
+            session.createNativeMutationQuery(
+                            "INSERT INTO revenue_ledger " +
+                                    "(scope, owner_key, transport_count, billed_amount, paid_count, paid_amount) " +
+                                    "VALUES (:scope, :ownerKey, :transportCount, :billedAmount, :paidCount, :paidAmount) " +
+                                    "ON DUPLICATE KEY UPDATE " +
+                                    "transport_count = transport_count + VALUES(transport_count), " +
+                                    "billed_amount = billed_amount + VALUES(billed_amount), " +
+                                    "paid_count = paid_count + VALUES(paid_count), " +
+                                    "paid_amount = paid_amount + VALUES(paid_amount)")
+                    .setParameter("scope", entry.getKey().getScope().name())
+                    .setParameter("ownerKey", entry.getKey().getOwnerKey())
+                    .setParameter("transportCount", delta.transportCount)
+                    .setParameter("billedAmount", delta.billedAmount)
+                    .setParameter("paidCount", delta.paidCount)
+                    .setParameter("paidAmount", delta.paidAmount)
+                    .addSynchronizedEntityClass(RevenueLedgerEntry.class)
+                    .executeUpdate();
+
+            if (entry.getKey().getScope() == LedgerScope.COMPANY && delta.paidAmount.signum() != 0) {
+                addCompanyRevenue(session, Long.valueOf(entry.getKey().getOwnerKey()), delta.paidAmount);
+            }
+        }
+        deltas.clear();
+
+        for (Map.Entry<DailyRevenueKey, Delta> entry : dailyDeltas.entrySet()) {
+            Delta delta = entry.getValue();
+            if (delta.isZero()) {
+                continue;
+            }
+            session.createNativeMutationQuery(
+                            "INSERT INTO daily_revenue_rollup " +
+                                    "(company_id, day, cargo_type, transport_count, paid_count, paid_amount) " +
+                                    "VALUES (:companyId, :day, :cargoType, :transportCount, :paidCount, :paidAmount) " +
+                                    "ON DUPLICATE KEY UPDATE " +
+                                    "transport_count = transport_count + VALUES(transport_count), " +
+                                    "paid_count = paid_count + VALUES(paid_count), " +
+                                    "paid_amount = paid_amount + VALUES(paid_amount)")
+                    .setParameter("companyId", entry.getKey().getCompanyId())
+                    .setParameter("day", entry.getKey().getDay())
+                    .setParameter("cargoType", entry.getKey().getCargoType().name())
+                    .setParameter("transportCount", delta.transportCount)
+                    .setParameter("paidCount", delta.paidCount)
+                    .setParameter("paidAmount", delta.paidAmount)
+                    .addSynchronizedEntityClass(DailyRevenueRollup.class)
+                    .executeUpdate();
+        }
+        dailyDeltas.clear();
+    }
+
+    // Applied in the database so that concurrent payments for one company cannot overwrite each other.
+    // The synchronized entity class evicts the cached companies when the transaction completes, and an
+    // instance already loaded in this session is refreshed so that a later flush does not write it back.
+    private static void addCompanyRevenue(Session session, Long companyId, BigDecimal amount) {
+        session.createNativeMutationQuery(
+                        "UPDATE company SET revenue = COALESCE(revenue, 0) + :amount WHERE id = :companyId")
+                .setParameter("amount", amount)
+                .setParameter("companyId", companyId)
+                .addSynchronizedEntityClass(Company.class)
+                .executeUpdate();
+
+        Company company = session.getReference(Company.class, companyId);
+        if (Hibernate.isInitialized(company)) {
+            session.refresh(company);
+        }
+    }
+
+    private void record(TransportRevenueSnapshot snapshot, int sign) {
+        if (snapshot == null) {
+            return;
+        }
+        BigDecimal price = sign > 0 ? snapshot.price() : snapshot.price().negate();
+        int paid = snapshot.isPaid() ? sign : 0;
+        BigDecimal paidAmount = snapshot.isPaid() ? price : BigDecimal.ZERO;
+
+        if (snapshot.companyId() != null) {
+            delta(LedgerScope.COMPANY, snapshot.companyId().toString()).add(sign, price, paid, paidAmount);
+        }
+        if (snapshot.employeeId() != null) {
+            delta(LedgerScope.DRIVER, snapshot.employeeId().toString()).add(sign, price, paid, paidAmount);
+        }
+        if (snapshot.vehicleId() != null) {
+            delta(LedgerScope.VEHICLE, snapshot.vehicleId().toString()).add(sign, price, paid, paidAmount);
+        }
+        if (snapshot.vehicleType() != null) {
+            delta(LedgerScope.VEHICLE_TYPE, snapshot.vehicleType().name()).add(sign, price, paid, paidAmount);
+        }
+        if (snapshot.companyId() != null && snapshot.departureDate() != null && snapshot.cargoType() != null) {
+            dailyDeltas.computeIfAbsent(
+                    new DailyRevenueKey(snapshot.companyId(), snapshot.departureDate(), snapshot.cargoType()),
+                    key -> new Delta()).add(sign, price, paid, paidAmount);
+        }
+    }
+
+    private Delta delta(LedgerScope scope, String ownerKey) {
+        return deltas.computeIfAbsent(new RevenueLedgerKey(scope, ownerKey), key -> new Delta());
+    }
+
+    private static class Delta {
+        private long transportCount;
+        private BigDecimal billedAmount = BigDecimal.ZERO;
+        private long paidCount;
+        private BigDecimal paidAmount = BigDecimal.ZERO;
+
+        void add(long count, BigDecimal billed, long paid, BigDecimal paidSum) {
+            transportCount += count;
+            billedAmount = billedAmount.add(billed);
+            paidCount += paid;
+            paidAmount = paidAmount.add(paidSum);
+        }
+
+        void addAll(RevenueLedgerEntry totals) {
+            add(totals.getTransportCount(), totals.getBilledAmount(), totals.getPaidCount(), totals.getPaidAmount());
+        }
+
+        void subtract(RevenueLedgerEntry totals) {
+            add(-totals.getTransportCount(), totals.getBilledAmount().negate(),
+                    -totals.getPaidCount(), totals.getPaidAmount().negate());
+        }
+
+        boolean isZero() {
+            return transportCount == 0 && billedAmount.signum() == 0 && paidCount == 0 && paidAmount.signum() == 0;
+        }
+    }
+}
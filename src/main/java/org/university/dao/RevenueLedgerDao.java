@@ -0,0 +1,171 @@
+package org.university.dao;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.university.configuration.SessionFactoryUtil;
+import org.university.configuration.UnitOfWork;
+import org.university.entity.Company;
+import org.university.entity.DailyRevenueRollup;
+import org.university.entity.RevenueLedgerEntry;
+import org.university.entity.RevenueLedgerKey;
+import org.university.exception.DAOException;
+import org.university.util.LedgerScope;
+import org.university.util.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RevenueLedgerDao {
+
+    public RevenueLedgerEntry getEntry(LedgerScope scope, String ownerKey) {
+        return UnitOfWork.withSession(session ->
+                session.find(RevenueLedgerEntry.class, new RevenueLedgerKey(scope, ownerKey)));
+    }
+
+    public RevenueLedgerEntry getEntry(LedgerScope scope, long ownerId) {
+        return getEntry(scope, Long.toString(ownerId));
+    }
+
+    public Map<String, RevenueLedgerEntry> getEntries(LedgerScope scope) {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            Map<String, RevenueLedgerEntry> result = new HashMap<>();
+            session.createQuery("SELECT e FROM RevenueLedgerEntry e WHERE e.id.scope = :scope", RevenueLedgerEntry.class)
+                    .setParameter("scope", scope)
+                    .getResultList()
+                    .forEach(entry -> result.put(entry.getId().getOwnerKey(), entry));
+            return result;
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public BigDecimal sumCompanyPaidRevenue(long companyId, LocalDate startDate, LocalDate endDate) {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            BigDecimal sum = session.createQuery(
+                            "SELECT SUM(r.paidAmount) FROM DailyRevenueRollup r " +
+                                    "WHERE r.id.companyId = :companyId AND r.id.day BETWEEN :startDate AND :endDate",
+                            BigDecimal.class)
+                    .setParameter("companyId", companyId)
+                    .setParameter("startDate", startDate)
+                    .setParameter("endDate", endDate)
+                    .getSingleResult();
+            return sum != null ? sum : BigDecimal.ZERO;
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public List<DailyRevenueRollup> getDailyRollup(long companyId, LocalDate startDate, LocalDate endDate) {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            return session.createQuery(
+                            "SELECT r FROM DailyRevenueRollup r " +
+                                    "WHERE r.id.companyId = :companyId AND r.id.day BETWEEN :startDate AND :endDate " +
+                                    "ORDER BY r.id.day, r.id.cargoType",
+                            DailyRevenueRollup.class)
+                    .setParameter("companyId", companyId)
+                    .setParameter("startDate", startDate)
+                    .setParameter("endDate", endDate)
+                    .getResultList();
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public void rebuildLedger() throws DAOException {
+        Transaction transaction = null;
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            transaction = session.beginTransaction();
+
+            session.createMutationQuery("DELETE FROM RevenueLedgerEntry").executeUpdate();
+            rebuildScope(session, LedgerScope.COMPANY, "CAST(t.company_id AS CHAR)", "", "t.company_id");
+            // Company.revenue is kept in step with the COMPANY paid amounts by every ledger write, so it is
+            // rebuilt from the same rows.
+            session.createNativeMutationQuery(
+                            "UPDATE company c LEFT JOIN revenue_ledger l " +
+                                    "ON l.scope = :scope AND l.owner_key = CAST(c.id AS CHAR) " +
+                                    "SET c.revenue = COALESCE(l.paid_amount, 0)")
+                    .setParameter("scope", LedgerScope.COMPANY.name())
+                    .addSynchronizedEntityClass(Company.class)
+                    .executeUpdate();
+            rebuildScope(session, LedgerScope.DRIVER, "CAST(t.employee_id AS CHAR)", "", "t.employee_id");
+            rebuildScope(session, LedgerScope.VEHICLE, "CAST(t.vehicle_id AS CHAR)", "", "t.vehicle_id");
+            rebuildScope(session, LedgerScope.VEHICLE_TYPE, "v.vehicle_type",
+                    "JOIN vehicle v ON v.id = t.vehicle_id ", "v.vehicle_type");
+
+            transaction.commit();
+        } catch (Exception e) {
+            if (transaction != null && transaction.isActive()) transaction.rollback();
+            throw new DAOException("Failed to rebuild revenue ledger: " + e.getMessage());
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public void rebuildDailyRollup() throws DAOException {
+        Transaction transaction = null;
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            transaction = session.beginTransaction();
+
+            session.createMutationQuery("DELETE FROM DailyRevenueRollup").executeUpdate();
+            session.createNativeMutationQuery(
+                            "INSERT INTO daily_revenue_rollup " +
+                                    "(company_id, day, cargo_type, transport_count, paid_count, paid_amount) " +
+                                    "SELECT t.company_id, t.departure_date, t.cargo_type, COUNT(*), " +
+                                    "SUM(CASE WHEN t.paymentStatus = :paid THEN 1 ELSE 0 END), " +
+                                    "COALESCE(SUM(CASE WHEN t.paymentStatus = :paid THEN t.price ELSE 0 END), 0) " +
+                                    "FROM transport t " +
+                                    "WHERE t.company_id IS NOT NULL AND t.departure_date IS NOT NULL AND t.cargo_type IS NOT NULL " +
+                                    "GROUP BY t.company_id, t.departure_date, t.cargo_type")
+                    .setParameter("paid", PaymentStatus.PAID.name())
+                    .addSynchronizedEntityClass(DailyRevenueRollup.class)
+                    .executeUpdate();
+
+            transaction.commit();
+        } catch (Exception e) {
+            if (transaction != null && transaction.isActive()) transaction.rollback();
+            throw new DAOException("Failed to rebuild daily revenue rollup: " + e.getMessage());
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    private static void rebuildScope(Session session, LedgerScope scope, String ownerExpression,
+                                     String join, String groupColumn) {
+        session.createNativeMutationQuery(
+                        "INSERT INTO revenue_ledger " +
+                                "(scope, owner_key, transport_count, billed_amount, paid_count, paid_amount) " +
+                                "SELECT :scope, " + ownerExpression + ", COUNT(*), COALESCE(SUM(t.price), 0), " +
+                                "SUM(CASE WHEN t.paymentStatus = :paid THEN 1 ELSE 0 END), " +
+                                "COALESCE(SUM(CASE WHEN t.paymentStatus = :paid THEN t.price ELSE 0 END), 0) " +
+                                "FROM transport t " + join +
+                                "WHERE " + groupColumn + " IS NOT NULL " +
+                                "GROUP BY " + groupColumn)
+                .setParameter("scope", scope.name())
+                .setParameter("paid", PaymentStatus.PAID.name())
+                .addSynchronizedEntityClass(RevenueLedgerEntry.class)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,166 @@
+package org.university.dao;
+
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.university.configuration.SessionFactoryUtil;
+import org.university.entity.BaseEntity;
+import org.university.entity.SchemaMigration;
+import org.university.entity.TransportTrigram;
+import org.university.exception.DAOException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One-time data migrations for databases created by earlier versions. hbm2ddl only adds tables and
+ * columns; everything that has to be derived from existing rows happens here. Each migration runs once
+ * and is recorded in schema_migration, and a MySQL named lock keeps concurrent starts from racing.
+ */
+public class SchemaMigrationDao {
+    public static final String SEED_ID_SEQUENCES = "001_seed_id_sequences";
+    public static final String BACKFILL_REVENUE_LEDGER = "002_backfill_revenue_ledger";
+    public static final String BACKFILL_DAILY_REVENUE_ROLLUP = "003_backfill_daily_revenue_rollup";
+    public static final String BACKFILL_PLACE_INDEX = "004_backfill_place_index";
+    private static final String LOCK_NAME = "transport_company.schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private final RevenueLedgerDao revenueLedgerDao;
+    private final TransportDao transportDao;
+
+    public SchemaMigrationDao(RevenueLedgerDao revenueLedgerDao, TransportDao transportDao) {
+        this.revenueLedgerDao = revenueLedgerDao;
+        this.transportDao = transportDao;
+    }
+
+    private record Migration(String name, Runnable action) {
+    }
+
+    private List<Migration> migrations() {
+        return List.of(
+                new Migration(SEED_ID_SEQUENCES, this::seedIdSequences),
+                new Migration(BACKFILL_REVENUE_LEDGER, revenueLedgerDao::rebuildLedger),
+                new Migration(BACKFILL_DAILY_REVENUE_ROLLUP, revenueLedgerDao::rebuildDailyRollup),
+                new Migration(BACKFILL_PLACE_INDEX, transportDao::rebuildPlaceIndex)
+        );
+    }
+
+    public List<String> migrate() throws DAOException {
+        Transaction transaction = null;
+        Session session = null;
+        boolean locked = false;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            // The named lock belongs to the connection, which the transaction keeps pinned to this session
+            transaction = session.beginTransaction();
+            Object acquired = session.createNativeQuery("SELECT GET_LOCK(:name, :timeout)", Object.class)
+                    .setParameter("name", LOCK_NAME)
+                    .setParameter("timeout", LOCK_TIMEOUT_SECONDS)
+                    .getSingleResult();
+            locked = acquired instanceof Number number && number.intValue() == 1;
+            if (!locked) {
+                throw new DAOException("Timed out waiting for the schema migration lock");
+            }
+
+            Set<String> applied = new HashSet<>(session
+                    .createQuery("SELECT m.name FROM SchemaMigration m", String.class)
+                    .getResultList());
+            List<String> appliedNow = new ArrayList<>();
+            for (Migration migration : migrations()) {
+                if (!applied.contains(migration.name())) {
+                    migration.action().run();
+                    markApplied(migration.name());
+                    appliedNow.add(migration.name());
+                }
+            }
+            return appliedNow;
+        } catch (DAOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DAOException("Failed to migrate the database: " + e.getMessage());
+        } finally {
+            if (session != null && session.isOpen()) {
+                if (locked) {
+                    session.createNativeQuery("SELECT RELEASE_LOCK(:name)", Object.class)
+                            .setParameter("name", LOCK_NAME)
+                            .getSingleResult();
+                }
+                if (transaction != null && transaction.isActive()) {
+                    transaction.commit();
+                }
+                session.close();
+            }
+        }
+    }
+
+    private static void markApplied(String name) {
+        Transaction transaction = null;
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            transaction = session.beginTransaction();
+            session.persist(new SchemaMigration(name, LocalDateTime.now()));
+            transaction.commit();
+        } catch (Exception e) {
+            if (transaction != null && transaction.isActive()) transaction.rollback();
+            throw new DAOException("Failed to record migration " + name + ": " + e.getMessage());
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    // Ids used to come from AUTO_INCREMENT, while the sequence tables start at 1. The pooled optimizer
+    // hands out (next_val - allocationSize, next_val], so next_val has to clear the highest id by a full block.
+    private void seedIdSequences() {
+        Transaction transaction = null;
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            transaction = session.beginTransaction();
+
+            long maxEntityId = 0;
+            for (EntityType<?> type : session.getMetamodel().getEntities()) {
+                if (BaseEntity.class.isAssignableFrom(type.getJavaType())) {
+                    maxEntityId = Math.max(maxEntityId, maxId(session, type.getName()));
+                }
+            }
+            raiseSequence(session, BaseEntity.ID_SEQUENCE, maxEntityId + BaseEntity.ID_ALLOCATION_SIZE);
+            raiseSequence(session, TransportTrigram.ID_SEQUENCE,
+                    maxId(session, TransportTrigram.class.getSimpleName()) + TransportTrigram.ID_ALLOCATION_SIZE);
+
+            transaction.commit();
+        } catch (Exception e) {
+            if (transaction != null && transaction.isActive()) transaction.rollback();
+            throw new DAOException("Failed to seed id sequences: " + e.getMessage());
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    private static long maxId(Session session, String entityName) {
+        Long max = session.createQuery("SELECT MAX(e.id) FROM " + entityName + " e", Long.class)
+                .getSingleResult();
+        return max != null ? max : 0L;
+    }
+
+    private static void raiseSequence(Session session, String sequence, long floor) {
+        int updated = session.createNativeMutationQuery(
+                        "UPDATE " + sequence + " SET next_val = GREATEST(next_val, :floor)")
+                .setParameter("floor", floor)
+                .addSynchronizedQuerySpace(sequence)
+                .executeUpdate();
+        if (updated == 0) {
+            session.createNativeMutationQuery("INSERT INTO " + sequence + " (next_val) VALUES (:floor)")
+                    .setParameter("floor", floor)
+                    .addSynchronizedQuerySpace(sequence)
+                    .executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.university.dao;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.university.configuration.SessionFactoryUtil;
+import org.university.dto.TransportAnalyticsRow;
+import org.university.exception.DAOException;
+import org.university.util.VehicleType;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class TransportAnalyticsDao {
+    private static final String ROW_SELECT =
+            "SELECT new org.university.dto.TransportAnalyticsRow(" +
+                    "t.id, t.departureDate, t.arrivalDate, t.cargoType, t.paymentStatus, t.totalPrice, " +
+                    "t.company.id, t.employee.id, t.customer.id, t.vehicle.id) " +
+                    "FROM Transport t ";
+
+    public void forEachRow(Consumer<TransportAnalyticsRow> consumer) throws DAOException {
+        scrollRows(null, consumer);
+    }
+
+    public void forEachRowModifiedSince(LocalDateTime since, Consumer<TransportAnalyticsRow> consumer) throws DAOException {
+        if (since == null) {
+            throw new DAOException("Modification watermark must not be null");
+        }
+        scrollRows(since, consumer);
+    }
+
+    private void scrollRows(LocalDateTime since, Consumer<TransportAnalyticsRow> consumer) {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            Query<TransportAnalyticsRow> query = since == null
+                    ? session.createQuery(ROW_SELECT + "ORDER BY t.id", TransportAnalyticsRow.class)
+                    : session.createQuery(ROW_SELECT + "WHERE t.lastModified >= :since ORDER BY t.id",
+                            TransportAnalyticsRow.class).setParameter("since", since);
+            try (ScrollableResults<TransportAnalyticsRow> results = query
+                    .setFetchSize(TransportDao.DEFAULT_FETCH_SIZE)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                while (results.next()) {
+                    consumer.accept(results.get());
+                }
+            }
+        } catch (DAOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DAOException("Failed to load transport analytics rows: " + e.getMessage());
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public long[] getTransportIds() throws DAOException {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            long[] ids = new long[1024];
+            int size = 0;
+            try (ScrollableResults<Long> results = session
+                    .createQuery("SELECT t.id FROM Transport t ORDER BY t.id", Long.class)
+                    .setFetchSize(TransportDao.DEFAULT_FETCH_SIZE)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                while (results.next()) {
+                    if (size == ids.length) {
+                        ids = Arrays.copyOf(ids, size * 2);
+                    }
+                    ids[size++] = results.get();
+                }
+            }
+            return Arrays.copyOf(ids, size);
+        } catch (Exception e) {
+            throw new DAOException("Failed to load transport ids: " + e.getMessage());
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public Map<Long, VehicleType> getVehicleTypes() {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            Map<Long, VehicleType> result = new HashMap<>();
+            for (Object[] row : session.createQuery("SELECT v.id, v.vehicleType FROM Vehicle v", Object[].class)
+                    .getResultList()) {
+                result.put((Long) row[0], (VehicleType) row[1]);
+            }
+            return result;
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+}
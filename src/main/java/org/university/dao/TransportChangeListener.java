@@ -0,0 +1,19 @@
+package org.university.dao;
+
+import org.university.dto.TransportChange;
+import org.university.entity.Transport;
+
+import java.util.List;
+
+/**
+ * Notified by {@link TransportDao} after a write has committed. Listeners run on the writing thread
+ * and should not throw. Inserts are reported to both methods; the transports handed to
+ * {@link #transportsCreated} are detached.
+ */
+public interface TransportChangeListener {
+    default void transportsCreated(List<Transport> transports) {
+    }
+
+    default void transportsChanged(List<TransportChange> changes) {
+    }
+}
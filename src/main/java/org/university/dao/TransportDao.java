@@ -1,48 +1,222 @@
 package org.university.dao;
 
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.query.Query;
 import org.university.configuration.SessionFactoryUtil;
+import org.university.configuration.UnitOfWork;
+import org.university.dto.RankingEntry;
+import org.university.dto.SettlementSummaryDto;
+import org.university.dto.TransportChange;
+import org.university.dto.TransportDashboardGroup;
+import org.university.dto.TransportDto;
+import org.university.dto.TransportExportFilter;
+import org.university.dto.TransportSummary;
 import org.university.entity.Company;
 import org.university.entity.Customer;
 import org.university.entity.Employee;
 import org.university.entity.Transport;
+import org.university.entity.TransportTrigram;
 import org.university.entity.Vehicle;
 import org.university.exception.DAOException;
+import org.university.util.CargoType;
+import org.university.util.Money;
 import org.university.util.PaymentStatus;
+import org.university.util.RankingDimension;
+import org.university.util.RankingMetric;
+import org.university.util.SettlementMode;
+import org.university.util.TransportPlace;
+import org.university.util.VehicleType;
+import org.university.util.Trigrams;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public class TransportDao {
+    public static final int DEFAULT_FETCH_SIZE = 500;
+    public static final int BATCH_SIZE = 50;
+    private static final int MAX_IN_LIST_SIZE = 1000;
+
+    private final List<TransportChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    public void addChangeListener(TransportChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(TransportChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    private void fireCreated(List<Transport> transports, List<TransportChange> changes) {
+        if (transports.isEmpty()) {
+            return;
+        }
+        for (TransportChangeListener listener : changeListeners) {
+            listener.transportsCreated(transports);
+            listener.transportsChanged(changes);
+        }
+    }
+
+    private void fireChanged(List<TransportChange> changes) {
+        if (!changes.isEmpty()) {
+            changeListeners.forEach(listener -> listener.transportsChanged(changes));
+        }
+    }
+
+    private static TransportSummary summaryOf(Transport transport) {
+        return new TransportSummary(
+                transport.getId(),
+                transport.getCompany() != null ? transport.getCompany().getId() : null,
+                transport.getEmployee() != null ? transport.getEmployee().getId() : null,
+                transport.getCustomer() != null ? transport.getCustomer().getId() : null,
+                transport.getVehicle() != null ? transport.getVehicle().getId() : null,
+                transport.getDepartureDate(),
+                transport.getArrivalDate(),
+                transport.getPaymentStatus(),
+                transport.getTotalPrice()
+        );
+    }
+
     public void createTransport(Transport transport) throws DAOException {
+        try {
+            UnitOfWork.useSession(session -> {
+                ensureReferencesExist(session, List.of(transport));
+                attachReferences(session, transport);
+                session.persist(transport);
+                indexPlaces(session, transport);
+
+                RevenueLedgerChanges ledger = new RevenueLedgerChanges();
+                ledger.add(TransportRevenueSnapshot.of(transport));
+                ledger.applyTo(session);
+                List<TransportChange> changes = List.of(TransportChange.created(summaryOf(transport)));
+                UnitOfWork.afterCommit(() -> fireCreated(List.of(transport), changes));
+            });
+        } catch (DAOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DAOException("Failed to create transport: " + e.getMessage());
+        }
+    }
+
+    public void createTransports(Collection<Transport> transports) throws DAOException {
         Transaction transaction = null;
         Session session = null;
+        List<TransportChange> changes = new ArrayList<>(transports.size());
         try {
             session = SessionFactoryUtil.getSessionFactory().openSession();
+            session.setJdbcBatchSize(BATCH_SIZE);
             transaction = session.beginTransaction();
-            session.persist(transport);
+
+            ensureReferencesExist(session, transports);
+
+            RevenueLedgerChanges ledger = new RevenueLedgerChanges();
+            int count = 0;
+            for (Transport transport : transports) {
+                attachReferences(session, transport);
+                session.persist(transport);
+                indexPlaces(session, transport);
+                ledger.add(TransportRevenueSnapshot.of(transport));
+                changes.add(TransportChange.created(summaryOf(transport)));
+
+                if (++count % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            ledger.applyTo(session);
+
             transaction.commit();
+        } catch (DAOException e) {
+            if (transaction != null && transaction.isActive()) transaction.rollback();
+            throw e;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-            throw new DAOException("Failed to create transport: " + e.getMessage());
+            if (transaction != null && transaction.isActive()) transaction.rollback();
+            throw new DAOException("Failed to create transports: " + e.getMessage(), e);
         } finally {
             if (session != null && session.isOpen()) {
                 session.close();
             }
         }
+        fireCreated(List.copyOf(transports), changes);
+    }
+
+    private static void ensureReferencesExist(Session session, Collection<Transport> transports) {
+        Set<Long> companyIds = new HashSet<>();
+        Set<Long> employeeIds = new HashSet<>();
+        Set<Long> customerIds = new HashSet<>();
+        Set<Long> vehicleIds = new HashSet<>();
+        for (Transport transport : transports) {
+            EntityReferences.collectId(transport.getCompany(), companyIds);
+            EntityReferences.collectId(transport.getEmployee(), employeeIds);
+            EntityReferences.collectId(transport.getCustomer(), customerIds);
+            EntityReferences.collectId(transport.getVehicle(), vehicleIds);
+        }
+        EntityReferences.ensureExisting(session, Company.class, companyIds);
+        EntityReferences.ensureExisting(session, Employee.class, employeeIds);
+        EntityReferences.ensureExisting(session, Customer.class, customerIds);
+        EntityReferences.ensureExisting(session, Vehicle.class, vehicleIds);
+    }
+
+    private static void attachReferences(Session session, Transport transport) {
+        if (transport.getCompany() != null) {
+            transport.setCompany(session.getReference(Company.class, transport.getCompany().getId()));
+        }
+        if (transport.getEmployee() != null) {
+            transport.setEmployee(session.getReference(Employee.class, transport.getEmployee().getId()));
+        }
+        if (transport.getCustomer() != null) {
+            transport.setCustomer(session.getReference(Customer.class, transport.getCustomer().getId()));
+        }
+        if (transport.getVehicle() != null) {
+            transport.setVehicle(session.getReference(Vehicle.class, transport.getVehicle().getId()));
+        }
+    }
+
+    private static void indexPlaces(Session session, Transport transport) {
+        indexPlace(session, transport.getId(), TransportPlace.START_POINT, transport.getStartPoint());
+        indexPlace(session, transport.getId(), TransportPlace.END_POINT, transport.getEndPoint());
+    }
+
+    private static void indexPlace(Session session, Long transportId, TransportPlace place, String value) {
+        for (String trigram : Trigrams.forValue(value)) {
+            session.persist(new TransportTrigram(transportId, place, trigram));
+        }
+    }
+
+    private static void unindexPlaces(Session session, long transportId) {
+        session.createMutationQuery("DELETE FROM TransportTrigram g WHERE g.transportId = :transportId")
+                .setParameter("transportId", transportId)
+                .executeUpdate();
     }
 
     public Transport getTransportById(long id) {
+        return UnitOfWork.withSession(session -> session.find(Transport.class, id));
+    }
+
+    public List<Transport> getAllTransports() {
         Session session = null;
         try {
             session = SessionFactoryUtil.getSessionFactory().openSession();
-            return session.find(Transport.class, id);
+            return session.createQuery("SELECT t FROM Transport t", Transport.class)
+                    .getResultList();
         } finally {
             if (session != null && session.isOpen()) {
                 session.close();
@@ -50,12 +224,34 @@ public class TransportDao {
         }
     }
 
-    public List<Transport> getAllTransports() {
+    public void forEachTransport(Consumer<Transport> consumer) throws DAOException {
+        forEachTransport(DEFAULT_FETCH_SIZE, consumer);
+    }
+
+    public void forEachTransport(int fetchSize, Consumer<Transport> consumer) throws DAOException {
+        if (fetchSize <= 0) {
+            throw new DAOException("Fetch size must be positive");
+        }
         Session session = null;
         try {
             session = SessionFactoryUtil.getSessionFactory().openSession();
-            return session.createQuery("SELECT t FROM Transport t", Transport.class)
-                    .getResultList();
+            session.setDefaultReadOnly(true);
+            try (ScrollableResults<Transport> results = session
+                    .createQuery("SELECT t FROM Transport t ORDER BY t.id", Transport.class)
+                    .setFetchSize(fetchSize)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                long processed = 0;
+                while (results.next()) {
+                    consumer.accept(results.get());
+                    if (++processed % fetchSize == 0) {
+                        session.clear();
+                    }
+                }
+            }
+        } catch (DAOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DAOException("Failed to stream transports: " + e.getMessage());
         } finally {
             if (session != null && session.isOpen()) {
                 session.close();
@@ -63,59 +259,67 @@ public class TransportDao {
         }
     }
 
-    public void updateTransport(long id, Transport updated) throws DAOException {
-        Transaction transaction = null;
+    public void forEachTransportDto(TransportExportFilter filter, int fetchSize,
+                                    Consumer<TransportDto> consumer) throws DAOException {
+        if (fetchSize <= 0) {
+            throw new DAOException("Fetch size must be positive");
+        }
+        if (filter.getDepartureFrom() != null && filter.getDepartureTo() != null
+                && filter.getDepartureFrom().isAfter(filter.getDepartureTo())) {
+            throw new DAOException("Export window start must not be after its end");
+        }
+
+        StringBuilder hql = new StringBuilder("SELECT new org.university.dto.TransportDto(" +
+                "t.id, t.startPoint, t.endPoint, t.departureDate, t.arrivalDate, t.cargoType, " +
+                "t.company.id, t.employee.id, t.customer.id, t.vehicle.id, t.paymentStatus, " +
+                "t.quantity, t.initPrice, t.totalPrice) FROM Transport t WHERE 1 = 1");
+        if (filter.getCompanyId() != null) {
+            hql.append(" AND t.company.id = :companyId");
+        }
+        if (filter.getCustomerId() != null) {
+            hql.append(" AND t.customer.id = :customerId");
+        }
+        if (filter.getDepartureFrom() != null) {
+            hql.append(" AND t.departureDate >= :from");
+        }
+        if (filter.getDepartureTo() != null) {
+            hql.append(" AND t.departureDate <= :to");
+        }
+        if (filter.getPaymentStatus() != null) {
+            hql.append(" AND t.paymentStatus = :status");
+        }
+        hql.append(" ORDER BY t.id");
+
         Session session = null;
         try {
             session = SessionFactoryUtil.getSessionFactory().openSession();
-            transaction = session.beginTransaction();
-
-            Transport transport = session.find(Transport.class, id);
-            if (transport == null) {
-                throw new DAOException("Transport with id " + id + " not found");
+            session.setDefaultReadOnly(true);
+            Query<TransportDto> query = session.createQuery(hql.toString(), TransportDto.class)
+                    .setFetchSize(fetchSize);
+            if (filter.getCompanyId() != null) {
+                query.setParameter("companyId", filter.getCompanyId());
             }
-
-            transport.setStartPoint(updated.getStartPoint());
-            transport.setEndPoint(updated.getEndPoint());
-            transport.setDepartureDate(updated.getDepartureDate());
-            transport.setArrivalDate(updated.getArrivalDate());
-            transport.setCargoType(updated.getCargoType());
-            transport.setPaymentStatus(updated.getPaymentStatus());
-            transport.setQuantity(updated.getQuantity());
-            transport.setInitPrice(updated.getInitPrice());
-            transport.setTotalPrice(updated.getTotalPrice());
-
-            if (updated.getCompany() != null && updated.getCompany().getId() != null) {
-                transport.setCompany(session.getReference(Company.class, updated.getCompany().getId()));
-            } else {
-                transport.setCompany(null);
+            if (filter.getCustomerId() != null) {
+                query.setParameter("customerId", filter.getCustomerId());
             }
-
-            if (updated.getEmployee() != null && updated.getEmployee().getId() != null) {
-                transport.setEmployee(session.getReference(Employee.class, updated.getEmployee().getId()));
-            } else {
-                transport.setEmployee(null);
+            if (filter.getDepartureFrom() != null) {
+                query.setParameter("from", filter.getDepartureFrom());
             }
-
-            if (updated.getCustomer() != null && updated.getCustomer().getId() != null) {
-                transport.setCustomer(session.getReference(Customer.class, updated.getCustomer().getId()));
-            } else {
-                transport.setCustomer(null);
+            if (filter.getDepartureTo() != null) {
+                query.setParameter("to", filter.getDepartureTo());
             }
-
-            if (updated.getVehicle() != null && updated.getVehicle().getId() != null) {
-                transport.setVehicle(session.getReference(Vehicle.class, updated.getVehicle().getId()));
-            } else {
-                transport.setVehicle(null);
+            if (filter.getPaymentStatus() != null) {
+                query.setParameter("status", filter.getPaymentStatus());
+            }
+            try (ScrollableResults<TransportDto> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                while (results.next()) {
+                    consumer.accept(results.get());
+                }
             }
-
-            transaction.commit();
         } catch (DAOException e) {
-            if (transaction != null && transaction.isActive()) transaction.rollback();
             throw e;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) transaction.rollback();
-            throw new DAOException("Failed to update transport: " + e.getMessage());
+            throw new DAOException("Failed to stream transports: " + e.getMessage());
         } finally {
             if (session != null && session.isOpen()) {
                 session.close();
@@ -123,53 +327,417 @@ public class TransportDao {
         }
     }
 
-    public void updatePaymentStatus(long id, PaymentStatus status) throws DAOException {
-        Transaction transaction = null;
+    public long[] getTransportIdRange() {
         Session session = null;
         try {
             session = SessionFactoryUtil.getSessionFactory().openSession();
-            transaction = session.beginTransaction();
+            Object[] bounds = session.createQuery("SELECT MIN(t.id), MAX(t.id) FROM Transport t", Object[].class)
+                    .getSingleResult();
+            if (bounds == null || bounds[0] == null) {
+                return new long[0];
+            }
+            return new long[]{(Long) bounds[0], (Long) bounds[1]};
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
 
-            Transport transport = session.find(Transport.class, id);
-            if (transport == null) {
-                throw new DAOException("Transport with id " + id + " not found");
+    public List<Transport> getTransportsInIdRange(long fromInclusive, long toExclusive) throws DAOException {
+        if (fromInclusive >= toExclusive) {
+            throw new DAOException("Invalid transport id range [" + fromInclusive + ", " + toExclusive + ")");
+        }
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            session.setDefaultReadOnly(true);
+            return session.createQuery(
+                            "SELECT t FROM Transport t " +
+                                    "LEFT JOIN FETCH t.company LEFT JOIN FETCH t.employee " +
+                                    "LEFT JOIN FETCH t.customer LEFT JOIN FETCH t.vehicle " +
+                                    "WHERE t.id >= :from AND t.id < :to ORDER BY t.id",
+                            Transport.class)
+                    .setParameter("from", fromInclusive)
+                    .setParameter("to", toExclusive)
+                    .setFetchSize(DEFAULT_FETCH_SIZE)
+                    .getResultList();
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
             }
+        }
+    }
 
-            transport.setPaymentStatus(status);
+    public List<TransportSummary> getTransportSummaries() {
+        return getTransportSummaries(null, null);
+    }
 
-            transaction.commit();
+    public List<TransportSummary> getTransportSummariesByCompany(long companyId) {
+        return getTransportSummaries("t.company.id", companyId);
+    }
+
+    public List<TransportSummary> getTransportSummariesByEmployee(long employeeId) {
+        return getTransportSummaries("t.employee.id", employeeId);
+    }
+
+    public List<TransportSummary> getTransportSummariesByCustomer(long customerId) {
+        return getTransportSummaries("t.customer.id", customerId);
+    }
+
+    public List<TransportSummary> getTransportSummariesByVehicle(long vehicleId) {
+        return getTransportSummaries("t.vehicle.id", vehicleId);
+    }
+
+    private List<TransportSummary> getTransportSummaries(String ownerPath, Long ownerId) {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            Query<TransportSummary> query = session.createQuery(
+                    "SELECT new org.university.dto.TransportSummary(" +
+                            "t.id, t.company.id, t.employee.id, t.customer.id, t.vehicle.id, " +
+                            "t.departureDate, t.arrivalDate, t.paymentStatus, t.totalPrice) " +
+                            "FROM Transport t " +
+                            (ownerPath != null ? "WHERE " + ownerPath + " = :ownerId " : "") +
+                            "ORDER BY t.id",
+                    TransportSummary.class);
+            if (ownerPath != null) {
+                query.setParameter("ownerId", ownerId);
+            }
+            return query.getResultList();
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public void updateTransport(long id, Transport updated) throws DAOException {
+        try {
+            UnitOfWork.useSession(session -> {
+                Transport transport = session.find(Transport.class, id);
+                if (transport == null) {
+                    throw new DAOException("Transport with id " + id + " not found");
+                }
+                if (transport == updated) {
+                    throw new DAOException("Transport with id " + id + " must be updated from a detached copy");
+                }
+                ensureReferencesExist(session, List.of(updated));
+
+                TransportRevenueSnapshot before = TransportRevenueSnapshot.of(transport);
+                TransportSummary summaryBefore = summaryOf(transport);
+                boolean placesChanged = !Objects.equals(transport.getStartPoint(), updated.getStartPoint())
+                        || !Objects.equals(transport.getEndPoint(), updated.getEndPoint());
+                transport.setStartPoint(updated.getStartPoint());
+                transport.setEndPoint(updated.getEndPoint());
+                transport.setDepartureDate(updated.getDepartureDate());
+                transport.setArrivalDate(updated.getArrivalDate());
+                transport.setCargoType(updated.getCargoType());
+                transport.setPaymentStatus(updated.getPaymentStatus());
+                transport.setQuantity(updated.getQuantity());
+                transport.setInitPrice(updated.getInitPrice());
+                transport.setTotalPrice(updated.getTotalPrice());
+
+                if (updated.getCompany() != null && updated.getCompany().getId() != null) {
+                    transport.setCompany(session.getReference(Company.class, updated.getCompany().getId()));
+                } else {
+                    transport.setCompany(null);
+                }
+
+                if (updated.getEmployee() != null && updated.getEmployee().getId() != null) {
+                    transport.setEmployee(session.getReference(Employee.class, updated.getEmployee().getId()));
+                } else {
+                    transport.setEmployee(null);
+                }
+
+                if (updated.getCustomer() != null && updated.getCustomer().getId() != null) {
+                    transport.setCustomer(session.getReference(Customer.class, updated.getCustomer().getId()));
+                } else {
+                    transport.setCustomer(null);
+                }
+
+                if (updated.getVehicle() != null && updated.getVehicle().getId() != null) {
+                    transport.setVehicle(session.getReference(Vehicle.class, updated.getVehicle().getId()));
+                } else {
+                    transport.setVehicle(null);
+                }
+
+                if (placesChanged) {
+                    unindexPlaces(session, id);
+                    indexPlaces(session, transport);
+                }
+
+                RevenueLedgerChanges ledger = new RevenueLedgerChanges();
+                ledger.replace(before, TransportRevenueSnapshot.of(transport));
+                ledger.applyTo(session);
+                List<TransportChange> changes = List.of(new TransportChange(summaryBefore, summaryOf(transport)));
+                UnitOfWork.afterCommit(() -> fireChanged(changes));
+            });
+        } catch (DAOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DAOException("Failed to update transport: " + e.getMessage());
+        }
+    }
+
+    public void updatePaymentStatus(long id, PaymentStatus status) throws DAOException {
+        try {
+            UnitOfWork.useSession(session -> {
+                Transport transport = session.find(Transport.class, id);
+                if (transport == null) {
+                    throw new DAOException("Transport with id " + id + " not found");
+                }
+
+                TransportRevenueSnapshot before = TransportRevenueSnapshot.of(transport);
+                TransportSummary summaryBefore = summaryOf(transport);
+                transport.setPaymentStatus(status);
+
+                RevenueLedgerChanges ledger = new RevenueLedgerChanges();
+                ledger.replace(before, before.withPaymentStatus(status));
+                ledger.applyTo(session);
+                List<TransportChange> changes = List.of(new TransportChange(summaryBefore, summaryOf(transport)));
+                UnitOfWork.afterCommit(() -> fireChanged(changes));
+            });
         } catch (DAOException e) {
-            if (transaction != null && transaction.isActive()) transaction.rollback();
             throw e;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) transaction.rollback();
             throw new DAOException("Failed to update payment status: " + e.getMessage());
-        } finally {
-            if (session != null && session.isOpen()) session.close();
         }
     }
 
-    public void deleteTransport(long id) throws DAOException {
-        Transaction transaction = null;
-        Session session = null;
+    public boolean payTransport(long id) throws DAOException {
         try {
-            session = SessionFactoryUtil.getSessionFactory().openSession();
-            transaction = session.beginTransaction();
+            return UnitOfWork.withSession(session -> {
+                // MySQL cannot return the updated row, and a successful payment needs the owners, day, price and
+                // previous status for the ledger and listeners. Reading them first keeps the write itself a single
+                // conditional statement; a second query after the update could not recover the previous status.
+                Object[] row = session.createQuery(
+                                "SELECT t.company.id, t.employee.id, v.id, v.vehicleType, t.totalPrice, " +
+                                        "t.departureDate, t.cargoType, t.customer.id, t.arrivalDate, t.paymentStatus " +
+                                        "FROM Transport t LEFT JOIN t.vehicle v WHERE t.id = :id",
+                                Object[].class)
+                        .setParameter("id", id)
+                        .getResultList()
+                        .stream()
+                        .findFirst()
+                        .orElse(null);
+                if (row == null || row[9] == PaymentStatus.PAID) {
+                    return false;
+                }
 
-            Transport t = session.find(Transport.class, id);
-            if (t == null) {
-                throw new DAOException("Transport with id " + id + " not found");
-            }
+                // Guarded on the status read above, so a concurrent change makes this a no-op instead of a wrong delta
+                PaymentStatus previous = (PaymentStatus) row[9];
+                boolean paid = session.createNativeMutationQuery(
+                                "UPDATE transport t JOIN customer c ON c.id = t.customer_id " +
+                                        "SET c.budget = COALESCE(c.budget, 0) - t.price, t.paymentStatus = :paid, " +
+                                        "t.last_modified = :now " +
+                                        "WHERE t.id = :id AND t.paymentStatus = :previous " +
+                                        "AND t.price IS NOT NULL AND COALESCE(c.budget, 0) >= t.price")
+                        .setParameter("paid", PaymentStatus.PAID.name())
+                        .setParameter("now", LocalDateTime.now())
+                        .setParameter("id", id)
+                        .setParameter("previous", previous.name())
+                        .addSynchronizedEntityClass(Transport.class)
+                        .addSynchronizedEntityClass(Customer.class)
+                        .executeUpdate() > 0;
+                if (paid) {
+                    TransportRevenueSnapshot after = revenueSnapshot(row, PaymentStatus.PAID);
 
-            session.remove(t);
+                    RevenueLedgerChanges ledger = new RevenueLedgerChanges();
+                    ledger.replace(after.withPaymentStatus(previous), after);
+                    ledger.applyTo(session);
 
-            transaction.commit();
+                    TransportSummary paidSummary = new TransportSummary(id, (Long) row[0], (Long) row[1],
+                            (Long) row[7], (Long) row[2], (LocalDate) row[5], (LocalDate) row[8],
+                            PaymentStatus.PAID, (BigDecimal) row[4]);
+                    List<TransportChange> changes = List.of(new TransportChange(
+                            withPaymentStatus(paidSummary, previous), paidSummary));
+                    UnitOfWork.afterCommit(() -> fireChanged(changes));
+                }
+                return paid;
+            });
         } catch (DAOException e) {
-            if (transaction != null && transaction.isActive()) transaction.rollback();
             throw e;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) transaction.rollback();
-            throw new DAOException("Failed to delete transport: " + e.getMessage());
+            throw new DAOException("Failed to pay transport: " + e.getMessage());
+        }
+    }
+
+    private static TransportSummary withPaymentStatus(TransportSummary summary, PaymentStatus status) {
+        return new TransportSummary(summary.id(), summary.companyId(), summary.employeeId(), summary.customerId(),
+                summary.vehicleId(), summary.departureDate(), summary.arrivalDate(), status, summary.totalPrice());
+    }
+
+    private static TransportRevenueSnapshot revenueSnapshot(Object[] row, PaymentStatus status) {
+        return new TransportRevenueSnapshot(
+                (Long) row[0],
+                (Long) row[1],
+                (Long) row[2],
+                (VehicleType) row[3],
+                (LocalDate) row[5],
+                (CargoType) row[6],
+                status,
+                row[4] != null ? (BigDecimal) row[4] : BigDecimal.ZERO
+        );
+    }
+
+    public SettlementSummaryDto settleCustomers(Collection<Long> customerIds, SettlementMode mode) throws DAOException {
+        try {
+            return UnitOfWork.withSession(session -> {
+                List<Long> ids = new ArrayList<>(new TreeSet<>(customerIds));
+                Map<Long, Customer> customers = new HashMap<>();
+                for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()));
+                    session.createQuery("SELECT c FROM Customer c WHERE c.id IN :ids ORDER BY c.id", Customer.class)
+                            .setParameterList("ids", chunk)
+                            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                            .getResultList()
+                            .forEach(customer -> customers.put(customer.getId(), customer));
+                }
+                if (customers.size() != ids.size()) {
+                    Set<Long> missing = new TreeSet<>(ids);
+                    missing.removeAll(customers.keySet());
+                    throw new DAOException("Customer with ids " + missing + " does not exist");
+                }
+
+                Map<Long, List<Object[]>> unpaidByCustomer = new HashMap<>();
+                for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()));
+                    List<Object[]> rows = session.createQuery(
+                                    "SELECT t.customer.id, t.id, t.totalPrice, t.company.id, t.employee.id, v.id, v.vehicleType, " +
+                                            "t.departureDate, t.cargoType, t.arrivalDate " +
+                                            "FROM Transport t LEFT JOIN t.vehicle v " +
+                                            "WHERE t.customer.id IN :ids AND t.paymentStatus = :status " +
+                                            "ORDER BY t.customer.id, t.departureDate, t.id",
+                                    Object[].class)
+                            .setParameterList("ids", chunk)
+                            .setParameter("status", PaymentStatus.NOT_PAID)
+                            .getResultList();
+                    for (Object[] row : rows) {
+                        unpaidByCustomer.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add(row);
+                    }
+                }
+
+                SettlementSummaryDto summary = new SettlementSummaryDto(mode);
+                RevenueLedgerChanges ledger = new RevenueLedgerChanges();
+                List<Long> paidIds = new ArrayList<>();
+                List<TransportChange> changes = new ArrayList<>();
+                for (Long customerId : ids) {
+                    Customer customer = customers.get(customerId);
+                    List<Object[]> unpaid = unpaidByCustomer.getOrDefault(customerId, List.of());
+                    BigDecimal budget = customer.getBudget() == null ? BigDecimal.ZERO : customer.getBudget();
+
+                    Money.Sum unpaidTotal = Money.sum();
+                    for (Object[] row : unpaid) {
+                        unpaidTotal.add(priceOf(row));
+                    }
+                    BigDecimal total = unpaidTotal.toBigDecimal();
+
+                    List<Object[]> payable = new ArrayList<>();
+                    BigDecimal payableAmount = BigDecimal.ZERO;
+                    if (mode == SettlementMode.ALL_OR_NOTHING) {
+                        if (total.compareTo(budget) <= 0) {
+                            payable = unpaid;
+                            payableAmount = total;
+                        }
+                    } else {
+                        // Oldest first; a transport the remaining budget cannot cover is skipped, not a stop
+                        for (Object[] row : unpaid) {
+                            BigDecimal next = payableAmount.add(priceOf(row));
+                            if (next.compareTo(budget) <= 0) {
+                                payableAmount = next;
+                                payable.add(row);
+                            }
+                        }
+                    }
+
+                    for (Object[] row : payable) {
+                        paidIds.add((Long) row[1]);
+                        TransportRevenueSnapshot paid = new TransportRevenueSnapshot((Long) row[3], (Long) row[4],
+                                (Long) row[5], (VehicleType) row[6], (LocalDate) row[7], (CargoType) row[8],
+                                PaymentStatus.PAID, priceOf(row));
+                        ledger.replace(paid.withPaymentStatus(PaymentStatus.NOT_PAID), paid);
+                        TransportSummary paidSummary = new TransportSummary((Long) row[1], (Long) row[3],
+                                (Long) row[4], customerId, (Long) row[5], (LocalDate) row[7], (LocalDate) row[9],
+                                PaymentStatus.PAID, (BigDecimal) row[2]);
+                        changes.add(new TransportChange(
+                                withPaymentStatus(paidSummary, PaymentStatus.NOT_PAID), paidSummary));
+                    }
+                    BigDecimal leftUnpaid = total.subtract(payableAmount);
+
+                    if (!payable.isEmpty()) {
+                        customer.setBudget(budget.subtract(payableAmount));
+                    }
+                    if (payable.size() < unpaid.size()) {
+                        summary.getCustomersWithDebt().add(customerId);
+                    }
+                    summary.setCustomersProcessed(summary.getCustomersProcessed() + 1);
+                    summary.setTransportsPaid(summary.getTransportsPaid() + payable.size());
+                    summary.setTransportsLeftUnpaid(summary.getTransportsLeftUnpaid() + unpaid.size() - payable.size());
+                    summary.setAmountPaid(summary.getAmountPaid().add(payableAmount));
+                    summary.setAmountLeftUnpaid(summary.getAmountLeftUnpaid().add(leftUnpaid));
+                }
+
+                for (int from = 0; from < paidIds.size(); from += MAX_IN_LIST_SIZE) {
+                    List<Long> chunk = paidIds.subList(from, Math.min(from + MAX_IN_LIST_SIZE, paidIds.size()));
+                    int updated = session.createMutationQuery(
+                                    "UPDATE Transport t SET t.paymentStatus = :paid, t.lastModified = :now " +
+                                            "WHERE t.id IN :ids AND t.paymentStatus = :unpaid")
+                            .setParameter("paid", PaymentStatus.PAID)
+                            .setParameter("now", LocalDateTime.now())
+                            .setParameter("unpaid", PaymentStatus.NOT_PAID)
+                            .setParameterList("ids", chunk)
+                            .executeUpdate();
+                    if (updated != chunk.size()) {
+                        throw new DAOException("Transports changed during settlement, expected " + chunk.size()
+                                + " updates but got " + updated);
+                    }
+                }
+                ledger.applyTo(session);
+                UnitOfWork.afterCommit(() -> fireChanged(changes));
+                return summary;
+            });
+        } catch (DAOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DAOException("Failed to settle customers: " + e.getMessage());
+        }
+    }
+
+    private static BigDecimal priceOf(Object[] row) {
+        return row[2] != null ? (BigDecimal) row[2] : BigDecimal.ZERO;
+    }
+
+    public BigDecimal sumPriceByCustomerAndStatus(long customerId, PaymentStatus status) {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            BigDecimal sum = session.createQuery(
+                            "SELECT SUM(t.totalPrice) FROM Transport t " +
+                                    "WHERE t.customer.id = :customerId AND t.paymentStatus = :status",
+                            BigDecimal.class)
+                    .setParameter("customerId", customerId)
+                    .setParameter("status", status)
+                    .getSingleResult();
+            return sum != null ? sum : BigDecimal.ZERO;
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public Set<Long> getTransportIdsByCustomerAndStatus(long customerId, PaymentStatus status) {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            return new HashSet<>(session.createQuery(
+                            "SELECT t.id FROM Transport t " +
+                                    "WHERE t.customer.id = :customerId AND t.paymentStatus = :status",
+                            Long.class)
+                    .setParameter("customerId", customerId)
+                    .setParameter("status", status)
+                    .getResultList());
         } finally {
             if (session != null && session.isOpen()) {
                 session.close();
@@ -177,6 +745,29 @@ public class TransportDao {
         }
     }
 
+    public void deleteTransport(long id) throws DAOException {
+        try {
+            UnitOfWork.useSession(session -> {
+                Transport t = session.find(Transport.class, id);
+                if (t == null) {
+                    throw new DAOException("Transport with id " + id + " not found");
+                }
+
+                unindexPlaces(session, id);
+                RevenueLedgerChanges ledger = new RevenueLedgerChanges();
+                ledger.remove(TransportRevenueSnapshot.of(t));
+                ledger.applyTo(session);
+                List<TransportChange> changes = List.of(TransportChange.deleted(summaryOf(t)));
+                session.remove(t);
+                UnitOfWork.afterCommit(() -> fireChanged(changes));
+            });
+        } catch (DAOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DAOException("Failed to delete transport: " + e.getMessage());
+        }
+    }
+
     public List<Transport> sortByDestinationAscending(boolean asc){
         Session session = null;
         try{
@@ -202,26 +793,222 @@ public class TransportDao {
     }
 
     public List<Transport> filterByDestination(String destination){
+        return searchByPlace(TransportPlace.END_POINT, destination);
+    }
+
+    public List<Transport> searchByPlace(TransportPlace place, String fragment) throws DAOException {
         Session session = null;
-        try{
+        try {
             session = SessionFactoryUtil.getSessionFactory().openSession();
-            CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
-            CriteriaQuery<Transport> criteriaQuery = criteriaBuilder.createQuery(Transport.class);
-            Root<Transport> root = criteriaQuery.from(Transport.class);
+            String normalized = Trigrams.normalize(fragment);
+            String attribute = placeAttribute(place);
+            if (normalized.isEmpty()) {
+                return session.createQuery("SELECT t FROM Transport t", Transport.class).getResultList();
+            }
 
-            Predicate destinationEqualsTo = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("endPoint")),
-                    "%" + destination.toLowerCase() + "%"
-            );
+            Set<String> trigrams = Trigrams.forQuery(normalized);
+            if (trigrams.isEmpty()) {
+                return session.createQuery(
+                                "SELECT t FROM Transport t WHERE t.id IN (" +
+                                        "SELECT g.transportId FROM TransportTrigram g " +
+                                        "WHERE g.place = :place AND g.trigram LIKE :gramPrefix ESCAPE '!') " +
+                                        "AND lower(t." + attribute + ") LIKE :pattern ESCAPE '!'",
+                                Transport.class)
+                        .setParameter("place", place)
+                        .setParameter("gramPrefix", escapeLike(normalized) + "%")
+                        .setParameter("pattern", "%" + escapeLike(normalized) + "%")
+                        .getResultList();
+            }
 
-            criteriaQuery.select(root).where(destinationEqualsTo);
-            return session.createQuery(criteriaQuery).getResultList();
-        }catch(DAOException e){
+            return session.createQuery(
+                            "SELECT t FROM Transport t WHERE t.id IN (" +
+                                    "SELECT g.transportId FROM TransportTrigram g " +
+                                    "WHERE g.place = :place AND g.trigram IN :trigrams " +
+                                    "GROUP BY g.transportId HAVING COUNT(DISTINCT g.trigram) = :trigramCount) " +
+                                    "AND lower(t." + attribute + ") LIKE :pattern ESCAPE '!'",
+                            Transport.class)
+                    .setParameter("place", place)
+                    .setParameterList("trigrams", trigrams)
+                    .setParameter("trigramCount", (long) trigrams.size())
+                    .setParameter("pattern", "%" + escapeLike(normalized) + "%")
+                    .getResultList();
+        } catch (DAOException e) {
             throw e;
-        }catch(Exception e){
-            throw new DAOException("Failed to filter transports by destination: " + e.getMessage());
-        }finally {
-            if(session != null && session.isOpen()){
+        } catch (Exception e) {
+            throw new DAOException("Failed to search transports by " + place + ": " + e.getMessage());
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public List<Transport> searchByPlacePrefix(TransportPlace place, String prefix) throws DAOException {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            return session.createQuery(
+                            "SELECT t FROM Transport t WHERE t." + placeAttribute(place) + " LIKE :prefix ESCAPE '!' " +
+                                    "ORDER BY t." + placeAttribute(place),
+                            Transport.class)
+                    .setParameter("prefix", escapeLike(prefix == null ? "" : prefix) + "%")
+                    .getResultList();
+        } catch (DAOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DAOException("Failed to search transports by " + place + " prefix: " + e.getMessage());
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public void rebuildPlaceIndex() throws DAOException {
+        Transaction transaction = null;
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            session.setJdbcBatchSize(BATCH_SIZE);
+            transaction = session.beginTransaction();
+
+            session.createMutationQuery("DELETE FROM TransportTrigram").executeUpdate();
+            try (ScrollableResults<Transport> results = session
+                    .createQuery("SELECT t FROM Transport t ORDER BY t.id", Transport.class)
+                    .setFetchSize(DEFAULT_FETCH_SIZE)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                long processed = 0;
+                while (results.next()) {
+                    indexPlaces(session, results.get());
+                    if (++processed % BATCH_SIZE == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+            }
+
+            transaction.commit();
+        } catch (Exception e) {
+            if (transaction != null && transaction.isActive()) transaction.rollback();
+            throw new DAOException("Failed to rebuild transport place index: " + e.getMessage());
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    private static String placeAttribute(TransportPlace place) {
+        if (place == null) {
+            throw new DAOException("Transport place must not be null");
+        }
+        return place == TransportPlace.START_POINT ? "startPoint" : "endPoint";
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    public long countTransports() {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            Long count = session.createQuery("SELECT COUNT(t) FROM Transport t", Long.class)
+                    .getSingleResult();
+            return count != null ? count : 0L;
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public List<TransportDashboardGroup> getDashboardGroups() {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            return session.createQuery(
+                            "SELECT new org.university.dto.TransportDashboardGroup(" +
+                                    "t.company.id, t.employee.id, t.customer.id, v.vehicleType, t.paymentStatus, " +
+                                    "COUNT(t), SUM(t.totalPrice)) " +
+                                    "FROM Transport t LEFT JOIN t.vehicle v " +
+                                    "GROUP BY t.company.id, t.employee.id, t.customer.id, v.vehicleType, t.paymentStatus",
+                            TransportDashboardGroup.class)
+                    .getResultList();
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public List<RankingEntry> getTopRanked(RankingDimension dimension, RankingMetric metric, int limit,
+                                           PaymentStatus status, LocalDate from, LocalDate to) throws DAOException {
+        if (limit <= 0) {
+            throw new DAOException("Ranking limit must be positive");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new DAOException("Ranking window start must not be after its end");
+        }
+
+        String owner = switch (dimension) {
+            case DRIVER -> "t.employee.id";
+            case VEHICLE -> "t.vehicle.id";
+            case CUSTOMER -> "t.customer.id";
+            case COMPANY -> "t.company.id";
+        };
+        String orderBy = metric == RankingMetric.REVENUE ? "SUM(t.totalPrice)" : "COUNT(t)";
+
+        StringBuilder hql = new StringBuilder("SELECT new org.university.dto.RankingEntry(")
+                .append(owner).append(", COUNT(t), SUM(t.totalPrice)) FROM Transport t WHERE ")
+                .append(owner).append(" IS NOT NULL");
+        if (status != null) {
+            hql.append(" AND t.paymentStatus = :status");
+        }
+        if (from != null) {
+            hql.append(" AND t.departureDate >= :from");
+        }
+        if (to != null) {
+            hql.append(" AND t.departureDate <= :to");
+        }
+        hql.append(" GROUP BY ").append(owner)
+                .append(" ORDER BY ").append(orderBy).append(" DESC, ").append(owner);
+
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            Query<RankingEntry> query = session.createQuery(hql.toString(), RankingEntry.class)
+                    .setMaxResults(limit);
+            if (status != null) {
+                query.setParameter("status", status);
+            }
+            if (from != null) {
+                query.setParameter("from", from);
+            }
+            if (to != null) {
+                query.setParameter("to", to);
+            }
+            return query.getResultList();
+        } finally {
+            if (session != null && session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    public BigDecimal sumRevenueByStatus(PaymentStatus status) {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            BigDecimal sum = session.createQuery(
+                            "SELECT SUM(t.totalPrice) FROM Transport t " +
+                                    "WHERE t.paymentStatus = :status",
+                            BigDecimal.class)
+                    .setParameter("status", status)
+                    .getSingleResult();
+            return sum != null ? sum : BigDecimal.ZERO;
+        } finally {
+            if (session != null && session.isOpen()) {
                 session.close();
             }
         }
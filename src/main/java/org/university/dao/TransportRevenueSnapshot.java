@@ -0,0 +1,36 @@
+package org.university.dao;
+
+import org.university.entity.Transport;
+import org.university.util.CargoType;
+import org.university.util.PaymentStatus;
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+record TransportRevenueSnapshot(Long companyId, Long employeeId, Long vehicleId, VehicleType vehicleType,
+                                LocalDate departureDate, CargoType cargoType,
+                                PaymentStatus paymentStatus, BigDecimal price) {
+
+    static TransportRevenueSnapshot of(Transport transport) {
+        return new TransportRevenueSnapshot(
+                transport.getCompany() != null ? transport.getCompany().getId() : null,
+                transport.getEmployee() != null ? transport.getEmployee().getId() : null,
+                transport.getVehicle() != null ? transport.getVehicle().getId() : null,
+                transport.getVehicle() != null ? transport.getVehicle().getVehicleType() : null,
+                transport.getDepartureDate(),
+                transport.getCargoType(),
+                transport.getPaymentStatus(),
+                transport.getTotalPrice() != null ? transport.getTotalPrice() : BigDecimal.ZERO
+        );
+    }
+
+    TransportRevenueSnapshot withPaymentStatus(PaymentStatus status) {
+        return new TransportRevenueSnapshot(companyId, employeeId, vehicleId, vehicleType,
+                departureDate, cargoType, status, price);
+    }
+
+    boolean isPaid() {
+        return paymentStatus == PaymentStatus.PAID;
+    }
+}
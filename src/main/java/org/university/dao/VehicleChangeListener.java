@@ -0,0 +1,12 @@
+package org.university.dao;
+
+import org.university.util.VehicleType;
+
+/**
+ * Notified by {@link VehicleDao} after a change of a vehicle's type has committed. Transports only
+ * reference the vehicle, so reports grouped by vehicle type never see this change as a transport write.
+ * Listeners run on the writing thread and should not throw.
+ */
+public interface VehicleChangeListener {
+    void vehicleTypeChanged(long vehicleId, VehicleType previousType, VehicleType newType);
+}
@@ -2,14 +2,39 @@ package org.university.dao;
 
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.query.Query;
 import org.university.configuration.SessionFactoryUtil;
+import org.university.configuration.UnitOfWork;
+import org.university.dto.VehicleSummary;
+import org.university.entity.Company;
+import org.university.entity.Employee;
+import org.university.entity.RevenueLedgerEntry;
+import org.university.entity.RevenueLedgerKey;
 import org.university.entity.Vehicle;
 import org.university.exception.DAOException;
+import org.university.util.LedgerScope;
+import org.university.util.VehicleType;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class VehicleDao
 {
+    public static final int BATCH_SIZE = 50;
+
+    private final List<VehicleChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    public void addChangeListener(VehicleChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(VehicleChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
     public void createVehicle(Vehicle vehicle) throws DAOException {
         Transaction transaction = null;
         Session session = null;
@@ -30,18 +55,55 @@ public class VehicleDao
         }
     }
 
-    public Vehicle getVehicleById(long id) {
+    public void createVehicles(Collection<Vehicle> vehicles) throws DAOException {
+        Transaction transaction = null;
         Session session = null;
         try {
             session = SessionFactoryUtil.getSessionFactory().openSession();
-            return session.find(Vehicle.class, id);
-        }finally {
-            if(session != null && session.isOpen()){
+            session.setJdbcBatchSize(BATCH_SIZE);
+            transaction = session.beginTransaction();
+
+            Set<Long> companyIds = new HashSet<>();
+            Set<Long> employeeIds = new HashSet<>();
+            for (Vehicle vehicle : vehicles) {
+                EntityReferences.collectId(vehicle.getCompany(), companyIds);
+                EntityReferences.collectId(vehicle.getEmployee(), employeeIds);
+            }
+            EntityReferences.ensureExisting(session, Company.class, companyIds);
+            EntityReferences.ensureExisting(session, Employee.class, employeeIds);
+
+            int count = 0;
+            for (Vehicle vehicle : vehicles) {
+                vehicle.setCompany(EntityReferences.reference(session, Company.class, vehicle.getCompany()));
+                vehicle.setEmployee(EntityReferences.reference(session, Employee.class, vehicle.getEmployee()));
+                session.persist(vehicle);
+                if (++count % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+        } catch (DAOException e) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        } catch (Exception e) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new DAOException("Failed to create vehicles: " + e.getMessage(), e);
+        } finally {
+            if (session != null && session.isOpen()) {
                 session.close();
             }
         }
     }
 
+    public Vehicle getVehicleById(long id) {
+        return UnitOfWork.withSession(session -> session.find(Vehicle.class, id));
+    }
+
     public List<Vehicle> getAllVehicles() {
         Session session = null;
         try {
@@ -55,9 +117,45 @@ public class VehicleDao
         }
     }
 
+    public List<VehicleSummary> getVehicleSummaries() {
+        return getVehicleSummaries(null, null);
+    }
+
+    public List<VehicleSummary> getVehicleSummariesByCompany(long companyId) {
+        return getVehicleSummaries("v.company.id", companyId);
+    }
+
+    public List<VehicleSummary> getVehicleSummariesByEmployee(long employeeId) {
+        return getVehicleSummaries("v.employee.id", employeeId);
+    }
+
+    private List<VehicleSummary> getVehicleSummaries(String ownerPath, Long ownerId) {
+        Session session = null;
+        try {
+            session = SessionFactoryUtil.getSessionFactory().openSession();
+            Query<VehicleSummary> query = session.createQuery(
+                    "SELECT new org.university.dto.VehicleSummary(" +
+                            "v.id, v.vehicleType, v.distanceTraveled, v.company.id, v.employee.id) " +
+                            "FROM Vehicle v " +
+                            (ownerPath != null ? "WHERE " + ownerPath + " = :ownerId " : "") +
+                            "ORDER BY v.id",
+                    VehicleSummary.class);
+            if (ownerPath != null) {
+                query.setParameter("ownerId", ownerId);
+            }
+            return query.getResultList();
+        }finally {
+            if(session != null && session.isOpen()){
+                session.close();
+            }
+        }
+    }
+
     public void updateVehicle(long id, Vehicle updated) throws DAOException {
         Transaction transaction = null;
         Session session = null;
+        VehicleType previousType;
+        VehicleType newType;
         try {
             session = SessionFactoryUtil.getSessionFactory().openSession();
             transaction = session.beginTransaction();
@@ -67,11 +165,22 @@ public class VehicleDao
                 throw new DAOException("Vehicle with id " + id + " not found");
             }
 
-            v.setVehicleType(updated.getVehicleType());
+            previousType = v.getVehicleType();
+            newType = updated.getVehicleType();
+            v.setVehicleType(newType);
             v.setDistanceTraveled(updated.getDistanceTraveled());
             v.setEmployee(updated.getEmployee());
             v.setCompany(updated.getCompany());
 
+            if (previousType != newType) {
+                RevenueLedgerChanges ledger = new RevenueLedgerChanges();
+                ledger.move(LedgerScope.VEHICLE_TYPE,
+                        previousType != null ? previousType.name() : null,
+                        newType != null ? newType.name() : null,
+                        session.find(RevenueLedgerEntry.class, new RevenueLedgerKey(LedgerScope.VEHICLE, Long.toString(id))));
+                ledger.applyTo(session);
+            }
+
             transaction.commit();
         } catch (DAOException e) {
             if (transaction != null) {
@@ -88,6 +197,9 @@ public class VehicleDao
                 session.close();
             }
         }
+        if (previousType != newType) {
+            changeListeners.forEach(listener -> listener.vehicleTypeChanged(id, previousType, newType));
+        }
     }
 
     public void deleteVehicle(long id) throws DAOException {
@@ -0,0 +1,10 @@
+package org.university.dto;
+
+import java.math.BigDecimal;
+
+public record EmployeeSummary(long id,
+                              String firstName,
+                              String lastName,
+                              Long companyId,
+                              BigDecimal salary) {
+}
@@ -0,0 +1,11 @@
+package org.university.dto;
+
+import java.math.BigDecimal;
+
+public record RankingEntry(long id, long transportCount, BigDecimal revenue) {
+    public RankingEntry {
+        if (revenue == null) {
+            revenue = BigDecimal.ZERO;
+        }
+    }
+}
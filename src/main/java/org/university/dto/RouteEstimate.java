@@ -0,0 +1,4 @@
+package org.university.dto;
+
+public record RouteEstimate(String startPoint, String endPoint, long estimatedCount) {
+}
@@ -0,0 +1,26 @@
+package org.university.dto;
+
+import lombok.*;
+import org.university.util.SettlementMode;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementSummaryDto {
+    private SettlementMode mode;
+    private int customersProcessed;
+    private int transportsPaid;
+    private int transportsLeftUnpaid;
+    private BigDecimal amountPaid = BigDecimal.ZERO;
+    private BigDecimal amountLeftUnpaid = BigDecimal.ZERO;
+    private Set<Long> customersWithDebt = new TreeSet<>();
+
+    public SettlementSummaryDto(SettlementMode mode) {
+        this.mode = mode;
+    }
+}
@@ -0,0 +1,19 @@
+package org.university.dto;
+
+import org.university.util.CargoType;
+import org.university.util.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TransportAnalyticsRow(long id,
+                                    LocalDate departureDate,
+                                    LocalDate arrivalDate,
+                                    CargoType cargoType,
+                                    PaymentStatus paymentStatus,
+                                    BigDecimal totalPrice,
+                                    Long companyId,
+                                    Long employeeId,
+                                    Long customerId,
+                                    Long vehicleId) {
+}
@@ -0,0 +1,39 @@
+package org.university.dto;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * State of a transport before and after a committed write; {@code before} is null for inserts and
+ * {@code after} is null for deletes.
+ */
+public record TransportChange(TransportSummary before, TransportSummary after) {
+    public TransportChange {
+        if (before == null && after == null) {
+            throw new IllegalArgumentException("A change needs a before or an after state");
+        }
+    }
+
+    public static TransportChange created(TransportSummary after) {
+        return new TransportChange(null, after);
+    }
+
+    public static TransportChange deleted(TransportSummary before) {
+        return new TransportChange(before, null);
+    }
+
+    public long transportId() {
+        return after != null ? after.id() : before.id();
+    }
+
+    /**
+     * Whether the part of the transport seen through {@code projection} differs between the two
+     * states. A missing state projects to null, so inserts and deletes only count when the
+     * projection of the present state is not null.
+     */
+    public boolean changes(Function<TransportSummary, ?> projection) {
+        Object previous = before == null ? null : projection.apply(before);
+        Object next = after == null ? null : projection.apply(after);
+        return !Objects.equals(previous, next);
+    }
+}
@@ -0,0 +1,46 @@
+package org.university.dto;
+
+import lombok.Getter;
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+public final class TransportDashboardDto {
+    private final int transportsCount;
+    private final BigDecimal totalTransportRevenue;
+    private final Map<Long, Integer> transportsCountByDriver;
+    private final Map<Long, BigDecimal> driverRevenue;
+    private final Map<VehicleType, BigDecimal> revenueByVehicleType;
+    private final Map<Long, Integer> transportsCountByCompany;
+    private final Map<Long, BigDecimal> companyRevenue;
+    private final Map<Long, Integer> transportsCountByCustomer;
+    private final Map<Long, BigDecimal> customerTotalSpent;
+
+    public TransportDashboardDto(int transportsCount,
+                                 BigDecimal totalTransportRevenue,
+                                 Map<Long, Integer> transportsCountByDriver,
+                                 Map<Long, BigDecimal> driverRevenue,
+                                 Map<VehicleType, BigDecimal> revenueByVehicleType,
+                                 Map<Long, Integer> transportsCountByCompany,
+                                 Map<Long, BigDecimal> companyRevenue,
+                                 Map<Long, Integer> transportsCountByCustomer,
+                                 Map<Long, BigDecimal> customerTotalSpent) {
+        this.transportsCount = transportsCount;
+        this.totalTransportRevenue = totalTransportRevenue;
+        this.transportsCountByDriver = Map.copyOf(transportsCountByDriver);
+        this.driverRevenue = Map.copyOf(driverRevenue);
+        this.revenueByVehicleType = Collections.unmodifiableMap(new EnumMap<>(revenueByVehicleType));
+        this.transportsCountByCompany = Map.copyOf(transportsCountByCompany);
+        this.companyRevenue = Map.copyOf(companyRevenue);
+        this.transportsCountByCustomer = Map.copyOf(transportsCountByCustomer);
+        this.customerTotalSpent = Map.copyOf(customerTotalSpent);
+    }
+
+    public BigDecimal getRevenueByVehicleType(VehicleType type) {
+        return revenueByVehicleType.getOrDefault(type, BigDecimal.ZERO);
+    }
+}
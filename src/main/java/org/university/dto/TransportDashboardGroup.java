@@ -0,0 +1,21 @@
+package org.university.dto;
+
+import lombok.*;
+import org.university.util.PaymentStatus;
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+
+@AllArgsConstructor
+@Getter
+@Setter
+@NoArgsConstructor
+public class TransportDashboardGroup {
+    private Long companyId;
+    private Long employeeId;
+    private Long customerId;
+    private VehicleType vehicleType;
+    private PaymentStatus paymentStatus;
+    private Long transportCount;
+    private BigDecimal totalPrice;
+}
@@ -0,0 +1,19 @@
+package org.university.dto;
+
+import lombok.*;
+import org.university.util.PaymentStatus;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransportExportFilter {
+    private Long companyId;
+    private Long customerId;
+    private LocalDate departureFrom;
+    private LocalDate departureTo;
+    private PaymentStatus paymentStatus;
+}
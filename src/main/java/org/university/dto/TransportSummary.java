@@ -0,0 +1,17 @@
+package org.university.dto;
+
+import org.university.util.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TransportSummary(long id,
+                               Long companyId,
+                               Long employeeId,
+                               Long customerId,
+                               Long vehicleId,
+                               LocalDate departureDate,
+                               LocalDate arrivalDate,
+                               PaymentStatus paymentStatus,
+                               BigDecimal totalPrice) {
+}
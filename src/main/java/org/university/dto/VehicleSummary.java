@@ -0,0 +1,12 @@
+package org.university.dto;
+
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+
+public record VehicleSummary(long id,
+                             VehicleType vehicleType,
+                             BigDecimal distanceTraveled,
+                             Long companyId,
+                             Long employeeId) {
+}
@@ -10,9 +10,13 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 public class BaseEntity {
+    public static final String ID_SEQUENCE = "entity_id_sequence";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entity_id_generator")
+    @SequenceGenerator(name = "entity_id_generator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     @Column(name = "id")
     private Long id;
-}
\ No newline at end of file
+}
@@ -3,6 +3,9 @@ package org.university.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.university.configuration.CacheRegions;
 import org.university.validators.ValidateNames;
 
 import java.math.BigDecimal;
@@ -10,7 +13,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "company")
+@Table(name = "company", indexes = @Index(name = "idx_company_revenue", columnList = "revenue"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COMPANY)
 @Getter
 @Setter
 @NoArgsConstructor
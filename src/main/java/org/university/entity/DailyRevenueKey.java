@@ -0,0 +1,29 @@
+package org.university.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+import org.university.util.CargoType;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DailyRevenueKey implements Serializable {
+    @Column(name = "company_id")
+    private Long companyId;
+
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "cargo_type", length = 16)
+    private CargoType cargoType;
+}
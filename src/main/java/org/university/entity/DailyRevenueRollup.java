@@ -0,0 +1,26 @@
+package org.university.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "daily_revenue_rollup", indexes = @Index(name = "idx_daily_revenue_company_day", columnList = "company_id, day, paid_amount"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRevenueRollup {
+    @EmbeddedId
+    private DailyRevenueKey id;
+
+    @Column(name = "transport_count", nullable = false)
+    private long transportCount;
+
+    @Column(name = "paid_count", nullable = false)
+    private long paidCount;
+
+    @Column(name = "paid_amount", nullable = false)
+    private BigDecimal paidAmount = BigDecimal.ZERO;
+}
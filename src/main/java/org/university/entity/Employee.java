@@ -10,7 +10,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "employee")
+@Table(name = "employee", indexes = @Index(name = "idx_employee_salary", columnList = "salary"))
 @Getter
 @Setter
 @NoArgsConstructor
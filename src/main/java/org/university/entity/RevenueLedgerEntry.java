@@ -0,0 +1,29 @@
+package org.university.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "revenue_ledger")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueLedgerEntry {
+    @EmbeddedId
+    private RevenueLedgerKey id;
+
+    @Column(name = "transport_count", nullable = false)
+    private long transportCount;
+
+    @Column(name = "billed_amount", nullable = false)
+    private BigDecimal billedAmount = BigDecimal.ZERO;
+
+    @Column(name = "paid_count", nullable = false)
+    private long paidCount;
+
+    @Column(name = "paid_amount", nullable = false)
+    private BigDecimal paidAmount = BigDecimal.ZERO;
+}
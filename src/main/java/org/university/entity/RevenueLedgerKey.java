@@ -0,0 +1,25 @@
+package org.university.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+import org.university.util.LedgerScope;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RevenueLedgerKey implements Serializable {
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", length = 16)
+    private LedgerScope scope;
+
+    @Column(name = "owner_key", length = 64)
+    private String ownerKey;
+}
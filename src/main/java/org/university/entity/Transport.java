@@ -8,9 +8,19 @@ import org.university.util.PaymentStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transport")
+@Table(name = "transport", indexes = {
+        @Index(name = "idx_transport_company_status_departure", columnList = "company_id, paymentStatus, departure_date"),
+        @Index(name = "idx_transport_customer_status", columnList = "customer_id, paymentStatus"),
+        @Index(name = "idx_transport_employee_status", columnList = "employee_id, paymentStatus"),
+        @Index(name = "idx_transport_vehicle", columnList = "vehicle_id"),
+        @Index(name = "idx_transport_status_price", columnList = "paymentStatus, price"),
+        @Index(name = "idx_transport_start_point", columnList = "start_point"),
+        @Index(name = "idx_transport_end_point", columnList = "end_point"),
+        @Index(name = "idx_transport_last_modified", columnList = "last_modified")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -75,6 +85,15 @@ public class Transport extends BaseEntity {
     @JoinColumn(name = "vehicle_id")
     private Vehicle vehicle;
 
+    @Column(name = "last_modified")
+    private LocalDateTime lastModified;
+
+    @PrePersist
+    @PreUpdate
+    private void touchLastModified() {
+        lastModified = LocalDateTime.now();
+    }
+
     @AssertTrue(message = "Arrival date must be after or equal to departure date")
     private boolean isArrivalAfterDeparture() {
         if (departureDate == null || arrivalDate == null) return true;
@@ -0,0 +1,42 @@
+package org.university.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.university.util.TransportPlace;
+import org.university.util.Trigrams;
+
+// Not a BaseEntity: every transport writes a few dozen rows here, so they draw ids from their own sequence
+@Entity
+@Table(name = "transport_trigram", indexes = {
+        @Index(name = "idx_transport_trigram_lookup", columnList = "place, trigram, transport_id"),
+        @Index(name = "idx_transport_trigram_transport", columnList = "transport_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class TransportTrigram {
+    public static final String ID_SEQUENCE = "transport_trigram_sequence";
+    public static final int ID_ALLOCATION_SIZE = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transport_trigram_id_generator")
+    @SequenceGenerator(name = "transport_trigram_id_generator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "transport_id", nullable = false)
+    private Long transportId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "place", nullable = false, length = 16)
+    private TransportPlace place;
+
+    @Column(name = "trigram", nullable = false, length = Trigrams.LENGTH)
+    private String trigram;
+
+    public TransportTrigram(Long transportId, TransportPlace place, String trigram) {
+        this.transportId = transportId;
+        this.place = place;
+        this.trigram = trigram;
+    }
+}
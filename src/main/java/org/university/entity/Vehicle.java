@@ -3,6 +3,9 @@ package org.university.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.university.configuration.CacheRegions;
 import org.university.util.VehicleType;
 
 import java.math.BigDecimal;
@@ -11,6 +14,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "vehicle")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.VEHICLE)
 @Getter
 @Setter
 @NoArgsConstructor
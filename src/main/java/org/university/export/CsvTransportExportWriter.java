@@ -0,0 +1,99 @@
+package org.university.export;
+
+import org.university.dto.TransportDto;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+// RFC 4180: fields holding a separator, quote or line break are quoted, null values are left empty
+public class CsvTransportExportWriter implements TransportExportWriter {
+    private static final String LINE_END = "\r\n";
+
+    private final Writer out;
+
+    public CsvTransportExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        out.write(String.join(",", COLUMNS));
+        out.write(LINE_END);
+    }
+
+    @Override
+    public void write(TransportDto transport) throws IOException {
+        value(transport.getId());
+        out.write(',');
+        text(transport.getStartPoint());
+        out.write(',');
+        text(transport.getEndPoint());
+        out.write(',');
+        value(transport.getDepartureDate());
+        out.write(',');
+        value(transport.getArrivalDate());
+        out.write(',');
+        value(transport.getCargoType());
+        out.write(',');
+        value(transport.getCompanyId());
+        out.write(',');
+        value(transport.getEmployeeId());
+        out.write(',');
+        value(transport.getCustomerId());
+        out.write(',');
+        value(transport.getVehicleId());
+        out.write(',');
+        value(transport.getPaymentStatus());
+        out.write(',');
+        decimal(transport.getQuantity());
+        out.write(',');
+        decimal(transport.getInitPrice());
+        out.write(',');
+        decimal(transport.getTotalPrice());
+        out.write(LINE_END);
+    }
+
+    private void value(Object value) throws IOException {
+        if (value != null) {
+            out.write(value.toString());
+        }
+    }
+
+    private void decimal(BigDecimal value) throws IOException {
+        if (value != null) {
+            out.write(value.toPlainString());
+        }
+    }
+
+    private void text(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                out.write(value, start, i + 1 - start);
+                out.write('"');
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
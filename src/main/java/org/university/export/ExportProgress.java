@@ -0,0 +1,8 @@
+package org.university.export;
+
+public record ExportProgress(long rows, long elapsedNanos) {
+
+    public double rowsPerSecond() {
+        return rows * 1_000_000_000.0 / Math.max(elapsedNanos, 1L);
+    }
+}
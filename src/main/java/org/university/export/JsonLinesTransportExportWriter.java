@@ -0,0 +1,94 @@
+package org.university.export;
+
+import org.university.dto.TransportDto;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+public class JsonLinesTransportExportWriter implements TransportExportWriter {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer out;
+
+    public JsonLinesTransportExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    // JSON Lines files carry no header; field names are repeated in every object
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void write(TransportDto transport) throws IOException {
+        out.write('{');
+        number(COLUMNS.get(0), transport.getId());
+        text(COLUMNS.get(1), transport.getStartPoint());
+        text(COLUMNS.get(2), transport.getEndPoint());
+        text(COLUMNS.get(3), transport.getDepartureDate());
+        text(COLUMNS.get(4), transport.getArrivalDate());
+        text(COLUMNS.get(5), transport.getCargoType());
+        number(COLUMNS.get(6), transport.getCompanyId());
+        number(COLUMNS.get(7), transport.getEmployeeId());
+        number(COLUMNS.get(8), transport.getCustomerId());
+        number(COLUMNS.get(9), transport.getVehicleId());
+        text(COLUMNS.get(10), transport.getPaymentStatus());
+        decimal(COLUMNS.get(11), transport.getQuantity());
+        decimal(COLUMNS.get(12), transport.getInitPrice());
+        decimal(COLUMNS.get(13), transport.getTotalPrice());
+        out.write("}\n");
+    }
+
+    private void name(String name) throws IOException {
+        if (!COLUMNS.get(0).equals(name)) {
+            out.write(',');
+        }
+        out.write('"');
+        out.write(name);
+        out.write("\":");
+    }
+
+    private void number(String name, Long value) throws IOException {
+        name(name);
+        out.write(value == null ? "null" : value.toString());
+    }
+
+    private void decimal(String name, BigDecimal value) throws IOException {
+        name(name);
+        out.write(value == null ? "null" : value.toPlainString());
+    }
+
+    private void text(String name, Object value) throws IOException {
+        name(name);
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        String text = value.toString();
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '"' && c != '\\' && c >= 0x20) {
+                continue;
+            }
+            out.write(text, start, i - start);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    out.write("\\u00");
+                    out.write(HEX[c >> 4]);
+                    out.write(HEX[c & 0xF]);
+                }
+            }
+            start = i + 1;
+        }
+        out.write(text, start, text.length() - start);
+        out.write('"');
+    }
+}
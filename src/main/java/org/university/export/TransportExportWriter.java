@@ -0,0 +1,24 @@
+package org.university.export;
+
+import org.university.dto.TransportDto;
+import org.university.util.ExportFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+public interface TransportExportWriter {
+    List<String> COLUMNS = List.of("id", "startPoint", "endPoint", "departureDate", "arrivalDate", "cargoType",
+            "companyId", "employeeId", "customerId", "vehicleId", "paymentStatus", "quantity", "initPrice", "totalPrice");
+
+    void writeHeader() throws IOException;
+
+    void write(TransportDto transport) throws IOException;
+
+    static TransportExportWriter of(ExportFormat format, Writer out) {
+        return switch (format) {
+            case CSV -> new CsvTransportExportWriter(out);
+            case JSON_LINES -> new JsonLinesTransportExportWriter(out);
+        };
+    }
+}
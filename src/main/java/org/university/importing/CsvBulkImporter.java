@@ -0,0 +1,291 @@
+package org.university.importing;
+
+import org.hibernate.PropertyValueException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.DataException;
+import org.university.dao.CustomerDao;
+import org.university.dao.EmployeeDao;
+import org.university.dao.TransportDao;
+import org.university.dao.VehicleDao;
+import org.university.exception.DAOException;
+import org.university.validators.ValidationUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLDataException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Imports CSV files in chunks: parsing, mapping and bean validation run on the pool, while the
+ * calling thread inserts the valid rows in file order, one transaction per batch. When a batch
+ * is refused because of its data it is split until the offending rows are isolated, and those rows
+ * go to the reject file; any other database failure aborts the import.
+ */
+public class CsvBulkImporter implements AutoCloseable {
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final TransportDao transportDao;
+    private final CustomerDao customerDao;
+    private final EmployeeDao employeeDao;
+    private final VehicleDao vehicleDao;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int batchSize;
+
+    public CsvBulkImporter(TransportDao transportDao, CustomerDao customerDao, EmployeeDao employeeDao,
+                           VehicleDao vehicleDao, int parallelism, int chunkSize, int batchSize) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.transportDao = transportDao;
+        this.customerDao = customerDao;
+        this.employeeDao = employeeDao;
+        this.vehicleDao = vehicleDao;
+        this.pool = new ForkJoinPool(parallelism);
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+    }
+
+    public static CsvBulkImporter withDefaults(TransportDao transportDao, CustomerDao customerDao,
+                                               EmployeeDao employeeDao, VehicleDao vehicleDao) {
+        return new CsvBulkImporter(transportDao, customerDao, employeeDao, vehicleDao,
+                Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public ImportResult importTransports(Path source, Path rejectFile) throws DAOException {
+        return run(source, rejectFile, ImportMappers.TRANSPORT_COLUMNS, ImportMappers::transport,
+                transportDao::createTransports);
+    }
+
+    public ImportResult importCustomers(Path source, Path rejectFile) throws DAOException {
+        return run(source, rejectFile, ImportMappers.PERSON_COLUMNS, ImportMappers::customer,
+                customerDao::createCustomers);
+    }
+
+    public ImportResult importEmployees(Path source, Path rejectFile) throws DAOException {
+        return run(source, rejectFile, ImportMappers.PERSON_COLUMNS, ImportMappers::employee,
+                employeeDao::createEmployees);
+    }
+
+    public ImportResult importVehicles(Path source, Path rejectFile) throws DAOException {
+        return run(source, rejectFile, ImportMappers.VEHICLE_COLUMNS, ImportMappers::vehicle,
+                vehicleDao::createVehicles);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private <T> ImportResult run(Path source, Path rejectFile, List<String> requiredColumns,
+                                 Function<CsvRow, T> mapper, Consumer<List<T>> inserter) throws DAOException {
+        long startedAt = System.nanoTime();
+        ArrayDeque<Future<ParsedChunk<T>>> pending = new ArrayDeque<>();
+        try (CsvChunkReader reader = new CsvChunkReader(open(source), chunkSize)) {
+            String[] header = readHeader(reader, source);
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                columns.putIfAbsent(header[i].trim(), i);
+            }
+            List<String> missing = requiredColumns.stream()
+                    .filter(column -> !columns.containsKey(column))
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw new DAOException("File " + source + " is missing columns " + missing);
+            }
+
+            try (RejectFileWriter rejects = new RejectFileWriter(rejectFile, header)) {
+                Batches<T> batches = new Batches<>(columns, header.length, mapper, inserter, rejects);
+                CsvChunkReader.Chunk chunk;
+                while ((chunk = reader.nextChunk()) != null) {
+                    CsvChunkReader.Chunk next = chunk;
+                    pending.add(pool.submit(() -> batches.parse(next)));
+                    if (pending.size() > pool.getParallelism()) {
+                        batches.store(await(pending.poll(), source));
+                    }
+                }
+                while (!pending.isEmpty()) {
+                    batches.store(await(pending.poll(), source));
+                }
+                return new ImportResult(batches.imported, batches.rejected, System.nanoTime() - startedAt);
+            }
+        } catch (IOException e) {
+            throw new DAOException("Error importing " + source + ": " + e.getMessage());
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static InputStream open(Path source) throws IOException {
+        InputStream in = Files.newInputStream(source);
+        if (source.getFileName().toString().endsWith(".gz")) {
+            return new GZIPInputStream(in, GZIP_BUFFER_SIZE);
+        }
+        return in;
+    }
+
+    private static String[] readHeader(CsvChunkReader reader, Path source) throws IOException {
+        CsvChunkReader.Chunk chunk;
+        while ((chunk = reader.nextRecord()) != null) {
+            List<CsvParser.CsvRecord> records = CsvParser.parse(chunk);
+            if (!records.isEmpty()) {
+                if (records.get(0).error() != null) {
+                    throw new DAOException("File " + source + " has an unreadable header: " + records.get(0).error());
+                }
+                return records.get(0).fields();
+            }
+        }
+        throw new DAOException("File " + source + " has no header");
+    }
+
+    private static <T> T await(Future<T> future, Path source) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DAOException("Import of " + source + " was interrupted");
+        } catch (ExecutionException e) {
+            throw new DAOException("Failed to parse " + source + ": " + e.getCause().getMessage());
+        }
+    }
+
+    private record ParsedRow<T>(CsvParser.CsvRecord record, T entity) {
+    }
+
+    private record Rejection(CsvParser.CsvRecord record, String reason) {
+    }
+
+    private record ParsedChunk<T>(List<ParsedRow<T>> rows, List<Rejection> rejections) {
+    }
+
+    private final class Batches<T> {
+        private final Map<String, Integer> columns;
+        private final int width;
+        private final Function<CsvRow, T> mapper;
+        private final Consumer<List<T>> inserter;
+        private final RejectFileWriter rejects;
+        private long imported;
+        private long rejected;
+
+        private Batches(Map<String, Integer> columns, int width, Function<CsvRow, T> mapper,
+                        Consumer<List<T>> inserter, RejectFileWriter rejects) {
+            this.columns = columns;
+            this.width = width;
+            this.mapper = mapper;
+            this.inserter = inserter;
+            this.rejects = rejects;
+        }
+
+        // Runs on the pool, so it must not touch the counters or the reject file
+        private ParsedChunk<T> parse(CsvChunkReader.Chunk chunk) {
+            List<ParsedRow<T>> rows = new ArrayList<>();
+            List<Rejection> rejections = new ArrayList<>();
+            for (CsvParser.CsvRecord record : CsvParser.parse(chunk)) {
+                if (record.error() != null) {
+                    rejections.add(new Rejection(record, record.error()));
+                    continue;
+                }
+                if (record.fields().length != width) {
+                    rejections.add(new Rejection(record,
+                            "expected " + width + " fields but found " + record.fields().length));
+                    continue;
+                }
+                try {
+                    T entity = map(record);
+                    List<String> violations = ValidationUtil.validate(entity);
+                    if (violations.isEmpty()) {
+                        rows.add(new ParsedRow<>(record, entity));
+                    } else {
+                        rejections.add(new Rejection(record, String.join("; ", violations)));
+                    }
+                } catch (RuntimeException e) {
+                    rejections.add(new Rejection(record, e.getMessage()));
+                }
+            }
+            return new ParsedChunk<>(rows, rejections);
+        }
+
+        private void store(ParsedChunk<T> chunk) throws IOException {
+            for (Rejection rejection : chunk.rejections()) {
+                rejects.write(rejection.record(), rejection.reason());
+                rejected++;
+            }
+            List<ParsedRow<T>> rows = chunk.rows();
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                insert(rows.subList(from, Math.min(from + batchSize, rows.size())), false);
+            }
+        }
+
+        // A failed transaction leaves ids and proxies on the entities, so retries map the record again
+        private void insert(List<ParsedRow<T>> rows, boolean retry) throws IOException {
+            List<T> entities = new ArrayList<>(rows.size());
+            for (ParsedRow<T> row : rows) {
+                entities.add(retry ? map(row.record()) : row.entity());
+            }
+            try {
+                inserter.accept(entities);
+                imported += rows.size();
+            } catch (DAOException e) {
+                if (!isRowError(e)) {
+                    throw e;
+                }
+                if (rows.size() == 1) {
+                    rejects.write(rows.get(0).record(), e.getMessage());
+                    rejected++;
+                    return;
+                }
+                int middle = rows.size() / 2;
+                insert(rows.subList(0, middle), true);
+                insert(rows.subList(middle, rows.size()), true);
+            }
+        }
+
+        private T map(CsvParser.CsvRecord record) {
+            return mapper.apply(new CsvRow(columns, record.fields()));
+        }
+    }
+
+    // A DAOException without a cause is the DAO refusing the rows, e.g. a missing reference. A lost
+    // connection, lock timeout or failed commit would fail every half again, so it is not bisected.
+    private static boolean isRowError(DAOException e) {
+        if (e.getCause() == null) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException
+                    || cause instanceof DataException
+                    || cause instanceof PropertyValueException
+                    || cause instanceof jakarta.validation.ConstraintViolationException
+                    || cause instanceof SQLIntegrityConstraintViolationException
+                    || cause instanceof SQLDataException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
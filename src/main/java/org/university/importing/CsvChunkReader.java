@@ -0,0 +1,148 @@
+package org.university.importing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Cuts a CSV stream into chunks of whole records so that they can be parsed independently.
+ * Only quote parity is tracked here, which is enough to skip line breaks inside quoted fields.
+ * A record may not grow past the maximum length: a stray quote would otherwise swallow the rest of
+ * the file, so the offending line is handed out as a rejected chunk and reading resumes after it.
+ */
+final class CsvChunkReader implements Closeable {
+    static final int DEFAULT_MAX_RECORD_LENGTH = 1024 * 1024;
+
+    private final InputStream in;
+    private final int chunkSize;
+    private final int maxRecordLength;
+
+    private byte[] buffer;
+    private int filled;
+    private int scanned;
+    private int recordStart;
+    private int lines;
+    private int linesBeforeRecord;
+    private boolean quoted;
+    private boolean skipping;
+    private boolean eof;
+    private long nextLine = 1;
+
+    CsvChunkReader(InputStream in, int chunkSize) {
+        this(in, chunkSize, DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    CsvChunkReader(InputStream in, int chunkSize, int maxRecordLength) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (maxRecordLength <= 0) {
+            throw new IllegalArgumentException("Maximum record length must be positive");
+        }
+        this.in = in;
+        this.chunkSize = chunkSize;
+        this.maxRecordLength = maxRecordLength;
+        this.buffer = new byte[chunkSize + 8192];
+    }
+
+    Chunk nextRecord() throws IOException {
+        return next(1);
+    }
+
+    Chunk nextChunk() throws IOException {
+        return next(chunkSize);
+    }
+
+    private Chunk next(int minSize) throws IOException {
+        while (true) {
+            if (skipping) {
+                skipRestOfLine();
+            }
+            while (!skipping && scanned < filled) {
+                byte b = buffer[scanned++];
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == '\n') {
+                    lines++;
+                    if (!quoted) {
+                        recordStart = scanned;
+                        linesBeforeRecord = lines;
+                        if (scanned >= minSize) {
+                            return cut(scanned, lines);
+                        }
+                    }
+                }
+                if (scanned - recordStart > maxRecordLength) {
+                    // Hand out the complete records first, the oversized one is rescanned from the start of the buffer
+                    return recordStart > 0 ? cut(recordStart, linesBeforeRecord) : rejectOversizedLine();
+                }
+            }
+            if (eof) {
+                return filled == 0 ? null : cut(filled, lines);
+            }
+            if (filled == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            int read = in.read(buffer, filled, buffer.length - filled);
+            if (read < 0) {
+                eof = true;
+            } else {
+                filled += read;
+            }
+        }
+    }
+
+    private Chunk rejectOversizedLine() {
+        String error = "record is longer than " + maxRecordLength + " bytes";
+        for (int i = 0; i < scanned; i++) {
+            if (buffer[i] == '\n') {
+                Chunk chunk = new Chunk(Arrays.copyOf(buffer, i), nextLine++, error);
+                discard(i + 1);
+                return chunk;
+            }
+        }
+        // The line itself is too long, so its head is reported and the rest is dropped up to the next line break
+        Chunk chunk = new Chunk(Arrays.copyOf(buffer, scanned), nextLine, error);
+        discard(scanned);
+        skipping = true;
+        return chunk;
+    }
+
+    private void skipRestOfLine() {
+        for (int i = 0; i < filled; i++) {
+            if (buffer[i] == '\n') {
+                discard(i + 1);
+                nextLine++;
+                skipping = false;
+                return;
+            }
+        }
+        discard(filled);
+    }
+
+    private Chunk cut(int end, int chunkLines) {
+        Chunk chunk = new Chunk(Arrays.copyOf(buffer, end), nextLine, null);
+        nextLine += chunkLines;
+        discard(end);
+        return chunk;
+    }
+
+    private void discard(int end) {
+        System.arraycopy(buffer, end, buffer, 0, filled - end);
+        filled -= end;
+        scanned = 0;
+        recordStart = 0;
+        lines = 0;
+        linesBeforeRecord = 0;
+        quoted = false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    record Chunk(byte[] data, long firstLine, String error) {
+    }
+}
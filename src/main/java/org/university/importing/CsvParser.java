@@ -0,0 +1,100 @@
+package org.university.importing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 with one leniency: a quote inside an unquoted field opens a quoted section, as in CsvChunkReader
+final class CsvParser {
+    private static final char BOM = '\uFEFF';
+
+    private CsvParser() {
+    }
+
+    static List<CsvRecord> parse(CsvChunkReader.Chunk chunk) {
+        String text = new String(chunk.data(), StandardCharsets.UTF_8);
+        if (chunk.error() != null) {
+            // The reader already gave up on this line, so it goes to the reject file as raw text
+            String raw = text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+            return List.of(new CsvRecord(chunk.firstLine(), new String[]{raw}, chunk.error()));
+        }
+        List<CsvRecord> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        long line = chunk.firstLine();
+        long recordLine = line;
+        boolean quoted = false;
+        boolean blank = true;
+
+        int start = !text.isEmpty() && text.charAt(0) == BOM ? 1 : 0;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+                blank = false;
+            } else if (c == '\n') {
+                line++;
+                if (quoted) {
+                    field.append(c);
+                    continue;
+                }
+                if (!blank) {
+                    fields.add(field.toString());
+                    records.add(new CsvRecord(recordLine, fields.toArray(String[]::new), null));
+                }
+                fields.clear();
+                field.setLength(0);
+                recordLine = line;
+                blank = true;
+            } else if (quoted) {
+                field.append(c);
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                blank = false;
+            } else if (c != '\r' || i + 1 >= text.length() || text.charAt(i + 1) != '\n') {
+                field.append(c);
+                blank = false;
+            }
+        }
+
+        if (!blank) {
+            fields.add(field.toString());
+            records.add(new CsvRecord(recordLine, fields.toArray(String[]::new),
+                    quoted ? "unterminated quoted field" : null));
+        }
+        return records;
+    }
+
+    static void appendField(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    record CsvRecord(long line, String[] fields, String error) {
+    }
+}
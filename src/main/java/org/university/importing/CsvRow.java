@@ -0,0 +1,74 @@
+package org.university.importing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Map;
+
+final class CsvRow {
+    private final Map<String, Integer> columns;
+    private final String[] fields;
+
+    CsvRow(Map<String, Integer> columns, String[] fields) {
+        this.columns = columns;
+        this.fields = fields;
+    }
+
+    String text(String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.length || fields[index].isEmpty()) {
+            return null;
+        }
+        return fields[index];
+    }
+
+    BigDecimal decimal(String column) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + ": '" + value + "' is not a number");
+        }
+    }
+
+    Long id(String column) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + ": '" + value + "' is not an id");
+        }
+    }
+
+    LocalDate date(String column) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + ": '" + value + "' is not a date (yyyy-MM-dd)");
+        }
+    }
+
+    <E extends Enum<E>> E enumValue(String column, Class<E> type) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(column + ": '" + value + "' is not one of "
+                    + Arrays.toString(type.getEnumConstants()));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.university.importing;
+
+import org.university.entity.BaseEntity;
+import org.university.entity.Company;
+import org.university.entity.Customer;
+import org.university.entity.Employee;
+import org.university.entity.Transport;
+import org.university.entity.Vehicle;
+import org.university.service.contract.transport_service.TransportPricingSystemService;
+import org.university.service.impl.transport_service_impl.TransportPricingSystemServiceImpl;
+import org.university.util.CargoType;
+import org.university.util.DriverQualifications;
+import org.university.util.PaymentStatus;
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+
+// References are id-only stubs; the batch DAO methods check that they exist before inserting
+final class ImportMappers {
+    static final List<String> TRANSPORT_COLUMNS = List.of("startPoint", "endPoint", "departureDate", "arrivalDate",
+            "cargoType", "quantity", "initPrice");
+    static final List<String> PERSON_COLUMNS = List.of("firstName", "lastName", "birthDate");
+    static final List<String> VEHICLE_COLUMNS = List.of("vehicleType");
+
+    private static final TransportPricingSystemService PRICING = new TransportPricingSystemServiceImpl();
+
+    private ImportMappers() {
+    }
+
+    static Transport transport(CsvRow row) {
+        Transport transport = new Transport();
+        transport.setStartPoint(row.text("startPoint"));
+        transport.setEndPoint(row.text("endPoint"));
+        transport.setDepartureDate(row.date("departureDate"));
+        transport.setArrivalDate(row.date("arrivalDate"));
+        transport.setCargoType(row.enumValue("cargoType", CargoType.class));
+        transport.setQuantity(row.decimal("quantity"));
+        transport.setInitPrice(row.decimal("initPrice"));
+        // Without a totalPrice column the price is derived the same way the application prices a new transport
+        BigDecimal totalPrice = row.decimal("totalPrice");
+        if (totalPrice == null) {
+            PRICING.calculateTotalPrice(transport);
+        } else {
+            transport.setTotalPrice(totalPrice);
+        }
+        PaymentStatus status = row.enumValue("paymentStatus", PaymentStatus.class);
+        transport.setPaymentStatus(status == null ? PaymentStatus.NOT_PAID : status);
+        transport.setCompany(stub(Company::new, row.id("companyId")));
+        transport.setEmployee(stub(Employee::new, row.id("employeeId")));
+        transport.setCustomer(stub(Customer::new, row.id("customerId")));
+        transport.setVehicle(stub(Vehicle::new, row.id("vehicleId")));
+        return transport;
+    }
+
+    static Customer customer(CsvRow row) {
+        Customer customer = new Customer();
+        customer.setFirstName(row.text("firstName"));
+        customer.setLastName(row.text("lastName"));
+        customer.setBirthDate(row.date("birthDate"));
+        customer.setBudget(orZero(row.decimal("budget")));
+        return customer;
+    }
+
+    // Qualifications are separated by '|', e.g. CARGO|ADR
+    static Employee employee(CsvRow row) {
+        Employee employee = new Employee();
+        employee.setFirstName(row.text("firstName"));
+        employee.setLastName(row.text("lastName"));
+        employee.setBirthDate(row.date("birthDate"));
+        employee.setSalary(orZero(row.decimal("salary")));
+        employee.setCompany(stub(Company::new, row.id("companyId")));
+        String qualifications = row.text("driverQualifications");
+        if (qualifications != null) {
+            for (String qualification : qualifications.split("\\|")) {
+                if (qualification.isBlank()) {
+                    continue;
+                }
+                try {
+                    employee.getDriverQualifications().add(DriverQualifications.valueOf(qualification.trim()));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("driverQualifications: '" + qualification + "' is not one of "
+                            + List.of(DriverQualifications.values()));
+                }
+            }
+        }
+        return employee;
+    }
+
+    static Vehicle vehicle(CsvRow row) {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setVehicleType(row.enumValue("vehicleType", VehicleType.class));
+        vehicle.setDistanceTraveled(orZero(row.decimal("distanceTraveled")));
+        vehicle.setCompany(stub(Company::new, row.id("companyId")));
+        vehicle.setEmployee(stub(Employee::new, row.id("employeeId")));
+        return vehicle;
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+
+    private static <T extends BaseEntity> T stub(Supplier<T> factory, Long id) {
+        if (id == null) {
+            return null;
+        }
+        T entity = factory.get();
+        entity.setId(id);
+        return entity;
+    }
+}
@@ -0,0 +1,8 @@
+package org.university.importing;
+
+public record ImportResult(long imported, long rejected, long elapsedNanos) {
+
+    public double rowsPerSecond() {
+        return (imported + rejected) * 1_000_000_000.0 / Math.max(elapsedNanos, 1L);
+    }
+}
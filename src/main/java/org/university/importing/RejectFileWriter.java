@@ -0,0 +1,40 @@
+package org.university.importing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Rejected records keep their original columns after the line number and reason, so the file can be fixed and re-imported
+final class RejectFileWriter implements Closeable {
+    private final Writer out;
+    private final StringBuilder line = new StringBuilder();
+
+    RejectFileWriter(Path path, String[] header) throws IOException {
+        this.out = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        write("line", "reason", header);
+    }
+
+    void write(CsvParser.CsvRecord record, String reason) throws IOException {
+        write(Long.toString(record.line()), reason == null ? "unknown error" : reason, record.fields());
+    }
+
+    private void write(String lineNumber, String reason, String[] fields) throws IOException {
+        line.setLength(0);
+        line.append(lineNumber).append(',');
+        CsvParser.appendField(line, reason);
+        for (String field : fields) {
+            line.append(',');
+            CsvParser.appendField(line, field);
+        }
+        line.append("\r\n");
+        out.append(line);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -4,7 +4,10 @@ import org.university.dto.TransportDto;
 import org.university.entity.Transport;
 import org.university.exception.DAOException;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public interface TransportCRUDSystemService {
     Transport mapToEntity(TransportDto transportDto);
@@ -13,10 +16,16 @@ public interface TransportCRUDSystemService {
 
     TransportDto createTransport(TransportDto transportDto) throws DAOException;
 
+    List<TransportDto> createTransports(Collection<TransportDto> transportDtos) throws DAOException;
+
     TransportDto getTransportById(Long id) throws DAOException;
 
     Set<TransportDto> getAllTransports();
 
+    void forEachTransport(Consumer<TransportDto> consumer) throws DAOException;
+
+    void forEachTransport(int fetchSize, Consumer<TransportDto> consumer) throws DAOException;
+
     TransportDto updateTransport(Long id, TransportDto transportDto) throws DAOException;
 
     void deleteTransport(Long id) throws DAOException;
@@ -0,0 +1,17 @@
+package org.university.service.contract.transport_service;
+
+import org.university.dto.TransportExportFilter;
+import org.university.exception.DAOException;
+import org.university.export.ExportProgress;
+import org.university.util.ExportFormat;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+public interface TransportExportService {
+    ExportProgress exportTransports(TransportExportFilter filter, ExportFormat format, boolean gzip,
+                                    OutputStream out, Consumer<ExportProgress> progressListener) throws DAOException;
+    ExportProgress exportTransports(TransportExportFilter filter, ExportFormat format, boolean gzip,
+                                    Path target, Consumer<ExportProgress> progressListener) throws DAOException;
+}
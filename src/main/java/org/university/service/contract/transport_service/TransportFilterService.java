@@ -1,9 +1,12 @@
 package org.university.service.contract.transport_service;
 
 import org.university.entity.Transport;
+import org.university.util.TransportPlace;
 
 import java.util.List;
 
 public interface TransportFilterService {
     List<Transport> filterTransportsByDestination(String destination);
+    List<Transport> searchTransportsByPlace(TransportPlace place, String fragment);
+    List<Transport> searchTransportsByPlacePrefix(TransportPlace place, String prefix);
 }
@@ -1,13 +1,19 @@
 package org.university.service.contract.transport_service;
 
+import org.university.dto.SettlementSummaryDto;
 import org.university.exception.DAOException;
+import org.university.util.SettlementMode;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.Set;
 
 public interface TransportPaymentSystemService {
     void markTransportAsPaid(Long transportId);
+    boolean tryPayTransport(Long transportId) throws DAOException;
     BigDecimal calculateCustomerDebt(Long customerId) throws DAOException;
     void paySingleTransport(Long transportId) throws DAOException;
     Set<Long> getUnpaidTransportIdsForCustomer(Long customerId) throws DAOException;
+    SettlementSummaryDto settleCustomer(Long customerId, SettlementMode mode) throws DAOException;
+    SettlementSummaryDto settleCustomers(Collection<Long> customerIds, SettlementMode mode) throws DAOException;
 }
@@ -1,7 +1,13 @@
 package org.university.service.contract.transport_service;
 
+import org.university.dto.RankingEntry;
+import org.university.dto.TransportDashboardDto;
+import org.university.util.PaymentStatus;
+import org.university.util.RankingMetric;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 public interface TransportReportService {
@@ -12,4 +18,9 @@ public interface TransportReportService {
                                            LocalDate startDate,
                                            LocalDate endDate);
     Map<Long, BigDecimal> getDriverRevenue();
+    TransportDashboardDto getDashboard();
+    List<RankingEntry> getTopDrivers(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to);
+    List<RankingEntry> getTopVehicles(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to);
+    List<RankingEntry> getTopCustomers(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to);
+    List<RankingEntry> getTopCompanies(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to);
 }
@@ -5,13 +5,16 @@ import org.university.dao.EmployeeDao;
 import org.university.dao.TransportDao;
 import org.university.dao.VehicleDao;
 import org.university.dto.CompanyDto;
+import org.university.dto.EmployeeSummary;
+import org.university.dto.TransportSummary;
+import org.university.dto.VehicleSummary;
 import org.university.entity.Company;
 import org.university.entity.Employee;
-import org.university.entity.Transport;
 import org.university.entity.Vehicle;
 import org.university.exception.DAOException;
 import org.university.service.contract.company_service.CompanyCRUDService;
 
+import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -34,7 +37,8 @@ public class CompanyCRUDServiceImpl implements CompanyCRUDService {
     public Company mapToEntity(CompanyDto companyDto) {
         Company company = new Company();
         company.setName(companyDto.getName());
-        company.setRevenue(companyDto.getRevenue());
+        // Revenue is the sum of the company's paid transports and is maintained by the revenue ledger.
+        company.setRevenue(BigDecimal.ZERO);
         if (company.getEmployeeSet() == null) company.setEmployeeSet(new HashSet<>());
         if (company.getVehicleSet() == null) company.setVehicleSet(new HashSet<>());
         if (company.getTransportSet() == null) company.setTransportSet(new HashSet<>());
@@ -87,7 +91,6 @@ public class CompanyCRUDServiceImpl implements CompanyCRUDService {
         }
 
         company.setName(companyDto.getName());
-        company.setRevenue(companyDto.getRevenue());
 
         companyDao.updateCompany(id, company);
         return mapToDto(company);
@@ -153,10 +156,9 @@ public class CompanyCRUDServiceImpl implements CompanyCRUDService {
             throw new DAOException("Company with id " + companyId + " does not exist");
         }
 
-        return employeeDao.getAllEmployees()
+        return employeeDao.getEmployeeSummariesByCompany(companyId)
                 .stream()
-                .filter(e -> e.getCompany() != null && e.getCompany().getId().equals(companyId))
-                .map(Employee::getId)
+                .map(EmployeeSummary::id)
                 .collect(Collectors.toSet());
     }
 
@@ -211,10 +213,9 @@ public class CompanyCRUDServiceImpl implements CompanyCRUDService {
             throw new DAOException("Company with id " + companyId + " does not exist");
         }
 
-        return vehicleDao.getAllVehicles()
+        return vehicleDao.getVehicleSummariesByCompany(companyId)
                 .stream()
-                .filter(v -> v.getCompany() != null && v.getCompany().getId().equals(companyId))
-                .map(Vehicle::getId)
+                .map(VehicleSummary::id)
                 .collect(Collectors.toSet());
     }
 
@@ -225,10 +226,9 @@ public class CompanyCRUDServiceImpl implements CompanyCRUDService {
             throw new DAOException("Company with id " + companyId + " does not exist");
         }
 
-        return transportDao.getAllTransports()
+        return transportDao.getTransportSummariesByCompany(companyId)
                 .stream()
-                .filter(t -> t.getCompany() != null && t.getCompany().getId().equals(companyId))
-                .map(Transport::getId)
+                .map(TransportSummary::id)
                 .collect(Collectors.toSet());
     }
 }
@@ -1,23 +1,23 @@
 package org.university.service.impl.company_service_impl;
 
 import org.university.dao.CompanyDao;
-import org.university.dao.TransportDao;
+import org.university.dao.RevenueLedgerDao;
 import org.university.entity.Company;
-import org.university.entity.Transport;
+import org.university.entity.RevenueLedgerEntry;
 import org.university.exception.DAOException;
 import org.university.service.contract.company_service.CompanyReportService;
+import org.university.util.LedgerScope;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.List;
 
 public class CompanyReportServiceImpl implements CompanyReportService {
     private final CompanyDao companyDao;
-    private final TransportDao transportDao;
+    private final RevenueLedgerDao revenueLedgerDao;
 
-    public CompanyReportServiceImpl(CompanyDao companyDao, TransportDao transportDao) {
+    public CompanyReportServiceImpl(CompanyDao companyDao, RevenueLedgerDao revenueLedgerDao) {
         this.companyDao = companyDao;
-        this.transportDao = transportDao;
+        this.revenueLedgerDao = revenueLedgerDao;
     }
 
     @Override
@@ -36,9 +36,8 @@ public class CompanyReportServiceImpl implements CompanyReportService {
             throw new DAOException("Company with id " + companyId + " does not exist");
         }
 
-        return (int) transportDao.getAllTransports().stream()
-                .filter(t -> t.getCompany() != null && companyId.equals(t.getCompany().getId()))
-                .count();
+        RevenueLedgerEntry entry = revenueLedgerDao.getEntry(LedgerScope.COMPANY, companyId);
+        return entry != null ? Math.toIntExact(entry.getTransportCount()) : 0;
     }
 
     @Override
@@ -48,18 +47,11 @@ public class CompanyReportServiceImpl implements CompanyReportService {
             throw new DAOException("Company with id " + companyId + " does not exist");
         }
 
-        List<Transport> list = transportDao.getAllTransports().stream()
-                .filter(t -> t.getCompany() != null && companyId.equals(t.getCompany().getId()))
-                .toList();
-
-        if (list.isEmpty()) {
+        RevenueLedgerEntry entry = revenueLedgerDao.getEntry(LedgerScope.COMPANY, companyId);
+        if (entry == null || entry.getTransportCount() == 0) {
             return BigDecimal.ZERO;
         }
 
-        BigDecimal total = list.stream()
-                .map(t -> t.getTotalPrice() != null ? t.getTotalPrice() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return total.divide(BigDecimal.valueOf(list.size()), 2, RoundingMode.HALF_UP);
+        return entry.getBilledAmount().divide(BigDecimal.valueOf(entry.getTransportCount()), 2, RoundingMode.HALF_UP);
     }
 }
@@ -0,0 +1,45 @@
+package org.university.service.impl.customer_service_impl;
+
+import org.university.analytics.ReportCache;
+import org.university.exception.DAOException;
+import org.university.service.contract.customer_service.CustomerReportService;
+import org.university.util.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import static org.university.analytics.ReportCache.amount;
+import static org.university.analytics.ReportCache.parameters;
+
+public class CachingCustomerReportServiceImpl implements CustomerReportService {
+    private final CustomerReportService delegate;
+    private final ReportCache cache;
+
+    public CachingCustomerReportServiceImpl(CustomerReportService delegate, ReportCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public BigDecimal getCustomerTotalSpent(Long customerId) throws DAOException {
+        return cache.get("customer.totalSpent", parameters(customerId),
+                transport -> Objects.equals(customerId, transport.customerId()) && transport.paymentStatus() == PaymentStatus.PAID
+                        ? amount(transport.totalPrice()) : null,
+                () -> delegate.getCustomerTotalSpent(customerId));
+    }
+
+    @Override
+    public int getCustomerTransportsCount(Long customerId) throws DAOException {
+        return cache.get("customer.transportsCount", parameters(customerId),
+                transport -> Objects.equals(customerId, transport.customerId()) && transport.paymentStatus() == PaymentStatus.PAID
+                        ? Boolean.TRUE : null,
+                () -> delegate.getCustomerTransportsCount(customerId));
+    }
+
+    @Override
+    public BigDecimal getAverageSpendingPerTransport(Long customerId) throws DAOException {
+        return cache.get("customer.averageSpending", parameters(customerId),
+                transport -> Objects.equals(customerId, transport.customerId()) ? amount(transport.totalPrice()) : null,
+                () -> delegate.getAverageSpendingPerTransport(customerId));
+    }
+}
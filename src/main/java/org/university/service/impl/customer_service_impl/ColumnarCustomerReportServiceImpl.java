@@ -0,0 +1,56 @@
+package org.university.service.impl.customer_service_impl;
+
+import org.university.analytics.TransportAnalyticsSnapshot;
+import org.university.analytics.TransportColumns;
+import org.university.dao.CustomerDao;
+import org.university.entity.Customer;
+import org.university.exception.DAOException;
+import org.university.service.contract.customer_service.CustomerReportService;
+import org.university.util.Money;
+import org.university.util.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class ColumnarCustomerReportServiceImpl implements CustomerReportService {
+    private static final int PAID = TransportColumns.statusFilter(PaymentStatus.PAID);
+
+    private final CustomerDao customerDao;
+    private final TransportAnalyticsSnapshot snapshot;
+
+    public ColumnarCustomerReportServiceImpl(CustomerDao customerDao, TransportAnalyticsSnapshot snapshot) {
+        this.customerDao = customerDao;
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public BigDecimal getCustomerTotalSpent(Long customerId) throws DAOException {
+        requireCustomer(customerId);
+        return Money.ofCents(snapshot.columns().sumPriceCentsForCustomer(customerId, PAID));
+    }
+
+    @Override
+    public int getCustomerTransportsCount(Long customerId) throws DAOException {
+        requireCustomer(customerId);
+        return Math.toIntExact(snapshot.columns().countForCustomer(customerId, PAID));
+    }
+
+    @Override
+    public BigDecimal getAverageSpendingPerTransport(Long customerId) throws DAOException {
+        requireCustomer(customerId);
+
+        TransportColumns columns = snapshot.columns();
+        long count = columns.countForCustomer(customerId, TransportColumns.ANY_STATUS);
+        if(count == 0){
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal total = Money.ofCents(columns.sumPriceCentsForCustomer(customerId, TransportColumns.ANY_STATUS));
+        return total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+
+    private void requireCustomer(Long customerId) {
+        Customer customer = customerDao.getCustomerById(customerId);
+        if (customer == null) throw new DAOException("Customer with id " + customerId + " does not exist");
+    }
+}
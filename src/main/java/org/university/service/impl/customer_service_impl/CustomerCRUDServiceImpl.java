@@ -3,6 +3,7 @@ package org.university.service.impl.customer_service_impl;
 import org.university.dao.CustomerDao;
 import org.university.dao.TransportDao;
 import org.university.dto.CustomerDto;
+import org.university.dto.TransportSummary;
 import org.university.entity.Customer;
 import org.university.entity.Transport;
 import org.university.exception.DAOException;
@@ -137,11 +138,9 @@ public class CustomerCRUDServiceImpl implements CustomerCRUDService {
 
     @Override
     public Set<Long> getAllTransportIdsForCustomer(Long customerId) throws DAOException {
-        return transportDao.getAllTransports()
+        return transportDao.getTransportSummariesByCustomer(customerId)
                 .stream()
-                .filter(transport -> transport.getCustomer() != null
-                        &&transport.getCustomer().getId().equals(customerId))
-                .map(Transport::getId)
+                .map(TransportSummary::id)
                 .collect(Collectors.toSet());
     }
 }
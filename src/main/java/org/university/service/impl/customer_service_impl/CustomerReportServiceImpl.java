@@ -2,10 +2,11 @@ package org.university.service.impl.customer_service_impl;
 
 import org.university.dao.CustomerDao;
 import org.university.dao.TransportDao;
+import org.university.dto.TransportSummary;
 import org.university.entity.Customer;
-import org.university.entity.Transport;
 import org.university.exception.DAOException;
 import org.university.service.contract.customer_service.CustomerReportService;
+import org.university.util.Money;
 import org.university.util.PaymentStatus;
 
 import java.math.BigDecimal;
@@ -26,11 +27,13 @@ public class CustomerReportServiceImpl implements CustomerReportService {
         Customer customer = customerDao.getCustomerById(customerId);
         if (customer == null) throw new DAOException("Customer with id " + customerId + " does not exist");
 
-        return transportDao.getAllTransports().stream()
-                .filter(t -> t.getCustomer() != null && customerId.equals(t.getCustomer().getId()))
-                .filter(t -> t.getPaymentStatus() == PaymentStatus.PAID)
-                .map(t -> t.getTotalPrice() != null ? t.getTotalPrice() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Money.Sum total = Money.sum();
+        for (TransportSummary transport : transportDao.getTransportSummariesByCustomer(customerId)) {
+            if (transport.paymentStatus() == PaymentStatus.PAID) {
+                total.add(transport.totalPrice());
+            }
+        }
+        return total.toBigDecimal();
     }
 
     @Override
@@ -38,9 +41,8 @@ public class CustomerReportServiceImpl implements CustomerReportService {
         Customer customer = customerDao.getCustomerById(customerId);
         if (customer == null) throw new DAOException("Customer with id " + customerId + " does not exist");
 
-        return (int) transportDao.getAllTransports().stream()
-                .filter(t -> t.getCustomer() != null && customerId.equals(t.getCustomer().getId()))
-                .filter(t -> t.getPaymentStatus() == PaymentStatus.PAID)
+        return (int) transportDao.getTransportSummariesByCustomer(customerId).stream()
+                .filter(t -> t.paymentStatus() == PaymentStatus.PAID)
                 .count();
     }
 
@@ -51,22 +53,17 @@ public class CustomerReportServiceImpl implements CustomerReportService {
             throw new DAOException("Customer with id " + customerId + " does not exist");
         }
 
-        List<Transport> transportList = transportDao.getAllTransports()
-                .stream()
-                .filter(transport -> transport.getId() != null
-                        && transport.getCustomer() != null
-                        && transport.getCustomer().getId().equals(customerId))
-                .toList();
+        List<TransportSummary> transportList = transportDao.getTransportSummariesByCustomer(customerId);
 
         if(transportList.isEmpty()){
             return BigDecimal.ZERO;
         }
 
-        BigDecimal total = transportList.stream()
-                .map(transport -> transport.getTotalPrice() != null
-                ? transport.getTotalPrice() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Money.Sum total = Money.sum();
+        for (TransportSummary transport : transportList) {
+            total.add(transport.totalPrice());
+        }
 
-        return total.divide(BigDecimal.valueOf(transportList.size()),2, RoundingMode.HALF_UP);
+        return total.toBigDecimal().divide(BigDecimal.valueOf(transportList.size()),2, RoundingMode.HALF_UP);
     }
 }
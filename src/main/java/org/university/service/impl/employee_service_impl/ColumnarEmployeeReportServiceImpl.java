@@ -0,0 +1,38 @@
+package org.university.service.impl.employee_service_impl;
+
+import org.university.analytics.TransportAnalyticsSnapshot;
+import org.university.analytics.TransportColumns;
+import org.university.dao.EmployeeDao;
+import org.university.entity.Employee;
+import org.university.service.contract.employee_service.EmployeeReportService;
+import org.university.util.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class ColumnarEmployeeReportServiceImpl implements EmployeeReportService {
+    private final TransportAnalyticsSnapshot snapshot;
+    private final EmployeeDao employeeDao;
+
+    public ColumnarEmployeeReportServiceImpl(TransportAnalyticsSnapshot snapshot, EmployeeDao employeeDao) {
+        this.snapshot = snapshot;
+        this.employeeDao = employeeDao;
+    }
+
+    @Override
+    public BigDecimal getAverageTransportRevenuePerEmployee(Long employeeId) {
+        Employee employee = employeeDao.getEmployeeById(employeeId);
+        if(employee == null){
+            return BigDecimal.ZERO;
+        }
+
+        TransportColumns columns = snapshot.columns();
+        long count = columns.countForEmployee(employeeId, TransportColumns.ANY_STATUS);
+        if(count == 0){
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal totalRevenue = Money.ofCents(columns.sumPriceCentsForEmployee(employeeId, TransportColumns.ANY_STATUS));
+        return totalRevenue.divide(BigDecimal.valueOf(count), RoundingMode.HALF_UP);
+    }
+}
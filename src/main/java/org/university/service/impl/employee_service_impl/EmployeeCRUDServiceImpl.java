@@ -2,6 +2,8 @@ package org.university.service.impl.employee_service_impl;
 
 import org.university.dao.*;
 import org.university.dto.EmployeeDto;
+import org.university.dto.TransportSummary;
+import org.university.dto.VehicleSummary;
 import org.university.entity.*;
 import org.university.exception.DAOException;
 import org.university.service.contract.employee_service.EmployeeCRUDService;
@@ -141,11 +143,9 @@ public class EmployeeCRUDServiceImpl implements EmployeeCRUDService {
             throw new DAOException("Employee with id " + employeeId + " does not exist");
         }
 
-        return vehicleDao.getAllVehicles()
+        return vehicleDao.getVehicleSummariesByEmployee(employeeId)
                 .stream()
-                .filter(vehicle -> vehicle.getEmployee() != null
-                        && vehicle.getEmployee().getId().equals(employeeId))
-                .map(Vehicle::getId)
+                .map(VehicleSummary::id)
                 .collect(Collectors.toSet());
     }
 
@@ -156,11 +156,9 @@ public class EmployeeCRUDServiceImpl implements EmployeeCRUDService {
             throw new DAOException("Employee with id " + employeeId + " does not exist");
         }
 
-        return transportDao.getAllTransports()
+        return transportDao.getTransportSummariesByEmployee(employeeId)
                 .stream()
-                .filter(transport -> transport.getEmployee() != null
-                        && transport.getEmployee().getId().equals(employeeId))
-                .map(Transport::getId)
+                .map(TransportSummary::id)
                 .collect(Collectors.toSet());
     }
 }
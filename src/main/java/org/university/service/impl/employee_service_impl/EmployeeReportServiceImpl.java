@@ -2,9 +2,10 @@ package org.university.service.impl.employee_service_impl;
 
 import org.university.dao.EmployeeDao;
 import org.university.dao.TransportDao;
+import org.university.dto.TransportSummary;
 import org.university.entity.Employee;
-import org.university.entity.Transport;
 import org.university.service.contract.employee_service.EmployeeReportService;
+import org.university.util.Money;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -25,26 +26,18 @@ public class EmployeeReportServiceImpl implements EmployeeReportService {
         if(employee == null){
             return BigDecimal.ZERO;
         }
-        List<Transport> employeeTransports = transportDao
-                .getAllTransports()
-                .stream()
-                .filter(transport ->
-                        transport.getEmployee() != null
-                                && transport.getEmployee().getId().equals(employeeId)
-                                && transport.getId() != null)
-                .toList();
+        List<TransportSummary> employeeTransports = transportDao.getTransportSummariesByEmployee(employeeId);
 
         if(employeeTransports.isEmpty()){
             return BigDecimal.ZERO;
         }
 
-        BigDecimal totalRevenue = employeeTransports.stream()
-                .map(transport -> transport.getTotalPrice()
-                        != null ? transport.getTotalPrice()
-                        : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Money.Sum totalRevenue = Money.sum();
+        for (TransportSummary transport : employeeTransports) {
+            totalRevenue.add(transport.totalPrice());
+        }
 
-        return totalRevenue.divide(BigDecimal.valueOf(employeeTransports.size()), RoundingMode.HALF_UP);
+        return totalRevenue.toBigDecimal().divide(BigDecimal.valueOf(employeeTransports.size()), RoundingMode.HALF_UP);
 
 
     }
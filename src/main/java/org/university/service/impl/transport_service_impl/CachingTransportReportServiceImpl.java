@@ -0,0 +1,122 @@
+package org.university.service.impl.transport_service_impl;
+
+import org.university.analytics.ReportCache;
+import org.university.dto.RankingEntry;
+import org.university.dto.TransportDashboardDto;
+import org.university.dto.TransportSummary;
+import org.university.service.contract.transport_service.TransportReportService;
+import org.university.util.PaymentStatus;
+import org.university.util.RankingMetric;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static org.university.analytics.ReportCache.amount;
+import static org.university.analytics.ReportCache.parameters;
+
+public class CachingTransportReportServiceImpl implements TransportReportService {
+    private final TransportReportService delegate;
+    private final ReportCache cache;
+
+    public CachingTransportReportServiceImpl(TransportReportService delegate, ReportCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public int getTransportsCount() {
+        return cache.get("transport.count", List.of(), transport -> Boolean.TRUE, delegate::getTransportsCount);
+    }
+
+    @Override
+    public BigDecimal getTotalTransportRevenue() {
+        return cache.get("transport.totalRevenue", List.of(), CachingTransportReportServiceImpl::paidAmount,
+                delegate::getTotalTransportRevenue);
+    }
+
+    @Override
+    public Map<Long, Integer> getTransportsCountByDriver() {
+        return cache.get("transport.countByDriver", List.of(), TransportSummary::employeeId,
+                () -> Collections.unmodifiableMap(delegate.getTransportsCountByDriver()));
+    }
+
+    @Override
+    public BigDecimal getCompanyRevenueForAPeriod(Long companyId, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            return delegate.getCompanyRevenueForAPeriod(companyId, startDate, endDate);
+        }
+        return cache.get("transport.companyRevenueForPeriod", parameters(companyId, startDate, endDate),
+                transport -> Objects.equals(companyId, transport.companyId())
+                        && transport.departureDate() != null
+                        && !transport.departureDate().isBefore(startDate)
+                        && !transport.departureDate().isAfter(endDate)
+                        ? paidAmount(transport) : null,
+                () -> delegate.getCompanyRevenueForAPeriod(companyId, startDate, endDate));
+    }
+
+    @Override
+    public Map<Long, BigDecimal> getDriverRevenue() {
+        return cache.get("transport.driverRevenue", List.of(),
+                transport -> transport.employeeId() == null ? null : parameters(transport.employeeId(), paidAmount(transport)),
+                () -> Collections.unmodifiableMap(delegate.getDriverRevenue()));
+    }
+
+    @Override
+    public TransportDashboardDto getDashboard() {
+        return cache.get("transport.dashboard", List.of(),
+                transport -> parameters(transport.companyId(), transport.employeeId(), transport.customerId(),
+                        transport.vehicleId(), transport.paymentStatus(), amount(transport.totalPrice())),
+                delegate::getDashboard);
+    }
+
+    @Override
+    public List<RankingEntry> getTopDrivers(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return cache.get("transport.topDrivers", parameters(metric, limit, status, from, to),
+                ranked(TransportSummary::employeeId, status, from, to),
+                () -> List.copyOf(delegate.getTopDrivers(metric, limit, status, from, to)));
+    }
+
+    @Override
+    public List<RankingEntry> getTopVehicles(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return cache.get("transport.topVehicles", parameters(metric, limit, status, from, to),
+                ranked(TransportSummary::vehicleId, status, from, to),
+                () -> List.copyOf(delegate.getTopVehicles(metric, limit, status, from, to)));
+    }
+
+    @Override
+    public List<RankingEntry> getTopCustomers(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return cache.get("transport.topCustomers", parameters(metric, limit, status, from, to),
+                ranked(TransportSummary::customerId, status, from, to),
+                () -> List.copyOf(delegate.getTopCustomers(metric, limit, status, from, to)));
+    }
+
+    @Override
+    public List<RankingEntry> getTopCompanies(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return cache.get("transport.topCompanies", parameters(metric, limit, status, from, to),
+                ranked(TransportSummary::companyId, status, from, to),
+                () -> List.copyOf(delegate.getTopCompanies(metric, limit, status, from, to)));
+    }
+
+    private static BigDecimal paidAmount(TransportSummary transport) {
+        return transport.paymentStatus() == PaymentStatus.PAID ? amount(transport.totalPrice()) : null;
+    }
+
+    private static Function<TransportSummary, ?> ranked(Function<TransportSummary, Long> owner,
+                                                        PaymentStatus status, LocalDate from, LocalDate to) {
+        return transport -> {
+            LocalDate departure = transport.departureDate();
+            if (owner.apply(transport) == null
+                    || (status != null && transport.paymentStatus() != status)
+                    || (from != null && (departure == null || departure.isBefore(from)))
+                    || (to != null && (departure == null || departure.isAfter(to)))) {
+                return null;
+            }
+            return parameters(owner.apply(transport), amount(transport.totalPrice()));
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package org.university.service.impl.transport_service_impl;
+
+import org.university.analytics.TransportAnalyticsSnapshot;
+import org.university.analytics.TransportColumns;
+import org.university.dao.CompanyDao;
+import org.university.dto.RankingEntry;
+import org.university.dto.TransportDashboardDto;
+import org.university.entity.Company;
+import org.university.exception.DAOException;
+import org.university.service.contract.transport_service.TransportReportService;
+import org.university.util.Money;
+import org.university.util.PaymentStatus;
+import org.university.util.RankingDimension;
+import org.university.util.RankingMetric;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ColumnarTransportReportServiceImpl implements TransportReportService {
+    private static final int PAID = TransportColumns.statusFilter(PaymentStatus.PAID);
+
+    private final TransportAnalyticsSnapshot snapshot;
+    private final CompanyDao companyDao;
+
+    public ColumnarTransportReportServiceImpl(TransportAnalyticsSnapshot snapshot, CompanyDao companyDao) {
+        this.snapshot = snapshot;
+        this.companyDao = companyDao;
+    }
+
+    @Override
+    public int getTransportsCount() {
+        return snapshot.columns().size();
+    }
+
+    @Override
+    public BigDecimal getTotalTransportRevenue() {
+        return Money.ofCents(snapshot.columns().sumPriceCents(PAID));
+    }
+
+    @Override
+    public Map<Long, Integer> getTransportsCountByDriver() {
+        Map<Long, Integer> result = new HashMap<>();
+        snapshot.columns().countByEmployee(TransportColumns.ANY_STATUS)
+                .forEach((driverId, count) -> result.put(driverId, Math.toIntExact(count)));
+        return result;
+    }
+
+    @Override
+    public BigDecimal getCompanyRevenueForAPeriod(Long companyId, LocalDate startDate, LocalDate endDate) {
+        Company company = companyDao.getCompanyById(companyId);
+        if(company == null){
+            throw new DAOException("Company with id " + companyId + " does not exist");
+        }
+
+        long cents = snapshot.columns().sumPriceCentsForCompany(companyId, PAID,
+                Math.toIntExact(startDate.toEpochDay()), Math.toIntExact(endDate.toEpochDay()));
+        return Money.ofCents(cents);
+    }
+
+    @Override
+    public Map<Long, BigDecimal> getDriverRevenue() {
+        Map<Long, BigDecimal> result = new HashMap<>();
+        snapshot.columns().sumPriceCentsByEmployee(PAID)
+                .forEach((driverId, cents) -> result.put(driverId, Money.ofCents(cents)));
+        return result;
+    }
+
+    @Override
+    public TransportDashboardDto getDashboard() {
+        return snapshot.columns().dashboard();
+    }
+
+    @Override
+    public List<RankingEntry> getTopDrivers(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return top(RankingDimension.DRIVER, metric, limit, status, from, to);
+    }
+
+    @Override
+    public List<RankingEntry> getTopVehicles(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return top(RankingDimension.VEHICLE, metric, limit, status, from, to);
+    }
+
+    @Override
+    public List<RankingEntry> getTopCustomers(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return top(RankingDimension.CUSTOMER, metric, limit, status, from, to);
+    }
+
+    @Override
+    public List<RankingEntry> getTopCompanies(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return top(RankingDimension.COMPANY, metric, limit, status, from, to);
+    }
+
+    private List<RankingEntry> top(RankingDimension dimension, RankingMetric metric, int limit,
+                                   PaymentStatus status, LocalDate from, LocalDate to) {
+        if (limit <= 0) {
+            throw new DAOException("Ranking limit must be positive");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new DAOException("Ranking window start must not be after its end");
+        }
+
+        return snapshot.columns().top(dimension, metric, limit, TransportColumns.statusFilter(status),
+                from != null ? Math.toIntExact(from.toEpochDay()) : TransportColumns.NO_DAY,
+                to != null ? Math.toIntExact(to.toEpochDay()) : TransportColumns.NO_DAY);
+    }
+}
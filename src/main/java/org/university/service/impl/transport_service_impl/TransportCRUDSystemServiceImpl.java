@@ -1,12 +1,18 @@
 package org.university.service.impl.transport_service_impl;
 
+import org.university.configuration.UnitOfWork;
 import org.university.dao.*;
 import org.university.dto.TransportDto;
 import org.university.entity.*;
 import org.university.exception.DAOException;
 import org.university.service.contract.transport_service.TransportCRUDSystemService;
+import org.university.validators.ValidationUtil;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class TransportCRUDSystemServiceImpl implements TransportCRUDSystemService {
@@ -26,6 +32,14 @@ public class TransportCRUDSystemServiceImpl implements TransportCRUDSystemServic
 
     @Override
     public Transport mapToEntity(TransportDto transportDto) {
+        return mapToEntity(transportDto, true);
+    }
+
+    /**
+     * With {@code loadReferences} off the company, vehicle, employee and customer are id-only stubs; the DAO checks
+     * that they exist in the same transaction that writes the transport.
+     */
+    private Transport mapToEntity(TransportDto transportDto, boolean loadReferences) {
         Transport transport = new Transport();
         transport.setStartPoint(transportDto.getStartPoint());
         transport.setEndPoint(transportDto.getEndPoint());
@@ -37,37 +51,45 @@ public class TransportCRUDSystemServiceImpl implements TransportCRUDSystemServic
         transport.setPaymentStatus(transportDto.getPaymentStatus());
         transport.setTotalPrice(transportDto.getTotalPrice());
 
-        if(transportDto.getCompanyId() != null){
-            Company company = companyDao.getCompanyById(transportDto.getCompanyId());
-            if(company == null){
-                throw new DAOException("Company with id " + transportDto.getCompanyId() + " does not exist");
-            }
-            transport.setCompany(company);
+        Long companyId = transportDto.getCompanyId();
+        if(companyId != null){
+            transport.setCompany(loadReferences
+                    ? existing(companyDao.getCompanyById(companyId), "Company", companyId)
+                    : stub(new Company(), companyId));
         }
-        if(transportDto.getVehicleId() != null){
-            Vehicle vehicle = vehicleDao.getVehicleById(transportDto.getVehicleId());
-            if(vehicle == null){
-                throw new DAOException("Vehicle with id " + transportDto.getVehicleId() + " does not exist");
-            }
-            transport.setVehicle(vehicle);
+        Long vehicleId = transportDto.getVehicleId();
+        if(vehicleId != null){
+            transport.setVehicle(loadReferences
+                    ? existing(vehicleDao.getVehicleById(vehicleId), "Vehicle", vehicleId)
+                    : stub(new Vehicle(), vehicleId));
         }
-        if(transportDto.getEmployeeId() != null){
-            Employee employee = employeeDao.getEmployeeById(transportDto.getEmployeeId());
-            if(employee == null){
-                throw new DAOException("Employee with id " + transportDto.getEmployeeId() + " does not exist");
-            }
-            transport.setEmployee(employee);
+        Long employeeId = transportDto.getEmployeeId();
+        if(employeeId != null){
+            transport.setEmployee(loadReferences
+                    ? existing(employeeDao.getEmployeeById(employeeId), "Employee", employeeId)
+                    : stub(new Employee(), employeeId));
         }
-        if(transportDto.getCustomerId() != null){
-            Customer customer = customerDao.getCustomerById(transportDto.getCustomerId());
-            if(customer == null){
-                throw new DAOException("Customer with id " + transportDto.getCustomerId() + " does not exist");
-            }
-            transport.setCustomer(customer);
+        Long customerId = transportDto.getCustomerId();
+        if(customerId != null){
+            transport.setCustomer(loadReferences
+                    ? existing(customerDao.getCustomerById(customerId), "Customer", customerId)
+                    : stub(new Customer(), customerId));
         }
         return transport;
     }
 
+    private static <T extends BaseEntity> T existing(T entity, String type, Long id) {
+        if(entity == null){
+            throw new DAOException(type + " with id " + id + " does not exist");
+        }
+        return entity;
+    }
+
+    private static <T extends BaseEntity> T stub(T entity, Long id) {
+        entity.setId(id);
+        return entity;
+    }
+
     @Override
     public TransportDto mapToDto(Transport transport) {
         TransportDto transportDto = new TransportDto();
@@ -100,9 +122,38 @@ public class TransportCRUDSystemServiceImpl implements TransportCRUDSystemServic
 
     @Override
     public TransportDto createTransport(TransportDto transportDto) throws DAOException {
-        Transport transport = mapToEntity(transportDto);
-        transportDao.createTransport(transport);
-        return mapToDto(transport);
+        return UnitOfWork.execute(() -> {
+            Transport transport = mapToEntity(transportDto, false);
+            transportDao.createTransport(transport);
+            return mapToDto(transport);
+        });
+    }
+
+    @Override
+    public List<TransportDto> createTransports(Collection<TransportDto> transportDtos) throws DAOException {
+        if(transportDtos == null || transportDtos.isEmpty()){
+            return List.of();
+        }
+
+        List<Transport> transports = new ArrayList<>(transportDtos.size());
+        List<String> errors = new ArrayList<>();
+        int index = 0;
+        for(TransportDto transportDto : transportDtos){
+            Transport transport = mapToEntity(transportDto, false);
+            for(String violation : ValidationUtil.validate(transport)){
+                errors.add("Transport #" + index + ": " + violation);
+            }
+            transports.add(transport);
+            index++;
+        }
+        if(!errors.isEmpty()){
+            throw new DAOException("Invalid transports: " + String.join("; ", errors));
+        }
+
+        transportDao.createTransports(transports);
+        return transports.stream()
+                .map(this::mapToDto)
+                .toList();
     }
 
     @Override
@@ -123,72 +174,40 @@ public class TransportCRUDSystemServiceImpl implements TransportCRUDSystemServic
     }
 
     @Override
-    public TransportDto updateTransport(Long id, TransportDto transportDto) throws DAOException {
-        Transport transport = transportDao.getTransportById(id);
-        if(transport == null) {
-            throw new DAOException("Transport with id " + id + " does not exist");
-        }
-        transport.setStartPoint(transportDto.getStartPoint());
-        transport.setEndPoint(transportDto.getEndPoint());
-        transport.setDepartureDate(transportDto.getDepartureDate());
-        transport.setArrivalDate(transportDto.getArrivalDate());
-        transport.setCargoType(transportDto.getCargoType());
-        transport.setQuantity(transportDto.getQuantity());
-        transport.setInitPrice(transportDto.getInitPrice());
-        transport.setPaymentStatus(transportDto.getPaymentStatus());
-        transport.setTotalPrice(transportDto.getTotalPrice());
+    public void forEachTransport(Consumer<TransportDto> consumer) throws DAOException {
+        transportDao.forEachTransport(transport -> consumer.accept(mapToDto(transport)));
+    }
 
-        if(transportDto.getCompanyId() != null){
-            Company company = companyDao.getCompanyById(transportDto.getCompanyId());
-            if(company == null){
-                throw new DAOException("Company with id " + transportDto.getCompanyId() + " does not exist");
-            }
-            transport.setCompany(company);
-        }
-        else{
-            transport.setCompany(null);
-        }
-        if(transportDto.getVehicleId() != null){
-            Vehicle vehicle = vehicleDao.getVehicleById(transportDto.getVehicleId());
-            if(vehicle == null){
-                throw new DAOException("Vehicle with id " + transportDto.getVehicleId() + " does not exist");
-            }
-            transport.setVehicle(vehicle);
-        }
-        else{
-            transport.setVehicle(null);
-        }
-        if(transportDto.getEmployeeId() != null){
-            Employee employee = employeeDao.getEmployeeById(transportDto.getEmployeeId());
-            if(employee == null){
-                throw new DAOException("Employee with id " + transportDto.getEmployeeId() + " does not exist");
-            }
-            transport.setEmployee(employee);
-        }
-        else{
-            transport.setEmployee(null);
-        }
-        if(transportDto.getCustomerId() != null){
-            Customer customer = customerDao.getCustomerById(transportDto.getCustomerId());
-            if(customer == null){
-                throw new DAOException("Customer with id " + transportDto.getCustomerId() + " does not exist");
-            }
-            transport.setCustomer(customer);
-        }else{
-            transport.setCustomer(null);
-        }
+    @Override
+    public void forEachTransport(int fetchSize, Consumer<TransportDto> consumer) throws DAOException {
+        transportDao.forEachTransport(fetchSize, transport -> consumer.accept(mapToDto(transport)));
+    }
 
-        transportDao.updateTransport(id, transport);
-        return mapToDto(transport);
+    @Override
+    public TransportDto updateTransport(Long id, TransportDto transportDto) throws DAOException {
+        return UnitOfWork.execute(() -> {
+            Transport transport = transportDao.getTransportById(id);
+            if(transport == null) {
+                throw new DAOException("Transport with id " + id + " does not exist");
+            }
+            // The DAO diffs the stored row against this copy for the ledger, the place index and change listeners,
+            // so the managed instance must reach it unmodified.
+            Transport updated = mapToEntity(transportDto, false);
+            transportDao.updateTransport(id, updated);
+            updated.setId(id);
+            return mapToDto(updated);
+        });
     }
 
     @Override
     public void deleteTransport(Long id) throws DAOException {
-        Transport transport = transportDao.getTransportById(id);
-        if(transport == null) {
-            throw new DAOException("Transport with id " + id + " does not exist");
-        }
-        transportDao.deleteTransport(id);
+        UnitOfWork.run(() -> {
+            Transport transport = transportDao.getTransportById(id);
+            if(transport == null) {
+                throw new DAOException("Transport with id " + id + " does not exist");
+            }
+            transportDao.deleteTransport(id);
+        });
     }
 
     @Override
@@ -0,0 +1,138 @@
+package org.university.service.impl.transport_service_impl;
+
+import org.university.dao.TransportDao;
+import org.university.dto.TransportExportFilter;
+import org.university.exception.DAOException;
+import org.university.export.ExportProgress;
+import org.university.export.TransportExportWriter;
+import org.university.service.contract.transport_service.TransportExportService;
+import org.university.util.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+public class TransportExportServiceImpl implements TransportExportService {
+    public static final int DEFAULT_FETCH_SIZE = 1_000;
+    public static final long DEFAULT_PROGRESS_INTERVAL = 10_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TransportDao transportDao;
+    private final int fetchSize;
+    private final long progressInterval;
+
+    public TransportExportServiceImpl(TransportDao transportDao) {
+        this(transportDao, DEFAULT_FETCH_SIZE, DEFAULT_PROGRESS_INTERVAL);
+    }
+
+    public TransportExportServiceImpl(TransportDao transportDao, int fetchSize, long progressInterval) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("Fetch size must be positive");
+        }
+        if (progressInterval <= 0) {
+            throw new IllegalArgumentException("Progress interval must be positive");
+        }
+        this.transportDao = transportDao;
+        this.fetchSize = fetchSize;
+        this.progressInterval = progressInterval;
+    }
+
+    // Rows are written as they are scrolled, so memory use does not depend on the size of the export.
+    // The caller keeps ownership of the stream: it is flushed but not closed.
+    @Override
+    public ExportProgress exportTransports(TransportExportFilter filter, ExportFormat format, boolean gzip,
+                                           OutputStream out, Consumer<ExportProgress> progressListener) throws DAOException {
+        TransportExportFilter criteria = filter == null ? TransportExportFilter.builder().build() : filter;
+        long startedAt = System.nanoTime();
+        long[] rows = new long[1];
+
+        try {
+            OutputStream target = new RetainedOutputStream(out);
+            if (gzip) {
+                target = new GZIPOutputStream(target, BUFFER_SIZE);
+            }
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                TransportExportWriter exportWriter = TransportExportWriter.of(format, writer);
+                exportWriter.writeHeader();
+                transportDao.forEachTransportDto(criteria, fetchSize, transport -> {
+                    try {
+                        exportWriter.write(transport);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    if (++rows[0] % progressInterval == 0 && progressListener != null) {
+                        progressListener.accept(new ExportProgress(rows[0], System.nanoTime() - startedAt));
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new DAOException("Error exporting transports: " + e.getMessage());
+        }
+
+        ExportProgress result = new ExportProgress(rows[0], System.nanoTime() - startedAt);
+        if (progressListener != null) {
+            progressListener.accept(result);
+        }
+        return result;
+    }
+
+    @Override
+    public ExportProgress exportTransports(TransportExportFilter filter, ExportFormat format, boolean gzip,
+                                           Path target, Consumer<ExportProgress> progressListener) throws DAOException {
+        OutputStream out;
+        try {
+            out = Files.newOutputStream(target);
+        } catch (IOException e) {
+            throw new DAOException("Error writing transport export to file " + target + ": " + e.getMessage());
+        }
+        boolean completed = false;
+        try {
+            ExportProgress progress;
+            try (out) {
+                progress = exportTransports(filter, format, gzip, out, progressListener);
+            }
+            completed = true;
+            return progress;
+        } catch (IOException e) {
+            throw new DAOException("Error writing transport export to file " + target + ": " + e.getMessage());
+        } finally {
+            if (!completed) {
+                deletePartialExport(target);
+            }
+        }
+    }
+
+    // A truncated file would pass for a complete export, so a failed one is not left behind
+    private static void deletePartialExport(Path target) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException ignored) {
+            // The export failure is what the caller needs to see
+        }
+    }
+
+    private static final class RetainedOutputStream extends FilterOutputStream {
+        private RetainedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package org.university.service.impl.transport_service_impl;
 
+import org.university.archive.TransportArchive;
+import org.university.codec.BinaryTransportFileFormat;
+import org.university.codec.SerializedTransportFileFormat;
+import org.university.codec.TransportFileFormat;
 import org.university.dto.TransportDto;
 import org.university.exception.DAOException;
 import org.university.service.contract.transport_service.TransportFileService;
@@ -9,11 +13,27 @@ import java.io.*;
 
 public class TransportFileServiceImpl implements TransportFileService {
     private static final String directory_path = "src/main/java/org/university/transport_files";
+    private static final TransportFileFormat LEGACY_FORMAT = new SerializedTransportFileFormat();
 
     private final TransportGeneralService transportGeneralService;
+    private final TransportFileFormat format;
+    private final TransportArchive archive;
 
     public TransportFileServiceImpl(TransportGeneralService transportGeneralService) {
+        this(transportGeneralService, new BinaryTransportFileFormat());
+    }
+
+    public TransportFileServiceImpl(TransportGeneralService transportGeneralService, TransportFileFormat format) {
+        this.transportGeneralService = transportGeneralService;
+        this.format = format;
+        this.archive = null;
+    }
+
+    // Archive mode: transports are appended to the archive, single files are only read as a fallback
+    public TransportFileServiceImpl(TransportGeneralService transportGeneralService, TransportArchive archive) {
         this.transportGeneralService = transportGeneralService;
+        this.format = new BinaryTransportFileFormat();
+        this.archive = archive;
     }
 
     @Override
@@ -23,37 +43,64 @@ public class TransportFileServiceImpl implements TransportFileService {
             throw new DAOException("Transport with id " + transportId + " does not exist");
         }
 
+        if(archive != null){
+            try{
+                archive.append(transportDto);
+            }catch (IOException e){
+                throw new DAOException("Error writing transport " + transportId + " to archive: " + e.getMessage());
+            }
+            return;
+        }
+
         File dir = new File(directory_path);
         if(!dir.exists() || !dir.isDirectory()){
             throw new DAOException("Directory " + directory_path + " does not exist");
         }
 
-        String filePath = directory_path + File.separator + "transport_" + transportDto.getId() + ".ser";
+        String filePath = filePath(transportDto.getId(), format);
 
-        try(ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filePath))){
-            oos.writeObject(transportDto);
+        try(OutputStream out = new BufferedOutputStream(new FileOutputStream(filePath))){
+            format.write(transportDto, out);
         }catch (IOException e){
             throw new DAOException("Error writing transport to file: " + filePath);
         }
 
     }
 
+    // Files written before the format became pluggable are still read through the legacy format
     @Override
     public TransportDto loadTransportsFromFile(Long transportId) throws DAOException {
-        String filePath = directory_path + File.separator + "transport_" + transportId + ".ser";
+        if(archive != null){
+            try{
+                TransportDto archived = archive.read(transportId);
+                if(archived != null){
+                    return archived;
+                }
+            }catch (IOException e){
+                throw new DAOException("Error reading transport " + transportId + " from archive: " + e.getMessage());
+            }
+        }
+
+        TransportFileFormat fileFormat = format;
+        String filePath = filePath(transportId, fileFormat);
         File file = new File(filePath);
+        if(!file.exists() && !format.extension().equals(LEGACY_FORMAT.extension())){
+            fileFormat = LEGACY_FORMAT;
+            filePath = filePath(transportId, fileFormat);
+            file = new File(filePath);
+        }
         if(!file.exists()){
-            throw new DAOException("File " + filePath + " does not exist");
+            throw new DAOException("File " + filePath(transportId, format) + " does not exist");
         }
 
-        try(ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))){
-            Object object = ois.readObject();
-            if(!(object instanceof TransportDto transportDto)) {
-                throw new DAOException("File " + filePath + " does not contain transport data");
-            }
-            return transportDto;
+        try(InputStream in = new BufferedInputStream(new FileInputStream(file))){
+            return fileFormat.read(in);
         }catch(Exception e){
             throw new DAOException("Error reading transport from file: " + filePath);
         }
     }
+
+    private static String filePath(Long transportId, TransportFileFormat fileFormat) {
+        return directory_path + File.separator + "transport_" + transportId + "." + fileFormat.extension();
+    }
 }
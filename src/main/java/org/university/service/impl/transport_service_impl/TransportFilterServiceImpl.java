@@ -3,6 +3,7 @@ package org.university.service.impl.transport_service_impl;
 import org.university.dao.TransportDao;
 import org.university.entity.Transport;
 import org.university.service.contract.transport_service.TransportFilterService;
+import org.university.util.TransportPlace;
 
 import java.util.List;
 
@@ -21,4 +22,20 @@ public class TransportFilterServiceImpl implements TransportFilterService {
         String managedDestination = destination.trim().toLowerCase();
         return transportDao.filterByDestination(managedDestination);
     }
+
+    @Override
+    public List<Transport> searchTransportsByPlace(TransportPlace place, String fragment) {
+        if(place == null || fragment == null || fragment.isBlank()){
+            return List.of();
+        }
+        return transportDao.searchByPlace(place, fragment.trim().toLowerCase());
+    }
+
+    @Override
+    public List<Transport> searchTransportsByPlacePrefix(TransportPlace place, String prefix) {
+        if(place == null || prefix == null || prefix.isBlank()){
+            return List.of();
+        }
+        return transportDao.searchByPlacePrefix(place, prefix.trim());
+    }
 }
@@ -1,15 +1,24 @@
 package org.university.service.impl.transport_service_impl;
 
+import org.university.dto.RankingEntry;
+import org.university.dto.SettlementSummaryDto;
+import org.university.dto.TransportDashboardDto;
 import org.university.dto.TransportDto;
 import org.university.entity.Transport;
 import org.university.exception.DAOException;
 import org.university.service.contract.transport_service.*;
+import org.university.util.PaymentStatus;
+import org.university.util.RankingMetric;
+import org.university.util.SettlementMode;
+import org.university.util.TransportPlace;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public class TransportGeneralServiceImpl implements TransportGeneralService {
     private final TransportCRUDSystemService crud;
@@ -44,6 +53,11 @@ public class TransportGeneralServiceImpl implements TransportGeneralService {
         return crud.createTransport(transportDto);
     }
 
+    @Override
+    public List<TransportDto> createTransports(Collection<TransportDto> transportDtos) throws DAOException {
+        return crud.createTransports(transportDtos);
+    }
+
     @Override
     public TransportDto getTransportById(Long id) throws DAOException {
         return crud.getTransportById(id);
@@ -54,6 +68,16 @@ public class TransportGeneralServiceImpl implements TransportGeneralService {
         return crud.getAllTransports();
     }
 
+    @Override
+    public void forEachTransport(Consumer<TransportDto> consumer) throws DAOException {
+        crud.forEachTransport(consumer);
+    }
+
+    @Override
+    public void forEachTransport(int fetchSize, Consumer<TransportDto> consumer) throws DAOException {
+        crud.forEachTransport(fetchSize, consumer);
+    }
+
     @Override
     public TransportDto updateTransport(Long id, TransportDto transportDto) throws DAOException {
         return crud.updateTransport(id, transportDto);
@@ -91,11 +115,26 @@ public class TransportGeneralServiceImpl implements TransportGeneralService {
         return filter.filterTransportsByDestination(destination);
     }
 
+    @Override
+    public List<Transport> searchTransportsByPlace(TransportPlace place, String fragment) {
+        return filter.searchTransportsByPlace(place, fragment);
+    }
+
+    @Override
+    public List<Transport> searchTransportsByPlacePrefix(TransportPlace place, String prefix) {
+        return filter.searchTransportsByPlacePrefix(place, prefix);
+    }
+
     @Override
     public void markTransportAsPaid(Long transportId) {
         payment.markTransportAsPaid(transportId);
     }
 
+    @Override
+    public boolean tryPayTransport(Long transportId) throws DAOException {
+        return payment.tryPayTransport(transportId);
+    }
+
     @Override
     public BigDecimal calculateCustomerDebt(Long customerId) throws DAOException {
         return payment.calculateCustomerDebt(customerId);
@@ -111,6 +150,16 @@ public class TransportGeneralServiceImpl implements TransportGeneralService {
         return payment.getUnpaidTransportIdsForCustomer(customerId);
     }
 
+    @Override
+    public SettlementSummaryDto settleCustomer(Long customerId, SettlementMode mode) throws DAOException {
+        return payment.settleCustomer(customerId, mode);
+    }
+
+    @Override
+    public SettlementSummaryDto settleCustomers(Collection<Long> customerIds, SettlementMode mode) throws DAOException {
+        return payment.settleCustomers(customerIds, mode);
+    }
+
     @Override
     public BigDecimal calculateTotalPrice(Transport transport) throws DAOException {
         return pricing.calculateTotalPrice(transport);
@@ -145,4 +194,29 @@ public class TransportGeneralServiceImpl implements TransportGeneralService {
     public Map<Long, BigDecimal> getDriverRevenue() {
         return report.getDriverRevenue();
     }
+
+    @Override
+    public TransportDashboardDto getDashboard() {
+        return report.getDashboard();
+    }
+
+    @Override
+    public List<RankingEntry> getTopDrivers(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return report.getTopDrivers(metric, limit, status, from, to);
+    }
+
+    @Override
+    public List<RankingEntry> getTopVehicles(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return report.getTopVehicles(metric, limit, status, from, to);
+    }
+
+    @Override
+    public List<RankingEntry> getTopCustomers(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return report.getTopCustomers(metric, limit, status, from, to);
+    }
+
+    @Override
+    public List<RankingEntry> getTopCompanies(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return report.getTopCompanies(metric, limit, status, from, to);
+    }
 }
@@ -2,15 +2,18 @@ package org.university.service.impl.transport_service_impl;
 
 import org.university.dao.CustomerDao;
 import org.university.dao.TransportDao;
+import org.university.dto.SettlementSummaryDto;
 import org.university.entity.Customer;
 import org.university.entity.Transport;
 import org.university.exception.DAOException;
 import org.university.service.contract.transport_service.TransportPaymentSystemService;
 import org.university.util.PaymentStatus;
+import org.university.util.SettlementMode;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class TransportPaymentSystemServiceImpl implements TransportPaymentSystemService {
     private final TransportDao transportDao;
@@ -23,6 +26,10 @@ public class TransportPaymentSystemServiceImpl implements TransportPaymentSystem
 
     @Override
     public void markTransportAsPaid(Long transportId) throws DAOException{
+        if (tryPayTransport(transportId)) {
+            return;
+        }
+
         Transport transport = transportDao.getTransportById(transportId);
         if (transport == null) {
             throw new DAOException("Transport with id " + transportId + " does not exist");
@@ -32,17 +39,20 @@ public class TransportPaymentSystemServiceImpl implements TransportPaymentSystem
             return;
         }
 
-        Customer customer = customerDao.getCustomerById(transport.getCustomer().getId());
-
-        BigDecimal budget = customer.getBudget() == null ? BigDecimal.ZERO : customer.getBudget();
+        if (transport.getCustomer() == null) {
+            throw new DAOException("Transport with id " + transportId + " has no customer");
+        }
 
-        if(budget.compareTo(transport.getTotalPrice()) < 0){
-            throw new DAOException("Customer budget is not enough to pay transport with id " + transportId);
+        if (transport.getTotalPrice() == null) {
+            throw new DAOException("Transport with id " + transportId + " has no price");
         }
 
-        customer.setBudget(budget.subtract(transport.getTotalPrice()));
-        transportDao.updatePaymentStatus(transportId, PaymentStatus.PAID);
-        customerDao.updateCustomer(transport.getCustomer().getId(), customer);
+        throw new DAOException("Customer budget is not enough to pay transport with id " + transportId);
+    }
+
+    @Override
+    public boolean tryPayTransport(Long transportId) throws DAOException {
+        return transportDao.payTransport(transportId);
     }
 
     @Override
@@ -52,21 +62,11 @@ public class TransportPaymentSystemServiceImpl implements TransportPaymentSystem
             throw new DAOException("Customer with id " + customerId + " does not exist");
         }
 
-        return transportDao.getAllTransports()
-                .stream()
-                .filter(transport -> transport.getCustomer() != null
-                        && transport.getCustomer().getId().equals(customerId)
-                        && transport.getPaymentStatus() == PaymentStatus.NOT_PAID)
-                .map(transport -> transport.getTotalPrice() == null ? BigDecimal.ZERO : transport.getTotalPrice())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return transportDao.sumPriceByCustomerAndStatus(customerId, PaymentStatus.NOT_PAID);
     }
 
     @Override
     public void paySingleTransport(Long transportId) throws DAOException {
-        Transport transport = transportDao.getTransportById(transportId);
-        if (transport == null) {
-            throw new DAOException("Transport with id " + transportId + " does not exist");
-        }
         markTransportAsPaid(transportId);
     }
 
@@ -77,12 +77,22 @@ public class TransportPaymentSystemServiceImpl implements TransportPaymentSystem
             throw new DAOException("Customer with id " + customerId + " does not exist");
         }
 
-        return transportDao.getAllTransports()
-                .stream()
-                .filter(transport -> transport.getCustomer() != null
-                        && transport.getCustomer().getId().equals(customerId)
-                        && transport.getPaymentStatus() == PaymentStatus.NOT_PAID)
-                .map(Transport::getId)
-                .collect(Collectors.toSet());
+        return transportDao.getTransportIdsByCustomerAndStatus(customerId, PaymentStatus.NOT_PAID);
+    }
+
+    @Override
+    public SettlementSummaryDto settleCustomer(Long customerId, SettlementMode mode) throws DAOException {
+        return settleCustomers(List.of(customerId), mode);
+    }
+
+    @Override
+    public SettlementSummaryDto settleCustomers(Collection<Long> customerIds, SettlementMode mode) throws DAOException {
+        if (customerIds == null || customerIds.isEmpty()) {
+            return new SettlementSummaryDto(mode);
+        }
+        if (mode == null) {
+            throw new DAOException("Settlement mode must not be null");
+        }
+        return transportDao.settleCustomers(customerIds, mode);
     }
 }
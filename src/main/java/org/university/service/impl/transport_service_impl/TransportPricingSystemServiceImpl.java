@@ -3,6 +3,7 @@ package org.university.service.impl.transport_service_impl;
 import org.university.entity.Transport;
 import org.university.exception.DAOException;
 import org.university.service.contract.transport_service.TransportPricingSystemService;
+import org.university.util.Money;
 
 import java.math.BigDecimal;
 
@@ -22,16 +23,13 @@ public class TransportPricingSystemServiceImpl implements TransportPricingSystem
             throw new DAOException("Cargo type cannot be null");
         }
 
-        BigDecimal coefficient = switch (transport.getCargoType()) {
-            case GOODS -> new BigDecimal("1.50");
-            case PASSENGERS -> new BigDecimal("1.35");
-            case ADR -> new BigDecimal("2.00");
+        long coefficientCents = switch (transport.getCargoType()) {
+            case GOODS -> 150;
+            case PASSENGERS -> 135;
+            case ADR -> 200;
         };
 
-        BigDecimal total = transport.getInitPrice()
-                .multiply(transport.getQuantity())
-                .multiply(coefficient)
-                .setScale(2, java.math.RoundingMode.HALF_UP);
+        BigDecimal total = Money.multiplyAndRound(transport.getInitPrice(), transport.getQuantity(), coefficientCents);
 
         transport.setTotalPrice(total);
         return total;
@@ -1,58 +1,55 @@
 package org.university.service.impl.transport_service_impl;
 
+import org.university.analytics.TransportDashboardAccumulator;
 import org.university.dao.CompanyDao;
+import org.university.dao.RevenueLedgerDao;
 import org.university.dao.TransportDao;
+import org.university.dto.RankingEntry;
+import org.university.dto.TransportDashboardDto;
 import org.university.entity.Company;
-import org.university.entity.Transport;
 import org.university.exception.DAOException;
 import org.university.service.contract.transport_service.TransportReportService;
+import org.university.util.LedgerScope;
 import org.university.util.PaymentStatus;
+import org.university.util.RankingDimension;
+import org.university.util.RankingMetric;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class TransportReportServiceImpl implements TransportReportService {
     private final TransportDao transportDao;
     private final CompanyDao companyDao;
+    private final RevenueLedgerDao revenueLedgerDao;
 
-    public TransportReportServiceImpl(TransportDao transportDao, CompanyDao companyDao) {
+    public TransportReportServiceImpl(TransportDao transportDao, CompanyDao companyDao, RevenueLedgerDao revenueLedgerDao) {
         this.transportDao = transportDao;
         this.companyDao = companyDao;
+        this.revenueLedgerDao = revenueLedgerDao;
     }
 
     @Override
     public int getTransportsCount() {
-        return transportDao.getAllTransports().size();
+        return Math.toIntExact(transportDao.countTransports());
     }
 
     @Override
     public BigDecimal getTotalTransportRevenue() {
-        return transportDao.getAllTransports()
-                .stream()
-                .filter(t -> t.getPaymentStatus() == PaymentStatus.PAID)
-                .map(transport -> {
-                    BigDecimal price = transport.getTotalPrice();
-                    return price != null ? price : BigDecimal.ZERO;
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return transportDao.sumRevenueByStatus(PaymentStatus.PAID);
     }
 
     @Override
     public Map<Long, Integer> getTransportsCountByDriver() {
-        return transportDao.getAllTransports()
-                .stream()
-                .filter(transport -> transport.getEmployee() != null
-                && transport.getEmployee().getId() != null)
-                .collect(Collectors.groupingBy(
-                        transport -> transport.getEmployee().getId(),
-                        Collectors.collectingAndThen(
-                                Collectors.counting(),
-                                Long::intValue
-                        )
-                ));
+        Map<Long, Integer> result = new HashMap<>();
+        revenueLedgerDao.getEntries(LedgerScope.DRIVER).forEach((driverId, entry) -> {
+            if (entry.getTransportCount() > 0) {
+                result.put(Long.valueOf(driverId), Math.toIntExact(entry.getTransportCount()));
+            }
+        });
+        return result;
     }
 
     @Override
@@ -62,40 +59,44 @@ public class TransportReportServiceImpl implements TransportReportService {
             throw new DAOException("Company with id " + companyId + " does not exist");
         }
 
-        return transportDao.getAllTransports()
-                .stream()
-                .filter(transport -> transport.getCompany() != null
-                && transport.getCompany().getId().equals(companyId))
-                .filter(t -> t.getPaymentStatus() == PaymentStatus.PAID)
-                .filter(transport -> {
-                    LocalDate transportDate = transport.getDepartureDate();
-                    return transportDate != null
-                            && !transportDate.isBefore(startDate)
-                            && !transportDate.isAfter(endDate);
-                })
-                .map(transport -> {
-                    BigDecimal price = transport.getTotalPrice();
-                    return price != null ? price : BigDecimal.ZERO;
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return revenueLedgerDao.sumCompanyPaidRevenue(companyId, startDate, endDate);
     }
 
     @Override
     public Map<Long, BigDecimal> getDriverRevenue() {
         Map<Long, BigDecimal> result = new HashMap<>();
-        for(Transport transport : transportDao.getAllTransports()){
-            if(transport.getEmployee() == null
-                    || transport.getEmployee().getId() == null
-                    || transport.getPaymentStatus() != PaymentStatus.PAID){
-                continue;
-            }
-            Long driverId = transport.getEmployee().getId();
-            BigDecimal driverRevenue = transport.getTotalPrice();
-            if(driverRevenue == null){
-                driverRevenue = BigDecimal.ZERO;
+        revenueLedgerDao.getEntries(LedgerScope.DRIVER).forEach((driverId, entry) -> {
+            if (entry.getPaidCount() > 0) {
+                result.put(Long.valueOf(driverId), entry.getPaidAmount());
             }
-            result.merge(driverId, driverRevenue, BigDecimal::add);
-        }
+        });
         return result;
     }
+
+    @Override
+    public TransportDashboardDto getDashboard() {
+        TransportDashboardAccumulator accumulator = new TransportDashboardAccumulator();
+        transportDao.getDashboardGroups().forEach(accumulator::add);
+        return accumulator.build();
+    }
+
+    @Override
+    public List<RankingEntry> getTopDrivers(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return transportDao.getTopRanked(RankingDimension.DRIVER, metric, limit, status, from, to);
+    }
+
+    @Override
+    public List<RankingEntry> getTopVehicles(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return transportDao.getTopRanked(RankingDimension.VEHICLE, metric, limit, status, from, to);
+    }
+
+    @Override
+    public List<RankingEntry> getTopCustomers(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return transportDao.getTopRanked(RankingDimension.CUSTOMER, metric, limit, status, from, to);
+    }
+
+    @Override
+    public List<RankingEntry> getTopCompanies(RankingMetric metric, int limit, PaymentStatus status, LocalDate from, LocalDate to) {
+        return transportDao.getTopRanked(RankingDimension.COMPANY, metric, limit, status, from, to);
+    }
 }
@@ -0,0 +1,49 @@
+package org.university.service.impl.vehicle_service_impl;
+
+import org.university.analytics.TransportAnalyticsSnapshot;
+import org.university.analytics.TransportColumns;
+import org.university.dao.VehicleDao;
+import org.university.entity.Vehicle;
+import org.university.exception.DAOException;
+import org.university.service.contract.vehicle_service.VehicleReportService;
+import org.university.util.Money;
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class ColumnarVehicleReportServiceImpl implements VehicleReportService {
+    private final VehicleDao vehicleDao;
+    private final TransportAnalyticsSnapshot snapshot;
+
+    public ColumnarVehicleReportServiceImpl(VehicleDao vehicleDao, TransportAnalyticsSnapshot snapshot) {
+        this.vehicleDao = vehicleDao;
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public BigDecimal getRevenueByVehicleType(VehicleType type) {
+        if(type == null){
+            return BigDecimal.ZERO;
+        }
+
+        return Money.ofCents(snapshot.columns().sumPriceCentsForVehicleType(type, TransportColumns.ANY_STATUS));
+    }
+
+    @Override
+    public BigDecimal getAverageRevenueForAVehiclePerTransport(Long vehicleId) throws DAOException{
+        Vehicle vehicle = vehicleDao.getVehicleById(vehicleId);
+        if(vehicle == null){
+            throw new DAOException("Vehicle with id " + vehicleId + " does not exist");
+        }
+
+        TransportColumns columns = snapshot.columns();
+        long count = columns.countForVehicle(vehicleId, TransportColumns.ANY_STATUS);
+        if(count == 0){
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal total = Money.ofCents(columns.sumPriceCentsForVehicle(vehicleId, TransportColumns.ANY_STATUS));
+        return total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+}
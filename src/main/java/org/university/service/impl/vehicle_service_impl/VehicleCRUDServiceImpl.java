@@ -4,10 +4,10 @@ import org.university.dao.CompanyDao;
 import org.university.dao.EmployeeDao;
 import org.university.dao.TransportDao;
 import org.university.dao.VehicleDao;
+import org.university.dto.TransportSummary;
 import org.university.dto.VehicleDto;
 import org.university.entity.Company;
 import org.university.entity.Employee;
-import org.university.entity.Transport;
 import org.university.entity.Vehicle;
 import org.university.exception.DAOException;
 import org.university.service.contract.vehicle_service.VehicleCRUDService;
@@ -165,11 +165,9 @@ public class VehicleCRUDServiceImpl implements VehicleCRUDService {
             throw new DAOException("Vehicle with id " + vehicleId + " does not exist");
         }
 
-        return transportDao.getAllTransports()
+        return transportDao.getTransportSummariesByVehicle(vehicleId)
                 .stream()
-                .filter(transport -> transport.getVehicle() != null
-                && transport.getVehicle().getId().equals(vehicleId))
-                .map(Transport::getId)
+                .map(TransportSummary::id)
                 .collect(Collectors.toSet());
     }
 }
@@ -1,24 +1,24 @@
 package org.university.service.impl.vehicle_service_impl;
 
-import org.university.dao.TransportDao;
+import org.university.dao.RevenueLedgerDao;
 import org.university.dao.VehicleDao;
-import org.university.entity.Transport;
+import org.university.entity.RevenueLedgerEntry;
 import org.university.entity.Vehicle;
 import org.university.exception.DAOException;
 import org.university.service.contract.vehicle_service.VehicleReportService;
+import org.university.util.LedgerScope;
 import org.university.util.VehicleType;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.List;
 
 public class VehicleReportServiceImpl implements VehicleReportService {
     private final VehicleDao vehicleDao;
-    private final TransportDao transportDao;
+    private final RevenueLedgerDao revenueLedgerDao;
 
-    public VehicleReportServiceImpl(VehicleDao vehicleDao, TransportDao transportDao) {
+    public VehicleReportServiceImpl(VehicleDao vehicleDao, RevenueLedgerDao revenueLedgerDao) {
         this.vehicleDao = vehicleDao;
-        this.transportDao = transportDao;
+        this.revenueLedgerDao = revenueLedgerDao;
     }
 
     @Override
@@ -27,16 +27,8 @@ public class VehicleReportServiceImpl implements VehicleReportService {
             return BigDecimal.ZERO;
         }
 
-        return transportDao.getAllTransports()
-                .stream()
-                .filter(transport ->
-                        transport.getVehicle() != null
-                && transport.getVehicle().getVehicleType() == type)
-                .map(transport -> {
-                    BigDecimal price = transport.getTotalPrice();
-                    return price != null ? price : BigDecimal.ZERO;
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        RevenueLedgerEntry entry = revenueLedgerDao.getEntry(LedgerScope.VEHICLE_TYPE, type.name());
+        return entry != null ? entry.getBilledAmount() : BigDecimal.ZERO;
     }
 
     @Override
@@ -45,25 +37,12 @@ public class VehicleReportServiceImpl implements VehicleReportService {
         if(vehicle == null){
             throw new DAOException("Vehicle with id " + vehicleId + " does not exist");
         }
-        List<Transport> transportList = transportDao.getAllTransports()
-                .stream()
-                .filter(transport ->
-                        transport.getVehicle() != null
-                                && transport.getId() != null
-                                &&transport.getVehicle().getId().equals(vehicleId))
-                .toList();
 
-        if(transportList.isEmpty()){
+        RevenueLedgerEntry entry = revenueLedgerDao.getEntry(LedgerScope.VEHICLE, vehicleId);
+        if(entry == null || entry.getTransportCount() == 0){
             return BigDecimal.ZERO;
         }
 
-        BigDecimal total = transportList
-                .stream()
-                .map(transport -> {
-                    BigDecimal price = transport.getTotalPrice();
-                    return price != null ? price : BigDecimal.ZERO;
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        return total.divide(BigDecimal.valueOf(transportList.size()), 2, RoundingMode.HALF_UP);
+        return entry.getBilledAmount().divide(BigDecimal.valueOf(entry.getTransportCount()), 2, RoundingMode.HALF_UP);
     }
 }
@@ -0,0 +1,8 @@
+package org.university.util;
+
+public enum LedgerScope {
+    COMPANY,
+    DRIVER,
+    VEHICLE,
+    VEHICLE_TYPE
+}
@@ -0,0 +1,146 @@
+package org.university.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+public final class Money {
+    public static final int SCALE = 2;
+    public static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private Money() {
+    }
+
+    public static BigDecimal ofCents(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static boolean fitsInCents(BigDecimal amount) {
+        if (amount.scale() > SCALE) {
+            return false;
+        }
+        return amount.precision() - amount.scale() + SCALE <= 18;
+    }
+
+    /**
+     * Exact conversion; throws ArithmeticException when the amount has more than two decimals
+     * or does not fit into a long.
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount == null ? 0L : amount.movePointRight(SCALE).longValueExact();
+    }
+
+    /**
+     * Same result as {@code amount.multiply(quantity).multiply(factor).setScale(2, HALF_UP)} where
+     * {@code factor} is given in cents, computed in long arithmetic whenever it cannot overflow.
+     */
+    public static BigDecimal multiplyAndRound(BigDecimal amount, BigDecimal quantity, long factorCents) {
+        int droppedDigits = amount.scale() + quantity.scale();
+        if (amount.scale() >= 0 && quantity.scale() >= 0 && droppedDigits < POWERS_OF_TEN.length
+                && amount.precision() <= 18 && quantity.precision() <= 18) {
+            try {
+                long product = Math.multiplyExact(
+                        Math.multiplyExact(amount.unscaledValue().longValueExact(), quantity.unscaledValue().longValueExact()),
+                        factorCents);
+                return ofCents(divideHalfUp(product, POWERS_OF_TEN[droppedDigits]));
+            } catch (ArithmeticException overflow) {
+                // falls through to the BigDecimal path
+            }
+        }
+        return amount.multiply(quantity).multiply(ofCents(factorCents)).setScale(SCALE, ROUNDING);
+    }
+
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) >= divisor - Math.abs(remainder)) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    public static Sum sum() {
+        return new Sum();
+    }
+
+    public static <T> Collector<T, Sum, BigDecimal> summing(Function<? super T, BigDecimal> mapper) {
+        return Collector.of(Money::sum, (sum, value) -> sum.add(mapper.apply(value)), Sum::addAll, Sum::toBigDecimal);
+    }
+
+    /**
+     * Running total kept in cents. Yields exactly what {@code reduce(BigDecimal.ZERO, BigDecimal::add)}
+     * would, including the scale of the result, and switches to BigDecimal on overflow or when a value
+     * has more than two decimals.
+     */
+    public static final class Sum {
+        private long cents;
+        private int scale;
+        private BigDecimal exact;
+
+        private Sum() {
+        }
+
+        public Sum add(BigDecimal amount) {
+            if (amount == null) {
+                return this;
+            }
+            if (exact == null && amount.scale() >= 0 && fitsInCents(amount)) {
+                try {
+                    cents = Math.addExact(cents, amount.unscaledValue().longValue() * POWERS_OF_TEN[SCALE - amount.scale()]);
+                    scale = Math.max(scale, amount.scale());
+                    return this;
+                } catch (ArithmeticException overflow) {
+                    // falls through to the BigDecimal path
+                }
+            }
+            if (exact == null) {
+                exact = toBigDecimal();
+            }
+            exact = exact.add(amount);
+            return this;
+        }
+
+        public Sum addCents(long amountCents) {
+            if (exact != null) {
+                exact = exact.add(ofCents(amountCents));
+                return this;
+            }
+            try {
+                cents = Math.addExact(cents, amountCents);
+            } catch (ArithmeticException overflow) {
+                exact = toBigDecimal().add(ofCents(amountCents));
+            }
+            scale = SCALE;
+            return this;
+        }
+
+        public Sum addAll(Sum other) {
+            if (exact == null && other.exact == null) {
+                try {
+                    cents = Math.addExact(cents, other.cents);
+                    scale = Math.max(scale, other.scale);
+                    return this;
+                } catch (ArithmeticException overflow) {
+                    // falls through to the BigDecimal path
+                }
+            }
+            exact = toBigDecimal().add(other.toBigDecimal());
+            return this;
+        }
+
+        public BigDecimal toBigDecimal() {
+            if (exact != null) {
+                return exact;
+            }
+            return ofCents(cents).setScale(scale, RoundingMode.UNNECESSARY);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.university.util;
+
+public enum RankingDimension {
+    DRIVER,
+    VEHICLE,
+    CUSTOMER,
+    COMPANY
+}
@@ -0,0 +1,6 @@
+package org.university.util;
+
+public enum RankingMetric {
+    REVENUE,
+    TRANSPORT_COUNT
+}
@@ -0,0 +1,6 @@
+package org.university.util;
+
+public enum SettlementMode {
+    ALL_OR_NOTHING,
+    GREEDY
+}
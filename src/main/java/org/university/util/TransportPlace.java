@@ -0,0 +1,6 @@
+package org.university.util;
+
+public enum TransportPlace {
+    START_POINT,
+    END_POINT
+}
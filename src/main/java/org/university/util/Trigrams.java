@@ -0,0 +1,40 @@
+package org.university.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+public final class Trigrams {
+    public static final int LENGTH = 3;
+    private static final String PADDING = "  ";
+
+    private Trigrams() {}
+
+    public static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    public static Set<String> forValue(String value) {
+        String normalized = normalize(value);
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+        return windows(normalized + PADDING);
+    }
+
+    public static Set<String> forQuery(String fragment) {
+        String normalized = normalize(fragment);
+        if (normalized.length() < LENGTH) {
+            return Set.of();
+        }
+        return windows(normalized);
+    }
+
+    private static Set<String> windows(String text) {
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + LENGTH <= text.length(); i++) {
+            result.add(text.substring(i, i + LENGTH));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,22 @@
+package org.university.validators;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import java.util.List;
+
+public class ValidationUtil {
+    private ValidationUtil() {}
+
+    private static class Holder {
+        private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    public static List<String> validate(Object object) {
+        return Holder.VALIDATOR.validate(object)
+                .stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+}
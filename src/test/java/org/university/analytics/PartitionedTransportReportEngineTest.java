@@ -0,0 +1,108 @@
+package org.university.analytics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.university.dao.TransportDao;
+import org.university.entity.Transport;
+import org.university.exception.DAOException;
+import org.university.util.Money;
+import org.university.util.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedTransportReportEngineTest {
+
+    @Mock TransportDao transportDao;
+
+    PartitionedTransportReportEngine engine;
+    List<Transport> transports;
+
+    @BeforeEach
+    void setUp() {
+        engine = new PartitionedTransportReportEngine(transportDao, 4, 10);
+        transports = new ArrayList<>();
+        for (long id = 1; id <= 95; id++) {
+            Transport transport = new Transport();
+            transport.setId(id);
+            transport.setTotalPrice(BigDecimal.valueOf(id * 10 + 5, 1));
+            transport.setPaymentStatus(id % 3 == 0 ? PaymentStatus.NOT_PAID : PaymentStatus.PAID);
+            transports.add(transport);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.close();
+    }
+
+    private void stubRanges() {
+        when(transportDao.getTransportIdRange()).thenReturn(new long[]{1L, 95L});
+        when(transportDao.getTransportsInIdRange(anyLong(), anyLong())).thenAnswer(inv -> {
+            long from = inv.getArgument(0);
+            long to = inv.getArgument(1);
+            return transports.stream().filter(t -> t.getId() >= from && t.getId() < to).toList();
+        });
+    }
+
+    @Test
+    void execute_countsAcrossPartitions() {
+        stubRanges();
+
+        long count = engine.execute(transport -> transport.getPaymentStatus() == PaymentStatus.PAID,
+                Collectors.counting());
+
+        assertEquals(transports.stream().filter(t -> t.getPaymentStatus() == PaymentStatus.PAID).count(), count);
+        verify(transportDao, atLeast(10)).getTransportsInIdRange(anyLong(), anyLong());
+    }
+
+    @Test
+    void execute_mergesSumsAndGroups() {
+        stubRanges();
+
+        BigDecimal total = engine.execute(Money.summing(Transport::getTotalPrice));
+        Map<PaymentStatus, Long> byStatus = engine.execute(
+                Collectors.groupingBy(Transport::getPaymentStatus, Collectors.counting()));
+
+        assertEquals(transports.stream().map(Transport::getTotalPrice).reduce(BigDecimal.ZERO, BigDecimal::add), total);
+        assertEquals(transports.stream().collect(Collectors.groupingBy(Transport::getPaymentStatus, Collectors.counting())),
+                byStatus);
+    }
+
+    @Test
+    void execute_keepsIdOrderForListCollectors() {
+        stubRanges();
+
+        List<Long> ids = engine.execute(Collectors.mapping(Transport::getId, Collectors.toList()));
+
+        assertEquals(transports.stream().map(Transport::getId).toList(), ids);
+    }
+
+    @Test
+    void execute_emptyTable_returnsEmptyResult() {
+        when(transportDao.getTransportIdRange()).thenReturn(new long[0]);
+
+        assertEquals(0L, engine.execute(Collectors.counting()));
+        verify(transportDao, never()).getTransportsInIdRange(anyLong(), anyLong());
+    }
+
+    @Test
+    void execute_propagatesDaoFailures() {
+        when(transportDao.getTransportIdRange()).thenReturn(new long[]{1L, 95L});
+        when(transportDao.getTransportsInIdRange(anyLong(), anyLong())).thenThrow(new DAOException("boom"));
+
+        assertThrows(DAOException.class, () -> engine.execute(Collectors.counting()));
+    }
+}
@@ -0,0 +1,128 @@
+package org.university.analytics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.university.dao.TransportAnalyticsDao;
+import org.university.dao.TransportDao;
+import org.university.dto.TransportAnalyticsRow;
+import org.university.util.CargoType;
+import org.university.util.PaymentStatus;
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransportAnalyticsSnapshotTest {
+
+    @Mock TransportAnalyticsDao analyticsDao;
+    @Mock TransportDao transportDao;
+
+    TransportAnalyticsSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new TransportAnalyticsSnapshot(analyticsDao, transportDao);
+    }
+
+    private static TransportAnalyticsRow row(long id, String price, PaymentStatus status, Long employeeId) {
+        return new TransportAnalyticsRow(id, LocalDate.of(2025, 1, (int) id), LocalDate.of(2025, 1, (int) id + 1),
+                CargoType.GOODS, status, new BigDecimal(price), 1L, employeeId, 5L, 9L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRows(List<TransportAnalyticsRow> rows) {
+        doAnswer(inv -> {
+            rows.forEach(((Consumer<TransportAnalyticsRow>) inv.getArgument(0))::accept);
+            return null;
+        }).when(analyticsDao).forEachRow(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubChangedRows(List<TransportAnalyticsRow> rows) {
+        doAnswer(inv -> {
+            rows.forEach(((Consumer<TransportAnalyticsRow>) inv.getArgument(1))::accept);
+            return null;
+        }).when(analyticsDao).forEachRowModifiedSince(any(), any());
+    }
+
+    @Test
+    void reload_buildsColumnsFromRows() {
+        when(transportDao.countTransports()).thenReturn(3L);
+        when(analyticsDao.getVehicleTypes()).thenReturn(Map.of(9L, VehicleType.TRUCK));
+        stubRows(List.of(
+                row(1, "10.50", PaymentStatus.PAID, 7L),
+                row(2, "20.25", PaymentStatus.NOT_PAID, 7L),
+                row(3, "5.00", PaymentStatus.PAID, null)));
+
+        TransportColumns columns = snapshot.columns();
+
+        assertEquals(3, columns.size());
+        assertEquals(1550, columns.sumPriceCents(TransportColumns.statusFilter(PaymentStatus.PAID)));
+        assertEquals(Map.of(7L, 2L), columns.countByEmployee(TransportColumns.ANY_STATUS));
+        assertEquals(3575, columns.sumPriceCentsForVehicleType(VehicleType.TRUCK, TransportColumns.ANY_STATUS));
+        assertNotNull(snapshot.getWatermark());
+    }
+
+    @Test
+    void refresh_mergesChangedRowsIntoSnapshot() {
+        when(transportDao.countTransports()).thenReturn(2L, 3L);
+        when(analyticsDao.getVehicleTypes()).thenReturn(Map.of());
+        stubRows(List.of(
+                row(1, "10.00", PaymentStatus.NOT_PAID, 7L),
+                row(2, "20.00", PaymentStatus.NOT_PAID, 7L)));
+        snapshot.reload();
+        LocalDateTime watermark = snapshot.getWatermark();
+
+        stubChangedRows(List.of(
+                row(2, "20.00", PaymentStatus.PAID, 7L),
+                row(3, "30.00", PaymentStatus.PAID, 8L)));
+        snapshot.refresh();
+
+        TransportColumns columns = snapshot.columns();
+        assertEquals(3, columns.size());
+        assertEquals(5000, columns.sumPriceCents(TransportColumns.statusFilter(PaymentStatus.PAID)));
+        assertEquals(2, columns.indexOf(3));
+        verify(analyticsDao).forEachRowModifiedSince(eq(watermark.minus(TransportAnalyticsSnapshot.REFRESH_OVERLAP)), any());
+        verify(analyticsDao, never()).getTransportIds();
+    }
+
+    @Test
+    void refresh_dropsDeletedRowsWhenCountDiffers() {
+        when(transportDao.countTransports()).thenReturn(3L, 2L);
+        when(analyticsDao.getVehicleTypes()).thenReturn(Map.of());
+        stubRows(List.of(
+                row(1, "10.00", PaymentStatus.PAID, 7L),
+                row(2, "20.00", PaymentStatus.PAID, 7L),
+                row(3, "30.00", PaymentStatus.PAID, 7L)));
+        snapshot.reload();
+
+        stubChangedRows(List.of());
+        when(analyticsDao.getTransportIds()).thenReturn(new long[]{1L, 3L});
+        snapshot.refresh();
+
+        TransportColumns columns = snapshot.columns();
+        assertEquals(2, columns.size());
+        assertTrue(columns.indexOf(2) < 0);
+        assertEquals(4000, columns.sumPriceCents(TransportColumns.ANY_STATUS));
+    }
+
+    @Test
+    void builder_rejectsUnorderedRows() {
+        TransportColumns.Builder builder = new TransportColumns.Builder(2)
+                .add(row(2, "1.00", PaymentStatus.PAID, null))
+                .add(row(1, "1.00", PaymentStatus.PAID, null));
+
+        assertThrows(IllegalStateException.class, () -> builder.build(Map.of()));
+    }
+}
@@ -0,0 +1,232 @@
+package org.university.analytics;
+
+import org.junit.jupiter.api.Test;
+import org.university.analytics.sketch.CountMinSketch;
+import org.university.analytics.sketch.Hashing;
+import org.university.analytics.sketch.HyperLogLog;
+import org.university.analytics.sketch.QuantileSketch;
+import org.university.dao.TransportDao;
+import org.university.dto.RouteEstimate;
+import org.university.entity.Customer;
+import org.university.entity.Transport;
+import org.university.util.CargoType;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TransportSketchesTest {
+
+    private static Transport transport(long customerId, String start, String end, CargoType cargoType, String price) {
+        Customer customer = new Customer();
+        customer.setId(customerId);
+        return Transport.builder()
+                .customer(customer)
+                .startPoint(start)
+                .endPoint(end)
+                .cargoType(cargoType)
+                .quantity(BigDecimal.ONE)
+                .totalPrice(new BigDecimal(price))
+                .build();
+    }
+
+    @Test
+    void hyperLogLog_estimatesWithinStandardErrorBound() {
+        HyperLogLog sketch = new HyperLogLog();
+        int distinct = 100_000;
+        for (long id = 1; id <= distinct; id++) {
+            sketch.add(Hashing.hash(id));
+            sketch.add(Hashing.hash(id));
+        }
+
+        double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+        assertTrue(error < 3 * sketch.getStandardError(), "error " + error);
+    }
+
+    @Test
+    void hyperLogLog_isNearlyExactForSmallCounts() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long id = 1; id <= 50; id++) {
+            sketch.add(Hashing.hash(id));
+        }
+        assertEquals(50, sketch.estimate(), 2);
+    }
+
+    @Test
+    void hyperLogLog_mergeMatchesSingleSketch() {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        HyperLogLog all = new HyperLogLog();
+        for (long id = 1; id <= 20_000; id++) {
+            (id % 2 == 0 ? left : right).add(Hashing.hash(id));
+            all.add(Hashing.hash(id));
+        }
+
+        left.merge(right);
+
+        assertEquals(all.estimate(), left.estimate());
+        assertThrows(IllegalArgumentException.class, () -> left.merge(new HyperLogLog(12)));
+    }
+
+    @Test
+    void quantileSketch_staysWithinRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int value = 1; value <= 10_000; value++) {
+            sketch.add(value);
+        }
+
+        for (double quantile : new double[]{0.01, 0.25, 0.5, 0.9, 0.99}) {
+            double exact = Math.floor(quantile * 9_999) + 1;
+            double estimate = sketch.quantile(quantile);
+            assertTrue(Math.abs(estimate - exact) <= exact * sketch.getRelativeAccuracy(),
+                    "quantile " + quantile + " estimated " + estimate + " exact " + exact);
+        }
+        assertEquals(1, sketch.quantile(0));
+        assertEquals(10_000, sketch.quantile(1));
+    }
+
+    @Test
+    void quantileSketch_handlesZeroAndEmpty() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(100);
+        assertEquals(0, sketch.quantile(0.5));
+        assertThrows(IllegalArgumentException.class, () -> sketch.add(-1));
+    }
+
+    @Test
+    void quantileSketch_foldsLowestBucketsPastLimit() {
+        QuantileSketch sketch = new QuantileSketch(0.01, 100);
+        sketch.add(0.001);
+        sketch.add(0.001);
+        sketch.add(1_000_000);
+
+        assertEquals(0.001, sketch.quantile(0));
+        assertEquals(1_000_000, sketch.quantile(1));
+        assertTrue(sketch.quantile(0.5) > 1);
+    }
+
+    @Test
+    void countMinSketch_neverUndercountsAndStaysWithinBound() {
+        CountMinSketch sketch = new CountMinSketch();
+        for (long key = 0; key < 10_000; key++) {
+            sketch.add(Hashing.hash(key), key % 10 == 0 ? 5 : 1);
+        }
+
+        long bound = (long) Math.ceil(sketch.getRelativeError() * sketch.getTotalCount());
+        int withinBound = 0;
+        for (long key = 0; key < 10_000; key++) {
+            long exact = key % 10 == 0 ? 5 : 1;
+            long estimate = sketch.estimate(Hashing.hash(key));
+            assertTrue(estimate >= exact);
+            if (estimate - exact <= bound) {
+                withinBound++;
+            }
+        }
+        assertTrue(withinBound >= 10_000 * sketch.getConfidence(), "within bound " + withinBound);
+    }
+
+    @Test
+    void countMinSketch_rowsCollideIndependentlyWithPowerOfTwoWidth() {
+        long target = Hashing.hash(-1L);
+        CountMinSketch firstRow = new CountMinSketch(256, 1);
+        firstRow.add(target, 1);
+        CountMinSketch sketch = new CountMinSketch(256, 4);
+        sketch.add(target, 1);
+
+        int colliding = 0;
+        for (long key = 0; colliding < 50; key++) {
+            long hash = Hashing.hash(key);
+            if (firstRow.estimate(hash) > 0) {
+                sketch.add(hash, 100);
+                colliding++;
+            }
+        }
+
+        assertEquals(1, sketch.estimate(target));
+    }
+
+    @Test
+    void add_tracksDestinationsPercentilesAndRoutes() {
+        TransportSketches sketches = new TransportSketches();
+        for (int i = 0; i < 300; i++) {
+            sketches.add(transport(i % 30, "Sofia", "Varna", CargoType.GOODS, String.valueOf(100 + i)));
+        }
+        for (int i = 0; i < 20; i++) {
+            sketches.add(transport(i, "Plovdiv", "Burgas", CargoType.ADR, "50.00"));
+        }
+        sketches.add(transport(1, "Ruse", "Varna", CargoType.PASSENGERS, "10.00"));
+
+        assertEquals(30, sketches.estimateDistinctCustomers("VARNA"), 1);
+        assertEquals(20, sketches.estimateDistinctCustomers("burgas"), 1);
+        assertEquals(0, sketches.estimateDistinctCustomers("Pleven"));
+
+        BigDecimal median = sketches.estimatePricePercentile(CargoType.GOODS, 0.5);
+        assertEquals(249.0, median.doubleValue(), 249.0 * 0.01);
+        assertEquals(new BigDecimal("50.00"), sketches.estimatePricePercentile(CargoType.ADR, 0.99));
+        assertEquals(new BigDecimal("1.00"), sketches.estimateQuantityPercentile(CargoType.GOODS, 0.5));
+
+        List<RouteEstimate> top = sketches.getHeavyHitterRoutes(2);
+        assertEquals(List.of(new RouteEstimate("sofia", "varna", 300), new RouteEstimate("plovdiv", "burgas", 20)), top);
+        assertEquals(321, sketches.getTransportsSeen());
+    }
+
+    @Test
+    void add_stopsTrackingNewDestinationsAtTheLimit() {
+        TransportSketches sketches = new TransportSketches(2);
+        sketches.add(transport(1, "Sofia", "Varna", CargoType.GOODS, "10.00"));
+        sketches.add(transport(2, "Sofia", "Burgas", CargoType.GOODS, "10.00"));
+        sketches.add(transport(3, "Sofia", "Ruse", CargoType.GOODS, "10.00"));
+        sketches.add(transport(4, "Sofia", "Varna", CargoType.GOODS, "10.00"));
+
+        assertEquals(2, sketches.getTrackedDestinations());
+        assertEquals(2, sketches.estimateDistinctCustomers("Varna"));
+        assertEquals(0, sketches.estimateDistinctCustomers("Ruse"));
+        assertEquals(4, sketches.getTransportsSeen());
+    }
+
+    @Test
+    void estimatePricePercentile_returnsNullWithoutData() {
+        assertNull(new TransportSketches().estimatePricePercentile(CargoType.GOODS, 0.5));
+    }
+
+    @Test
+    void merge_combinesPartialSketches() {
+        TransportSketches left = new TransportSketches();
+        TransportSketches right = new TransportSketches();
+        for (int i = 0; i < 100; i++) {
+            (i % 2 == 0 ? left : right).add(transport(i, "Sofia", "Varna", CargoType.GOODS, "10.00"));
+        }
+
+        left.merge(right);
+
+        assertEquals(100, left.estimateDistinctCustomers("Varna"), 2);
+        assertEquals(100, left.estimateRouteCount("Sofia", "Varna"));
+        assertEquals(100, left.getTransportsSeen());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void attach_scansExistingTransportsAndListensForInserts() {
+        TransportDao transportDao = mock(TransportDao.class);
+        doAnswer(inv -> {
+            ((Consumer<Transport>) inv.getArgument(0)).accept(transport(1, "Sofia", "Varna", CargoType.GOODS, "10.00"));
+            return null;
+        }).when(transportDao).forEachTransport(any());
+
+        TransportSketches sketches = TransportSketches.attach(transportDao);
+        verify(transportDao).addChangeListener(sketches);
+
+        sketches.transportsCreated(List.of(transport(2, "Sofia", "Varna", CargoType.GOODS, "20.00")));
+
+        assertEquals(2, sketches.estimateDistinctCustomers("Varna"));
+        assertEquals(2, sketches.estimateRouteCount("Sofia", "Varna"));
+    }
+}
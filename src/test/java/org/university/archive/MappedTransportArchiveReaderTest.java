@@ -0,0 +1,121 @@
+package org.university.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.university.dto.TransportDto;
+import org.university.util.CargoType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedTransportArchiveReaderTest {
+
+    @TempDir Path directory;
+
+    private static TransportDto transport(long id, String price) {
+        TransportDto dto = new TransportDto();
+        dto.setId(id);
+        dto.setStartPoint("Start " + id);
+        dto.setEndPoint("End");
+        dto.setDepartureDate(LocalDate.of(2025, 1, 1).plusDays(id));
+        dto.setCargoType(CargoType.GOODS);
+        dto.setTotalPrice(new BigDecimal(price));
+        return dto;
+    }
+
+    private void archive(int count, long maxSegmentSize) throws IOException {
+        try (TransportArchive archive = TransportArchive.open(directory, maxSegmentSize, 0)) {
+            for (long id = 1; id <= count; id++) {
+                archive.append(transport(id, id + ".00"));
+            }
+        }
+    }
+
+    @Test
+    void read_decodesRecordsAcrossSegments() throws IOException {
+        archive(200, 1024);
+
+        try (MappedTransportArchiveReader reader = MappedTransportArchiveReader.open(directory)) {
+            assertEquals(200, reader.size());
+            TransportDto transport = reader.read(137);
+            assertEquals("Start 137", transport.getStartPoint());
+            assertEquals(new BigDecimal("137.00"), transport.getTotalPrice());
+            assertEquals(LocalDate.of(2025, 1, 1).plusDays(137), transport.getDepartureDate());
+            assertNull(reader.read(201));
+            assertFalse(reader.contains(0));
+        }
+    }
+
+    @Test
+    void read_returnsNewestRecordAndSeesUnsealedSegment() throws IOException {
+        try (TransportArchive archive = TransportArchive.open(directory, 1024, 0)) {
+            for (long id = 1; id <= 30; id++) {
+                archive.append(transport(id, "1.00"));
+            }
+            archive.append(transport(5, "9.00"));
+            archive.sync();
+
+            try (MappedTransportArchiveReader reader = MappedTransportArchiveReader.open(directory)) {
+                assertEquals(30, reader.size());
+                assertEquals(new BigDecimal("9.00"), reader.read(5).getTotalPrice());
+            }
+        }
+    }
+
+    @Test
+    void stream_replaysAllRecordsInIdOrderInParallel() throws IOException {
+        archive(500, 4096);
+
+        try (MappedTransportArchiveReader reader = MappedTransportArchiveReader.open(directory)) {
+            assertEquals(500, reader.stream().parallel().count());
+            List<Long> ids = reader.stream().map(TransportDto::getId).toList();
+            assertEquals(1L, ids.get(0));
+            assertEquals(500L, ids.get(499));
+            BigDecimal total = reader.stream().parallel().map(TransportDto::getTotalPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertEquals(new BigDecimal("125250.00"), total);
+        }
+    }
+
+    @Test
+    void read_isSafeFromManyThreads() throws Exception {
+        archive(300, 2048);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (MappedTransportArchiveReader reader = MappedTransportArchiveReader.open(directory)) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executor.submit(() -> {
+                    for (long id = 1; id <= 300; id++) {
+                        if (!reader.read(id).getTotalPrice().equals(new BigDecimal(id + ".00"))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void read_failsAfterClose() throws IOException {
+        archive(1, 1024);
+        MappedTransportArchiveReader reader = MappedTransportArchiveReader.open(directory);
+        reader.close();
+
+        assertThrows(IllegalStateException.class, () -> reader.read(1));
+    }
+}
@@ -0,0 +1,146 @@
+package org.university.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.university.dto.TransportDto;
+import org.university.util.CargoType;
+import org.university.util.PaymentStatus;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransportArchiveTest {
+
+    @TempDir Path directory;
+
+    private static TransportDto transport(long id, String price) {
+        TransportDto dto = new TransportDto();
+        dto.setId(id);
+        dto.setStartPoint("Sofia");
+        dto.setEndPoint("Varna");
+        dto.setDepartureDate(LocalDate.of(2025, 1, 1));
+        dto.setArrivalDate(LocalDate.of(2025, 1, 2));
+        dto.setCargoType(CargoType.GOODS);
+        dto.setPaymentStatus(PaymentStatus.NOT_PAID);
+        dto.setTotalPrice(new BigDecimal(price));
+        return dto;
+    }
+
+    @Test
+    void append_thenRead_returnsLatestRecord() throws IOException {
+        try (TransportArchive archive = TransportArchive.open(directory)) {
+            archive.append(transport(1, "10.00"));
+            archive.append(transport(2, "20.00"));
+            archive.append(transport(1, "15.00"));
+
+            assertEquals(new BigDecimal("15.00"), archive.read(1).getTotalPrice());
+            assertEquals(new BigDecimal("20.00"), archive.read(2).getTotalPrice());
+            assertNull(archive.read(3));
+            assertEquals(2, archive.size());
+        }
+    }
+
+    @Test
+    void reopen_resolvesRecordsThroughFooterAndKeepsAppending() throws IOException {
+        try (TransportArchive archive = TransportArchive.open(directory)) {
+            archive.append(transport(1, "10.00"));
+            archive.append(transport(2, "20.00"));
+        }
+        try (TransportArchive archive = TransportArchive.open(directory)) {
+            assertEquals(new BigDecimal("20.00"), archive.read(2).getTotalPrice());
+            archive.append(transport(3, "30.00"));
+            assertEquals(1, archive.getSegmentFiles().size());
+        }
+        try (TransportArchive archive = TransportArchive.open(directory)) {
+            assertEquals(3, archive.size());
+            assertEquals(new BigDecimal("30.00"), archive.read(3).getTotalPrice());
+        }
+    }
+
+    @Test
+    void append_rollsOverToNewSegmentWhenFull() throws IOException {
+        try (TransportArchive archive = TransportArchive.open(directory, 512, 0)) {
+            for (long id = 1; id <= 100; id++) {
+                archive.append(transport(id, id + ".00"));
+            }
+            List<Path> segments = archive.getSegmentFiles();
+            assertTrue(segments.size() > 1);
+            for (Path segment : segments) {
+                assertTrue(Files.size(segment) <= 512 + 64, segment + " is " + Files.size(segment) + " bytes");
+            }
+            for (long id = 1; id <= 100; id++) {
+                assertEquals(new BigDecimal(id + ".00"), archive.read(id).getTotalPrice());
+            }
+        }
+        try (TransportArchive archive = TransportArchive.open(directory, 512, 0)) {
+            assertEquals(100, archive.size());
+            assertEquals(new BigDecimal("42.00"), archive.read(42).getTotalPrice());
+        }
+    }
+
+    @Test
+    void compact_dropsSegmentsWithMostlySupersededRecords() throws IOException {
+        try (TransportArchive archive = TransportArchive.open(directory, 1024, 0.5)) {
+            for (long id = 1; id <= 10; id++) {
+                archive.append(transport(id, "1.00"));
+            }
+            archive.roll();
+            Path first = archive.getSegmentFiles().get(0);
+            for (long id = 1; id <= 8; id++) {
+                archive.append(transport(id, "2.00"));
+            }
+
+            archive.compact();
+
+            assertFalse(Files.exists(first));
+            assertEquals(10, archive.size());
+            assertEquals(new BigDecimal("2.00"), archive.read(1).getTotalPrice());
+            assertEquals(new BigDecimal("1.00"), archive.read(10).getTotalPrice());
+        }
+        try (TransportArchive archive = TransportArchive.open(directory, 1024, 0.5)) {
+            assertEquals(new BigDecimal("1.00"), archive.read(9).getTotalPrice());
+            assertEquals(new BigDecimal("2.00"), archive.read(8).getTotalPrice());
+        }
+    }
+
+    @Test
+    void open_recoversSegmentCutShortWithoutFooter() throws IOException {
+        Path segment;
+        try (TransportArchive archive = TransportArchive.open(directory)) {
+            archive.append(transport(1, "10.00"));
+            archive.append(transport(2, "20.00"));
+            archive.sync();
+            segment = archive.getSegmentFiles().get(0);
+        }
+        // Drop the footer and half of the last record, as if the process died mid-append
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer trailer = ByteBuffer.allocate(SegmentFormat.TRAILER_SIZE);
+            channel.read(trailer, channel.size() - SegmentFormat.TRAILER_SIZE);
+            long recordsEnd = trailer.flip().getLong();
+            channel.truncate(recordsEnd - 5);
+        }
+
+        try (TransportArchive archive = TransportArchive.open(directory)) {
+            assertEquals(1, archive.size());
+            assertEquals(new BigDecimal("10.00"), archive.read(1).getTotalPrice());
+            archive.append(transport(2, "25.00"));
+            assertEquals(new BigDecimal("25.00"), archive.read(2).getTotalPrice());
+        }
+    }
+
+    @Test
+    void append_requiresId() throws IOException {
+        try (TransportArchive archive = TransportArchive.open(directory)) {
+            assertThrows(IllegalArgumentException.class, () -> archive.append(new TransportDto()));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.university.codec;
+
+import org.junit.jupiter.api.Test;
+import org.university.dto.DrivingLicenseDto;
+import org.university.dto.EmployeeDto;
+import org.university.dto.TransportDto;
+import org.university.dto.VehicleDto;
+import org.university.util.CargoType;
+import org.university.util.DriverQualifications;
+import org.university.util.DrivingLicenseCategories;
+import org.university.util.PaymentStatus;
+import org.university.util.VehicleType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DtoCodecTest {
+
+    private static TransportDto transport() {
+        return new TransportDto(123_456L, "Sofia", "Варна", LocalDate.of(2025, 3, 1), LocalDate.of(1969, 12, 31),
+                CargoType.ADR, 1L, 2L, 3L, 4L, PaymentStatus.PAID,
+                new BigDecimal("2.500"), new BigDecimal("-10.00"), new BigDecimal("123456789012345678901234.56"));
+    }
+
+    @Test
+    void transportDto_roundTripsAllFields() {
+        TransportDtoCodec codec = new TransportDtoCodec();
+        TransportDto original = transport();
+
+        TransportDto decoded = codec.fromBytes(codec.toBytes(original));
+
+        assertEquals(original.getId(), decoded.getId());
+        assertEquals(original.getStartPoint(), decoded.getStartPoint());
+        assertEquals(original.getEndPoint(), decoded.getEndPoint());
+        assertEquals(original.getDepartureDate(), decoded.getDepartureDate());
+        assertEquals(original.getArrivalDate(), decoded.getArrivalDate());
+        assertEquals(original.getCargoType(), decoded.getCargoType());
+        assertEquals(original.getCompanyId(), decoded.getCompanyId());
+        assertEquals(original.getEmployeeId(), decoded.getEmployeeId());
+        assertEquals(original.getCustomerId(), decoded.getCustomerId());
+        assertEquals(original.getVehicleId(), decoded.getVehicleId());
+        assertEquals(original.getPaymentStatus(), decoded.getPaymentStatus());
+        assertEquals(original.getQuantity(), decoded.getQuantity());
+        assertEquals(original.getInitPrice(), decoded.getInitPrice());
+        assertEquals(original.getTotalPrice(), decoded.getTotalPrice());
+    }
+
+    @Test
+    void transportDto_keepsNullFields() {
+        TransportDtoCodec codec = new TransportDtoCodec();
+        TransportDto original = new TransportDto();
+        original.setId(5L);
+        original.setTotalPrice(new BigDecimal("1.00"));
+
+        TransportDto decoded = codec.fromBytes(codec.toBytes(original));
+
+        assertEquals(5L, decoded.getId());
+        assertEquals(new BigDecimal("1.00"), decoded.getTotalPrice());
+        assertNull(decoded.getStartPoint());
+        assertNull(decoded.getCargoType());
+        assertNull(decoded.getCompanyId());
+        assertNull(decoded.getDepartureDate());
+    }
+
+    @Test
+    void transportDto_isMuchSmallerThanJavaSerialization() throws IOException {
+        TransportDto dto = transport();
+        dto.setTotalPrice(new BigDecimal("20.00"));
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(serialized)) {
+            oos.writeObject(dto);
+        }
+
+        int encoded = new TransportDtoCodec().toBytes(dto).length;
+
+        assertTrue(encoded * 10 < serialized.size(), encoded + " vs " + serialized.size());
+    }
+
+    @Test
+    void decode_rejectsNewerSchemaVersion() {
+        byte[] bytes = new TransportDtoCodec().toBytes(transport());
+        bytes[0] = (byte) (TransportDtoCodec.VERSION + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> new TransportDtoCodec().fromBytes(bytes));
+    }
+
+    @Test
+    void decode_readsConsecutiveRecordsFromOneBuffer() {
+        TransportDtoCodec codec = new TransportDtoCodec();
+        BinaryWriter out = new BinaryWriter();
+        for (long id = 1; id <= 3; id++) {
+            TransportDto dto = transport();
+            dto.setId(id);
+            codec.encode(dto, out);
+        }
+
+        BinaryReader in = new BinaryReader(ByteBuffer.wrap(out.toByteArray()));
+        for (long id = 1; id <= 3; id++) {
+            assertEquals(id, codec.decode(in).getId());
+        }
+        assertFalse(in.buffer().hasRemaining());
+    }
+
+    @Test
+    void employeeDto_roundTripsSetsOfIdsAndQualifications() {
+        EmployeeDtoCodec codec = new EmployeeDtoCodec();
+        EmployeeDto original = new EmployeeDto(7L, "Ivan", "Petrov", LocalDate.of(1990, 5, 17), 8L,
+                EnumSet.allOf(DriverQualifications.class), 1L, new BigDecimal("2500.00"),
+                Set.of(100L, 3L, 50L), Set.of());
+
+        EmployeeDto decoded = codec.fromBytes(codec.toBytes(original));
+
+        assertEquals("Ivan", decoded.getFirstName());
+        assertEquals(original.getDriverQualifications(), decoded.getDriverQualifications());
+        assertEquals(Set.of(3L, 50L, 100L), decoded.getVehicleIds());
+        assertEquals(Set.of(), decoded.getTransportIds());
+        assertEquals(new BigDecimal("2500.00"), decoded.getSalary());
+    }
+
+    @Test
+    void otherDtos_roundTrip() {
+        VehicleDto vehicle = new VehicleDto(3L, VehicleType.values()[0], new BigDecimal("1000.5"), null, 1L);
+        VehicleDto decodedVehicle = new VehicleDtoCodec().fromBytes(new VehicleDtoCodec().toBytes(vehicle));
+        assertEquals(vehicle.getVehicleType(), decodedVehicle.getVehicleType());
+        assertEquals(vehicle.getDistanceTraveled(), decodedVehicle.getDistanceTraveled());
+        assertNull(decodedVehicle.getEmployeeId());
+
+        DrivingLicenseDto license = new DrivingLicenseDto(4L, "AB123", LocalDate.of(2020, 1, 1),
+                LocalDate.of(2030, 1, 1), EnumSet.of(DrivingLicenseCategories.values()[0]), 7L);
+        DrivingLicenseDto decodedLicense = new DrivingLicenseDtoCodec().fromBytes(new DrivingLicenseDtoCodec().toBytes(license));
+        assertEquals("AB123", decodedLicense.getDrivingLicenseNumber());
+        assertEquals(license.getDrivingLicenseCategories(), decodedLicense.getDrivingLicenseCategories());
+        assertEquals(LocalDate.of(2030, 1, 1), decodedLicense.getExpiryDate());
+    }
+
+    @Test
+    void writer_encodesSmallValuesInOneByte() {
+        BinaryWriter out = new BinaryWriter();
+        out.writeVarLong(127);
+        out.writeSignedVarLong(-64);
+        assertEquals(2, out.size());
+
+        out.writeVarLong(Long.MIN_VALUE);
+        BinaryReader in = new BinaryReader(ByteBuffer.wrap(out.toByteArray()));
+        assertEquals(127, in.readVarLong());
+        assertEquals(-64, in.readSignedVarLong());
+        assertEquals(Long.MIN_VALUE, in.readVarLong());
+    }
+}
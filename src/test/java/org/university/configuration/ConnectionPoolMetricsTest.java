@@ -0,0 +1,64 @@
+package org.university.configuration;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolMetricsTest {
+
+    ConnectionPoolMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new ConnectionPoolMetrics();
+    }
+
+    @Test
+    void gauges_areZero_beforePoolStarts() {
+        assertEquals(0, metrics.getActiveConnections());
+        assertEquals(0, metrics.getIdleConnections());
+        assertEquals(0, metrics.getTotalConnections());
+        assertEquals(0, metrics.getThreadsAwaitingConnection());
+        assertEquals(0.0, metrics.getAverageWaitMillis());
+    }
+
+    @Test
+    void gauges_readFromPoolStats() {
+        metrics.create("test-pool", new PoolStats(0) {
+            @Override
+            protected void update() {
+                totalConnections = 10;
+                idleConnections = 6;
+                activeConnections = 4;
+                pendingThreads = 2;
+            }
+        });
+
+        assertEquals(4, metrics.getActiveConnections());
+        assertEquals(6, metrics.getIdleConnections());
+        assertEquals(10, metrics.getTotalConnections());
+        assertEquals(2, metrics.getThreadsAwaitingConnection());
+    }
+
+    @Test
+    void tracker_recordsWaitTimesAndTimeouts() {
+        IMetricsTracker tracker = metrics.create("test-pool", null);
+
+        tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(2));
+        tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(6));
+        tracker.recordConnectionUsageMillis(10);
+        tracker.recordConnectionUsageMillis(30);
+        tracker.recordConnectionTimeout();
+
+        assertEquals(2, metrics.getAcquiredConnections());
+        assertEquals(4.0, metrics.getAverageWaitMillis(), 0.0001);
+        assertEquals(6.0, metrics.getMaxWaitMillis(), 0.0001);
+        assertEquals(20.0, metrics.getAverageUsageMillis(), 0.0001);
+        assertEquals(1, metrics.getConnectionTimeouts());
+    }
+}
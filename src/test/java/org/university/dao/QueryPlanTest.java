@@ -0,0 +1,314 @@
+package org.university.dao;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.university.configuration.SessionFactoryUtil;
+import org.university.entity.Company;
+import org.university.entity.Customer;
+import org.university.entity.Employee;
+import org.university.entity.Transport;
+import org.university.entity.Vehicle;
+import org.university.util.CargoType;
+import org.university.util.PaymentStatus;
+import org.university.util.TransportPlace;
+import org.university.util.Trigrams;
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryPlanTest {
+
+    private static final int COMPANIES = 200;
+    private static final int EMPLOYEES = 400;
+    private static final int CUSTOMERS = 400;
+    private static final int VEHICLES = 200;
+    private static final int TRANSPORTS = 8000;
+
+    private static SessionFactory sessionFactory;
+    private static TransportDao transportDao;
+    private static EmployeeDao employeeDao;
+    private static CompanyDao companyDao;
+    private static RevenueLedgerDao revenueLedgerDao;
+    private static long companyId;
+    private static long employeeId;
+    private static long customerId;
+    private static long vehicleId;
+
+    @BeforeAll
+    static void seed() {
+        sessionFactory = SessionFactoryUtil.getSessionFactory();
+        transportDao = new TransportDao();
+        employeeDao = new EmployeeDao();
+        companyDao = new CompanyDao();
+        revenueLedgerDao = new RevenueLedgerDao();
+        clear();
+
+        Session session = sessionFactory.openSession();
+        try {
+            session.setJdbcBatchSize(TransportDao.BATCH_SIZE);
+            session.beginTransaction();
+
+            List<Company> companies = new ArrayList<>();
+            for (int i = 0; i < COMPANIES; i++) {
+                Company company = Company.builder()
+                        .name("Plan company " + i)
+                        .revenue(BigDecimal.valueOf(i * 1000L))
+                        .build();
+                session.persist(company);
+                companies.add(company);
+            }
+
+            List<Employee> employees = new ArrayList<>();
+            for (int i = 0; i < EMPLOYEES; i++) {
+                Employee employee = new Employee();
+                employee.setFirstName("Driver");
+                employee.setLastName("Number" + i);
+                employee.setBirthDate(LocalDate.of(1980, 1, 1));
+                employee.setSalary(BigDecimal.valueOf(1000 + i * 10L));
+                employee.setCompany(companies.get(i % COMPANIES));
+                session.persist(employee);
+                employees.add(employee);
+            }
+
+            List<Customer> customers = new ArrayList<>();
+            for (int i = 0; i < CUSTOMERS; i++) {
+                Customer customer = new Customer();
+                customer.setFirstName("Client");
+                customer.setLastName("Number" + i);
+                customer.setBirthDate(LocalDate.of(1990, 1, 1));
+                customer.setBudget(BigDecimal.valueOf(10_000));
+                session.persist(customer);
+                customers.add(customer);
+            }
+
+            List<Vehicle> vehicles = new ArrayList<>();
+            for (int i = 0; i < VEHICLES; i++) {
+                Vehicle vehicle = Vehicle.builder()
+                        .vehicleType(VehicleType.values()[i % VehicleType.values().length])
+                        .distanceTraveled(BigDecimal.ZERO)
+                        .company(companies.get(i % COMPANIES))
+                        .build();
+                session.persist(vehicle);
+                vehicles.add(vehicle);
+            }
+
+            for (int i = 0; i < TRANSPORTS; i++) {
+                LocalDate departure = LocalDate.of(2024, 1, 1).plusDays(i % 700);
+                Transport transport = new Transport();
+                transport.setStartPoint("Sofia");
+                transport.setEndPoint("City" + (i % 500));
+                transport.setDepartureDate(departure);
+                transport.setArrivalDate(departure.plusDays(1));
+                transport.setCargoType(CargoType.GOODS);
+                transport.setQuantity(BigDecimal.ONE);
+                transport.setInitPrice(BigDecimal.valueOf(100));
+                transport.setTotalPrice(BigDecimal.valueOf(100));
+                transport.setPaymentStatus(PaymentStatus.values()[i % PaymentStatus.values().length]);
+                transport.setCompany(companies.get(i % COMPANIES));
+                transport.setEmployee(employees.get(i % EMPLOYEES));
+                transport.setCustomer(customers.get(i % CUSTOMERS));
+                transport.setVehicle(vehicles.get(i % VEHICLES));
+                session.persist(transport);
+
+                if ((i + 1) % TransportDao.BATCH_SIZE == 0) {
+                    session.flush();
+                }
+            }
+
+            companyId = companies.get(7).getId();
+            employeeId = employees.get(5).getId();
+            customerId = customers.get(11).getId();
+            vehicleId = vehicles.get(13).getId();
+
+            session.getTransaction().commit();
+
+            // Persisting through the session bypasses the DAO, so the place index and the daily rollup are built
+            // the way a migration would
+            transportDao.rebuildPlaceIndex();
+            revenueLedgerDao.rebuildDailyRollup();
+            session.doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "ANALYZE TABLE transport, transport_trigram, daily_revenue_rollup, company, employee, person, " +
+                                "customer, vehicle")) {
+                    statement.execute();
+                }
+            });
+        } catch (Exception e) {
+            if (session.getTransaction() != null && session.getTransaction().isActive()) {
+                session.getTransaction().rollback();
+            }
+            throw e;
+        } finally {
+            session.close();
+        }
+    }
+
+    @AfterAll
+    static void cleanUp() {
+        clear();
+    }
+
+    private static void clear() {
+        Session session = sessionFactory.openSession();
+        try {
+            session.beginTransaction();
+
+            session.createQuery("DELETE FROM TransportTrigram").executeUpdate();
+            session.createQuery("DELETE FROM DailyRevenueRollup").executeUpdate();
+            session.createQuery("DELETE FROM Transport").executeUpdate();
+            session.createQuery("DELETE FROM Vehicle").executeUpdate();
+            session.createQuery("DELETE FROM Employee").executeUpdate();
+            session.createQuery("DELETE FROM Customer").executeUpdate();
+            session.createQuery("DELETE FROM Company").executeUpdate();
+
+            session.getTransaction().commit();
+        } catch (Exception e) {
+            if (session.getTransaction() != null && session.getTransaction().isActive()) {
+                session.getTransaction().rollback();
+            }
+            throw e;
+        } finally {
+            session.close();
+        }
+    }
+
+    private record PlanRow(String table, String type, String key, String extra) {
+        boolean filesorts() {
+            return extra != null && extra.contains("Using filesort");
+        }
+    }
+
+    private record Plan(String sql, List<PlanRow> rows) {
+        boolean usesKey(String key) {
+            return rows.stream().anyMatch(row -> key.equals(row.key()));
+        }
+
+        @Override
+        public String toString() {
+            return rows + " for " + sql;
+        }
+    }
+
+    /**
+     * Runs the DAO call, takes the first statement Hibernate sent for it and EXPLAINs that exact SQL.
+     * Parameters are bound in the order their placeholders appear in the generated statement.
+     */
+    private static Plan explain(Runnable daoCall, Object... parameters) {
+        List<String> statements = CapturingStatementInspector.capture(daoCall);
+        assertFalse(statements.isEmpty(), "The DAO call sent no SQL");
+        String sql = statements.get(0);
+
+        try (Session session = sessionFactory.openSession()) {
+            return session.doReturningWork(connection -> {
+                List<PlanRow> rows = new ArrayList<>();
+                try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                    for (int i = 0; i < parameters.length; i++) {
+                        statement.setObject(i + 1, parameters[i]);
+                    }
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            rows.add(new PlanRow(rs.getString("table"), rs.getString("type"),
+                                    rs.getString("key"), rs.getString("Extra")));
+                        }
+                    }
+                }
+                return new Plan(sql, rows);
+            });
+        }
+    }
+
+    private static Plan assertNoFullScan(Runnable daoCall, Object... parameters) {
+        Plan plan = explain(daoCall, parameters);
+        assertFalse(plan.rows().isEmpty(), "EXPLAIN returned no rows for " + plan.sql());
+        assertTrue(plan.rows().stream().noneMatch(row -> "ALL".equals(row.type())), "Full table scan in plan " + plan);
+        return plan;
+    }
+
+    @Test
+    void companyRevenueForPeriod_readsDailyRollupByCompanyAndDay() {
+        LocalDate from = LocalDate.of(2024, 3, 1);
+        LocalDate to = LocalDate.of(2024, 6, 1);
+        assertNoFullScan(() -> revenueLedgerDao.sumCompanyPaidRevenue(companyId, from, to), companyId, from, to);
+    }
+
+    @Test
+    void customerDebt_usesCustomerStatusIndex() {
+        assertNoFullScan(() -> transportDao.sumPriceByCustomerAndStatus(customerId, PaymentStatus.NOT_PAID),
+                customerId, PaymentStatus.NOT_PAID.name());
+    }
+
+    @Test
+    void unpaidTransportIds_usesCustomerStatusIndex() {
+        assertNoFullScan(() -> transportDao.getTransportIdsByCustomerAndStatus(customerId, PaymentStatus.NOT_PAID),
+                customerId, PaymentStatus.NOT_PAID.name());
+    }
+
+    @Test
+    void transportsOfEmployee_usesEmployeeStatusIndex() {
+        assertNoFullScan(() -> transportDao.getTransportSummariesByEmployee(employeeId), employeeId);
+    }
+
+    @Test
+    void transportsOfVehicle_usesVehicleIndex() {
+        assertNoFullScan(() -> transportDao.getTransportSummariesByVehicle(vehicleId), vehicleId);
+    }
+
+    @Test
+    void revenueByStatus_usesStatusPriceIndex() {
+        assertNoFullScan(() -> transportDao.sumRevenueByStatus(PaymentStatus.PAID), PaymentStatus.PAID.name());
+    }
+
+    @Test
+    void filterByDestination_usesTrigramIndex() {
+        String destination = "City42";
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(TransportPlace.END_POINT.name());
+        parameters.addAll(Trigrams.forQuery(destination));
+        parameters.add((long) Trigrams.forQuery(destination).size());
+        parameters.add("%" + Trigrams.normalize(destination) + "%");
+
+        Plan plan = assertNoFullScan(() -> transportDao.filterByDestination(destination), parameters.toArray());
+        assertTrue(plan.usesKey("idx_transport_trigram_lookup"), "Trigram lookup index unused in plan " + plan);
+    }
+
+    @Test
+    void sortedByDestinationPrefix_readsEndPointIndexInOrder() {
+        Plan plan = assertNoFullScan(
+                () -> transportDao.searchByPlacePrefix(TransportPlace.END_POINT, "City42"), "City42%");
+        assertTrue(plan.usesKey("idx_transport_end_point"), "End point index unused in plan " + plan);
+        assertTrue(plan.rows().stream().noneMatch(PlanRow::filesorts),
+                "Sorted destination search fell back to a filesort: " + plan);
+    }
+
+    @Test
+    void sortByDestination_readsOnlyTheTransportTable() {
+        // An unbounded sort has to read every row, so the guard here is that it stays one single-table statement
+        List<String> statements = CapturingStatementInspector.capture(() -> transportDao.sortByDestinationAscending(true));
+        assertEquals(1, statements.size(), "Sorting by destination sent " + statements);
+
+        Plan plan = explain(() -> transportDao.sortByDestinationAscending(true));
+        assertEquals(1, plan.rows().size(), "Sorting by destination joined other tables: " + plan);
+    }
+
+    @Test
+    void employeesBySalary_usesSalaryIndex() {
+        BigDecimal minSalary = BigDecimal.valueOf(4950);
+        assertNoFullScan(() -> employeeDao.filterByMinSalary(minSalary), minSalary);
+    }
+
+    @Test
+    void companiesByRevenue_usesRevenueIndex() {
+        BigDecimal minRevenue = BigDecimal.valueOf(195_000);
+        assertNoFullScan(() -> companyDao.filterByRevenue(minRevenue), minRevenue);
+    }
+}
@@ -0,0 +1,215 @@
+package org.university.dao;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.university.configuration.SessionFactoryUtil;
+import org.university.entity.BaseEntity;
+import org.university.entity.Company;
+import org.university.entity.Employee;
+import org.university.entity.Transport;
+import org.university.entity.Vehicle;
+import org.university.service.impl.company_service_impl.CompanyReportServiceImpl;
+import org.university.service.impl.transport_service_impl.TransportReportServiceImpl;
+import org.university.service.impl.vehicle_service_impl.VehicleReportServiceImpl;
+import org.university.util.CargoType;
+import org.university.util.PaymentStatus;
+import org.university.util.TransportPlace;
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigrationDaoTest {
+
+    private static SessionFactory sessionFactory;
+    private static TransportDao transportDao;
+    private static RevenueLedgerDao revenueLedgerDao;
+    private static SchemaMigrationDao schemaMigrationDao;
+
+    @BeforeAll
+    static void init() {
+        sessionFactory = SessionFactoryUtil.getSessionFactory();
+        transportDao = new TransportDao();
+        revenueLedgerDao = new RevenueLedgerDao();
+        schemaMigrationDao = new SchemaMigrationDao(revenueLedgerDao, transportDao);
+    }
+
+    @BeforeEach
+    void clearDatabase() {
+        execute("DELETE FROM TransportTrigram", "DELETE FROM RevenueLedgerEntry", "DELETE FROM DailyRevenueRollup",
+                "DELETE FROM Transport");
+    }
+
+    private static void execute(String... statements) {
+        Session session = sessionFactory.openSession();
+        try {
+            session.beginTransaction();
+            for (String statement : statements) {
+                session.createMutationQuery(statement).executeUpdate();
+            }
+            session.getTransaction().commit();
+        } catch (Exception e) {
+            if (session.getTransaction() != null && session.getTransaction().isActive()) {
+                session.getTransaction().rollback();
+            }
+            throw e;
+        } finally {
+            session.close();
+        }
+    }
+
+    private static Transport transport(Company company, Employee employee, Vehicle vehicle, String endPoint,
+                                       LocalDate departure, PaymentStatus status, String price) {
+        Transport transport = new Transport();
+        transport.setStartPoint("Sofia");
+        transport.setEndPoint(endPoint);
+        transport.setDepartureDate(departure);
+        transport.setArrivalDate(departure.plusDays(1));
+        transport.setCargoType(CargoType.GOODS);
+        transport.setQuantity(BigDecimal.ONE);
+        transport.setInitPrice(new BigDecimal(price));
+        transport.setTotalPrice(new BigDecimal(price));
+        transport.setPaymentStatus(status);
+        transport.setCompany(company);
+        transport.setEmployee(employee);
+        transport.setVehicle(vehicle);
+        return transport;
+    }
+
+    private static void forget(String migration) {
+        execute("DELETE FROM SchemaMigration m WHERE m.name = '" + migration + "'");
+    }
+
+    private static long nextSequenceValue(String sequence) {
+        try (Session session = sessionFactory.openSession()) {
+            return ((Number) session.createNativeQuery("SELECT next_val FROM " + sequence, Object.class)
+                    .getSingleResult()).longValue();
+        }
+    }
+
+    @Test
+    void migrate_raisesIdSequenceAboveRowsInsertedWithoutIt() {
+        long legacyId = nextSequenceValue(BaseEntity.ID_SEQUENCE) + 10_000;
+        Session session = sessionFactory.openSession();
+        try {
+            session.beginTransaction();
+            session.createNativeMutationQuery("INSERT INTO company (id, name, revenue) VALUES (:id, :name, 0)")
+                    .setParameter("id", legacyId)
+                    .setParameter("name", "Legacy company " + System.nanoTime())
+                    .addSynchronizedEntityClass(Company.class)
+                    .executeUpdate();
+            session.getTransaction().commit();
+        } catch (Exception e) {
+            if (session.getTransaction() != null && session.getTransaction().isActive()) {
+                session.getTransaction().rollback();
+            }
+            throw e;
+        } finally {
+            session.close();
+        }
+        forget(SchemaMigrationDao.SEED_ID_SEQUENCES);
+
+        List<String> applied = schemaMigrationDao.migrate();
+
+        assertTrue(applied.contains(SchemaMigrationDao.SEED_ID_SEQUENCES));
+        assertTrue(nextSequenceValue(BaseEntity.ID_SEQUENCE) - BaseEntity.ID_ALLOCATION_SIZE >= legacyId);
+        assertFalse(schemaMigrationDao.migrate().contains(SchemaMigrationDao.SEED_ID_SEQUENCES));
+
+        new CompanyDao().deleteCompany(legacyId);
+    }
+
+    @Test
+    void migrate_backfillsRevenueLedgerForTransportsWrittenBeforeIt() {
+        CompanyDao companyDao = new CompanyDao();
+        Company company = Company.builder()
+                .name("Backfill company " + System.nanoTime())
+                .revenue(BigDecimal.ZERO)
+                .build();
+        companyDao.createCompany(company);
+        Employee employee = new Employee();
+        employee.setFirstName("Backfill");
+        employee.setLastName("Driver");
+        employee.setBirthDate(LocalDate.of(1985, 1, 1));
+        employee.setSalary(BigDecimal.valueOf(1000));
+        new EmployeeDao().createEmployee(employee);
+        VehicleDao vehicleDao = new VehicleDao();
+        Vehicle vehicle = Vehicle.builder()
+                .vehicleType(VehicleType.CISTERN)
+                .distanceTraveled(BigDecimal.ZERO)
+                .build();
+        vehicleDao.createVehicle(vehicle);
+
+        transportDao.createTransports(List.of(
+                transport(company, employee, vehicle, "Varna", LocalDate.of(2024, 3, 1), PaymentStatus.PAID, "40"),
+                transport(company, employee, vehicle, "Ruse", LocalDate.of(2024, 3, 2), PaymentStatus.NOT_PAID, "60")));
+        execute("DELETE FROM RevenueLedgerEntry",
+                "UPDATE Company c SET c.revenue = 999 WHERE c.id = " + company.getId());
+
+        CompanyReportServiceImpl companyReport = new CompanyReportServiceImpl(companyDao, revenueLedgerDao);
+        VehicleReportServiceImpl vehicleReport = new VehicleReportServiceImpl(vehicleDao, revenueLedgerDao);
+        TransportReportServiceImpl transportReport = new TransportReportServiceImpl(transportDao, companyDao, revenueLedgerDao);
+        assertEquals(0, companyReport.getCompanyTransportsCount(company.getId()));
+
+        forget(SchemaMigrationDao.BACKFILL_REVENUE_LEDGER);
+        assertTrue(schemaMigrationDao.migrate().contains(SchemaMigrationDao.BACKFILL_REVENUE_LEDGER));
+
+        assertEquals(2, companyReport.getCompanyTransportsCount(company.getId()));
+        assertEquals(0, new BigDecimal("40").compareTo(companyDao.getCompanyById(company.getId()).getRevenue()));
+        assertEquals(new BigDecimal("50.00"), companyReport.getCompanyAverageTransportRevenue(company.getId()));
+        assertEquals(new BigDecimal("50.00"), vehicleReport.getAverageRevenueForAVehiclePerTransport(vehicle.getId()));
+        assertEquals(0, new BigDecimal("100").compareTo(vehicleReport.getRevenueByVehicleType(VehicleType.CISTERN)));
+        assertEquals(2, transportReport.getTransportsCountByDriver().get(employee.getId()));
+        assertEquals(0, new BigDecimal("40").compareTo(transportReport.getDriverRevenue().get(employee.getId())));
+    }
+
+    @Test
+    void migrate_backfillsDailyRollupForPeriodsBeforeIt() {
+        CompanyDao companyDao = new CompanyDao();
+        Company company = Company.builder()
+                .name("Rollup company " + System.nanoTime())
+                .revenue(BigDecimal.ZERO)
+                .build();
+        companyDao.createCompany(company);
+
+        transportDao.createTransports(List.of(
+                transport(company, null, null, "Varna", LocalDate.of(2023, 5, 10), PaymentStatus.PAID, "70"),
+                transport(company, null, null, "Ruse", LocalDate.of(2023, 5, 20), PaymentStatus.PAID, "30"),
+                transport(company, null, null, "Burgas", LocalDate.of(2023, 5, 25), PaymentStatus.NOT_PAID, "90")));
+        execute("DELETE FROM DailyRevenueRollup");
+
+        TransportReportServiceImpl transportReport = new TransportReportServiceImpl(transportDao, companyDao, revenueLedgerDao);
+        LocalDate from = LocalDate.of(2023, 5, 1);
+        LocalDate to = LocalDate.of(2023, 5, 31);
+        assertEquals(0, BigDecimal.ZERO.compareTo(transportReport.getCompanyRevenueForAPeriod(company.getId(), from, to)));
+
+        forget(SchemaMigrationDao.BACKFILL_DAILY_REVENUE_ROLLUP);
+        assertTrue(schemaMigrationDao.migrate().contains(SchemaMigrationDao.BACKFILL_DAILY_REVENUE_ROLLUP));
+
+        assertEquals(0, new BigDecimal("100").compareTo(transportReport.getCompanyRevenueForAPeriod(company.getId(), from, to)));
+        assertEquals(0, new BigDecimal("70").compareTo(
+                transportReport.getCompanyRevenueForAPeriod(company.getId(), from, LocalDate.of(2023, 5, 15))));
+    }
+
+    @Test
+    void migrate_backfillsPlaceIndexForTransportsWrittenBeforeIt() {
+        transportDao.createTransports(List.of(
+                transport(null, null, null, "Veliko Tarnovo", LocalDate.of(2024, 6, 1), PaymentStatus.NOT_PAID, "10"),
+                transport(null, null, null, "Plovdiv", LocalDate.of(2024, 6, 2), PaymentStatus.NOT_PAID, "20")));
+        execute("DELETE FROM TransportTrigram");
+        assertTrue(transportDao.filterByDestination("Tarnovo").isEmpty());
+
+        forget(SchemaMigrationDao.BACKFILL_PLACE_INDEX);
+        assertTrue(schemaMigrationDao.migrate().contains(SchemaMigrationDao.BACKFILL_PLACE_INDEX));
+
+        List<Transport> byDestination = transportDao.filterByDestination("Tarnovo");
+        assertEquals(1, byDestination.size());
+        assertEquals("Veliko Tarnovo", byDestination.get(0).getEndPoint());
+        assertEquals(2, transportDao.searchByPlace(TransportPlace.START_POINT, "Sofia").size());
+    }
+}
@@ -7,12 +7,21 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.university.configuration.SessionFactoryUtil;
+import org.university.dto.RankingEntry;
+import org.university.dto.TransportChange;
+import org.university.dto.TransportExportFilter;
+import org.university.dto.TransportSummary;
 import org.university.entity.Transport;
+import org.university.exception.DAOException;
 import org.university.util.CargoType;
 import org.university.util.PaymentStatus;
+import org.university.util.RankingDimension;
+import org.university.util.RankingMetric;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,6 +42,9 @@ class TransportDaoTest {
         try {
             session.beginTransaction();
 
+            session.createQuery("DELETE FROM TransportTrigram").executeUpdate();
+            session.createQuery("DELETE FROM RevenueLedgerEntry").executeUpdate();
+            session.createQuery("DELETE FROM DailyRevenueRollup").executeUpdate();
             session.createQuery("DELETE FROM Transport").executeUpdate();
 
             session.getTransaction().commit();
@@ -158,4 +170,440 @@ class TransportDaoTest {
         assertEquals(2, transportDao.filterByDestination("Varna").size());
         assertTrue(transportDao.filterByDestination("Varna").stream().allMatch(t -> "Varna".equals(t.getEndPoint())));
     }
-}
\ No newline at end of file
+
+    @Test
+    void countTransports() {
+        transportDao.createTransport(buildTransport("Sofia", "Varna", BigDecimal.valueOf(500), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID));
+        transportDao.createTransport(buildTransport("Sofia", "Burgas", BigDecimal.valueOf(450), LocalDate.of(2025, 1, 11), PaymentStatus.PAID));
+
+        assertEquals(2, transportDao.countTransports());
+    }
+
+    @Test
+    void sumRevenueByStatus() {
+        Transport paid1 = buildTransport("Sofia", "Varna", BigDecimal.valueOf(500), LocalDate.of(2025, 1, 10), PaymentStatus.PAID);
+        paid1.setTotalPrice(new BigDecimal("10.00"));
+        Transport paid2 = buildTransport("Sofia", "Burgas", BigDecimal.valueOf(450), LocalDate.of(2025, 1, 11), PaymentStatus.PAID);
+        paid2.setTotalPrice(new BigDecimal("2.50"));
+        Transport notPaid = buildTransport("Sofia", "Ruse", BigDecimal.valueOf(100), LocalDate.of(2025, 1, 12), PaymentStatus.NOT_PAID);
+        notPaid.setTotalPrice(new BigDecimal("999.00"));
+        transportDao.createTransport(paid1);
+        transportDao.createTransport(paid2);
+        transportDao.createTransport(notPaid);
+
+        assertEquals(0, new BigDecimal("12.50").compareTo(transportDao.sumRevenueByStatus(PaymentStatus.PAID)));
+        assertEquals(0, BigDecimal.ZERO.compareTo(transportDao.sumRevenueByStatus(PaymentStatus.CANCELED)));
+    }
+
+    @Test
+    void forEachTransport_visitsEveryRowInIdOrder() {
+        transportDao.createTransport(buildTransport("Sofia", "Varna", BigDecimal.valueOf(500), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID));
+        transportDao.createTransport(buildTransport("Sofia", "Burgas", BigDecimal.valueOf(450), LocalDate.of(2025, 1, 11), PaymentStatus.NOT_PAID));
+        transportDao.createTransport(buildTransport("Sofia", "Ruse", BigDecimal.valueOf(100), LocalDate.of(2025, 1, 12), PaymentStatus.NOT_PAID));
+
+        List<Long> ids = new ArrayList<>();
+        transportDao.forEachTransport(2, transport -> ids.add(transport.getId()));
+
+        assertEquals(3, ids.size());
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    void forEachTransportDto_streamsOnlyRowsMatchingFilter() {
+        transportDao.createTransport(buildTransport("Sofia", "Varna", BigDecimal.valueOf(500), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID));
+        transportDao.createTransport(buildTransport("Sofia", "Burgas", BigDecimal.valueOf(450), LocalDate.of(2025, 1, 11), PaymentStatus.PAID));
+        transportDao.createTransport(buildTransport("Sofia", "Ruse", BigDecimal.valueOf(100), LocalDate.of(2025, 1, 12), PaymentStatus.NOT_PAID));
+
+        List<String> endPoints = new ArrayList<>();
+        transportDao.forEachTransportDto(TransportExportFilter.builder()
+                .departureFrom(LocalDate.of(2025, 1, 11))
+                .paymentStatus(PaymentStatus.NOT_PAID)
+                .build(), 2, transport -> endPoints.add(transport.getEndPoint()));
+
+        assertEquals(List.of("Ruse"), endPoints);
+    }
+
+    @Test
+    void forEachTransportDto_rejectsInvertedDateWindow() {
+        TransportExportFilter filter = TransportExportFilter.builder()
+                .departureFrom(LocalDate.of(2025, 2, 1))
+                .departureTo(LocalDate.of(2025, 1, 1))
+                .build();
+
+        assertThrows(DAOException.class, () -> transportDao.forEachTransportDto(filter, 10, transport -> { }));
+    }
+
+    @Test
+    void createTransports_persistsAcrossSeveralBatches() {
+        List<Transport> transports = new ArrayList<>();
+        for (int i = 0; i < TransportDao.BATCH_SIZE * 2 + 7; i++) {
+            transports.add(buildTransport("Sofia", "Varna", BigDecimal.valueOf(100 + i), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID));
+        }
+
+        transportDao.createTransports(transports);
+
+        assertEquals(transports.size(), transportDao.countTransports());
+        assertTrue(transports.stream().allMatch(t -> t.getId() != null));
+    }
+
+    @Test
+    void createTransports_rejectsMissingReferences() {
+        Transport transport = buildTransport("Sofia", "Varna", BigDecimal.valueOf(500), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID);
+        org.university.entity.Company missing = new org.university.entity.Company();
+        missing.setId(Long.MAX_VALUE);
+        transport.setCompany(missing);
+
+        assertThrows(org.university.exception.DAOException.class,
+                () -> transportDao.createTransports(java.util.List.of(transport)));
+        assertEquals(0, transportDao.countTransports());
+    }
+
+    @Test
+    void createTransport_rejectsMissingReferences() {
+        Transport transport = buildTransport("Sofia", "Varna", BigDecimal.valueOf(500), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID);
+        org.university.entity.Vehicle missing = new org.university.entity.Vehicle();
+        missing.setId(Long.MAX_VALUE);
+        transport.setVehicle(missing);
+
+        DAOException error = assertThrows(DAOException.class, () -> transportDao.createTransport(transport));
+        assertEquals("Vehicle with ids [" + Long.MAX_VALUE + "] does not exist", error.getMessage());
+        assertEquals(0, transportDao.countTransports());
+    }
+
+    @Test
+    void payTransport_debitsBudgetAndMarksPaid_onlyWhenBudgetIsEnough() {
+        CustomerDao customerDao = new CustomerDao();
+        org.university.entity.Customer customer = new org.university.entity.Customer();
+        customer.setFirstName("Ivan");
+        customer.setLastName("Ivanov");
+        customer.setBirthDate(LocalDate.of(1990, 1, 1));
+        customer.setBudget(BigDecimal.valueOf(150));
+        customerDao.createCustomer(customer);
+
+        Transport affordable = buildTransport("Sofia", "Varna", BigDecimal.valueOf(100), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID);
+        affordable.setTotalPrice(BigDecimal.valueOf(100));
+        affordable.setCustomer(customer);
+        transportDao.createTransport(affordable);
+
+        Transport tooExpensive = buildTransport("Sofia", "Burgas", BigDecimal.valueOf(100), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID);
+        tooExpensive.setTotalPrice(BigDecimal.valueOf(100));
+        tooExpensive.setCustomer(customer);
+        transportDao.createTransport(tooExpensive);
+
+        assertTrue(transportDao.payTransport(affordable.getId()));
+        assertFalse(transportDao.payTransport(affordable.getId()));
+        assertFalse(transportDao.payTransport(tooExpensive.getId()));
+
+        assertEquals(PaymentStatus.PAID, transportDao.getTransportById(affordable.getId()).getPaymentStatus());
+        assertEquals(PaymentStatus.NOT_PAID, transportDao.getTransportById(tooExpensive.getId()).getPaymentStatus());
+        assertEquals(0, BigDecimal.valueOf(50).compareTo(customerDao.getCustomerById(customer.getId()).getBudget()));
+    }
+
+    @Test
+    void payTransport_reportsTheActualPreviousStatus() {
+        CustomerDao customerDao = new CustomerDao();
+        org.university.entity.Customer customer = new org.university.entity.Customer();
+        customer.setFirstName("Elena");
+        customer.setLastName("Petrova");
+        customer.setBirthDate(LocalDate.of(1990, 1, 1));
+        customer.setBudget(BigDecimal.valueOf(150));
+        customerDao.createCustomer(customer);
+
+        Transport canceled = buildTransport("Sofia", "Varna", BigDecimal.valueOf(100), LocalDate.of(2025, 1, 10), PaymentStatus.CANCELED);
+        canceled.setTotalPrice(BigDecimal.valueOf(100));
+        canceled.setCustomer(customer);
+        transportDao.createTransport(canceled);
+
+        List<TransportChange> reported = new ArrayList<>();
+        TransportChangeListener listener = new TransportChangeListener() {
+            @Override
+            public void transportsChanged(List<TransportChange> changes) {
+                reported.addAll(changes);
+            }
+        };
+        transportDao.addChangeListener(listener);
+        try {
+            assertTrue(transportDao.payTransport(canceled.getId()));
+        } finally {
+            transportDao.removeChangeListener(listener);
+        }
+
+        assertEquals(1, reported.size());
+        assertEquals(PaymentStatus.CANCELED, reported.get(0).before().paymentStatus());
+        assertEquals(PaymentStatus.PAID, reported.get(0).after().paymentStatus());
+    }
+
+    @Test
+    void settleCustomers_paysOldestTransportsWhileBudgetLasts_inGreedyMode() {
+        CustomerDao customerDao = new CustomerDao();
+        org.university.entity.Customer customer = new org.university.entity.Customer();
+        customer.setFirstName("Maria");
+        customer.setLastName("Petrova");
+        customer.setBirthDate(LocalDate.of(1990, 1, 1));
+        customer.setBudget(BigDecimal.valueOf(250));
+        customerDao.createCustomer(customer);
+
+        for (int day = 1; day <= 3; day++) {
+            Transport transport = buildTransport("Sofia", "Varna", BigDecimal.valueOf(100), LocalDate.of(2025, 1, day), PaymentStatus.NOT_PAID);
+            transport.setTotalPrice(BigDecimal.valueOf(100));
+            transport.setCustomer(customer);
+            transportDao.createTransport(transport);
+        }
+
+        org.university.dto.SettlementSummaryDto allOrNothing = transportDao.settleCustomers(
+                java.util.List.of(customer.getId()), org.university.util.SettlementMode.ALL_OR_NOTHING);
+        assertEquals(0, allOrNothing.getTransportsPaid());
+        assertEquals(java.util.Set.of(customer.getId()), allOrNothing.getCustomersWithDebt());
+
+        org.university.dto.SettlementSummaryDto greedy = transportDao.settleCustomers(
+                java.util.List.of(customer.getId()), org.university.util.SettlementMode.GREEDY);
+        assertEquals(2, greedy.getTransportsPaid());
+        assertEquals(1, greedy.getTransportsLeftUnpaid());
+        assertEquals(0, BigDecimal.valueOf(200).compareTo(greedy.getAmountPaid()));
+        assertEquals(0, BigDecimal.valueOf(50).compareTo(customerDao.getCustomerById(customer.getId()).getBudget()));
+        assertEquals(0, BigDecimal.valueOf(100).compareTo(
+                transportDao.sumPriceByCustomerAndStatus(customer.getId(), PaymentStatus.NOT_PAID)));
+    }
+
+    @Test
+    void settleCustomers_skipsTransportsTheBudgetCannotCover_inGreedyMode() {
+        CustomerDao customerDao = new CustomerDao();
+        org.university.entity.Customer customer = new org.university.entity.Customer();
+        customer.setFirstName("Elena");
+        customer.setLastName("Ivanova");
+        customer.setBirthDate(LocalDate.of(1990, 1, 1));
+        customer.setBudget(BigDecimal.valueOf(250));
+        customerDao.createCustomer(customer);
+
+        int[] prices = {100, 200, 100};
+        for (int day = 1; day <= prices.length; day++) {
+            BigDecimal price = BigDecimal.valueOf(prices[day - 1]);
+            Transport transport = buildTransport("Sofia", "Varna", price, LocalDate.of(2025, 1, day), PaymentStatus.NOT_PAID);
+            transport.setTotalPrice(price);
+            transport.setCustomer(customer);
+            transportDao.createTransport(transport);
+        }
+
+        org.university.dto.SettlementSummaryDto greedy = transportDao.settleCustomers(
+                java.util.List.of(customer.getId()), org.university.util.SettlementMode.GREEDY);
+        assertEquals(2, greedy.getTransportsPaid());
+        assertEquals(1, greedy.getTransportsLeftUnpaid());
+        assertEquals(0, BigDecimal.valueOf(200).compareTo(greedy.getAmountPaid()));
+        assertEquals(0, BigDecimal.valueOf(200).compareTo(greedy.getAmountLeftUnpaid()));
+        assertEquals(0, BigDecimal.valueOf(50).compareTo(customerDao.getCustomerById(customer.getId()).getBudget()));
+        assertEquals(0, BigDecimal.valueOf(200).compareTo(
+                transportDao.sumPriceByCustomerAndStatus(customer.getId(), PaymentStatus.NOT_PAID)));
+    }
+
+    @Test
+    void searchByPlace_matchesSubstringsCaseInsensitively_andFollowsUpdates() {
+        Transport varna = buildTransport("Sofia", "Varna", BigDecimal.valueOf(100), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID);
+        Transport burgas = buildTransport("Plovdiv", "Burgas", BigDecimal.valueOf(100), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID);
+        transportDao.createTransport(varna);
+        transportDao.createTransport(burgas);
+
+        assertEquals(1, transportDao.searchByPlace(org.university.util.TransportPlace.END_POINT, "ARN").size());
+        assertEquals(1, transportDao.searchByPlace(org.university.util.TransportPlace.END_POINT, "na").size());
+        assertEquals(1, transportDao.searchByPlace(org.university.util.TransportPlace.START_POINT, "lovd").size());
+        assertTrue(transportDao.searchByPlace(org.university.util.TransportPlace.END_POINT, "anr").isEmpty());
+        assertEquals(1, transportDao.searchByPlacePrefix(org.university.util.TransportPlace.END_POINT, "bur").size());
+
+        varna.setEndPoint("Ruse");
+        transportDao.updateTransport(varna.getId(), varna);
+        assertTrue(transportDao.filterByDestination("varna").isEmpty());
+        assertEquals(1, transportDao.filterByDestination("rus").size());
+
+        transportDao.deleteTransport(burgas.getId());
+        assertTrue(transportDao.searchByPlace(org.university.util.TransportPlace.END_POINT, "burg").isEmpty());
+    }
+
+    @Test
+    void revenueLedger_tracksPaymentsAndReversals() {
+        CompanyDao companyDao = new CompanyDao();
+        org.university.entity.Company company = org.university.entity.Company.builder()
+                .name("Ledger company " + System.nanoTime())
+                .revenue(BigDecimal.ZERO)
+                .build();
+        companyDao.createCompany(company);
+
+        VehicleDao vehicleDao = new VehicleDao();
+        org.university.entity.Vehicle vehicle = org.university.entity.Vehicle.builder()
+                .vehicleType(org.university.util.VehicleType.TRUCK)
+                .distanceTraveled(BigDecimal.ZERO)
+                .build();
+        vehicleDao.createVehicle(vehicle);
+
+        Transport transport = buildTransport("Sofia", "Varna", BigDecimal.valueOf(80), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID);
+        transport.setTotalPrice(BigDecimal.valueOf(80));
+        transport.setCompany(company);
+        transport.setVehicle(vehicle);
+        transportDao.createTransport(transport);
+
+        RevenueLedgerDao ledgerDao = new RevenueLedgerDao();
+        org.university.entity.RevenueLedgerEntry companyEntry = ledgerDao.getEntry(org.university.util.LedgerScope.COMPANY, company.getId());
+        assertEquals(1, companyEntry.getTransportCount());
+        assertEquals(0, BigDecimal.valueOf(80).compareTo(companyEntry.getBilledAmount()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(companyEntry.getPaidAmount()));
+
+        transportDao.updatePaymentStatus(transport.getId(), PaymentStatus.PAID);
+        assertEquals(0, BigDecimal.valueOf(80).compareTo(
+                ledgerDao.getEntry(org.university.util.LedgerScope.COMPANY, company.getId()).getPaidAmount()));
+        assertEquals(0, BigDecimal.valueOf(80).compareTo(companyDao.getCompanyById(company.getId()).getRevenue()));
+
+        transportDao.updatePaymentStatus(transport.getId(), PaymentStatus.CANCELED);
+        assertEquals(0, BigDecimal.ZERO.compareTo(
+                ledgerDao.getEntry(org.university.util.LedgerScope.COMPANY, company.getId()).getPaidAmount()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(companyDao.getCompanyById(company.getId()).getRevenue()));
+
+        vehicle.setVehicleType(org.university.util.VehicleType.BUS);
+        vehicleDao.updateVehicle(vehicle.getId(), vehicle);
+        assertEquals(0, BigDecimal.valueOf(80).compareTo(
+                ledgerDao.getEntry(org.university.util.LedgerScope.VEHICLE_TYPE, "BUS").getBilledAmount()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(
+                ledgerDao.getEntry(org.university.util.LedgerScope.VEHICLE_TYPE, "TRUCK").getBilledAmount()));
+
+        transportDao.deleteTransport(transport.getId());
+        assertEquals(0, ledgerDao.getEntry(org.university.util.LedgerScope.VEHICLE, vehicle.getId()).getTransportCount());
+    }
+
+    @Test
+    void updateVehicle_movesTypeTotalsFromNoType_andCommitsBeforeListenersRun() {
+        VehicleDao vehicleDao = new VehicleDao();
+        org.university.entity.Vehicle vehicle = org.university.entity.Vehicle.builder()
+                .vehicleType(org.university.util.VehicleType.TRUCK)
+                .distanceTraveled(BigDecimal.ZERO)
+                .build();
+        vehicleDao.createVehicle(vehicle);
+        // Rows written before the type became mandatory have none
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.createNativeMutationQuery("UPDATE vehicle SET vehicle_type = NULL WHERE id = :id")
+                    .setParameter("id", vehicle.getId())
+                    .addSynchronizedEntityClass(org.university.entity.Vehicle.class)
+                    .executeUpdate();
+            transaction.commit();
+        }
+
+        Transport transport = buildTransport("Sofia", "Varna", BigDecimal.valueOf(60), LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID);
+        transport.setTotalPrice(BigDecimal.valueOf(60));
+        transport.setVehicle(vehicle);
+        transportDao.createTransport(transport);
+
+        VehicleChangeListener failing = (vehicleId, previousType, newType) -> {
+            throw new IllegalStateException("listener failed");
+        };
+        vehicleDao.addChangeListener(failing);
+        try {
+            vehicle.setVehicleType(org.university.util.VehicleType.CISTERN);
+            assertThrows(IllegalStateException.class, () -> vehicleDao.updateVehicle(vehicle.getId(), vehicle));
+        } finally {
+            vehicleDao.removeChangeListener(failing);
+        }
+
+        RevenueLedgerDao ledgerDao = new RevenueLedgerDao();
+        assertEquals(org.university.util.VehicleType.CISTERN, vehicleDao.getVehicleById(vehicle.getId()).getVehicleType());
+        assertEquals(0, BigDecimal.valueOf(60).compareTo(
+                ledgerDao.getEntry(org.university.util.LedgerScope.VEHICLE_TYPE, "CISTERN").getBilledAmount()));
+        assertNull(ledgerDao.getEntry(org.university.util.LedgerScope.VEHICLE_TYPE, "TRUCK"));
+    }
+
+    @Test
+    void dailyRollup_answersCompanyPeriodRevenue() {
+        CompanyDao companyDao = new CompanyDao();
+        org.university.entity.Company company = org.university.entity.Company.builder()
+                .name("Rollup company " + System.nanoTime())
+                .revenue(BigDecimal.ZERO)
+                .build();
+        companyDao.createCompany(company);
+
+        Transport january = buildTransport("Sofia", "Varna", BigDecimal.valueOf(40), LocalDate.of(2025, 1, 10), PaymentStatus.PAID);
+        january.setTotalPrice(BigDecimal.valueOf(40));
+        january.setCompany(company);
+        Transport february = buildTransport("Sofia", "Ruse", BigDecimal.valueOf(60), LocalDate.of(2025, 2, 10), PaymentStatus.PAID);
+        february.setTotalPrice(BigDecimal.valueOf(60));
+        february.setCompany(company);
+        Transport unpaid = buildTransport("Sofia", "Ruse", BigDecimal.valueOf(90), LocalDate.of(2025, 1, 20), PaymentStatus.NOT_PAID);
+        unpaid.setTotalPrice(BigDecimal.valueOf(90));
+        unpaid.setCompany(company);
+        transportDao.createTransports(java.util.List.of(january, february, unpaid));
+
+        RevenueLedgerDao ledgerDao = new RevenueLedgerDao();
+        assertEquals(0, BigDecimal.valueOf(40).compareTo(
+                ledgerDao.sumCompanyPaidRevenue(company.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))));
+        assertEquals(0, BigDecimal.valueOf(100).compareTo(
+                ledgerDao.sumCompanyPaidRevenue(company.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))));
+
+        transportDao.updatePaymentStatus(january.getId(), PaymentStatus.CANCELED);
+        assertEquals(0, BigDecimal.ZERO.compareTo(
+                ledgerDao.sumCompanyPaidRevenue(company.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))));
+        assertEquals(2, ledgerDao.getDailyRollup(company.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)).size());
+    }
+
+    @Test
+    void getTransportSummariesByCustomer_projectsOnlyThatCustomersRows() {
+        CustomerDao customerDao = new CustomerDao();
+        org.university.entity.Customer customer = new org.university.entity.Customer();
+        customer.setFirstName("Petar");
+        customer.setLastName("Petrov");
+        customer.setBirthDate(LocalDate.of(1985, 5, 5));
+        customer.setBudget(BigDecimal.ZERO);
+        customerDao.createCustomer(customer);
+
+        Transport own = buildTransport("Sofia", "Ruse", BigDecimal.valueOf(40), LocalDate.of(2025, 2, 1), PaymentStatus.PAID);
+        own.setTotalPrice(new BigDecimal("40.00"));
+        own.setCustomer(customer);
+        transportDao.createTransport(own);
+        transportDao.createTransport(buildTransport("Sofia", "Pleven", BigDecimal.valueOf(10), LocalDate.of(2025, 2, 2), PaymentStatus.PAID));
+
+        List<TransportSummary> summaries = transportDao.getTransportSummariesByCustomer(customer.getId());
+
+        assertEquals(1, summaries.size());
+        TransportSummary summary = summaries.get(0);
+        assertEquals(own.getId(), summary.id());
+        assertEquals(customer.getId(), summary.customerId());
+        assertNull(summary.employeeId());
+        assertEquals(LocalDate.of(2025, 2, 1), summary.departureDate());
+        assertEquals(PaymentStatus.PAID, summary.paymentStatus());
+        assertEquals(0, new BigDecimal("40.00").compareTo(summary.totalPrice()));
+        assertEquals(2, transportDao.getTransportSummaries().size());
+    }
+
+    @Test
+    void getTopRanked_ordersByMetricAndHonoursLimitAndWindow() {
+        CustomerDao customerDao = new CustomerDao();
+        List<org.university.entity.Customer> customers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            org.university.entity.Customer customer = new org.university.entity.Customer();
+            customer.setFirstName("Rank");
+            customer.setLastName("Customer" + i);
+            customer.setBirthDate(LocalDate.of(1990, 1, 1));
+            customer.setBudget(BigDecimal.ZERO);
+            customerDao.createCustomer(customer);
+            customers.add(customer);
+        }
+
+        int[] transportsPerCustomer = {1, 3, 2};
+        for (int i = 0; i < customers.size(); i++) {
+            for (int j = 0; j < transportsPerCustomer[i]; j++) {
+                Transport transport = buildTransport("Sofia", "Varna", BigDecimal.TEN, LocalDate.of(2025, 3, 1 + j), PaymentStatus.PAID);
+                transport.setTotalPrice(BigDecimal.valueOf(10L * (i + 1)));
+                transport.setCustomer(customers.get(i));
+                transportDao.createTransport(transport);
+            }
+        }
+
+        List<RankingEntry> byCount = transportDao.getTopRanked(RankingDimension.CUSTOMER, RankingMetric.TRANSPORT_COUNT,
+                2, null, null, null);
+        assertEquals(List.of(customers.get(1).getId(), customers.get(2).getId()),
+                byCount.stream().map(RankingEntry::id).toList());
+        assertEquals(3, byCount.get(0).transportCount());
+
+        List<RankingEntry> byRevenue = transportDao.getTopRanked(RankingDimension.CUSTOMER, RankingMetric.REVENUE,
+                1, PaymentStatus.PAID, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 1));
+        assertEquals(customers.get(2).getId(), byRevenue.get(0).id());
+        assertEquals(0, new BigDecimal("30").compareTo(byRevenue.get(0).revenue()));
+
+        assertThrows(DAOException.class, () -> transportDao.getTopRanked(RankingDimension.DRIVER,
+                RankingMetric.REVENUE, 0, null, null, null));
+    }
+}
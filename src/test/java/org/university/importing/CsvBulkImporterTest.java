@@ -0,0 +1,202 @@
+package org.university.importing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.hibernate.exception.JDBCConnectionException;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.university.dao.CustomerDao;
+import org.university.dao.EmployeeDao;
+import org.university.dao.TransportDao;
+import org.university.dao.VehicleDao;
+import org.university.entity.Customer;
+import org.university.entity.Transport;
+import org.university.exception.DAOException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CsvBulkImporterTest {
+
+    @Mock TransportDao transportDao;
+    @Mock CustomerDao customerDao;
+    @Mock EmployeeDao employeeDao;
+    @Mock VehicleDao vehicleDao;
+
+    @TempDir Path dir;
+
+    private CsvBulkImporter importer(int chunkSize, int batchSize) {
+        return new CsvBulkImporter(transportDao, customerDao, employeeDao, vehicleDao, 4, chunkSize, batchSize);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> recordCustomerInserts() {
+        List<String> inserted = new ArrayList<>();
+        doAnswer(invocation -> {
+            for (Customer customer : (Collection<Customer>) invocation.getArgument(0)) {
+                inserted.add(customer.getFirstName());
+            }
+            return null;
+        }).when(customerDao).createCustomers(anyCollection());
+        return inserted;
+    }
+
+    @Test
+    void importCustomers_insertsValidRowsInFileOrderAcrossChunksAndBatches() throws IOException {
+        StringBuilder csv = new StringBuilder("firstName,lastName,birthDate,budget\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append("Name").append(i).append(",Petrov,1990-01-01,").append(i).append('\n');
+        }
+        List<String> inserted = recordCustomerInserts();
+
+        try (CsvBulkImporter importer = importer(256, 64)) {
+            ImportResult result = importer.importCustomers(write("customers.csv", csv.toString()), dir.resolve("rejects.csv"));
+
+            assertEquals(500, result.imported());
+            assertEquals(0, result.rejected());
+        }
+        assertEquals(500, inserted.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals("Name" + i, inserted.get(i));
+        }
+        verify(customerDao, atLeast(8)).createCustomers(anyCollection());
+    }
+
+    @Test
+    void importCustomers_writesRejectedRowsWithReasons() throws IOException {
+        Path source = write("customers.csv", "firstName,lastName,birthDate\n"
+                + "Ivan,Petrov,1990-01-01\n"
+                + "Maria,Ivanova,not-a-date\n"
+                + "Georgi,\" \",1985-05-05\n"
+                + "Too,Many,1985-05-05,fields\n");
+        Path rejects = dir.resolve("rejects.csv");
+        List<String> inserted = recordCustomerInserts();
+
+        try (CsvBulkImporter importer = importer(1024, 100)) {
+            ImportResult result = importer.importCustomers(source, rejects);
+
+            assertEquals(1, result.imported());
+            assertEquals(3, result.rejected());
+        }
+        assertEquals(List.of("Ivan"), inserted);
+        List<String> lines = Files.readAllLines(rejects);
+        assertEquals("line,reason,firstName,lastName,birthDate", lines.get(0));
+        assertTrue(lines.get(1).startsWith("3,birthDate: 'not-a-date' is not a date"));
+        assertTrue(lines.get(2).startsWith("4,") && lines.get(2).contains("lastName"));
+        assertTrue(lines.get(3).startsWith("5,expected 3 fields but found 4"));
+    }
+
+    @Test
+    void importTransports_rejectsArrivalBeforeDeparture() throws IOException {
+        Path source = write("transports.csv", "startPoint,endPoint,departureDate,arrivalDate,cargoType,quantity,initPrice\n"
+                + "Sofia,Varna,2025-01-10,2025-01-11,GOODS,1,100\n"
+                + "Sofia,Ruse,2025-01-10,2025-01-09,GOODS,1,100\n");
+        Path rejects = dir.resolve("rejects.csv");
+
+        try (CsvBulkImporter importer = importer(1024, 100)) {
+            ImportResult result = importer.importTransports(source, rejects);
+
+            assertEquals(1, result.imported());
+            assertEquals(1, result.rejected());
+        }
+        assertTrue(Files.readAllLines(rejects).get(1).contains("Arrival date must be after or equal to departure date"));
+    }
+
+    @Test
+    void importTransports_pricesRowsWithoutTotalPriceLikeTheApplication() throws IOException {
+        Path source = write("transports.csv", "startPoint,endPoint,departureDate,arrivalDate,cargoType,quantity,initPrice,totalPrice\n"
+                + "Sofia,Varna,2025-01-10,2025-01-11,ADR,2,100,\n"
+                + "Sofia,Ruse,2025-01-10,2025-01-11,GOODS,1,100,123.45\n");
+        List<BigDecimal> prices = new ArrayList<>();
+        doAnswer(invocation -> {
+            Collection<Transport> transports = invocation.getArgument(0);
+            transports.forEach(transport -> prices.add(transport.getTotalPrice()));
+            return null;
+        }).when(transportDao).createTransports(anyCollection());
+
+        try (CsvBulkImporter importer = importer(1024, 100)) {
+            ImportResult result = importer.importTransports(source, dir.resolve("rejects.csv"));
+
+            assertEquals(2, result.imported());
+        }
+        assertEquals(0, new BigDecimal("400.00").compareTo(prices.get(0)));
+        assertEquals(0, new BigDecimal("123.45").compareTo(prices.get(1)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importTransports_isolatesRowsThatFailTheBatchInsert() throws IOException {
+        StringBuilder csv = new StringBuilder("startPoint,endPoint,departureDate,arrivalDate,cargoType,quantity,initPrice,companyId\n");
+        for (int i = 0; i < 10; i++) {
+            csv.append("Sofia,Varna,2025-01-10,2025-01-11,GOODS,1,100,").append(i == 6 ? 99 : 1).append('\n');
+        }
+        List<Long> inserted = new ArrayList<>();
+        doAnswer(invocation -> {
+            Collection<Transport> transports = invocation.getArgument(0);
+            if (transports.stream().anyMatch(transport -> transport.getCompany().getId() == 99L)) {
+                throw new DAOException("Company with ids [99] does not exist");
+            }
+            transports.forEach(transport -> inserted.add(transport.getCompany().getId()));
+            return null;
+        }).when(transportDao).createTransports(anyCollection());
+        Path rejects = dir.resolve("rejects.csv");
+
+        try (CsvBulkImporter importer = importer(1024, 100)) {
+            ImportResult result = importer.importTransports(write("transports.csv", csv.toString()), rejects);
+
+            assertEquals(9, result.imported());
+            assertEquals(1, result.rejected());
+        }
+        assertEquals(9, inserted.size());
+        List<String> lines = Files.readAllLines(rejects);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith("8,Company with ids [99] does not exist"));
+    }
+
+    @Test
+    void importTransports_abortsInsteadOfBisectingOnConnectionFailure() throws IOException {
+        StringBuilder csv = new StringBuilder("startPoint,endPoint,departureDate,arrivalDate,cargoType,quantity,initPrice\n");
+        for (int i = 0; i < 8; i++) {
+            csv.append("Sofia,Varna,2025-01-10,2025-01-11,GOODS,1,100\n");
+        }
+        doThrow(new DAOException("Failed to create transports: Communications link failure",
+                new JDBCConnectionException("Communications link failure", new SQLException("Communications link failure"))))
+                .when(transportDao).createTransports(anyCollection());
+        Path rejects = dir.resolve("rejects.csv");
+
+        try (CsvBulkImporter importer = importer(1024, 100)) {
+            Path source = write("transports.csv", csv.toString());
+            DAOException error = assertThrows(DAOException.class, () -> importer.importTransports(source, rejects));
+            assertTrue(error.getMessage().contains("Communications link failure"));
+        }
+        verify(transportDao, times(1)).createTransports(anyCollection());
+        assertEquals(1, Files.readAllLines(rejects).size());
+    }
+
+    @Test
+    void importVehicles_failsFastWhenRequiredColumnsAreMissing() throws IOException {
+        Path source = write("vehicles.csv", "distanceTraveled\n100\n");
+
+        try (CsvBulkImporter importer = importer(1024, 100)) {
+            DAOException error = assertThrows(DAOException.class,
+                    () -> importer.importVehicles(source, dir.resolve("rejects.csv")));
+            assertTrue(error.getMessage().contains("[vehicleType]"));
+        }
+        verifyNoInteractions(vehicleDao);
+    }
+}
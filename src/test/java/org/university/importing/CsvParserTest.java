@@ -0,0 +1,100 @@
+package org.university.importing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvParserTest {
+
+    private static List<CsvParser.CsvRecord> readAll(String csv, int chunkSize) throws IOException {
+        return readAll(csv, chunkSize, CsvChunkReader.DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    private static List<CsvParser.CsvRecord> readAll(String csv, int chunkSize, int maxRecordLength) throws IOException {
+        List<CsvParser.CsvRecord> records = new ArrayList<>();
+        try (CsvChunkReader reader = new CsvChunkReader(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), chunkSize, maxRecordLength)) {
+            CsvChunkReader.Chunk chunk;
+            while ((chunk = reader.nextChunk()) != null) {
+                records.addAll(CsvParser.parse(chunk));
+            }
+        }
+        return records;
+    }
+
+    @Test
+    void parse_handlesQuotesEscapedQuotesAndLineBreaksInsideFields() throws IOException {
+        List<CsvParser.CsvRecord> records = readAll("a,\"b, c\",\"say \"\"hi\"\"\"\r\n\"multi\nline\",x,\r\n", 1024);
+
+        assertEquals(2, records.size());
+        assertArrayEquals(new String[]{"a", "b, c", "say \"hi\""}, records.get(0).fields());
+        assertArrayEquals(new String[]{"multi\nline", "x", ""}, records.get(1).fields());
+        assertEquals(2, records.get(1).line());
+    }
+
+    @Test
+    void chunks_neverSplitQuotedLineBreaksAndKeepPhysicalLineNumbers() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            csv.append(i).append(",\"first\nsecond\"\n");
+        }
+
+        List<CsvParser.CsvRecord> records = readAll(csv.toString(), 16);
+
+        assertEquals(200, records.size());
+        for (int i = 0; i < 200; i++) {
+            assertArrayEquals(new String[]{Integer.toString(i), "first\nsecond"}, records.get(i).fields());
+            assertEquals(1 + 2L * i, records.get(i).line());
+        }
+    }
+
+    @Test
+    void parse_skipsBlankLinesAndByteOrderMark() throws IOException {
+        List<CsvParser.CsvRecord> records = readAll("\uFEFFname\n\n\r\nvalue\n", 1024);
+
+        assertEquals(2, records.size());
+        assertArrayEquals(new String[]{"name"}, records.get(0).fields());
+        assertEquals(4, records.get(1).line());
+    }
+
+    @Test
+    void parse_flagsUnterminatedQuotedField() throws IOException {
+        List<CsvParser.CsvRecord> records = readAll("ok,1\nbad,\"open\n", 1024);
+
+        assertEquals(2, records.size());
+        assertNull(records.get(0).error());
+        assertEquals("unterminated quoted field", records.get(1).error());
+    }
+
+    @Test
+    void chunks_rejectLineWithStrayQuoteAndResyncAtNextLine() throws IOException {
+        List<CsvParser.CsvRecord> records = readAll("a,1\nb,\"stray\nc,3\nd,4\n", 1024, 8);
+
+        assertEquals(4, records.size());
+        assertArrayEquals(new String[]{"a", "1"}, records.get(0).fields());
+        assertEquals("record is longer than 8 bytes", records.get(1).error());
+        assertArrayEquals(new String[]{"b,\"stray"}, records.get(1).fields());
+        assertEquals(2, records.get(1).line());
+        assertArrayEquals(new String[]{"c", "3"}, records.get(2).fields());
+        assertEquals(3, records.get(2).line());
+        assertArrayEquals(new String[]{"d", "4"}, records.get(3).fields());
+        assertEquals(4, records.get(3).line());
+    }
+
+    @Test
+    void chunks_dropTheRestOfAnOversizedLine() throws IOException {
+        List<CsvParser.CsvRecord> records = readAll("x".repeat(50) + "\nok,1\n", 4, 8);
+
+        assertEquals(2, records.size());
+        assertEquals("record is longer than 8 bytes", records.get(0).error());
+        assertEquals(1, records.get(0).line());
+        assertArrayEquals(new String[]{"ok", "1"}, records.get(1).fields());
+        assertEquals(2, records.get(1).line());
+    }
+}
@@ -10,12 +10,15 @@ import org.university.dao.EmployeeDao;
 import org.university.dao.TransportDao;
 import org.university.dao.VehicleDao;
 import org.university.dto.CompanyDto;
+import org.university.dto.EmployeeSummary;
+import org.university.dto.TransportSummary;
+import org.university.dto.VehicleSummary;
 import org.university.entity.Company;
 import org.university.entity.Employee;
-import org.university.entity.Transport;
 import org.university.entity.Vehicle;
 import org.university.exception.DAOException;
 import org.university.service.contract.company_service.CompanyCRUDService;
+import org.university.util.VehicleType;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -51,7 +54,7 @@ class CompanyCRUDServiceImplTest {
         Company c = service.mapToEntity(dto);
 
         assertEquals("ACME", c.getName());
-        assertEquals(new BigDecimal("100.00"), c.getRevenue());
+        assertEquals(BigDecimal.ZERO, c.getRevenue());
         assertNotNull(c.getEmployeeSet());
         assertNotNull(c.getVehicleSet());
         assertNotNull(c.getTransportSet());
@@ -97,7 +100,7 @@ class CompanyCRUDServiceImplTest {
 
         assertEquals(1L, result.getId());
         assertEquals("ACME", result.getName());
-        assertEquals(new BigDecimal("10.00"), result.getRevenue());
+        assertEquals(BigDecimal.ZERO, result.getRevenue());
         verify(companyDao).createCompany(any(Company.class));
     }
 
@@ -157,7 +160,7 @@ class CompanyCRUDServiceImplTest {
 
         assertEquals(1L, result.getId());
         assertEquals("NEW", result.getName());
-        assertEquals(new BigDecimal("9.99"), result.getRevenue());
+        assertEquals(BigDecimal.ZERO, result.getRevenue());
 
         verify(companyDao).updateCompany(eq(1L), any(Company.class));
     }
@@ -233,26 +236,14 @@ class CompanyCRUDServiceImplTest {
         Company company = Company.builder().name("C").revenue(BigDecimal.ZERO).build();
         company.setId(10L);
 
-        Employee e1 = new Employee();
-        e1.setId(1L);
-        e1.setFirstName("A");
-        e1.setLastName("A");
-        e1.setBirthDate(LocalDate.of(2000, 1, 1));
-        e1.setCompany(company);
-
-        Employee e2 = new Employee();
-        e2.setId(2L);
-        e2.setFirstName("B");
-        e2.setLastName("B");
-        e2.setBirthDate(LocalDate.of(2000, 1, 1));
-        e2.setCompany(null);
-
         when(companyDao.getCompanyById(10L)).thenReturn(company);
-        when(employeeDao.getAllEmployees()).thenReturn(List.of(e1, e2));
+        when(employeeDao.getEmployeeSummariesByCompany(10L)).thenReturn(List.of(
+                new EmployeeSummary(1L, "A", "A", 10L, BigDecimal.ZERO)));
 
         Set<Long> ids = service.getAllEmployeeIdsForCompany(10L);
 
         assertEquals(Set.of(1L), ids);
+        verify(employeeDao, never()).getAllEmployees();
     }
 
     @Test
@@ -298,20 +289,14 @@ class CompanyCRUDServiceImplTest {
         Company company = Company.builder().name("C").revenue(BigDecimal.ZERO).build();
         company.setId(10L);
 
-        Vehicle v1 = new Vehicle();
-        v1.setId(1L);
-        v1.setCompany(company);
-
-        Vehicle v2 = new Vehicle();
-        v2.setId(2L);
-        v2.setCompany(null);
-
         when(companyDao.getCompanyById(10L)).thenReturn(company);
-        when(vehicleDAO.getAllVehicles()).thenReturn(List.of(v1, v2));
+        when(vehicleDAO.getVehicleSummariesByCompany(10L)).thenReturn(List.of(
+                new VehicleSummary(1L, VehicleType.TRUCK, BigDecimal.ZERO, 10L, null)));
 
         Set<Long> ids = service.getAllVehicleIdsForCompany(10L);
 
         assertEquals(Set.of(1L), ids);
+        verify(vehicleDAO, never()).getAllVehicles();
     }
 
     @Test
@@ -319,19 +304,13 @@ class CompanyCRUDServiceImplTest {
         Company company = Company.builder().name("C").revenue(BigDecimal.ZERO).build();
         company.setId(10L);
 
-        Transport t1 = new Transport();
-        t1.setId(1L);
-        t1.setCompany(company);
-
-        Transport t2 = new Transport();
-        t2.setId(2L);
-        t2.setCompany(null);
-
         when(companyDao.getCompanyById(10L)).thenReturn(company);
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2));
+        when(transportDao.getTransportSummariesByCompany(10L)).thenReturn(List.of(
+                new TransportSummary(1L, 10L, null, null, null, null, null, null, null)));
 
         Set<Long> ids = service.getAllTransportIdsForCompany(10L);
 
         assertEquals(Set.of(1L), ids);
+        verify(transportDao, never()).getAllTransports();
     }
 }
@@ -6,14 +6,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.university.dao.CompanyDao;
-import org.university.dao.TransportDao;
+import org.university.dao.RevenueLedgerDao;
 import org.university.entity.Company;
-import org.university.entity.Transport;
+import org.university.entity.RevenueLedgerEntry;
+import org.university.entity.RevenueLedgerKey;
 import org.university.exception.DAOException;
 import org.university.service.contract.company_service.CompanyReportService;
+import org.university.util.LedgerScope;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -23,13 +24,13 @@ class CompanyReportServiceImplTest {
 
 
     @Mock CompanyDao companyDao;
-    @Mock TransportDao transportDao;
+    @Mock RevenueLedgerDao revenueLedgerDao;
 
     CompanyReportService service;
 
     @BeforeEach
     void setUp() {
-        service = new CompanyReportServiceImpl(companyDao, transportDao);
+        service = new CompanyReportServiceImpl(companyDao, revenueLedgerDao);
     }
 
     @Test
@@ -67,34 +68,27 @@ class CompanyReportServiceImplTest {
     }
 
     @Test
-    void getCompanyTransportsCount_shouldCountOnlyForCompanyId() throws DAOException {
+    void getCompanyTransportsCount_shouldReadLedgerCount() throws DAOException {
         Company c1 = Company.builder().name("C1").revenue(BigDecimal.ZERO).build();
         c1.setId(1L);
-        Company c2 = Company.builder().name("C2").revenue(BigDecimal.ZERO).build();
-        c2.setId(2L);
 
-        Transport t1 = Transport.builder().totalPrice(new BigDecimal("10.00")).build();
-        t1.setId(11L);
-        t1.setCompany(c1);
+        when(companyDao.getCompanyById(1L)).thenReturn(c1);
+        when(revenueLedgerDao.getEntry(LedgerScope.COMPANY, 1L)).thenReturn(entry(LedgerScope.COMPANY, "1", 2, "30.00"));
 
-        Transport t2 = Transport.builder().totalPrice(new BigDecimal("20.00")).build();
-        t2.setId(12L);
-        t2.setCompany(c1);
+        int count = service.getCompanyTransportsCount(1L);
 
-        Transport t3 = Transport.builder().totalPrice(new BigDecimal("30.00")).build();
-        t3.setId(13L);
-        t3.setCompany(c2);
+        assertEquals(2, count);
+    }
 
-        Transport t4 = Transport.builder().totalPrice(new BigDecimal("40.00")).build();
-        t4.setId(14L);
-        t4.setCompany(null);
+    @Test
+    void getCompanyTransportsCount_shouldReturnZero_whenNoLedgerEntry() throws DAOException {
+        Company c1 = Company.builder().name("C1").revenue(BigDecimal.ZERO).build();
+        c1.setId(1L);
 
         when(companyDao.getCompanyById(1L)).thenReturn(c1);
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2, t3, t4));
+        when(revenueLedgerDao.getEntry(LedgerScope.COMPANY, 1L)).thenReturn(null);
 
-        int count = service.getCompanyTransportsCount(1L);
-
-        assertEquals(2, count);
+        assertEquals(0, service.getCompanyTransportsCount(1L));
     }
 
     @Test
@@ -108,15 +102,8 @@ class CompanyReportServiceImplTest {
         Company c1 = Company.builder().name("C1").revenue(BigDecimal.ZERO).build();
         c1.setId(1L);
 
-        Company c2 = Company.builder().name("C2").revenue(BigDecimal.ZERO).build();
-        c2.setId(2L);
-
-        Transport tOther = Transport.builder().totalPrice(new BigDecimal("10.00")).build();
-        tOther.setId(11L);
-        tOther.setCompany(c2);
-
         when(companyDao.getCompanyById(1L)).thenReturn(c1);
-        when(transportDao.getAllTransports()).thenReturn(List.of(tOther));
+        when(revenueLedgerDao.getEntry(LedgerScope.COMPANY, 1L)).thenReturn(entry(LedgerScope.COMPANY, "1", 0, "0.00"));
 
         BigDecimal avg = service.getCompanyAverageTransportRevenue(1L);
 
@@ -128,44 +115,15 @@ class CompanyReportServiceImplTest {
         Company c1 = Company.builder().name("C1").revenue(BigDecimal.ZERO).build();
         c1.setId(1L);
 
-        Transport t1 = Transport.builder().totalPrice(new BigDecimal("10.00")).build();
-        t1.setId(11L);
-        t1.setCompany(c1);
-
-        Transport t2 = Transport.builder().totalPrice(new BigDecimal("0.00")).build();
-        t2.setId(12L);
-        t2.setCompany(c1);
-
-        Transport t3 = Transport.builder().totalPrice(new BigDecimal("0.00")).build();
-        t3.setId(13L);
-        t3.setCompany(c1);
-
         when(companyDao.getCompanyById(1L)).thenReturn(c1);
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2, t3));
+        when(revenueLedgerDao.getEntry(LedgerScope.COMPANY, 1L)).thenReturn(entry(LedgerScope.COMPANY, "1", 3, "10.00"));
 
         BigDecimal avg = service.getCompanyAverageTransportRevenue(1L);
 
         assertEquals(new BigDecimal("3.33"), avg);
     }
 
-    @Test
-    void getCompanyAverageTransportRevenue_shouldTreatNullTotalPriceAsZero() throws DAOException {
-        Company c1 = Company.builder().name("C1").revenue(BigDecimal.ZERO).build();
-        c1.setId(1L);
-
-        Transport t1 = Transport.builder().totalPrice(null).build();
-        t1.setId(11L);
-        t1.setCompany(c1);
-
-        Transport t2 = Transport.builder().totalPrice(new BigDecimal("1.00")).build();
-        t2.setId(12L);
-        t2.setCompany(c1);
-
-        when(companyDao.getCompanyById(1L)).thenReturn(c1);
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2));
-
-        BigDecimal avg = service.getCompanyAverageTransportRevenue(1L);
-
-        assertEquals(new BigDecimal("0.50"), avg);
+    private static RevenueLedgerEntry entry(LedgerScope scope, String owner, long count, String billed) {
+        return new RevenueLedgerEntry(new RevenueLedgerKey(scope, owner), count, new BigDecimal(billed), 0, BigDecimal.ZERO);
     }
-}
\ No newline at end of file
+}
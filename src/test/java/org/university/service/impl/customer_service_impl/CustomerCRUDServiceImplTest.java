@@ -8,6 +8,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.university.dao.CustomerDao;
 import org.university.dao.TransportDao;
 import org.university.dto.CustomerDto;
+import org.university.dto.TransportSummary;
 import org.university.entity.Customer;
 import org.university.entity.Transport;
 import org.university.exception.DAOException;
@@ -325,28 +326,12 @@ class CustomerCRUDServiceImplTest {
 
     @Test
     void getAllTransportIdsForCustomer_shouldReturnMatchingIds() throws DAOException {
-        Customer customer = new Customer();
-        customer.setId(1L);
-
-        Transport t1 = new Transport();
-        t1.setId(10L);
-        t1.setCustomer(customer);
-
-        Transport t2 = new Transport();
-        t2.setId(11L);
-        t2.setCustomer(null);
-
-        Customer other = new Customer();
-        other.setId(2L);
-
-        Transport t3 = new Transport();
-        t3.setId(12L);
-        t3.setCustomer(other);
-
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2, t3));
+        when(transportDao.getTransportSummariesByCustomer(1L)).thenReturn(List.of(
+                new TransportSummary(10L, null, null, 1L, null, null, null, null, null)));
 
         Set<Long> ids = service.getAllTransportIdsForCustomer(1L);
 
         assertEquals(Set.of(10L), ids);
+        verify(transportDao, never()).getAllTransports();
     }
 }
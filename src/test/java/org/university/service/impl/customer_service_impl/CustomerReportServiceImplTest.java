@@ -7,8 +7,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.university.dao.CustomerDao;
 import org.university.dao.TransportDao;
+import org.university.dto.TransportSummary;
 import org.university.entity.Customer;
-import org.university.entity.Transport;
 import org.university.exception.DAOException;
 import org.university.util.PaymentStatus;
 
@@ -31,6 +31,11 @@ class CustomerReportServiceImplTest {
         service = new CustomerReportServiceImpl(customerDao, transportDao);
     }
 
+    private static TransportSummary summary(long id, PaymentStatus status, String price) {
+        return new TransportSummary(id, null, null, 1L, null, null, null, status,
+                price != null ? new BigDecimal(price) : null);
+    }
+
     @Test
     void getCustomerTotalSpent_shouldThrow_whenCustomerMissing() {
         when(customerDao.getCustomerById(1L)).thenReturn(null);
@@ -43,31 +48,16 @@ class CustomerReportServiceImplTest {
         Customer c1 = new Customer();
         c1.setId(1L);
 
-        Customer c2 = new Customer();
-        c2.setId(2L);
-
-        Transport paid1 = Transport.builder().paymentStatus(PaymentStatus.PAID).totalPrice(new BigDecimal("10.00")).build();
-        paid1.setId(101L);
-        paid1.setCustomer(c1);
-
-        Transport paid2Null = Transport.builder().paymentStatus(PaymentStatus.PAID).totalPrice(null).build();
-        paid2Null.setId(102L);
-        paid2Null.setCustomer(c1);
-
-        Transport notPaid = Transport.builder().paymentStatus(PaymentStatus.NOT_PAID).totalPrice(new BigDecimal("999.00")).build();
-        notPaid.setId(103L);
-        notPaid.setCustomer(c1);
-
-        Transport otherCustomerPaid = Transport.builder().paymentStatus(PaymentStatus.PAID).totalPrice(new BigDecimal("50.00")).build();
-        otherCustomerPaid.setId(104L);
-        otherCustomerPaid.setCustomer(c2);
-
         when(customerDao.getCustomerById(1L)).thenReturn(c1);
-        when(transportDao.getAllTransports()).thenReturn(List.of(paid1, paid2Null, notPaid, otherCustomerPaid));
+        when(transportDao.getTransportSummariesByCustomer(1L)).thenReturn(List.of(
+                summary(101L, PaymentStatus.PAID, "10.00"),
+                summary(102L, PaymentStatus.PAID, null),
+                summary(103L, PaymentStatus.NOT_PAID, "999.00")));
 
         BigDecimal total = service.getCustomerTotalSpent(1L);
 
         assertEquals(new BigDecimal("10.00"), total);
+        verify(transportDao, never()).getAllTransports();
     }
 
     @Test
@@ -82,27 +72,11 @@ class CustomerReportServiceImplTest {
         Customer c1 = new Customer();
         c1.setId(1L);
 
-        Customer c2 = new Customer();
-        c2.setId(2L);
-
-        Transport paid1 = Transport.builder().paymentStatus(PaymentStatus.PAID).totalPrice(new BigDecimal("10.00")).build();
-        paid1.setId(101L);
-        paid1.setCustomer(c1);
-
-        Transport paid2 = Transport.builder().paymentStatus(PaymentStatus.PAID).totalPrice(new BigDecimal("20.00")).build();
-        paid2.setId(102L);
-        paid2.setCustomer(c1);
-
-        Transport notPaid = Transport.builder().paymentStatus(PaymentStatus.NOT_PAID).totalPrice(new BigDecimal("30.00")).build();
-        notPaid.setId(103L);
-        notPaid.setCustomer(c1);
-
-        Transport otherCustomerPaid = Transport.builder().paymentStatus(PaymentStatus.PAID).totalPrice(new BigDecimal("40.00")).build();
-        otherCustomerPaid.setId(104L);
-        otherCustomerPaid.setCustomer(c2);
-
         when(customerDao.getCustomerById(1L)).thenReturn(c1);
-        when(transportDao.getAllTransports()).thenReturn(List.of(paid1, paid2, notPaid, otherCustomerPaid));
+        when(transportDao.getTransportSummariesByCustomer(1L)).thenReturn(List.of(
+                summary(101L, PaymentStatus.PAID, "10.00"),
+                summary(102L, PaymentStatus.PAID, "20.00"),
+                summary(103L, PaymentStatus.NOT_PAID, "30.00")));
 
         int count = service.getCustomerTransportsCount(1L);
 
@@ -121,15 +95,8 @@ class CustomerReportServiceImplTest {
         Customer c1 = new Customer();
         c1.setId(1L);
 
-        Customer other = new Customer();
-        other.setId(2L);
-
-        Transport tOther = Transport.builder().totalPrice(new BigDecimal("10.00")).build();
-        tOther.setId(201L);
-        tOther.setCustomer(other);
-
         when(customerDao.getCustomerById(1L)).thenReturn(c1);
-        when(transportDao.getAllTransports()).thenReturn(List.of(tOther));
+        when(transportDao.getTransportSummariesByCustomer(1L)).thenReturn(List.of());
 
         BigDecimal avg = service.getAverageSpendingPerTransport(1L);
 
@@ -141,20 +108,11 @@ class CustomerReportServiceImplTest {
         Customer c1 = new Customer();
         c1.setId(1L);
 
-        Transport t1 = Transport.builder().totalPrice(new BigDecimal("10.00")).build();
-        t1.setId(201L);
-        t1.setCustomer(c1);
-
-        Transport t2 = Transport.builder().totalPrice(new BigDecimal("0.00")).build();
-        t2.setId(202L);
-        t2.setCustomer(c1);
-
-        Transport t3 = Transport.builder().totalPrice(null).build();
-        t3.setId(203L);
-        t3.setCustomer(c1);
-
         when(customerDao.getCustomerById(1L)).thenReturn(c1);
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2, t3));
+        when(transportDao.getTransportSummariesByCustomer(1L)).thenReturn(List.of(
+                summary(201L, null, "10.00"),
+                summary(202L, null, "0.00"),
+                summary(203L, null, null)));
 
         BigDecimal avg = service.getAverageSpendingPerTransport(1L);
 
@@ -162,23 +120,17 @@ class CustomerReportServiceImplTest {
     }
 
     @Test
-    void getAverageSpendingPerTransport_shouldIgnoreTransportsWithNullId() throws DAOException {
+    void getAverageSpendingPerTransport_shouldIncludeEveryPaymentStatus() throws DAOException {
         Customer c1 = new Customer();
         c1.setId(1L);
 
-        Transport nullId = Transport.builder().totalPrice(new BigDecimal("100.00")).build();
-        nullId.setId(null);
-        nullId.setCustomer(c1);
-
-        Transport ok = Transport.builder().totalPrice(new BigDecimal("10.00")).build();
-        ok.setId(301L);
-        ok.setCustomer(c1);
-
         when(customerDao.getCustomerById(1L)).thenReturn(c1);
-        when(transportDao.getAllTransports()).thenReturn(List.of(nullId, ok));
+        when(transportDao.getTransportSummariesByCustomer(1L)).thenReturn(List.of(
+                summary(301L, PaymentStatus.PAID, "10.00"),
+                summary(302L, PaymentStatus.NOT_PAID, "5.00")));
 
         BigDecimal avg = service.getAverageSpendingPerTransport(1L);
 
-        assertEquals(new BigDecimal("10.00"), avg);
+        assertEquals(new BigDecimal("7.50"), avg);
     }
 }
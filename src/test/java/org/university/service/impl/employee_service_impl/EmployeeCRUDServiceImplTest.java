@@ -7,9 +7,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.university.dao.*;
 import org.university.dto.EmployeeDto;
+import org.university.dto.TransportSummary;
+import org.university.dto.VehicleSummary;
 import org.university.entity.*;
 import org.university.exception.DAOException;
 import org.university.util.DriverQualifications;
+import org.university.util.VehicleType;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -320,27 +323,14 @@ class EmployeeCRUDServiceImplTest {
         Employee e = new Employee();
         e.setId(1L);
 
-        Employee other = new Employee();
-        other.setId(2L);
-
-        Vehicle v1 = new Vehicle();
-        v1.setId(10L);
-        v1.setEmployee(e);
-
-        Vehicle v2 = new Vehicle();
-        v2.setId(11L);
-        v2.setEmployee(null);
-
-        Vehicle v3 = new Vehicle();
-        v3.setId(12L);
-        v3.setEmployee(other);
-
         when(employeeDao.getEmployeeById(1L)).thenReturn(e);
-        when(vehicleDao.getAllVehicles()).thenReturn(List.of(v1, v2, v3));
+        when(vehicleDao.getVehicleSummariesByEmployee(1L)).thenReturn(List.of(
+                new VehicleSummary(10L, VehicleType.TRUCK, BigDecimal.ZERO, null, 1L)));
 
         Set<Long> ids = service.getAllVehicleIdsForEmployee(1L);
 
         assertEquals(Set.of(10L), ids);
+        verify(vehicleDao, never()).getAllVehicles();
     }
 
     @Test
@@ -355,26 +345,13 @@ class EmployeeCRUDServiceImplTest {
         Employee e = new Employee();
         e.setId(1L);
 
-        Employee other = new Employee();
-        other.setId(2L);
-
-        Transport t1 = new Transport();
-        t1.setId(100L);
-        t1.setEmployee(e);
-
-        Transport t2 = new Transport();
-        t2.setId(101L);
-        t2.setEmployee(null);
-
-        Transport t3 = new Transport();
-        t3.setId(102L);
-        t3.setEmployee(other);
-
         when(employeeDao.getEmployeeById(1L)).thenReturn(e);
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2, t3));
+        when(transportDao.getTransportSummariesByEmployee(1L)).thenReturn(List.of(
+                new TransportSummary(100L, null, 1L, null, null, null, null, null, null)));
 
         Set<Long> ids = service.getAllTransportIdsForEmployee(1L);
 
         assertEquals(Set.of(100L), ids);
+        verify(transportDao, never()).getAllTransports();
     }
 }
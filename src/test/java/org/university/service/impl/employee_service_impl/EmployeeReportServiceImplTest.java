@@ -7,8 +7,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.university.dao.EmployeeDao;
 import org.university.dao.TransportDao;
+import org.university.dto.TransportSummary;
 import org.university.entity.Employee;
-import org.university.entity.Transport;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -45,7 +45,7 @@ class EmployeeReportServiceImplTest {
         e.setId(1L);
 
         when(employeeDao.getEmployeeById(1L)).thenReturn(e);
-        when(transportDao.getAllTransports()).thenReturn(List.of());
+        when(transportDao.getTransportSummariesByEmployee(1L)).thenReturn(List.of());
 
         BigDecimal result = service.getAverageTransportRevenuePerEmployee(1L);
 
@@ -53,38 +53,18 @@ class EmployeeReportServiceImplTest {
     }
 
     @Test
-    void getAverageTransportRevenuePerEmployee_averagesOnlyEmployeeTransportsWithNonNullId_andTreatsNullPriceAsZero() {
+    void getAverageTransportRevenuePerEmployee_averagesEmployeeTransports_andTreatsNullPriceAsZero() {
         Employee e1 = new Employee();
         e1.setId(1L);
 
-        Employee e2 = new Employee();
-        e2.setId(2L);
-
-        Transport t1 = new Transport();
-        t1.setId(10L);
-        t1.setEmployee(e1);
-        t1.setTotalPrice(new BigDecimal("10.00"));
-
-        Transport t2NullPrice = new Transport();
-        t2NullPrice.setId(11L);
-        t2NullPrice.setEmployee(e1);
-        t2NullPrice.setTotalPrice(null);
-
-        Transport t3NullId = new Transport();
-        t3NullId.setId(null);
-        t3NullId.setEmployee(e1);
-        t3NullId.setTotalPrice(new BigDecimal("999.00"));
-
-        Transport t4OtherEmployee = new Transport();
-        t4OtherEmployee.setId(12L);
-        t4OtherEmployee.setEmployee(e2);
-        t4OtherEmployee.setTotalPrice(new BigDecimal("20.00"));
-
         when(employeeDao.getEmployeeById(1L)).thenReturn(e1);
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2NullPrice, t3NullId, t4OtherEmployee));
+        when(transportDao.getTransportSummariesByEmployee(1L)).thenReturn(List.of(
+                new TransportSummary(10L, null, 1L, null, null, null, null, null, new BigDecimal("10.00")),
+                new TransportSummary(11L, null, 1L, null, null, null, null, null, null)));
 
         BigDecimal result = service.getAverageTransportRevenuePerEmployee(1L);
 
         assertEquals(new BigDecimal("5.00"), result);
+        verify(transportDao, never()).getAllTransports();
     }
 }
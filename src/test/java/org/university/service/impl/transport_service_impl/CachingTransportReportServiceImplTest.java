@@ -0,0 +1,178 @@
+package org.university.service.impl.transport_service_impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.university.analytics.ReportCache;
+import org.university.dto.TransportChange;
+import org.university.dto.TransportSummary;
+import org.university.service.contract.transport_service.TransportReportService;
+import org.university.util.PaymentStatus;
+import org.university.util.RankingMetric;
+import org.university.util.VehicleType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingTransportReportServiceImplTest {
+
+    @Mock TransportReportService delegate;
+
+    ReportCache cache;
+    CachingTransportReportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReportCache(2);
+        service = new CachingTransportReportServiceImpl(delegate, cache);
+    }
+
+    private static TransportSummary summary(long id, Long companyId, LocalDate departure,
+                                            PaymentStatus status, String price) {
+        return new TransportSummary(id, companyId, 2L, 3L, 4L, departure, departure.plusDays(1),
+                status, new BigDecimal(price));
+    }
+
+    private static TransportChange paid(TransportSummary unpaid) {
+        return new TransportChange(unpaid, new TransportSummary(unpaid.id(), unpaid.companyId(), unpaid.employeeId(),
+                unpaid.customerId(), unpaid.vehicleId(), unpaid.departureDate(), unpaid.arrivalDate(),
+                PaymentStatus.PAID, unpaid.totalPrice()));
+    }
+
+    @Test
+    void getTotalTransportRevenue_servesRepeatedCallsFromCache() {
+        when(delegate.getTotalTransportRevenue()).thenReturn(new BigDecimal("10.00"));
+
+        assertEquals(new BigDecimal("10.00"), service.getTotalTransportRevenue());
+        assertEquals(new BigDecimal("10.00"), service.getTotalTransportRevenue());
+
+        verify(delegate, times(1)).getTotalTransportRevenue();
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void getTotalTransportRevenue_invalidatedWhenTransportIsPaid() {
+        when(delegate.getTotalTransportRevenue()).thenReturn(new BigDecimal("10.00"), new BigDecimal("25.00"));
+        service.getTotalTransportRevenue();
+
+        cache.transportsChanged(List.of(paid(summary(7, 1L, LocalDate.of(2025, 3, 1), PaymentStatus.NOT_PAID, "15.00"))));
+
+        assertEquals(new BigDecimal("25.00"), service.getTotalTransportRevenue());
+        verify(delegate, times(2)).getTotalTransportRevenue();
+    }
+
+    @Test
+    void getTotalTransportRevenue_keptWhenUnpaidTransportIsCreated() {
+        when(delegate.getTotalTransportRevenue()).thenReturn(new BigDecimal("10.00"));
+        service.getTotalTransportRevenue();
+
+        cache.transportsChanged(List.of(TransportChange.created(
+                summary(8, 1L, LocalDate.of(2025, 3, 1), PaymentStatus.NOT_PAID, "15.00"))));
+
+        service.getTotalTransportRevenue();
+        verify(delegate, times(1)).getTotalTransportRevenue();
+    }
+
+    @Test
+    void getCompanyRevenueForAPeriod_invalidatedOnlyByMatchingCompanyAndPeriod() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 31);
+        when(delegate.getCompanyRevenueForAPeriod(1L, from, to)).thenReturn(BigDecimal.ONE);
+        service.getCompanyRevenueForAPeriod(1L, from, to);
+
+        cache.transportsChanged(List.of(
+                paid(summary(1, 2L, LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID, "5.00")),
+                paid(summary(2, 1L, LocalDate.of(2025, 2, 10), PaymentStatus.NOT_PAID, "5.00"))));
+        service.getCompanyRevenueForAPeriod(1L, from, to);
+        verify(delegate, times(1)).getCompanyRevenueForAPeriod(1L, from, to);
+
+        cache.transportsChanged(List.of(TransportChange.deleted(
+                summary(3, 1L, LocalDate.of(2025, 1, 10), PaymentStatus.PAID, "5.00"))));
+        service.getCompanyRevenueForAPeriod(1L, from, to);
+        verify(delegate, times(2)).getCompanyRevenueForAPeriod(1L, from, to);
+    }
+
+    @Test
+    void getTransportsCount_ignoresUpdatesButNotInserts() {
+        when(delegate.getTransportsCount()).thenReturn(3, 4);
+        service.getTransportsCount();
+
+        cache.transportsChanged(List.of(paid(summary(1, 1L, LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID, "5.00"))));
+        assertEquals(3, service.getTransportsCount());
+
+        cache.transportsChanged(List.of(TransportChange.created(
+                summary(2, 1L, LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID, "5.00"))));
+        assertEquals(4, service.getTransportsCount());
+    }
+
+    @Test
+    void getTopDrivers_cachedPerParameters() {
+        when(delegate.getTopDrivers(RankingMetric.REVENUE, 3, null, null, null)).thenReturn(List.of());
+        when(delegate.getTopDrivers(RankingMetric.TRANSPORT_COUNT, 3, null, null, null)).thenReturn(List.of());
+
+        service.getTopDrivers(RankingMetric.REVENUE, 3, null, null, null);
+        service.getTopDrivers(RankingMetric.TRANSPORT_COUNT, 3, null, null, null);
+        service.getTopDrivers(RankingMetric.REVENUE, 3, null, null, null);
+
+        verify(delegate, times(1)).getTopDrivers(RankingMetric.REVENUE, 3, null, null, null);
+        verify(delegate, times(1)).getTopDrivers(RankingMetric.TRANSPORT_COUNT, 3, null, null, null);
+    }
+
+    @Test
+    void getDashboard_invalidatedWhenVehicleTypeChanges() {
+        when(delegate.getDashboard()).thenReturn(null);
+
+        service.getDashboard();
+        service.getDashboard();
+        cache.vehicleTypeChanged(4L, VehicleType.TRUCK, VehicleType.BUS);
+        service.getDashboard();
+
+        verify(delegate, times(2)).getDashboard();
+    }
+
+    @Test
+    void cache_evictsLeastRecentlyUsedEntryBeyondLimit() {
+        when(delegate.getTransportsCount()).thenReturn(1);
+        when(delegate.getTotalTransportRevenue()).thenReturn(BigDecimal.TEN);
+        when(delegate.getDashboard()).thenReturn(null);
+
+        service.getTransportsCount();
+        service.getTotalTransportRevenue();
+        service.getTransportsCount();
+        service.getDashboard();
+        service.getTransportsCount();
+        service.getTotalTransportRevenue();
+
+        assertEquals(2, cache.size());
+        verify(delegate, times(1)).getTransportsCount();
+        verify(delegate, times(2)).getTotalTransportRevenue();
+    }
+
+    @Test
+    void cache_doesNotStoreResultLoadedWhileWriteCommitted() {
+        when(delegate.getTotalTransportRevenue()).thenAnswer(inv -> {
+            cache.transportsChanged(List.of(paid(summary(1, 1L, LocalDate.of(2025, 1, 10), PaymentStatus.NOT_PAID, "5.00"))));
+            return BigDecimal.ONE;
+        });
+
+        service.getTotalTransportRevenue();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void cache_doesNotStoreFailedLoads() {
+        when(delegate.getTotalTransportRevenue()).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> service.getTotalTransportRevenue());
+        assertEquals(0, cache.size());
+    }
+}
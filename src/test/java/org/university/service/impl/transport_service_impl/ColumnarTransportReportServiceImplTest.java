@@ -0,0 +1,130 @@
+package org.university.service.impl.transport_service_impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.university.analytics.TransportAnalyticsSnapshot;
+import org.university.analytics.TransportColumns;
+import org.university.dao.CompanyDao;
+import org.university.dto.RankingEntry;
+import org.university.dto.TransportAnalyticsRow;
+import org.university.entity.Company;
+import org.university.exception.DAOException;
+import org.university.util.CargoType;
+import org.university.util.PaymentStatus;
+import org.university.util.RankingMetric;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarTransportReportServiceImplTest {
+
+    @Mock TransportAnalyticsSnapshot snapshot;
+    @Mock CompanyDao companyDao;
+
+    ColumnarTransportReportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ColumnarTransportReportServiceImpl(snapshot, companyDao);
+    }
+
+    private static TransportAnalyticsRow row(long id, LocalDate departure, String price, PaymentStatus status,
+                                             Long companyId, Long employeeId) {
+        return new TransportAnalyticsRow(id, departure, departure.plusDays(1), CargoType.GOODS, status,
+                new BigDecimal(price), companyId, employeeId, null, null);
+    }
+
+    private void stubColumns() {
+        TransportColumns columns = new TransportColumns.Builder(4)
+                .add(row(1, LocalDate.of(2025, 1, 10), "100.00", PaymentStatus.PAID, 1L, 10L))
+                .add(row(2, LocalDate.of(2025, 2, 10), "50.50", PaymentStatus.PAID, 1L, 11L))
+                .add(row(3, LocalDate.of(2025, 3, 10), "25.00", PaymentStatus.NOT_PAID, 1L, 10L))
+                .add(row(4, LocalDate.of(2025, 1, 15), "70.00", PaymentStatus.PAID, 2L, null))
+                .build(Map.of());
+        when(snapshot.columns()).thenReturn(columns);
+    }
+
+    @Test
+    void getTransportsCount() {
+        stubColumns();
+
+        assertEquals(4, service.getTransportsCount());
+    }
+
+    @Test
+    void getTotalTransportRevenue_sumsPaidOnly() {
+        stubColumns();
+
+        assertEquals(new BigDecimal("220.50"), service.getTotalTransportRevenue());
+    }
+
+    @Test
+    void getTransportsCountByDriver() {
+        stubColumns();
+
+        assertEquals(Map.of(10L, 2, 11L, 1), service.getTransportsCountByDriver());
+    }
+
+    @Test
+    void getCompanyRevenueForAPeriod() {
+        stubColumns();
+        when(companyDao.getCompanyById(1L)).thenReturn(new Company());
+
+        BigDecimal revenue = service.getCompanyRevenueForAPeriod(1L,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31));
+
+        assertEquals(new BigDecimal("150.50"), revenue);
+    }
+
+    @Test
+    void getCompanyRevenueForAPeriod_companyMissing_throws() {
+        when(companyDao.getCompanyById(99L)).thenReturn(null);
+
+        assertThrows(DAOException.class, () -> service.getCompanyRevenueForAPeriod(99L,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31)));
+        verifyNoInteractions(snapshot);
+    }
+
+    @Test
+    void getDriverRevenue_paidOnly() {
+        stubColumns();
+
+        assertEquals(Map.of(10L, new BigDecimal("100.00"), 11L, new BigDecimal("50.50")), service.getDriverRevenue());
+    }
+
+    @Test
+    void getTopDrivers_ranksByPaidRevenueWithinWindow() {
+        stubColumns();
+
+        List<RankingEntry> top = service.getTopDrivers(RankingMetric.REVENUE, 1, PaymentStatus.PAID,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 28));
+
+        assertEquals(List.of(new RankingEntry(10L, 1, new BigDecimal("100.00"))), top);
+    }
+
+    @Test
+    void getTopCompanies_ranksByCountAndBreaksTiesById() {
+        stubColumns();
+
+        List<RankingEntry> top = service.getTopCompanies(RankingMetric.TRANSPORT_COUNT, 5, null, null, null);
+
+        assertEquals(List.of(
+                new RankingEntry(1L, 3, new BigDecimal("175.50")),
+                new RankingEntry(2L, 1, new BigDecimal("70.00"))), top);
+    }
+
+    @Test
+    void getTopVehicles_invalidLimit_throws() {
+        assertThrows(DAOException.class, () -> service.getTopVehicles(RankingMetric.REVENUE, 0, null, null, null));
+        verifyNoInteractions(snapshot);
+    }
+}
@@ -0,0 +1,207 @@
+package org.university.service.impl.transport_service_impl;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.university.analytics.ReportCache;
+import org.university.configuration.SessionFactoryUtil;
+import org.university.dao.*;
+import org.university.dto.TransportChange;
+import org.university.dto.TransportDto;
+import org.university.entity.Company;
+import org.university.entity.RevenueLedgerEntry;
+import org.university.entity.Transport;
+import org.university.exception.DAOException;
+import org.university.util.CargoType;
+import org.university.util.LedgerScope;
+import org.university.util.PaymentStatus;
+import org.university.util.TransportPlace;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransportCRUDSystemServiceImplIntegrationTest {
+
+    private static SessionFactory sessionFactory;
+    private static TransportDao transportDao;
+    private static CompanyDao companyDao;
+    private static RevenueLedgerDao revenueLedgerDao;
+    private static TransportCRUDSystemServiceImpl service;
+
+    @BeforeAll
+    static void init() {
+        sessionFactory = SessionFactoryUtil.getSessionFactory();
+        transportDao = new TransportDao();
+        companyDao = new CompanyDao();
+        revenueLedgerDao = new RevenueLedgerDao();
+        service = new TransportCRUDSystemServiceImpl(transportDao, new VehicleDao(), companyDao, new EmployeeDao(),
+                new CustomerDao());
+    }
+
+    @BeforeEach
+    void clearDatabase() {
+        Session session = sessionFactory.openSession();
+        try {
+            session.beginTransaction();
+
+            session.createMutationQuery("DELETE FROM TransportTrigram").executeUpdate();
+            session.createMutationQuery("DELETE FROM RevenueLedgerEntry").executeUpdate();
+            session.createMutationQuery("DELETE FROM DailyRevenueRollup").executeUpdate();
+            session.createMutationQuery("DELETE FROM Transport").executeUpdate();
+
+            session.getTransaction().commit();
+        } catch (Exception e) {
+            if (session.getTransaction() != null && session.getTransaction().isActive()) {
+                session.getTransaction().rollback();
+            }
+            throw e;
+        } finally {
+            session.close();
+        }
+    }
+
+    private static Company company() {
+        Company company = Company.builder()
+                .name("Service company " + System.nanoTime())
+                .revenue(BigDecimal.ZERO)
+                .build();
+        companyDao.createCompany(company);
+        return company;
+    }
+
+    private static TransportDto dto(Long companyId, String endPoint, PaymentStatus status, String price) {
+        TransportDto dto = new TransportDto();
+        dto.setStartPoint("Sofia");
+        dto.setEndPoint(endPoint);
+        dto.setDepartureDate(LocalDate.of(2025, 4, 1));
+        dto.setArrivalDate(LocalDate.of(2025, 4, 2));
+        dto.setCargoType(CargoType.GOODS);
+        dto.setQuantity(BigDecimal.ONE);
+        dto.setInitPrice(new BigDecimal(price));
+        dto.setTotalPrice(new BigDecimal(price));
+        dto.setPaymentStatus(status);
+        dto.setCompanyId(companyId);
+        return dto;
+    }
+
+    @Test
+    void updateTransport_reportsTheStoredStateAsBefore() {
+        Company first = company();
+        Company second = company();
+        TransportDto created = service.createTransport(dto(first.getId(), "Varna", PaymentStatus.NOT_PAID, "40"));
+
+        List<TransportChange> reported = new ArrayList<>();
+        TransportChangeListener listener = new TransportChangeListener() {
+            @Override
+            public void transportsChanged(List<TransportChange> changes) {
+                reported.addAll(changes);
+            }
+        };
+        transportDao.addChangeListener(listener);
+        try {
+            TransportDto result = service.updateTransport(created.getId(),
+                    dto(second.getId(), "Ruse", PaymentStatus.PAID, "75"));
+            assertEquals("Ruse", result.getEndPoint());
+            assertEquals(second.getId(), result.getCompanyId());
+        } finally {
+            transportDao.removeChangeListener(listener);
+        }
+
+        assertEquals(1, reported.size());
+        TransportChange change = reported.get(0);
+        assertEquals(first.getId(), change.before().companyId());
+        assertEquals(PaymentStatus.NOT_PAID, change.before().paymentStatus());
+        assertEquals(0, new BigDecimal("40").compareTo(change.before().totalPrice()));
+        assertEquals(second.getId(), change.after().companyId());
+        assertEquals(PaymentStatus.PAID, change.after().paymentStatus());
+        assertEquals(0, new BigDecimal("75").compareTo(change.after().totalPrice()));
+        assertEquals("Ruse", service.getTransportById(created.getId()).getEndPoint());
+    }
+
+    @Test
+    void updateTransport_reindexesEditedPlaces() {
+        TransportDto created = service.createTransport(dto(null, "Veliko Tarnovo", PaymentStatus.NOT_PAID, "40"));
+        assertEquals(1, transportDao.filterByDestination("Tarnovo").size());
+
+        TransportDto edited = dto(null, "Blagoevgrad", PaymentStatus.NOT_PAID, "40");
+        edited.setStartPoint("Plovdiv");
+        service.updateTransport(created.getId(), edited);
+
+        assertTrue(transportDao.filterByDestination("Tarnovo").isEmpty());
+        List<Transport> byDestination = transportDao.filterByDestination("Blagoev");
+        assertEquals(1, byDestination.size());
+        assertEquals(created.getId(), byDestination.get(0).getId());
+        assertTrue(transportDao.searchByPlace(TransportPlace.START_POINT, "Sofia").isEmpty());
+        assertEquals(1, transportDao.searchByPlace(TransportPlace.START_POINT, "Plovdiv").size());
+    }
+
+    @Test
+    void updateTransport_reversesPaidRevenueInTheLedger() {
+        Company company = company();
+        TransportDto created = service.createTransport(dto(company.getId(), "Varna", PaymentStatus.PAID, "40"));
+        assertEquals(0, new BigDecimal("40").compareTo(companyDao.getCompanyById(company.getId()).getRevenue()));
+
+        service.updateTransport(created.getId(), dto(company.getId(), "Varna", PaymentStatus.PAID, "65"));
+
+        RevenueLedgerEntry entry = revenueLedgerDao.getEntry(LedgerScope.COMPANY, company.getId());
+        assertEquals(1, entry.getTransportCount());
+        assertEquals(0, new BigDecimal("65").compareTo(entry.getPaidAmount()));
+        assertEquals(0, new BigDecimal("65").compareTo(companyDao.getCompanyById(company.getId()).getRevenue()));
+
+        service.updateTransport(created.getId(), dto(company.getId(), "Varna", PaymentStatus.CANCELED, "65"));
+
+        entry = revenueLedgerDao.getEntry(LedgerScope.COMPANY, company.getId());
+        assertEquals(1, entry.getTransportCount());
+        assertEquals(0, entry.getPaidCount());
+        assertEquals(0, BigDecimal.ZERO.compareTo(entry.getPaidAmount()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(companyDao.getCompanyById(company.getId()).getRevenue()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(revenueLedgerDao.sumCompanyPaidRevenue(company.getId(),
+                LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30))));
+    }
+
+    @Test
+    void updateTransport_invalidatesCachedReports() {
+        Company company = company();
+        TransportDto created = service.createTransport(dto(company.getId(), "Varna", PaymentStatus.NOT_PAID, "40"));
+
+        ReportCache cache = new ReportCache();
+        CachingTransportReportServiceImpl reports = new CachingTransportReportServiceImpl(
+                new TransportReportServiceImpl(transportDao, companyDao, revenueLedgerDao), cache);
+        LocalDate from = LocalDate.of(2025, 4, 1);
+        LocalDate to = LocalDate.of(2025, 4, 30);
+        transportDao.addChangeListener(cache);
+        try {
+            assertEquals(0, BigDecimal.ZERO.compareTo(reports.getCompanyRevenueForAPeriod(company.getId(), from, to)));
+            assertEquals(0, BigDecimal.ZERO.compareTo(reports.getCompanyRevenueForAPeriod(company.getId(), from, to)));
+            assertEquals(1, cache.getHits());
+
+            service.updateTransport(created.getId(), dto(company.getId(), "Varna", PaymentStatus.PAID, "40"));
+
+            assertEquals(0, new BigDecimal("40").compareTo(reports.getCompanyRevenueForAPeriod(company.getId(), from, to)));
+            assertEquals(1, cache.getHits());
+        } finally {
+            transportDao.removeChangeListener(cache);
+        }
+    }
+
+    @Test
+    void createAndUpdateTransport_rejectMissingReferences() {
+        assertThrows(DAOException.class,
+                () -> service.createTransport(dto(Long.MAX_VALUE, "Varna", PaymentStatus.NOT_PAID, "40")));
+        assertEquals(0, transportDao.countTransports());
+
+        Company company = company();
+        TransportDto created = service.createTransport(dto(company.getId(), "Varna", PaymentStatus.NOT_PAID, "40"));
+
+        DAOException error = assertThrows(DAOException.class,
+                () -> service.updateTransport(created.getId(), dto(Long.MAX_VALUE, "Ruse", PaymentStatus.NOT_PAID, "40")));
+        assertTrue(error.getMessage().contains("Company with ids [" + Long.MAX_VALUE + "] does not exist"));
+        assertEquals("Varna", service.getTransportById(created.getId()).getEndPoint());
+    }
+}
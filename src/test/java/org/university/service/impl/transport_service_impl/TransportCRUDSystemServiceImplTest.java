@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.university.dao.*;
@@ -15,8 +16,11 @@ import org.university.util.PaymentStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +35,8 @@ class TransportCRUDSystemServiceImplTest {
     @Mock EmployeeDao employeeDao;
     @Mock CustomerDao customerDao;
 
+    @Captor ArgumentCaptor<Collection<Transport>> transportsCaptor;
+
     TransportCRUDSystemServiceImpl service;
 
     @BeforeEach
@@ -270,23 +276,6 @@ class TransportCRUDSystemServiceImplTest {
 
     @Test
     void createTransport_shouldCreate() throws DAOException {
-        Company c = Company.builder().name("C").revenue(BigDecimal.ZERO).build();
-        c.setId(1L);
-
-        Vehicle v = Vehicle.builder().vehicleType(null).distanceTraveled(BigDecimal.ZERO).build();
-        v.setId(2L);
-
-        Employee e = new Employee();
-        e.setId(3L);
-
-        Customer cu = new Customer();
-        cu.setId(4L);
-
-        when(companyDao.getCompanyById(1L)).thenReturn(c);
-        when(vehicleDao.getVehicleById(2L)).thenReturn(v);
-        when(employeeDao.getEmployeeById(3L)).thenReturn(e);
-        when(customerDao.getCustomerById(4L)).thenReturn(cu);
-
         TransportDto dto = new TransportDto();
         dto.setStartPoint("S");
         dto.setEndPoint("E");
@@ -310,10 +299,11 @@ class TransportCRUDSystemServiceImplTest {
         Transport created = captor.getValue();
         assertEquals("S", created.getStartPoint());
         assertEquals("E", created.getEndPoint());
-        assertSame(c, created.getCompany());
-        assertSame(v, created.getVehicle());
-        assertSame(e, created.getEmployee());
-        assertSame(cu, created.getCustomer());
+        assertEquals(1L, created.getCompany().getId());
+        assertEquals(2L, created.getVehicle().getId());
+        assertEquals(3L, created.getEmployee().getId());
+        assertEquals(4L, created.getCustomer().getId());
+        verifyNoInteractions(companyDao, vehicleDao, employeeDao, customerDao);
 
         assertEquals("S", result.getStartPoint());
         assertEquals("E", result.getEndPoint());
@@ -387,6 +377,90 @@ class TransportCRUDSystemServiceImplTest {
         assertTrue(result.stream().anyMatch(d -> d.getId().equals(2L) && d.getStartPoint().equals("C")));
     }
 
+    @Test
+    void createTransports_persistsAllInOneDaoCall_withReferenceStubs() {
+        TransportDto first = new TransportDto();
+        first.setStartPoint("S");
+        first.setEndPoint("E");
+        first.setDepartureDate(LocalDate.of(2025, 1, 1));
+        first.setArrivalDate(LocalDate.of(2025, 1, 2));
+        first.setCargoType(CargoType.GOODS);
+        first.setQuantity(new BigDecimal("1.00"));
+        first.setInitPrice(new BigDecimal("2.00"));
+        first.setPaymentStatus(PaymentStatus.NOT_PAID);
+        first.setTotalPrice(new BigDecimal("3.00"));
+        first.setCompanyId(1L);
+        first.setCustomerId(4L);
+
+        TransportDto second = new TransportDto();
+        second.setStartPoint("S2");
+        second.setEndPoint("E2");
+        second.setDepartureDate(LocalDate.of(2025, 2, 1));
+        second.setArrivalDate(LocalDate.of(2025, 2, 1));
+        second.setCargoType(CargoType.ADR);
+        second.setQuantity(new BigDecimal("1.00"));
+        second.setInitPrice(new BigDecimal("2.00"));
+        second.setPaymentStatus(PaymentStatus.NOT_PAID);
+        second.setTotalPrice(new BigDecimal("4.00"));
+        second.setVehicleId(2L);
+
+        List<TransportDto> result = service.createTransports(List.of(first, second));
+
+        verify(transportDao).createTransports(transportsCaptor.capture());
+        List<Transport> persisted = List.copyOf(transportsCaptor.getValue());
+        assertEquals(2, persisted.size());
+        assertEquals(1L, persisted.get(0).getCompany().getId());
+        assertEquals(4L, persisted.get(0).getCustomer().getId());
+        assertEquals(2L, persisted.get(1).getVehicle().getId());
+
+        assertEquals(2, result.size());
+        assertEquals(1L, result.get(0).getCompanyId());
+        verifyNoInteractions(companyDao, vehicleDao, employeeDao, customerDao);
+        verify(transportDao, never()).createTransport(any());
+    }
+
+    @Test
+    void createTransports_throws_andPersistsNothing_whenAnyTransportInvalid() {
+        TransportDto invalid = new TransportDto();
+        invalid.setStartPoint("S");
+        invalid.setEndPoint("E");
+        invalid.setDepartureDate(LocalDate.of(2025, 1, 2));
+        invalid.setArrivalDate(LocalDate.of(2025, 1, 1));
+        invalid.setCargoType(CargoType.GOODS);
+        invalid.setQuantity(new BigDecimal("1.00"));
+        invalid.setInitPrice(new BigDecimal("2.00"));
+        invalid.setPaymentStatus(PaymentStatus.NOT_PAID);
+        invalid.setTotalPrice(new BigDecimal("3.00"));
+
+        assertThrows(DAOException.class, () -> service.createTransports(List.of(invalid)));
+        verify(transportDao, never()).createTransports(any());
+    }
+
+    @Test
+    void forEachTransport_mapsEachStreamedEntityToDto() {
+        Transport t1 = new Transport();
+        t1.setId(1L);
+        t1.setStartPoint("A");
+
+        Transport t2 = new Transport();
+        t2.setId(2L);
+        t2.setStartPoint("C");
+
+        doAnswer(invocation -> {
+            Consumer<Transport> consumer = invocation.getArgument(1);
+            consumer.accept(t1);
+            consumer.accept(t2);
+            return null;
+        }).when(transportDao).forEachTransport(eq(100), any());
+
+        List<TransportDto> streamed = new ArrayList<>();
+        service.forEachTransport(100, streamed::add);
+
+        assertEquals(List.of(1L, 2L), streamed.stream().map(TransportDto::getId).toList());
+        assertEquals("C", streamed.get(1).getStartPoint());
+        verify(transportDao, never()).getAllTransports();
+    }
+
     @Test
     void updateTransport_shouldThrow_whenMissing() {
         when(transportDao.getTransportById(1L)).thenReturn(null);
@@ -446,42 +520,32 @@ class TransportCRUDSystemServiceImplTest {
 
         TransportDto result = service.updateTransport(10L, dto);
 
-        assertNull(existing.getCompany());
-        assertNull(existing.getVehicle());
-        assertNull(existing.getEmployee());
-        assertNull(existing.getCustomer());
+        ArgumentCaptor<Transport> captor = ArgumentCaptor.forClass(Transport.class);
+        verify(transportDao).updateTransport(eq(10L), captor.capture());
+        Transport updated = captor.getValue();
+        assertNotSame(existing, updated);
+        assertNull(updated.getCompany());
+        assertNull(updated.getVehicle());
+        assertNull(updated.getEmployee());
+        assertNull(updated.getCustomer());
+        assertSame(c, existing.getCompany());
+        assertSame(cu, existing.getCustomer());
 
         assertEquals(10L, result.getId());
+        assertEquals(PaymentStatus.PAID, result.getPaymentStatus());
         assertNull(result.getCompanyId());
         assertNull(result.getVehicleId());
         assertNull(result.getEmployeeId());
         assertNull(result.getCustomerId());
-
-        verify(transportDao).updateTransport(eq(10L), same(existing));
     }
 
     @Test
     void updateTransport_shouldSetRelations_whenDtoIdsProvided() throws DAOException {
         Transport existing = new Transport();
         existing.setId(10L);
-
-        Company c = Company.builder().name("C").revenue(BigDecimal.ZERO).build();
-        c.setId(1L);
-
-        Vehicle v = Vehicle.builder().vehicleType(null).distanceTraveled(BigDecimal.ZERO).build();
-        v.setId(2L);
-
-        Employee e = new Employee();
-        e.setId(3L);
-
-        Customer cu = new Customer();
-        cu.setId(4L);
+        existing.setStartPoint("Old");
 
         when(transportDao.getTransportById(10L)).thenReturn(existing);
-        when(companyDao.getCompanyById(1L)).thenReturn(c);
-        when(vehicleDao.getVehicleById(2L)).thenReturn(v);
-        when(employeeDao.getEmployeeById(3L)).thenReturn(e);
-        when(customerDao.getCustomerById(4L)).thenReturn(cu);
 
         TransportDto dto = new TransportDto();
         dto.setStartPoint("S");
@@ -500,17 +564,25 @@ class TransportCRUDSystemServiceImplTest {
 
         TransportDto result = service.updateTransport(10L, dto);
 
-        assertSame(c, existing.getCompany());
-        assertSame(v, existing.getVehicle());
-        assertSame(e, existing.getEmployee());
-        assertSame(cu, existing.getCustomer());
+        ArgumentCaptor<Transport> captor = ArgumentCaptor.forClass(Transport.class);
+        verify(transportDao).updateTransport(eq(10L), captor.capture());
+        Transport updated = captor.getValue();
+        assertNotSame(existing, updated);
+        assertEquals("S", updated.getStartPoint());
+        assertEquals(1L, updated.getCompany().getId());
+        assertEquals(2L, updated.getVehicle().getId());
+        assertEquals(3L, updated.getEmployee().getId());
+        assertEquals(4L, updated.getCustomer().getId());
+        assertEquals("Old", existing.getStartPoint());
 
+        assertEquals(10L, result.getId());
+        assertEquals("S", result.getStartPoint());
         assertEquals(1L, result.getCompanyId());
         assertEquals(2L, result.getVehicleId());
         assertEquals(3L, result.getEmployeeId());
         assertEquals(4L, result.getCustomerId());
 
-        verify(transportDao).updateTransport(eq(10L), same(existing));
+        verifyNoInteractions(companyDao, vehicleDao, employeeDao, customerDao);
     }
 
     @Test
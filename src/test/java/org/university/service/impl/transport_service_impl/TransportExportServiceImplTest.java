@@ -0,0 +1,162 @@
+package org.university.service.impl.transport_service_impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.university.dao.TransportDao;
+import org.university.dto.TransportDto;
+import org.university.dto.TransportExportFilter;
+import org.university.exception.DAOException;
+import org.university.export.ExportProgress;
+import org.university.util.CargoType;
+import org.university.util.ExportFormat;
+import org.university.util.PaymentStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransportExportServiceImplTest {
+
+    @Mock TransportDao transportDao;
+
+    private static TransportDto transport(long id, String startPoint, String endPoint) {
+        return new TransportDto(id, startPoint, endPoint, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 2),
+                CargoType.GOODS, 1L, 2L, 3L, null, PaymentStatus.PAID,
+                new BigDecimal("2.5"), new BigDecimal("100.00"), new BigDecimal("250.00"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamRows(TransportDto... rows) {
+        doAnswer(invocation -> {
+            Consumer<TransportDto> consumer = invocation.getArgument(2);
+            for (TransportDto row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(transportDao).forEachTransportDto(any(), anyInt(), any(Consumer.class));
+    }
+
+    @Test
+    void exportTransports_writesCsvWithQuotedFields() {
+        streamRows(transport(1L, "Sofia", "Varna"), transport(2L, "Plovdiv, center", "\"Old\" town"));
+        TransportExportServiceImpl service = new TransportExportServiceImpl(transportDao);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportProgress progress = service.exportTransports(null, ExportFormat.CSV, false, out, null);
+
+        assertEquals(2, progress.rows());
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,startPoint,endPoint,departureDate,arrivalDate,cargoType,companyId,employeeId,customerId,"
+                + "vehicleId,paymentStatus,quantity,initPrice,totalPrice", lines[0]);
+        assertEquals("1,Sofia,Varna,2025-03-01,2025-03-02,GOODS,1,2,3,,PAID,2.5,100.00,250.00", lines[1]);
+        assertTrue(lines[2].startsWith("2,\"Plovdiv, center\",\"\"\"Old\"\" town\","));
+    }
+
+    @Test
+    void exportTransports_writesOneJsonObjectPerLine() {
+        streamRows(transport(1L, "Sofia\n", "Va\\rna"));
+        TransportExportServiceImpl service = new TransportExportServiceImpl(transportDao);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.exportTransports(null, ExportFormat.JSON_LINES, false, out, null);
+
+        assertEquals("{\"id\":1,\"startPoint\":\"Sofia\\n\",\"endPoint\":\"Va\\\\rna\","
+                + "\"departureDate\":\"2025-03-01\",\"arrivalDate\":\"2025-03-02\",\"cargoType\":\"GOODS\","
+                + "\"companyId\":1,\"employeeId\":2,\"customerId\":3,\"vehicleId\":null,\"paymentStatus\":\"PAID\","
+                + "\"quantity\":2.5,\"initPrice\":100.00,\"totalPrice\":250.00}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportTransports_gzipOutputDecompressesToPlainExport() throws IOException {
+        streamRows(transport(1L, "Sofia", "Varna"));
+        TransportExportServiceImpl service = new TransportExportServiceImpl(transportDao);
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        service.exportTransports(null, ExportFormat.CSV, false, plain, null);
+        service.exportTransports(null, ExportFormat.CSV, true, compressed, null);
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertArrayEquals(plain.toByteArray(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void exportTransports_reportsProgressAtIntervalAndAtEnd() {
+        streamRows(transport(1L, "A", "B"), transport(2L, "A", "B"), transport(3L, "A", "B"),
+                transport(4L, "A", "B"), transport(5L, "A", "B"));
+        TransportExportServiceImpl service = new TransportExportServiceImpl(transportDao, 100, 2);
+        List<Long> reported = new ArrayList<>();
+
+        service.exportTransports(null, ExportFormat.CSV, false, new ByteArrayOutputStream(),
+                progress -> reported.add(progress.rows()));
+
+        assertEquals(List.of(2L, 4L, 5L), reported);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportTransports_passesFilterAndFetchSizeToDao(@TempDir Path dir) throws IOException {
+        TransportExportFilter filter = TransportExportFilter.builder()
+                .companyId(1L)
+                .paymentStatus(PaymentStatus.NOT_PAID)
+                .build();
+        streamRows(transport(1L, "Sofia", "Varna"));
+        TransportExportServiceImpl service = new TransportExportServiceImpl(transportDao, 250, 1_000);
+        Path target = dir.resolve("transports.jsonl");
+
+        service.exportTransports(filter, ExportFormat.JSON_LINES, false, target, null);
+
+        verify(transportDao).forEachTransportDto(same(filter), eq(250), any(Consumer.class));
+        assertEquals(1, Files.readAllLines(target).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportTransports_deletesTheFileAndKeepsTheCause_whenExportFails(@TempDir Path dir) {
+        doAnswer(invocation -> {
+            Consumer<TransportDto> consumer = invocation.getArgument(2);
+            consumer.accept(transport(1L, "Sofia", "Varna"));
+            throw new DAOException("Failed to stream transports: connection reset");
+        }).when(transportDao).forEachTransportDto(any(), anyInt(), any(Consumer.class));
+        TransportExportServiceImpl service = new TransportExportServiceImpl(transportDao);
+        Path target = dir.resolve("transports.csv");
+
+        DAOException error = assertThrows(DAOException.class,
+                () -> service.exportTransports(null, ExportFormat.CSV, false, target, null));
+
+        assertTrue(error.getMessage().contains("connection reset"));
+        assertFalse(Files.exists(target));
+    }
+
+    @Test
+    void exportTransports_reportsWhyTheFileCouldNotBeOpened(@TempDir Path dir) {
+        TransportExportServiceImpl service = new TransportExportServiceImpl(transportDao);
+        Path target = dir.resolve("missing").resolve("transports.csv");
+
+        DAOException error = assertThrows(DAOException.class,
+                () -> service.exportTransports(null, ExportFormat.CSV, false, target, null));
+
+        assertTrue(error.getMessage().startsWith("Error writing transport export to file " + target + ": "));
+        verifyNoInteractions(transportDao);
+    }
+}
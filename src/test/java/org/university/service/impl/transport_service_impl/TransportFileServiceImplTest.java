@@ -4,8 +4,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.university.archive.TransportArchive;
 import org.university.dto.TransportDto;
 import org.university.exception.DAOException;
 import org.university.service.contract.transport_service.TransportGeneralService;
@@ -13,7 +15,11 @@ import org.university.util.CargoType;
 import org.university.util.PaymentStatus;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -106,6 +112,45 @@ class TransportFileServiceImplTest {
         assertEquals(new BigDecimal("3.00"), loaded.getTotalPrice());
     }
 
+    @Test
+    void loadTransportsFromFile_shouldReadLegacySerializedFile() throws IOException, DAOException {
+        TransportDto dto = new TransportDto();
+        dto.setId(1L);
+        dto.setStartPoint("Legacy");
+        dto.setCargoType(CargoType.PASSENGERS);
+        dto.setTotalPrice(new BigDecimal("7.50"));
+        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(legacyFileFor(1L)))) {
+            oos.writeObject(dto);
+        }
+
+        TransportDto loaded = service.loadTransportsFromFile(1L);
+
+        assertEquals(1L, loaded.getId());
+        assertEquals("Legacy", loaded.getStartPoint());
+        assertEquals(CargoType.PASSENGERS, loaded.getCargoType());
+        assertEquals(new BigDecimal("7.50"), loaded.getTotalPrice());
+        assertNull(loaded.getEndPoint());
+    }
+
+    @Test
+    void archiveMode_shouldSaveAndLoadThroughArchive(@TempDir Path archiveDir) throws IOException, DAOException {
+        TransportDto dto = new TransportDto();
+        dto.setId(1L);
+        dto.setStartPoint("A");
+        dto.setTotalPrice(new BigDecimal("4.00"));
+        when(transportGeneralService.getTransportById(1L)).thenReturn(dto);
+
+        try (TransportArchive archive = TransportArchive.open(archiveDir)) {
+            TransportFileServiceImpl archiveService = new TransportFileServiceImpl(transportGeneralService, archive);
+            archiveService.saveTransport(1L);
+
+            assertFalse(fileFor(1L).exists());
+            TransportDto loaded = archiveService.loadTransportsFromFile(1L);
+            assertEquals("A", loaded.getStartPoint());
+            assertEquals(new BigDecimal("4.00"), loaded.getTotalPrice());
+        }
+    }
+
     @Test
     void loadTransportsFromFile_shouldThrow_whenFileMissing() {
         deleteFileIfExists(1L);
@@ -113,13 +158,18 @@ class TransportFileServiceImplTest {
     }
 
     private static File fileFor(Long id) {
+        return new File(DIR + File.separator + "transport_" + id + ".bin");
+    }
+
+    private static File legacyFileFor(Long id) {
         return new File(DIR + File.separator + "transport_" + id + ".ser");
     }
 
     private static void deleteFileIfExists(Long id) {
-        File f = fileFor(id);
-        if (f.exists()) {
-            f.delete();
+        for (File f : new File[]{fileFor(id), legacyFileFor(id)}) {
+            if (f.exists()) {
+                f.delete();
+            }
         }
     }
 }
@@ -7,6 +7,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.university.dao.TransportDao;
 import org.university.entity.Transport;
+import org.university.util.TransportPlace;
 
 import java.util.List;
 
@@ -62,4 +63,35 @@ class TransportFilterServiceImplTest {
         verify(transportDao).filterByDestination(eq("sofia"));
         verifyNoMoreInteractions(transportDao);
     }
+
+    @Test
+    void searchTransportsByPlace_shouldReturnEmpty_whenBlank() {
+        assertTrue(service.searchTransportsByPlace(TransportPlace.START_POINT, "  ").isEmpty());
+        assertTrue(service.searchTransportsByPlace(null, "sof").isEmpty());
+        verifyNoInteractions(transportDao);
+    }
+
+    @Test
+    void searchTransportsByPlace_shouldNormalize_andDelegateToDao() {
+        Transport t = new Transport();
+        t.setId(1L);
+
+        when(transportDao.searchByPlace(TransportPlace.START_POINT, "plov")).thenReturn(List.of(t));
+
+        List<Transport> result = service.searchTransportsByPlace(TransportPlace.START_POINT, " PLOV ");
+
+        assertEquals(List.of(t), result);
+    }
+
+    @Test
+    void searchTransportsByPlacePrefix_shouldTrim_andDelegateToDao() {
+        Transport t = new Transport();
+        t.setId(1L);
+
+        when(transportDao.searchByPlacePrefix(TransportPlace.END_POINT, "Var")).thenReturn(List.of(t));
+
+        List<Transport> result = service.searchTransportsByPlacePrefix(TransportPlace.END_POINT, " Var ");
+
+        assertEquals(List.of(t), result);
+    }
 }
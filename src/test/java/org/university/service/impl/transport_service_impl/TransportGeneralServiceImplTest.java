@@ -5,11 +5,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.university.dto.RankingEntry;
+import org.university.dto.TransportDashboardDto;
 import org.university.dto.TransportDto;
 import org.university.entity.Transport;
 import org.university.exception.DAOException;
 import org.university.service.contract.transport_service.*;
 import org.university.util.CargoType;
+import org.university.util.RankingMetric;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -309,4 +312,29 @@ class TransportGeneralServiceImplTest {
         verifyNoMoreInteractions(report);
         verifyNoInteractions(crud, pricing, payment, filter, sorting);
     }
+
+    @Test
+    void getDashboard() {
+        TransportDashboardDto dashboard = new TransportDashboardDto(0, BigDecimal.ZERO, Map.of(), Map.of(),
+                Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+        when(report.getDashboard()).thenReturn(dashboard);
+
+        assertSame(dashboard, service.getDashboard());
+        verify(report).getDashboard();
+        verifyNoMoreInteractions(report);
+        verifyNoInteractions(crud, pricing, payment, filter, sorting);
+    }
+
+    @Test
+    void getTopVehicles() {
+        List<RankingEntry> ranking = List.of(new RankingEntry(7L, 12, new BigDecimal("99.00")));
+
+        when(report.getTopVehicles(RankingMetric.TRANSPORT_COUNT, 20, null, null, null)).thenReturn(ranking);
+
+        assertSame(ranking, service.getTopVehicles(RankingMetric.TRANSPORT_COUNT, 20, null, null, null));
+        verify(report).getTopVehicles(RankingMetric.TRANSPORT_COUNT, 20, null, null, null);
+        verifyNoMoreInteractions(report);
+        verifyNoInteractions(crud, pricing, payment, filter, sorting);
+    }
 }
@@ -7,10 +7,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.university.dao.CustomerDao;
 import org.university.dao.TransportDao;
+import org.university.dto.SettlementSummaryDto;
 import org.university.entity.Customer;
 import org.university.entity.Transport;
 import org.university.exception.DAOException;
 import org.university.util.PaymentStatus;
+import org.university.util.SettlementMode;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -35,6 +37,7 @@ class TransportPaymentSystemServiceImplTest {
 
     @Test
     void markTransportAsPaid_shouldThrow_whenTransportMissing() {
+        when(transportDao.payTransport(1L)).thenReturn(false);
         when(transportDao.getTransportById(1L)).thenReturn(null);
 
         assertThrows(DAOException.class, () -> service.markTransportAsPaid(1L));
@@ -47,6 +50,7 @@ class TransportPaymentSystemServiceImplTest {
         t.setId(1L);
         t.setPaymentStatus(PaymentStatus.PAID);
 
+        when(transportDao.payTransport(1L)).thenReturn(false);
         when(transportDao.getTransportById(1L)).thenReturn(t);
 
         service.markTransportAsPaid(1L);
@@ -55,16 +59,56 @@ class TransportPaymentSystemServiceImplTest {
     }
 
     @Test
-    void markTransportAsPaid_shouldUpdateStatus_whenNotPaid() {
+    void markTransportAsPaid_shouldPayInSingleStatement_whenBudgetIsEnough() {
+        when(transportDao.payTransport(1L)).thenReturn(true);
+
+        service.markTransportAsPaid(1L);
+
+        verify(transportDao).payTransport(1L);
+        verify(transportDao, never()).getTransportById(anyLong());
+        verifyNoInteractions(customerDao);
+    }
+
+    @Test
+    void markTransportAsPaid_shouldThrow_whenBudgetIsNotEnough() {
+        Customer c = new Customer();
+        c.setId(5L);
+        c.setBudget(new BigDecimal("1.00"));
+
         Transport t = new Transport();
         t.setId(1L);
+        t.setCustomer(c);
         t.setPaymentStatus(PaymentStatus.NOT_PAID);
+        t.setTotalPrice(new BigDecimal("10.00"));
 
+        when(transportDao.payTransport(1L)).thenReturn(false);
         when(transportDao.getTransportById(1L)).thenReturn(t);
 
-        service.markTransportAsPaid(1L);
+        DAOException ex = assertThrows(DAOException.class, () -> service.markTransportAsPaid(1L));
+        assertTrue(ex.getMessage().contains("budget"));
+        verify(customerDao, never()).updateCustomer(anyLong(), any());
+    }
+
+    @Test
+    void markTransportAsPaid_shouldThrow_whenTransportHasNoCustomer() {
+        Transport t = new Transport();
+        t.setId(1L);
+        t.setPaymentStatus(PaymentStatus.NOT_PAID);
+
+        when(transportDao.payTransport(1L)).thenReturn(false);
+        when(transportDao.getTransportById(1L)).thenReturn(t);
+
+        assertThrows(DAOException.class, () -> service.markTransportAsPaid(1L));
+    }
+
+    @Test
+    void tryPayTransport_shouldReportDaoResult() {
+        when(transportDao.payTransport(1L)).thenReturn(true);
+        when(transportDao.payTransport(2L)).thenReturn(false);
 
-        verify(transportDao).updatePaymentStatus(1L, PaymentStatus.PAID);
+        assertTrue(service.tryPayTransport(1L));
+        assertFalse(service.tryPayTransport(2L));
+        verify(transportDao, never()).getTransportById(anyLong());
     }
 
     @Test
@@ -76,47 +120,22 @@ class TransportPaymentSystemServiceImplTest {
     }
 
     @Test
-    void calculateCustomerDebt_shouldSumOnlyNotPaid_forThatCustomer() throws DAOException {
+    void calculateCustomerDebt_shouldSumNotPaidInDatabase() throws DAOException {
         Customer c = new Customer();
         c.setId(5L);
 
-        Customer other = new Customer();
-        other.setId(6L);
-
-        Transport t1 = new Transport();
-        t1.setId(1L);
-        t1.setCustomer(c);
-        t1.setPaymentStatus(PaymentStatus.NOT_PAID);
-        t1.setTotalPrice(new BigDecimal("10.00"));
-
-        Transport t2 = new Transport();
-        t2.setId(2L);
-        t2.setCustomer(c);
-        t2.setPaymentStatus(PaymentStatus.PAID);
-        t2.setTotalPrice(new BigDecimal("999.00"));
-
-        Transport t3 = new Transport();
-        t3.setId(3L);
-        t3.setCustomer(c);
-        t3.setPaymentStatus(PaymentStatus.NOT_PAID);
-        t3.setTotalPrice(null);
-
-        Transport t4 = new Transport();
-        t4.setId(4L);
-        t4.setCustomer(other);
-        t4.setPaymentStatus(PaymentStatus.NOT_PAID);
-        t4.setTotalPrice(new BigDecimal("100.00"));
-
         when(customerDao.getCustomerById(5L)).thenReturn(c);
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2, t3, t4));
+        when(transportDao.sumPriceByCustomerAndStatus(5L, PaymentStatus.NOT_PAID)).thenReturn(new BigDecimal("10.00"));
 
         BigDecimal debt = service.calculateCustomerDebt(5L);
 
         assertEquals(new BigDecimal("10.00"), debt);
+        verify(transportDao, never()).getAllTransports();
     }
 
     @Test
     void paySingleTransport_shouldThrow_whenTransportMissing() {
+        when(transportDao.payTransport(1L)).thenReturn(false);
         when(transportDao.getTransportById(1L)).thenReturn(null);
 
         assertThrows(DAOException.class, () -> service.paySingleTransport(1L));
@@ -124,29 +143,24 @@ class TransportPaymentSystemServiceImplTest {
     }
 
     @Test
-    void paySingleTransport_shouldUpdateStatus_whenExistsAndNotPaid() throws DAOException {
-        Transport t = new Transport();
-        t.setId(1L);
-        t.setPaymentStatus(PaymentStatus.NOT_PAID);
-
-        when(transportDao.getTransportById(1L)).thenReturn(t);
+    void paySingleTransport_shouldPay_whenExistsAndNotPaid() throws DAOException {
+        when(transportDao.payTransport(1L)).thenReturn(true);
 
         service.paySingleTransport(1L);
 
-        verify(transportDao).updatePaymentStatus(1L, PaymentStatus.PAID);
+        verify(transportDao).payTransport(1L);
     }
 
     @Test
-    void paySingleTransport_shouldNotUpdate_whenAlreadyPaid() throws DAOException {
+    void paySingleTransport_shouldNotFail_whenAlreadyPaid() throws DAOException {
         Transport t = new Transport();
         t.setId(1L);
         t.setPaymentStatus(PaymentStatus.PAID);
 
+        when(transportDao.payTransport(1L)).thenReturn(false);
         when(transportDao.getTransportById(1L)).thenReturn(t);
 
-        service.paySingleTransport(1L);
-
-        verify(transportDao, never()).updatePaymentStatus(anyLong(), any());
+        assertDoesNotThrow(() -> service.paySingleTransport(1L));
     }
 
     @Test
@@ -158,38 +172,39 @@ class TransportPaymentSystemServiceImplTest {
     }
 
     @Test
-    void getUnpaidTransportIdsForCustomer_shouldReturnOnlyNotPaidIds_forThatCustomer() throws DAOException {
+    void getUnpaidTransportIdsForCustomer_shouldQueryNotPaidIds() throws DAOException {
         Customer c = new Customer();
         c.setId(5L);
 
-        Customer other = new Customer();
-        other.setId(6L);
+        when(customerDao.getCustomerById(5L)).thenReturn(c);
+        when(transportDao.getTransportIdsByCustomerAndStatus(5L, PaymentStatus.NOT_PAID)).thenReturn(Set.of(1L, 4L));
 
-        Transport t1 = new Transport();
-        t1.setId(1L);
-        t1.setCustomer(c);
-        t1.setPaymentStatus(PaymentStatus.NOT_PAID);
+        Set<Long> ids = service.getUnpaidTransportIdsForCustomer(5L);
 
-        Transport t2 = new Transport();
-        t2.setId(2L);
-        t2.setCustomer(c);
-        t2.setPaymentStatus(PaymentStatus.PAID);
+        assertEquals(Set.of(1L, 4L), ids);
+        verify(transportDao, never()).getAllTransports();
+    }
 
-        Transport t3 = new Transport();
-        t3.setId(3L);
-        t3.setCustomer(other);
-        t3.setPaymentStatus(PaymentStatus.NOT_PAID);
+    @Test
+    void settleCustomer_shouldDelegateSingleCustomerToBulkSettlement() throws DAOException {
+        SettlementSummaryDto summary = new SettlementSummaryDto(SettlementMode.GREEDY);
+        when(transportDao.settleCustomers(List.of(5L), SettlementMode.GREEDY)).thenReturn(summary);
 
-        Transport t4 = new Transport();
-        t4.setId(4L);
-        t4.setCustomer(c);
-        t4.setPaymentStatus(PaymentStatus.NOT_PAID);
+        assertSame(summary, service.settleCustomer(5L, SettlementMode.GREEDY));
+    }
 
-        when(customerDao.getCustomerById(5L)).thenReturn(c);
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2, t3, t4));
+    @Test
+    void settleCustomers_shouldReturnEmptySummary_whenNoCustomers() throws DAOException {
+        SettlementSummaryDto summary = service.settleCustomers(List.of(), SettlementMode.ALL_OR_NOTHING);
 
-        Set<Long> ids = service.getUnpaidTransportIdsForCustomer(5L);
+        assertEquals(0, summary.getCustomersProcessed());
+        assertEquals(BigDecimal.ZERO, summary.getAmountPaid());
+        verifyNoInteractions(transportDao);
+    }
 
-        assertEquals(Set.of(1L, 4L), ids);
+    @Test
+    void settleCustomers_shouldThrow_whenModeMissing() {
+        assertThrows(DAOException.class, () -> service.settleCustomers(List.of(5L), null));
+        verifyNoInteractions(transportDao);
     }
 }
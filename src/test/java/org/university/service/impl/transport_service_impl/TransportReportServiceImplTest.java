@@ -6,12 +6,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.university.dao.CompanyDao;
+import org.university.dao.RevenueLedgerDao;
 import org.university.dao.TransportDao;
+import org.university.dto.RankingEntry;
+import org.university.dto.TransportDashboardDto;
+import org.university.dto.TransportDashboardGroup;
 import org.university.entity.Company;
-import org.university.entity.Employee;
-import org.university.entity.Transport;
+import org.university.entity.RevenueLedgerEntry;
+import org.university.entity.RevenueLedgerKey;
 import org.university.exception.DAOException;
+import org.university.util.LedgerScope;
 import org.university.util.PaymentStatus;
+import org.university.util.RankingDimension;
+import org.university.util.RankingMetric;
+import org.university.util.VehicleType;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -26,72 +34,44 @@ class TransportReportServiceImplTest {
 
     @Mock TransportDao transportDao;
     @Mock CompanyDao companyDao;
+    @Mock RevenueLedgerDao revenueLedgerDao;
 
     TransportReportServiceImpl service;
 
     @BeforeEach
     void setUp() {
-        service = new TransportReportServiceImpl(transportDao, companyDao);
+        service = new TransportReportServiceImpl(transportDao, companyDao, revenueLedgerDao);
     }
 
     @Test
     void getTransportsCount() {
-        when(transportDao.getAllTransports()).thenReturn(List.of(new Transport(), new Transport(), new Transport()));
+        when(transportDao.countTransports()).thenReturn(3L);
         assertEquals(3, service.getTransportsCount());
+        verify(transportDao, never()).getAllTransports();
     }
 
     @Test
-    void getTotalTransportRevenue_sumsOnlyPaid_andTreatsNullTotalPriceAsZero() {
-        Transport t1 = new Transport();
-        t1.setPaymentStatus(PaymentStatus.PAID);
-        t1.setTotalPrice(new BigDecimal("10.00"));
-
-        Transport t2 = new Transport();
-        t2.setPaymentStatus(PaymentStatus.NOT_PAID);
-        t2.setTotalPrice(new BigDecimal("999.00"));
-
-        Transport t3 = new Transport();
-        t3.setPaymentStatus(PaymentStatus.PAID);
-        t3.setTotalPrice(null);
-
-        Transport t4 = new Transport();
-        t4.setPaymentStatus(PaymentStatus.PAID);
-        t4.setTotalPrice(new BigDecimal("2.50"));
-
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2, t3, t4));
+    void getTotalTransportRevenue_sumsOnlyPaid() {
+        when(transportDao.sumRevenueByStatus(PaymentStatus.PAID)).thenReturn(new BigDecimal("12.50"));
 
         BigDecimal total = service.getTotalTransportRevenue();
 
         assertEquals(new BigDecimal("12.50"), total);
+        verify(transportDao, never()).getAllTransports();
     }
 
-    @Test
-    void getTransportsCountByDriver_countsOnlyTransportsWithEmployeeAndEmployeeId() {
-        Employee e1 = new Employee();
-        e1.setId(10L);
-
-        Employee e2 = new Employee();
-        e2.setId(20L);
-
-        Employee eNoId = new Employee();
-        eNoId.setId(null);
-
-        Transport t1 = new Transport();
-        t1.setEmployee(e1);
-
-        Transport t2 = new Transport();
-        t2.setEmployee(e1);
-
-        Transport t3 = new Transport();
-        t3.setEmployee(e2);
-
-        Transport t4 = new Transport();
-        t4.setEmployee(null);
-
-        Transport t5 = new Transport();
-        t5.setEmployee(eNoId);
+    private static RevenueLedgerEntry driverEntry(long driverId, long count, long paidCount, String paidAmount) {
+        return new RevenueLedgerEntry(new RevenueLedgerKey(LedgerScope.DRIVER, Long.toString(driverId)),
+                count, new BigDecimal(paidAmount), paidCount, new BigDecimal(paidAmount));
+    }
 
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2, t3, t4, t5));
+    @Test
+    void getTransportsCountByDriver_readsLedgerCounts() {
+        when(revenueLedgerDao.getEntries(LedgerScope.DRIVER)).thenReturn(Map.of(
+                "10", driverEntry(10L, 2, 0, "0.00"),
+                "20", driverEntry(20L, 1, 1, "2.50"),
+                "30", driverEntry(30L, 0, 0, "0.00")
+        ));
 
         Map<Long, Integer> result = service.getTransportsCountByDriver();
 
@@ -114,55 +94,9 @@ class TransportReportServiceImplTest {
         Company c1 = Company.builder().name("C1").revenue(BigDecimal.ZERO).build();
         c1.setId(1L);
 
-        Company c2 = Company.builder().name("C2").revenue(BigDecimal.ZERO).build();
-        c2.setId(2L);
-
         when(companyDao.getCompanyById(1L)).thenReturn(c1);
-
-        Transport inRangePaid1 = new Transport();
-        inRangePaid1.setCompany(c1);
-        inRangePaid1.setPaymentStatus(PaymentStatus.PAID);
-        inRangePaid1.setDepartureDate(LocalDate.of(2025, 1, 10));
-        inRangePaid1.setTotalPrice(new BigDecimal("10.00"));
-
-        Transport inRangePaidNullPrice = new Transport();
-        inRangePaidNullPrice.setCompany(c1);
-        inRangePaidNullPrice.setPaymentStatus(PaymentStatus.PAID);
-        inRangePaidNullPrice.setDepartureDate(LocalDate.of(2025, 1, 20));
-        inRangePaidNullPrice.setTotalPrice(null);
-
-        Transport inRangeNotPaid = new Transport();
-        inRangeNotPaid.setCompany(c1);
-        inRangeNotPaid.setPaymentStatus(PaymentStatus.NOT_PAID);
-        inRangeNotPaid.setDepartureDate(LocalDate.of(2025, 1, 15));
-        inRangeNotPaid.setTotalPrice(new BigDecimal("999.00"));
-
-        Transport outOfRangePaid = new Transport();
-        outOfRangePaid.setCompany(c1);
-        outOfRangePaid.setPaymentStatus(PaymentStatus.PAID);
-        outOfRangePaid.setDepartureDate(LocalDate.of(2025, 2, 1));
-        outOfRangePaid.setTotalPrice(new BigDecimal("50.00"));
-
-        Transport otherCompanyPaid = new Transport();
-        otherCompanyPaid.setCompany(c2);
-        otherCompanyPaid.setPaymentStatus(PaymentStatus.PAID);
-        otherCompanyPaid.setDepartureDate(LocalDate.of(2025, 1, 12));
-        otherCompanyPaid.setTotalPrice(new BigDecimal("100.00"));
-
-        Transport nullDepartureDatePaid = new Transport();
-        nullDepartureDatePaid.setCompany(c1);
-        nullDepartureDatePaid.setPaymentStatus(PaymentStatus.PAID);
-        nullDepartureDatePaid.setDepartureDate(null);
-        nullDepartureDatePaid.setTotalPrice(new BigDecimal("7.00"));
-
-        when(transportDao.getAllTransports()).thenReturn(List.of(
-                inRangePaid1,
-                inRangePaidNullPrice,
-                inRangeNotPaid,
-                outOfRangePaid,
-                otherCompanyPaid,
-                nullDepartureDatePaid
-        ));
+        when(revenueLedgerDao.sumCompanyPaidRevenue(1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)))
+                .thenReturn(new BigDecimal("10.00"));
 
         BigDecimal total = service.getCompanyRevenueForAPeriod(
                 1L,
@@ -171,56 +105,15 @@ class TransportReportServiceImplTest {
         );
 
         assertEquals(new BigDecimal("10.00"), total);
+        verifyNoInteractions(transportDao);
     }
 
     @Test
-    void getDriverRevenue_sumsPaidRevenuePerDriver_andSkipsNullEmployeeOrEmployeeId_andTreatsNullPriceAsZero() {
-        Employee e1 = new Employee();
-        e1.setId(10L);
-
-        Employee e2 = new Employee();
-        e2.setId(20L);
-
-        Employee eNoId = new Employee();
-        eNoId.setId(null);
-
-        Transport paidE1_1 = new Transport();
-        paidE1_1.setEmployee(e1);
-        paidE1_1.setPaymentStatus(PaymentStatus.PAID);
-        paidE1_1.setTotalPrice(new BigDecimal("10.00"));
-
-        Transport paidE1_2_nullPrice = new Transport();
-        paidE1_2_nullPrice.setEmployee(e1);
-        paidE1_2_nullPrice.setPaymentStatus(PaymentStatus.PAID);
-        paidE1_2_nullPrice.setTotalPrice(null);
-
-        Transport notPaidE1 = new Transport();
-        notPaidE1.setEmployee(e1);
-        notPaidE1.setPaymentStatus(PaymentStatus.NOT_PAID);
-        notPaidE1.setTotalPrice(new BigDecimal("999.00"));
-
-        Transport paidE2 = new Transport();
-        paidE2.setEmployee(e2);
-        paidE2.setPaymentStatus(PaymentStatus.PAID);
-        paidE2.setTotalPrice(new BigDecimal("2.50"));
-
-        Transport paidNullEmployee = new Transport();
-        paidNullEmployee.setEmployee(null);
-        paidNullEmployee.setPaymentStatus(PaymentStatus.PAID);
-        paidNullEmployee.setTotalPrice(new BigDecimal("100.00"));
-
-        Transport paidNoIdEmployee = new Transport();
-        paidNoIdEmployee.setEmployee(eNoId);
-        paidNoIdEmployee.setPaymentStatus(PaymentStatus.PAID);
-        paidNoIdEmployee.setTotalPrice(new BigDecimal("100.00"));
-
-        when(transportDao.getAllTransports()).thenReturn(List.of(
-                paidE1_1,
-                paidE1_2_nullPrice,
-                notPaidE1,
-                paidE2,
-                paidNullEmployee,
-                paidNoIdEmployee
+    void getDriverRevenue_readsPaidLedgerTotalsPerDriver() {
+        when(revenueLedgerDao.getEntries(LedgerScope.DRIVER)).thenReturn(Map.of(
+                "10", driverEntry(10L, 3, 2, "10.00"),
+                "20", driverEntry(20L, 1, 1, "2.50"),
+                "30", driverEntry(30L, 4, 0, "0.00")
         ));
 
         Map<Long, BigDecimal> result = service.getDriverRevenue();
@@ -228,5 +121,53 @@ class TransportReportServiceImplTest {
         assertEquals(2, result.size());
         assertEquals(new BigDecimal("10.00"), result.get(10L));
         assertEquals(new BigDecimal("2.50"), result.get(20L));
+        verifyNoInteractions(transportDao);
+    }
+
+    @Test
+    void getDashboard_foldsGroupedRowsIntoEveryMetric() {
+        when(transportDao.getDashboardGroups()).thenReturn(List.of(
+                new TransportDashboardGroup(1L, 10L, 100L, VehicleType.TRUCK, PaymentStatus.PAID, 2L, new BigDecimal("30.00")),
+                new TransportDashboardGroup(1L, 10L, 101L, VehicleType.TRUCK, PaymentStatus.NOT_PAID, 1L, new BigDecimal("5.50")),
+                new TransportDashboardGroup(2L, 20L, 100L, null, PaymentStatus.PAID, 1L, new BigDecimal("7.25")),
+                new TransportDashboardGroup(2L, null, null, VehicleType.BUS, PaymentStatus.NOT_PAID, 1L, new BigDecimal("1.00"))
+        ));
+
+        TransportDashboardDto dashboard = service.getDashboard();
+
+        assertEquals(5, dashboard.getTransportsCount());
+        assertEquals(new BigDecimal("37.25"), dashboard.getTotalTransportRevenue());
+        assertEquals(Map.of(10L, 3, 20L, 1), dashboard.getTransportsCountByDriver());
+        assertEquals(Map.of(10L, new BigDecimal("30.00"), 20L, new BigDecimal("7.25")), dashboard.getDriverRevenue());
+        assertEquals(new BigDecimal("35.50"), dashboard.getRevenueByVehicleType(VehicleType.TRUCK));
+        assertEquals(new BigDecimal("1.00"), dashboard.getRevenueByVehicleType(VehicleType.BUS));
+        assertEquals(Map.of(1L, 3, 2L, 2), dashboard.getTransportsCountByCompany());
+        assertEquals(Map.of(1L, new BigDecimal("30.00"), 2L, new BigDecimal("7.25")), dashboard.getCompanyRevenue());
+        assertEquals(Map.of(100L, 3), dashboard.getTransportsCountByCustomer());
+        assertEquals(Map.of(100L, new BigDecimal("37.25")), dashboard.getCustomerTotalSpent());
+        assertThrows(UnsupportedOperationException.class, () -> dashboard.getDriverRevenue().clear());
+        verify(transportDao).getDashboardGroups();
+        verifyNoMoreInteractions(transportDao);
+        verifyNoInteractions(companyDao, revenueLedgerDao);
+    }
+
+    @Test
+    void getTopDrivers_delegatesToLimitedRankingQuery() {
+        List<RankingEntry> ranking = List.of(new RankingEntry(10L, 3, new BigDecimal("30.00")));
+        when(transportDao.getTopRanked(RankingDimension.DRIVER, RankingMetric.REVENUE, 20, PaymentStatus.PAID,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))).thenReturn(ranking);
+
+        assertSame(ranking, service.getTopDrivers(RankingMetric.REVENUE, 20, PaymentStatus.PAID,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)));
+        verifyNoInteractions(companyDao, revenueLedgerDao);
+    }
+
+    @Test
+    void getTopCustomers_withoutFilters() {
+        when(transportDao.getTopRanked(RankingDimension.CUSTOMER, RankingMetric.TRANSPORT_COUNT, 5, null, null, null))
+                .thenReturn(List.of());
+
+        assertTrue(service.getTopCustomers(RankingMetric.TRANSPORT_COUNT, 5, null, null, null).isEmpty());
+        verify(transportDao).getTopRanked(RankingDimension.CUSTOMER, RankingMetric.TRANSPORT_COUNT, 5, null, null, null);
     }
 }
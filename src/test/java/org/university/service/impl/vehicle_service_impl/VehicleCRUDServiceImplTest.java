@@ -9,10 +9,10 @@ import org.university.dao.CompanyDao;
 import org.university.dao.EmployeeDao;
 import org.university.dao.TransportDao;
 import org.university.dao.VehicleDao;
+import org.university.dto.TransportSummary;
 import org.university.dto.VehicleDto;
 import org.university.entity.Company;
 import org.university.entity.Employee;
-import org.university.entity.Transport;
 import org.university.entity.Vehicle;
 import org.university.exception.DAOException;
 import org.university.util.VehicleType;
@@ -369,26 +369,13 @@ class VehicleCRUDServiceImplTest {
         Vehicle v = new Vehicle();
         v.setId(1L);
 
-        Vehicle otherV = new Vehicle();
-        otherV.setId(2L);
-
-        Transport t1 = new Transport();
-        t1.setId(100L);
-        t1.setVehicle(v);
-
-        Transport t2 = new Transport();
-        t2.setId(101L);
-        t2.setVehicle(null);
-
-        Transport t3 = new Transport();
-        t3.setId(102L);
-        t3.setVehicle(otherV);
-
         when(vehicleDao.getVehicleById(1L)).thenReturn(v);
-        when(transportDao.getAllTransports()).thenReturn(List.of(t1, t2, t3));
+        when(transportDao.getTransportSummariesByVehicle(1L)).thenReturn(List.of(
+                new TransportSummary(100L, null, null, null, 1L, null, null, null, null)));
 
         Set<Long> ids = service.getAllTransportIdsForVehicle(1L);
 
         assertEquals(Set.of(100L), ids);
+        verify(transportDao, never()).getAllTransports();
     }
 }
@@ -0,0 +1,77 @@
+package org.university.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    private static BigDecimal reference(List<BigDecimal> values) {
+        return values.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static BigDecimal sum(List<BigDecimal> values) {
+        Money.Sum sum = Money.sum();
+        values.forEach(sum::add);
+        return sum.toBigDecimal();
+    }
+
+    @Test
+    void sum_matchesBigDecimalIncludingScale() {
+        List<List<BigDecimal>> cases = List.of(
+                List.of(),
+                List.of(new BigDecimal("100")),
+                List.of(new BigDecimal("100"), new BigDecimal("0.5")),
+                List.of(new BigDecimal("10.25"), new BigDecimal("-3.10"), new BigDecimal("7")),
+                List.of(new BigDecimal("0.001"), new BigDecimal("1.50")),
+                List.of(new BigDecimal("1E+3"), new BigDecimal("2.00")),
+                List.of(new BigDecimal("92233720368547758.07"), new BigDecimal("92233720368547758.07")));
+
+        for (List<BigDecimal> values : cases) {
+            BigDecimal expected = reference(values);
+            BigDecimal actual = sum(values);
+            assertEquals(expected, actual, "sum of " + values);
+        }
+    }
+
+    @Test
+    void sum_ignoresNulls() {
+        assertEquals(new BigDecimal("3.00"), Money.sum().add(null).add(new BigDecimal("3.00")).toBigDecimal());
+    }
+
+    @Test
+    void multiplyAndRound_matchesBigDecimalHalfUp() {
+        Random random = new Random(42);
+        long[] factors = {150, 135, 200};
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal price = BigDecimal.valueOf(random.nextInt(2_000_000) - 1_000_000, random.nextInt(4));
+            BigDecimal quantity = BigDecimal.valueOf(random.nextInt(100_000), random.nextInt(4));
+            long factor = factors[i % factors.length];
+
+            BigDecimal expected = price.multiply(quantity).multiply(BigDecimal.valueOf(factor, 2))
+                    .setScale(2, RoundingMode.HALF_UP);
+            assertEquals(expected, Money.multiplyAndRound(price, quantity, factor), price + " * " + quantity);
+        }
+    }
+
+    @Test
+    void multiplyAndRound_fallsBackOnOverflow() {
+        BigDecimal price = new BigDecimal("9999999999999.99");
+        BigDecimal quantity = new BigDecimal("99999999.999");
+
+        BigDecimal expected = price.multiply(quantity).multiply(new BigDecimal("1.35")).setScale(2, RoundingMode.HALF_UP);
+        assertEquals(expected, Money.multiplyAndRound(price, quantity, 135));
+    }
+
+    @Test
+    void toCents_isExact() {
+        assertEquals(12345L, Money.toCents(new BigDecimal("123.45")));
+        assertEquals(0L, Money.toCents(null));
+        assertThrows(ArithmeticException.class, () -> Money.toCents(new BigDecimal("0.001")));
+    }
+}